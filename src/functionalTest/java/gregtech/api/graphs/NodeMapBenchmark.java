@@ -0,0 +1,108 @@
+package gregtech.api.graphs;
+
+import static gregtech.api.enums.GTValues.ALL_VALID_SIDES;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+
+import gregtech.api.GregTechAPI;
+import gregtech.api.metatileentity.BaseMetaPipeEntity;
+import gregtech.api.metatileentity.implementations.MTECable;
+import gregtech.api.objects.XSTR;
+
+// compares generating a whole power node map with the local updates of UpdateNodeMapPower on a loaded network,
+// run through /gt_benchmark of the dev test mod
+public final class NodeMapBenchmark {
+
+    private NodeMapBenchmark() {}
+
+    /**
+     * Every edit is applied to a random cable node of the network, without changing the cables themselves, so every
+     * edit regenerates the same network again.
+     *
+     * @return the report line, or null if there is no cable network at the given position
+     */
+    public static String run(World aWorld, int aX, int aY, int aZ, int aEdits) {
+        final TileEntity tTileEntity = aWorld.getTileEntity(aX, aY, aZ);
+        if (!(tTileEntity instanceof BaseMetaPipeEntity tPipe) || !(tPipe.getMetaTileEntity() instanceof MTECable))
+            return null;
+        Node tStartNode = tPipe.getNode();
+        if (tStartNode == null && tPipe.getNodePath() != null) tStartNode = tPipe.getNodePath().mReturnNode;
+        if (tStartNode == null) return null;
+
+        final ArrayList<BaseMetaPipeEntity> tPipes = new ArrayList<>();
+        collectPipes(tStartNode, null, tPipes);
+        final int tConsumers = tStartNode.mConsumers.size();
+        final XSTR tRandom = new XSTR(aX ^ aY ^ aZ);
+
+        long tFullNanos = 0, tFullBytes = 0;
+        for (int i = 0; i < aEdits; i++) {
+            final BaseMetaPipeEntity tEdited = tPipes.get(tRandom.nextInt(tPipes.size()));
+            final long tBytes = getAllocatedBytes();
+            final long tStart = System.nanoTime();
+            if (tEdited.getNode() != null) GenerateNodeMap.clearNodeMap(tEdited.getNode(), -1);
+            new GenerateNodeMapPower(tEdited);
+            tFullNanos += System.nanoTime() - tStart;
+            tFullBytes += getAllocatedBytes() - tBytes;
+            if (tEdited.getNode() == null) break;
+            tPipes.clear();
+            collectPipes(tEdited.getNode(), null, tPipes);
+        }
+
+        long tLocalNanos = 0, tLocalBytes = 0;
+        int tFallbacks = 0;
+        for (int i = 0; i < aEdits; i++) {
+            final BaseMetaPipeEntity tEdited = tPipes.get(tRandom.nextInt(tPipes.size()));
+            final long tBytes = getAllocatedBytes();
+            final long tStart = System.nanoTime();
+            if (!UpdateNodeMapPower.updateNodeMap(tEdited, false)) {
+                tFallbacks++;
+                if (tEdited.getNode() != null) GenerateNodeMap.clearNodeMap(tEdited.getNode(), -1);
+                new GenerateNodeMapPower(tEdited);
+            }
+            tLocalNanos += System.nanoTime() - tStart;
+            tLocalBytes += getAllocatedBytes() - tBytes;
+            if (tEdited.getNode() == null) break;
+            tPipes.clear();
+            collectPipes(tEdited.getNode(), null, tPipes);
+        }
+
+        // the edits leave the network rooted at a random cable, let the machines generate it again
+        Node tNode = tPipe.getNode();
+        if (tNode == null && tPipe.getNodePath() != null) tNode = tPipe.getNodePath().mReturnNode;
+        if (tNode != null) GenerateNodeMap.clearNodeMap(tNode, -1);
+        GregTechAPI.causeCableUpdate(aWorld, aX, aY, aZ);
+
+        final int tEdits = Math.max(1, aEdits);
+        return String.format(
+            "%d cable nodes, %d consumers: full rebuild %d us / %d KiB per edit, "
+                + "local update %d us / %d KiB per edit, %d fallbacks",
+            tPipes.size(),
+            tConsumers,
+            tFullNanos / tEdits / 1000,
+            tFullBytes / tEdits / 1024,
+            tLocalNanos / tEdits / 1000,
+            tLocalBytes / tEdits / 1024,
+            tFallbacks);
+    }
+
+    private static void collectPipes(Node aNode, Node aPreviousNode, ArrayList<BaseMetaPipeEntity> aPipes) {
+        if (aNode.mTileEntity instanceof BaseMetaPipeEntity tPipe) aPipes.add(tPipe);
+        for (byte side : ALL_VALID_SIDES) {
+            final Node tNextNode = aNode.mNeighbourNodes[side];
+            if (tNextNode != null && tNextNode != aPreviousNode) collectPipes(tNextNode, aNode, aPipes);
+        }
+    }
+
+    private static long getAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean tBean) {
+            return tBean.getThreadAllocatedBytes(
+                Thread.currentThread()
+                    .getId());
+        }
+        return 0;
+    }
+}
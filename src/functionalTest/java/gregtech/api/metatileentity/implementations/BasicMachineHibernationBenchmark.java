@@ -0,0 +1,77 @@
+package gregtech.api.metatileentity.implementations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.world.World;
+
+import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+import gregtech.common.config.Gregtech;
+
+/**
+ * Compares ticking idle {@link MTEBasicMachine}s awake with ticking them hibernating. Run through /gt_benchmark of the
+ * dev test mod.
+ * <p>
+ * The machines are real machines loaded in the world, so only idle ones are ticked and they are woken up again at the
+ * end. None of them is left hibernating because of the benchmark.
+ */
+public final class BasicMachineHibernationBenchmark {
+
+    private BasicMachineHibernationBenchmark() {}
+
+    /**
+     * Ticks the idle basic machines loaded in the world, repeated until there are as many as asked for, once awake and
+     * once hibernating.
+     *
+     * @return the report line, or null if there is no idle basic machine loaded in the world
+     */
+    public static String run(World aWorld, int aMachines, int aTicks) {
+        final List<MTEBasicMachine> tIdle = new ArrayList<>();
+        for (Object tTileEntity : aWorld.loadedTileEntityList) {
+            if (tTileEntity instanceof IGregTechTileEntity tBase
+                && tBase.getMetaTileEntity() instanceof MTEBasicMachine tMachine
+                && tMachine.isIdle(tBase)) tIdle.add(tMachine);
+        }
+        if (tIdle.isEmpty()) return null;
+        final int tMachines = Math.max(1, aMachines), tTicks = Math.max(1, aTicks);
+        final boolean tEnabled = Gregtech.performance.hibernatingMachines;
+        final long tAwakeNanos, tHibernatingNanos;
+        try {
+            Gregtech.performance.hibernatingMachines = false;
+            tAwakeNanos = tick(tIdle, tMachines, tTicks);
+            Gregtech.performance.hibernatingMachines = true;
+            // sends the machines to sleep
+            tick(tIdle, tMachines, MTEBasicMachine.HIBERNATION_DELAY);
+            tHibernatingNanos = tick(tIdle, tMachines, tTicks);
+        } finally {
+            // a machine ticked with hibernation off wakes up
+            Gregtech.performance.hibernatingMachines = false;
+            tick(tIdle, tIdle.size(), 1);
+            Gregtech.performance.hibernatingMachines = tEnabled;
+        }
+        return String.format(
+            "%d idle machines (%d distinct) for %d ticks: awake %d us (%.2f us per machine tick), "
+                + "hibernating %d us (%.2f us per machine tick)",
+            tMachines,
+            tIdle.size(),
+            tTicks,
+            tAwakeNanos / 1000,
+            tAwakeNanos / 1000D / tMachines / tTicks,
+            tHibernatingNanos / 1000,
+            tHibernatingNanos / 1000D / tMachines / tTicks);
+    }
+
+    private static long tick(List<MTEBasicMachine> aMachines, int aCount, int aTicks) {
+        final long tStart = System.nanoTime();
+        long tTick = 1;
+        for (int t = 0; t < aTicks; t++, tTick++) {
+            // skips the ticks that auto output fluids and check recipes on a timer
+            if (tTick % 20 == 0) tTick++;
+            for (int i = 0; i < aCount; i++) {
+                final MTEBasicMachine tMachine = aMachines.get(i % aMachines.size());
+                tMachine.onPostTick(tMachine.getBaseMetaTileEntity(), tTick);
+            }
+        }
+        return System.nanoTime() - tStart;
+    }
+}
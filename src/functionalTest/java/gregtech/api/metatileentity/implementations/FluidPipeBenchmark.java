@@ -0,0 +1,149 @@
+package gregtech.api.metatileentity.implementations;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidTankInfo;
+import net.minecraftforge.fluids.IFluidHandler;
+
+import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+
+/**
+ * Compares every pipe distributing its own fluid with a {@link FluidPipeSegment} distributing the fluid of all its
+ * pipes at once, for the pipes connected to a fluid pipe that is loaded in the world. Run through /gt_benchmark of the
+ * dev test mod.
+ * <p>
+ * Both passes really move fluid, so the pipes are reset and what reached the tanks at the border is drained back after
+ * each pass. Both passes start from the same state and the network is left as it was found, as far as the tanks allow
+ * draining.
+ */
+public final class FluidPipeBenchmark {
+
+    private FluidPipeBenchmark() {}
+
+    /**
+     * @return the report line, or null if there is no single fluid pipe at the given position
+     */
+    public static String run(World aWorld, int aX, int aY, int aZ, int aIntervals) {
+        final TileEntity tTileEntity = aWorld.getTileEntity(aX, aY, aZ);
+        if (!(tTileEntity instanceof IGregTechTileEntity tBase)
+            || !(tBase.getMetaTileEntity() instanceof MTEFluidPipe tPipe)) return null;
+        final FluidPipeSegment tSegment = FluidPipeSegment.build(tPipe);
+        if (tSegment == null) return null;
+        final MTEFluidPipe[] tPipes = tSegment.getPipes();
+        final int tIntervals = Math.max(1, aIntervals);
+        final Snapshot tSnapshot = new Snapshot(tSegment);
+
+        long tStart = System.nanoTime();
+        for (int i = 0; i < tIntervals; i++) {
+            for (MTEFluidPipe tMember : tPipes) {
+                if (tMember.mFluids[0] == null) continue;
+                tMember.distributeFluid(0, tMember.getBaseMetaTileEntity());
+                tMember.mLastReceivedFrom = 0;
+            }
+        }
+        final long tPipeNanos = Math.max(1, System.nanoTime() - tStart);
+        final long tPipeMoved = tSnapshot.mAmount - getAmount(tPipes);
+        long tKept = tSnapshot.restore();
+
+        boolean tHandled = true;
+        tStart = System.nanoTime();
+        for (int i = 0; i < tIntervals; i++) {
+            tHandled &= tSegment.solve();
+        }
+        final long tSegmentNanos = Math.max(1, System.nanoTime() - tStart);
+        final long tSegmentMoved = tSnapshot.mAmount - getAmount(tPipes);
+        tKept += tSnapshot.restore();
+
+        return String.format(
+            "%d pipes, %d border connections: per pipe %.2f intervals/ms (%d L left the pipes), "
+                + "segment %.2f intervals/ms (%d L left the pipes)%s%s",
+            tSegment.getSize(),
+            tSegment.getBorderSize(),
+            tIntervals * 1_000_000D / tPipeNanos,
+            tPipeMoved,
+            tIntervals * 1_000_000D / tSegmentNanos,
+            tSegmentMoved,
+            tHandled ? "" : ", the pipes hold different fluids so the segment fell back to per pipe distribution",
+            tKept == 0 ? "" : ", " + tKept + " L couldn't be drained back from the tanks");
+    }
+
+    private static long getAmount(MTEFluidPipe[] aPipes) {
+        long rAmount = 0;
+        for (MTEFluidPipe tPipe : aPipes) if (tPipe.mFluids[0] != null) rAmount += tPipe.mFluids[0].amount;
+        return rAmount;
+    }
+
+    // the contents of the pipes and of the tanks at the border of a segment, which is where fluid leaves it
+    private static class Snapshot {
+
+        private final MTEFluidPipe[] mPipes;
+        private final FluidStack[] mFluids;
+        private final byte[] mLastReceivedFrom;
+        private final long mAmount;
+        private final Map<IFluidHandler, ForgeDirection> mTanks = new IdentityHashMap<>();
+        private final Map<IFluidHandler, FluidStack[]> mTankFluids = new IdentityHashMap<>();
+
+        private Snapshot(FluidPipeSegment aSegment) {
+            mPipes = aSegment.getPipes();
+            mFluids = new FluidStack[mPipes.length];
+            mLastReceivedFrom = new byte[mPipes.length];
+            for (int i = 0; i < mPipes.length; i++) {
+                mFluids[i] = mPipes[i].mFluids[0] == null ? null : mPipes[i].mFluids[0].copy();
+                mLastReceivedFrom[i] = mPipes[i].mLastReceivedFrom;
+            }
+            mAmount = getAmount(mPipes);
+            final MTEFluidPipe[] tBorderPipes = aSegment.getBorderPipes();
+            final ForgeDirection[] tBorderSides = aSegment.getBorderSides();
+            for (int i = 0; i < tBorderPipes.length; i++) {
+                final IFluidHandler tTank = tBorderPipes[i].getBaseMetaTileEntity()
+                    .getITankContainerAtSide(tBorderSides[i]);
+                if (tTank == null || mTanks.containsKey(tTank)) continue;
+                final ForgeDirection tSide = tBorderSides[i].getOpposite();
+                mTanks.put(tTank, tSide);
+                mTankFluids.put(tTank, getFluids(tTank, tSide));
+            }
+        }
+
+        /**
+         * @return how much of the fluid that reached the tanks couldn't be drained back
+         */
+        private long restore() {
+            for (int i = 0; i < mPipes.length; i++) {
+                mPipes[i].mFluids[0] = mFluids[i] == null ? null : mFluids[i].copy();
+                mPipes[i].mLastReceivedFrom = mLastReceivedFrom[i];
+            }
+            long rKept = 0;
+            for (Map.Entry<IFluidHandler, ForgeDirection> tEntry : mTanks.entrySet()) {
+                final IFluidHandler tTank = tEntry.getKey();
+                final FluidStack[] tBefore = mTankFluids.get(tTank);
+                final FluidStack[] tAfter = getFluids(tTank, tEntry.getValue());
+                for (int i = 0; i < tAfter.length; i++) {
+                    if (tAfter[i] == null) continue;
+                    final int tBeforeAmount = i < tBefore.length && tBefore[i] != null
+                        && tBefore[i].isFluidEqual(tAfter[i]) ? tBefore[i].amount : 0;
+                    final int tGained = tAfter[i].amount - tBeforeAmount;
+                    if (tGained <= 0) continue;
+                    final FluidStack tDrained = tTank
+                        .drain(tEntry.getValue(), new FluidStack(tAfter[i], tGained), true);
+                    rKept += tGained - (tDrained == null ? 0 : tDrained.amount);
+                }
+            }
+            return rKept;
+        }
+
+        private static FluidStack[] getFluids(IFluidHandler aTank, ForgeDirection aSide) {
+            final FluidTankInfo[] tInfo = aTank.getTankInfo(aSide);
+            if (tInfo == null) return new FluidStack[0];
+            final FluidStack[] rFluids = new FluidStack[tInfo.length];
+            for (int i = 0; i < tInfo.length; i++) {
+                if (tInfo[i] != null && tInfo[i].fluid != null) rFluids[i] = tInfo[i].fluid.copy();
+            }
+            return rFluids;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package gregtech.api.net;
+
+import java.util.Arrays;
+
+import com.google.common.io.ByteStreams;
+
+import gregtech.api.objects.XSTR;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Compares the size and decoding time of one {@link GTPacketTileEntity} per tile entity with one
+ * {@link GTPacketTileEntityBatch} for a chunk full of tile entities. Run through /gt_benchmark of the dev test mod.
+ */
+public final class TileEntitySyncBenchmark {
+
+    private TileEntitySyncBenchmark() {}
+
+    /**
+     * @return the report line
+     */
+    public static String run(int aTiles, int aIterations) {
+        final int tTiles = Math.max(1, aTiles);
+        final int tIterations = Math.max(1, aIterations);
+        final XSTR tRandom = new XSTR(tTiles);
+
+        // machines in a dense factory, most of them without covers
+        final byte[][] tSingles = new byte[tTiles][];
+        final ByteBuf tEntries = Unpooled.buffer();
+        long tSingleBytes = 0;
+        for (int i = 0; i < tTiles; i++) {
+            final int[] tCovers = new int[6];
+            if (tRandom.nextInt(4) == 0) tCovers[tRandom.nextInt(6)] = tRandom.nextInt(30000);
+            final GTPacketTileEntity tPacket = new GTPacketTileEntity(
+                tRandom.nextInt(16),
+                (short) tRandom.nextInt(256),
+                tRandom.nextInt(16),
+                (short) tRandom.nextInt(32000),
+                tCovers[0],
+                tCovers[1],
+                tCovers[2],
+                tCovers[3],
+                tCovers[4],
+                tCovers[5],
+                (byte) tRandom.nextInt(128),
+                (byte) 0,
+                (byte) 0,
+                (byte) -1);
+            final ByteBuf tBuf = Unpooled.buffer();
+            tPacket.encode(tBuf);
+            tSingles[i] = Arrays.copyOf(tBuf.array(), tBuf.readableBytes());
+            tSingleBytes += tSingles[i].length + 1;
+            tPacket.encodeBatchEntry(tEntries);
+        }
+        final ByteBuf tBatchBuf = Unpooled.buffer();
+        new GTPacketTileEntityBatch(0, 0, tTiles, tEntries).encode(tBatchBuf);
+        final byte[] tBatch = Arrays.copyOf(tBatchBuf.array(), tBatchBuf.readableBytes());
+
+        final GTPacketTileEntity tSingleReference = new GTPacketTileEntity();
+        int tDecoded = 0;
+        long tStart = System.nanoTime();
+        for (int i = 0; i < tIterations; i++) {
+            for (byte[] tSingle : tSingles) {
+                if (tSingleReference.decode(ByteStreams.newDataInput(tSingle)) != null) tDecoded++;
+            }
+        }
+        final long tSingleNanos = System.nanoTime() - tStart;
+
+        final GTPacketTileEntityBatch tBatchReference = new GTPacketTileEntityBatch();
+        tStart = System.nanoTime();
+        for (int i = 0; i < tIterations; i++) {
+            tDecoded += ((GTPacketTileEntityBatch) tBatchReference.decode(ByteStreams.newDataInput(tBatch)))
+                .getPackets()
+                .size();
+        }
+        final long tBatchNanos = System.nanoTime() - tStart;
+
+        final long tSyncs = (long) tTiles * tIterations;
+        return String.format(
+            "%d tiles: single packets %d bytes, %d ns per tile decode; batch packet %d bytes, %d ns per tile decode "
+                + "(%d decoded). %s",
+            tTiles,
+            tSingleBytes,
+            tSingleNanos / tSyncs,
+            tBatch.length + 1,
+            tBatchNanos / tSyncs,
+            tDecoded,
+            TileEntitySyncBatcher.getStatistics());
+    }
+}
@@ -0,0 +1,96 @@
+package gregtech.api.recipe;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+
+import gregtech.api.util.GTRecipe;
+import gregtech.api.util.GTUtility;
+import gregtech.api.util.MethodsReturnNonnullByDefault;
+
+/**
+ * Compares lookup through {@link CompiledRecipeIndex} with the stream based lookup over the recipes actually loaded
+ * into {@link RecipeMap#ALL_RECIPE_MAPS}. Every recipe of a map is used once as a query, with its own inputs.
+ */
+@ParametersAreNonnullByDefault
+@MethodsReturnNonnullByDefault
+public final class RecipeIndexBenchmark {
+
+    private RecipeIndexBenchmark() {}
+
+    /**
+     * @param mapName    Unlocalized name of the recipemap to benchmark, or null for all the maps.
+     * @param iterations How many times each query is repeated.
+     * @return Report lines, one per benchmarked recipemap.
+     */
+    public static List<String> run(@Nullable String mapName, int iterations) {
+        List<String> report = new ArrayList<>();
+        List<RecipeMap<?>> maps = new ArrayList<>(RecipeMap.ALL_RECIPE_MAPS.values());
+        maps.sort(Comparator.comparing(map -> map.unlocalizedName));
+        for (RecipeMap<?> map : maps) {
+            if (mapName != null && !map.unlocalizedName.equals(mapName)) continue;
+            RecipeMapBackend backend = map.getBackend();
+            if (backend.getCompiledIndex() == null) continue;
+            report.add(run(map.unlocalizedName, backend, iterations));
+        }
+        return report;
+    }
+
+    private static String run(String name, RecipeMapBackend backend, int iterations) {
+        List<ItemStack[]> queryItems = new ArrayList<>();
+        List<FluidStack[]> queryFluids = new ArrayList<>();
+        for (GTRecipe recipe : backend.getAllRecipes()) {
+            if (!recipe.mEnabled || recipe.mFakeRecipe) continue;
+            queryItems.add(GTUtility.copyItemArray(recipe.mInputs));
+            queryFluids.add(GTUtility.copyFluidArray(recipe.mFluidInputs));
+        }
+
+        int mismatches = 0;
+        for (int q = 0; q < queryItems.size(); q++) {
+            GTRecipe legacy = find(backend, queryItems.get(q), queryFluids.get(q), false);
+            GTRecipe compiled = find(backend, queryItems.get(q), queryFluids.get(q), true);
+            if ((legacy == null) != (compiled == null)) mismatches++;
+        }
+
+        long legacyNanos = 0;
+        long compiledNanos = 0;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            for (int q = 0; q < queryItems.size(); q++) {
+                find(backend, queryItems.get(q), queryFluids.get(q), false);
+            }
+            legacyNanos += System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int q = 0; q < queryItems.size(); q++) {
+                find(backend, queryItems.get(q), queryFluids.get(q), true);
+            }
+            compiledNanos += System.nanoTime() - start;
+        }
+
+        long lookups = Math.max(1L, (long) queryItems.size() * iterations);
+        return String.format(
+            "%s: %d queries, stream %d ns/lookup, compiled %d ns/lookup, %d mismatches",
+            name,
+            queryItems.size(),
+            legacyNanos / lookups,
+            compiledNanos / lookups,
+            mismatches);
+    }
+
+    @Nullable
+    private static GTRecipe find(RecipeMapBackend backend, ItemStack[] items, FluidStack[] fluids,
+        boolean useCompiledIndex) {
+        if (useCompiledIndex) {
+            return backend.findRecipe(items, fluids, null, null, false, true, recipe -> true);
+        }
+        return backend.matchRecipeStream(items, fluids, null, null, false, true, false, false)
+            .findFirst()
+            .orElse(null);
+    }
+}
@@ -0,0 +1,49 @@
+package gregtech.api.util;
+
+import gregtech.api.objects.XSTR;
+
+/**
+ * Compares rolling a chanced output once for every parallel with {@link BinomialSampler}. Run through /gt_benchmark of
+ * the dev test mod.
+ */
+public final class ChancedOutputBenchmark {
+
+    private ChancedOutputBenchmark() {}
+
+    /**
+     * @return the report line
+     */
+    public static String run(int aChance, int aParallel, int aIterations) {
+        final int tChance = Math.max(1, Math.min(9999, aChance));
+        final int tParallel = Math.max(1, aParallel);
+        final int tIterations = Math.max(1, aIterations);
+        final XSTR tRandom = new XSTR(tChance ^ tParallel);
+
+        long tLoopSum = 0;
+        long tStart = System.nanoTime();
+        for (int i = 0; i < tIterations; i++) {
+            for (int roll = 0; roll < tParallel; roll++) {
+                if (tChance > tRandom.nextInt(10000)) tLoopSum++;
+            }
+        }
+        final long tLoopNanos = System.nanoTime() - tStart;
+
+        long tSampledSum = 0;
+        tStart = System.nanoTime();
+        for (int i = 0; i < tIterations; i++) {
+            tSampledSum += BinomialSampler.sample(tRandom, tParallel, tChance / 10000.0);
+        }
+        final long tSampledNanos = System.nanoTime() - tStart;
+
+        return String.format(
+            "chance %d/10000, %d parallels: rolling every parallel %d ns, average %.2f; sampled %d ns, average %.2f "
+                + "(expected %.2f)",
+            tChance,
+            tParallel,
+            tLoopNanos / tIterations,
+            (double) tLoopSum / tIterations,
+            tSampledNanos / tIterations,
+            (double) tSampledSum / tIterations,
+            tParallel * tChance / 10000.0);
+    }
+}
@@ -0,0 +1,62 @@
+package gregtech.api.util;
+
+import java.util.HashMap;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+
+import gregtech.api.interfaces.metatileentity.IMetaTileEntityItemPipe;
+import gregtech.api.metatileentity.BaseMetaPipeEntity;
+
+/**
+ * Compares searching an item pipe network the way {@link IMetaTileEntityItemPipe.Util#scanPipes} does with looking up
+ * an {@link ItemPipeRoutingTable}, for the network of a pipe that is loaded in the world. Run through /gt_benchmark of
+ * the dev test mod.
+ */
+public final class ItemPipeRoutingBenchmark {
+
+    private ItemPipeRoutingBenchmark() {}
+
+    /**
+     * @return the report line, or null if there is no item pipe at the given position
+     */
+    public static String run(World aWorld, int aX, int aY, int aZ, int aIterations) {
+        final TileEntity tTileEntity = aWorld.getTileEntity(aX, aY, aZ);
+        if (!(tTileEntity instanceof BaseMetaPipeEntity tBase)
+            || !(tBase.getMetaTileEntity() instanceof IMetaTileEntityItemPipe tPipe)) return null;
+
+        final int tIterations = Math.max(1, aIterations);
+        int tFound = 0;
+        long tStart = System.nanoTime();
+        for (int i = 0; i < tIterations; i++) {
+            tFound = GTUtility
+                .sortMapByValuesAcending(
+                    IMetaTileEntityItemPipe.Util.scanPipes(tPipe, new HashMap<>(), 0, false, false))
+                .size();
+        }
+        final long tScanNanos = System.nanoTime() - tStart;
+
+        tStart = System.nanoTime();
+        final ItemPipeRoutingTable tTable = ItemPipeRoutingTable.build(tPipe);
+        final long tBuildNanos = System.nanoTime() - tStart;
+        if (tTable == null) return "The network has pipes that can't be cached";
+
+        int tReachable = 0;
+        tStart = System.nanoTime();
+        for (int i = 0; i < tIterations; i++) {
+            if (tTable.isValid()) tReachable = tTable.getReachablePipes()
+                .size();
+        }
+        final long tLookupNanos = System.nanoTime() - tStart;
+        // the pipes remember the table until it is invalidated
+        tTable.invalidate();
+
+        return String.format(
+            "%d pipes (%d reachable): scan %d ns per send, table build %d ns, table lookup %d ns per send",
+            tFound,
+            tReachable,
+            tScanNanos / tIterations,
+            tBuildNanos,
+            tLookupNanos / tIterations);
+    }
+}
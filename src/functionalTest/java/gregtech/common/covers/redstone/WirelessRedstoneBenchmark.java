@@ -0,0 +1,101 @@
+package gregtech.common.covers.redstone;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.minecraft.util.ChunkCoordinates;
+
+import gregtech.api.objects.XSTR;
+import gregtech.common.covers.CoverPosition;
+
+/**
+ * Compares evaluating the gates of advanced wireless redstone receivers over every transmitter with the counts of a
+ * {@link WirelessRedstoneChannel}, on one channel that isn't registered anywhere. Run through /gt_benchmark of the dev
+ * test mod.
+ */
+public final class WirelessRedstoneBenchmark {
+
+    private static final CoverAdvancedRedstoneReceiverBase.GateMode[] MODES = CoverAdvancedRedstoneReceiverBase.GateMode
+        .values();
+
+    private WirelessRedstoneBenchmark() {}
+
+    /**
+     * Every tick a few transmitters change their signal, then every receiver evaluates its gate.
+     *
+     * @return the report line
+     */
+    public static String run(int aTransmitters, int aReceivers, int aTicks) {
+        final int tTransmitters = Math.max(1, aTransmitters);
+        final int tReceivers = Math.max(1, aReceivers);
+        final int tTicks = Math.max(1, aTicks);
+        final CoverPosition[] tPositions = new CoverPosition[tTransmitters];
+        for (int i = 0; i < tTransmitters; i++) {
+            tPositions[i] = new CoverPosition(new ChunkCoordinates(i, 64, i / 16), "Overworld", 0, i % 6);
+        }
+
+        final Map<CoverPosition, Byte> tSignals = new ConcurrentHashMap<>();
+        XSTR tRandom = new XSTR(tTransmitters);
+        for (CoverPosition tPosition : tPositions) tSignals.put(tPosition, (byte) 15);
+        long tStreamSum = 0;
+        long tStart = System.nanoTime();
+        for (int t = 0; t < tTicks; t++) {
+            for (int i = 0; i < 4; i++) {
+                tSignals.put(tPositions[tRandom.nextInt(tTransmitters)], (byte) (tRandom.nextInt(8) == 0 ? 0 : 15));
+            }
+            for (int r = 0; r < tReceivers; r++) tStreamSum += getSignalByStream(tSignals, MODES[r % MODES.length]);
+        }
+        final long tStreamNanos = System.nanoTime() - tStart;
+
+        final WirelessRedstoneChannel tChannel = new WirelessRedstoneChannel();
+        tRandom = new XSTR(tTransmitters);
+        for (CoverPosition tPosition : tPositions) tChannel.put(tPosition, (byte) 15);
+        long tChannelSum = 0;
+        tStart = System.nanoTime();
+        for (int t = 0; t < tTicks; t++) {
+            for (int i = 0; i < 4; i++) {
+                tChannel.put(tPositions[tRandom.nextInt(tTransmitters)], (byte) (tRandom.nextInt(8) == 0 ? 0 : 15));
+            }
+            for (int r = 0; r < tReceivers; r++) tChannelSum += tChannel.getSignal(MODES[r % MODES.length]);
+        }
+        final long tChannelNanos = System.nanoTime() - tStart;
+
+        final long tEvaluations = (long) tReceivers * tTicks;
+        return String.format(
+            "%d transmitters, %d receivers: every transmitter %d ns per receiver, channel counts %d ns per receiver, "
+                + "signal sums %d and %d",
+            tTransmitters,
+            tReceivers,
+            tStreamNanos / tEvaluations,
+            tChannelNanos / tEvaluations,
+            tStreamSum,
+            tChannelSum);
+    }
+
+    // how the gates were evaluated before the channels counted their transmitters
+    private static byte getSignalByStream(Map<CoverPosition, Byte> aSignals,
+        CoverAdvancedRedstoneReceiverBase.GateMode aMode) {
+        return switch (aMode) {
+            case AND -> (byte) (aSignals.values()
+                .stream()
+                .map(signal -> signal > 0)
+                .reduce(true, (signalA, signalB) -> signalA && signalB) ? 15 : 0);
+            case NAND -> (byte) (aSignals.values()
+                .stream()
+                .map(signal -> signal > 0)
+                .reduce(true, (signalA, signalB) -> signalA && signalB) ? 0 : 15);
+            case OR -> (byte) (aSignals.values()
+                .stream()
+                .map(signal -> signal > 0)
+                .reduce(false, (signalA, signalB) -> signalA || signalB) ? 15 : 0);
+            case NOR -> (byte) (aSignals.values()
+                .stream()
+                .map(signal -> signal > 0)
+                .reduce(false, (signalA, signalB) -> signalA || signalB) ? 0 : 15);
+            case SINGLE_SOURCE -> aSignals.isEmpty() ? 0
+                : aSignals.values()
+                    .iterator()
+                    .next();
+        };
+    }
+}
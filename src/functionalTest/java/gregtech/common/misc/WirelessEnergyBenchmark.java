@@ -0,0 +1,72 @@
+package gregtech.common.misc;
+
+import static gregtech.common.misc.GlobalVariableStorage.GlobalEnergy;
+
+import java.math.BigInteger;
+import java.util.UUID;
+
+import gregtech.common.misc.spaceprojects.SpaceProjectManager;
+
+/**
+ * Compares adding wireless EU straight to the {@link BigInteger} of a team with the {@link WirelessEnergyLedger}, on a
+ * temporary team that is removed again afterwards. Run through /gt_benchmark of the dev test mod, since the team is
+ * added to the global maps while it runs.
+ */
+public final class WirelessEnergyBenchmark {
+
+    private WirelessEnergyBenchmark() {}
+
+    /**
+     * Every tick each machine adds or removes EU once, like wireless hatches and dynamos do.
+     *
+     * @return the report line
+     */
+    public static String run(int aMachines, int aTicks) {
+        final int tMachines = Math.max(1, aMachines);
+        final int tTicks = Math.max(1, aTicks);
+        final UUID tTeam = UUID.randomUUID();
+        SpaceProjectManager.checkOrCreateTeam(tTeam);
+        try {
+            // start with enough EU that nothing fails and the stored EU doesn't fit into a long
+            final BigInteger tStart = BigInteger.valueOf(Long.MAX_VALUE)
+                .shiftLeft(4);
+            WirelessNetworkManager.addEUDirectly(tTeam, tStart);
+
+            long tBigIntegerNanos = System.nanoTime();
+            for (int t = 0; t < tTicks; t++) {
+                for (int m = 0; m < tMachines; m++) {
+                    WirelessNetworkManager.addEUDirectly(tTeam, BigInteger.valueOf(getEU(t, m)));
+                }
+            }
+            tBigIntegerNanos = System.nanoTime() - tBigIntegerNanos;
+            final BigInteger tBigIntegerResult = GlobalEnergy.get(tTeam);
+
+            GlobalEnergy.put(tTeam, tStart);
+            long tLedgerNanos = System.nanoTime();
+            for (int t = 0; t < tTicks; t++) {
+                for (int m = 0; m < tMachines; m++) WirelessEnergyLedger.addEU(tTeam, getEU(t, m));
+                WirelessEnergyLedger.flush();
+            }
+            tLedgerNanos = System.nanoTime() - tLedgerNanos;
+            final BigInteger tLedgerResult = GlobalEnergy.get(tTeam);
+
+            final long tOperations = (long) tMachines * tTicks;
+            return String.format(
+                "%d machines for %d ticks: BigInteger %d ns per operation, ledger %d ns per operation, %s",
+                tMachines,
+                tTicks,
+                tBigIntegerNanos / tOperations,
+                tLedgerNanos / tOperations,
+                tBigIntegerResult.equals(tLedgerResult) ? "same result" : "DIFFERENT RESULT");
+        } finally {
+            WirelessEnergyLedger.remove(tTeam);
+            GlobalEnergy.remove(tTeam);
+            SpaceProjectManager.spaceTeams.remove(tTeam);
+        }
+    }
+
+    // dynamos add a lot of EU at once, hatches remove a little every tick
+    private static long getEU(int aTick, int aMachine) {
+        return aMachine % 8 == 0 ? 2_097_152L * 20 * (aTick % 7 + 1) : -32_768L * (aMachine % 5 + 1);
+    }
+}
@@ -0,0 +1,181 @@
+package gregtech.common.pollution;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.world.ChunkCoordIntPair;
+
+import gregtech.api.objects.XSTR;
+import gregtech.api.util.GTUtility;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
+/**
+ * Runs one pollution cycle over made up polluted chunks without a world, once with chunk coordinate objects like
+ * {@link Pollution} used to and once with packed chunk coordinates, and counts the pollution packets a cycle sends with
+ * one packet per updated chunk and with a batch packet per player every second. Run through /gt_benchmark of the dev
+ * test mod.
+ */
+public final class PollutionBenchmark {
+
+    private static final int CYCLE = 1200, PACKET_INTERVAL = 20, PACKET_MIN = 1000, VIEW_DISTANCE = 10;
+    private static final int[] NEIGHBOR_X = { 1, -1, 0, 0 }, NEIGHBOR_Z = { 0, 0, 1, -1 };
+
+    private PollutionBenchmark() {}
+
+    /**
+     * @return the report line
+     */
+    public static String run(int aChunks, int aPlayers) {
+        final int tChunks = Math.max(1, aChunks);
+        final int tPlayers = Math.max(0, aPlayers);
+        final XSTR tRandom = new XSTR(tChunks);
+        final int tSize = (int) Math.ceil(Math.sqrt(tChunks * 2.0));
+        final Long2IntOpenHashMap tStart = new Long2IntOpenHashMap();
+        while (tStart.size() < tChunks) {
+            tStart.put(
+                ChunkCoordIntPair
+                    .chunkXZ2Int(tRandom.nextInt(tSize) - tSize / 2, tRandom.nextInt(tSize) - tSize / 2),
+                1 + tRandom.nextInt(2_000_000));
+        }
+        final int[] tPlayerX = new int[tPlayers], tPlayerZ = new int[tPlayers];
+        for (int i = 0; i < tPlayers; i++) {
+            tPlayerX[i] = tRandom.nextInt(tSize) - tSize / 2;
+            tPlayerZ[i] = tRandom.nextInt(tSize) - tSize / 2;
+        }
+
+        // chunk coordinate objects and one packet per updated chunk
+        final Map<ChunkCoordIntPair, int[]> tOldAmounts = new HashMap<>();
+        final Set<ChunkCoordIntPair> tOldPolluted = new HashSet<>();
+        for (Long2IntMap.Entry tEntry : tStart.long2IntEntrySet()) {
+            final ChunkCoordIntPair tPos = new ChunkCoordIntPair(
+                (int) tEntry.getLongKey(),
+                (int) (tEntry.getLongKey() >> 32));
+            tOldAmounts.put(tPos, new int[] { tEntry.getIntValue() });
+            tOldPolluted.add(tPos);
+        }
+        long tOldPackets = 0;
+        long tNanos = System.nanoTime();
+        List<ChunkCoordIntPair> tOldList = new ArrayList<>();
+        int tPerTick = 0;
+        for (int tTick = 0; tTick < CYCLE; tTick++) {
+            if (tTick == 0) {
+                tOldList = new ArrayList<>(tOldPolluted);
+                tPerTick = Math.max(1, tOldList.size() / CYCLE);
+            }
+            for (int i = 0; i < tPerTick && !tOldList.isEmpty(); i++) {
+                final ChunkCoordIntPair tPos = tOldList.remove(tOldList.size() - 1);
+                int tPollution = (int) (0.9945f * getOld(tOldAmounts, tPos));
+                if (tPollution > 400000) {
+                    final ChunkCoordIntPair[] tNeighbors = new ChunkCoordIntPair[4];
+                    for (int n = 0; n < 4; n++) tNeighbors[n] = new ChunkCoordIntPair(
+                        tPos.chunkXPos + NEIGHBOR_X[n],
+                        tPos.chunkZPos + NEIGHBOR_Z[n]);
+                    for (ChunkCoordIntPair tNeighbor : tNeighbors) {
+                        final int tNeighborPollution = getOld(tOldAmounts, tNeighbor);
+                        if (tNeighborPollution * 6 < tPollution * 5) {
+                            final int tDiff = (tPollution - tNeighborPollution) / 20;
+                            tPollution -= tDiff;
+                            setOld(
+                                tOldAmounts,
+                                tOldPolluted,
+                                tNeighbor,
+                                GTUtility.safeInt((long) tNeighborPollution + tDiff));
+                        }
+                    }
+                }
+                setOld(tOldAmounts, tOldPolluted, tPos, tPollution);
+                if (tPollution > PACKET_MIN) {
+                    for (int p = 0; p < tPlayers; p++) {
+                        // sent to all players within 256 blocks
+                        final long tDX = (long) (tPos.chunkXPos - tPlayerX[p]) << 4;
+                        final long tDZ = (long) (tPos.chunkZPos - tPlayerZ[p]) << 4;
+                        if (tDX * tDX + tDZ * tDZ < 256 * 256) tOldPackets++;
+                    }
+                }
+            }
+        }
+        final long tOldNanos = System.nanoTime() - tNanos;
+
+        // packed coordinates and a batch packet per player every second
+        final Long2IntOpenHashMap tAmounts = new Long2IntOpenHashMap(tStart);
+        final LongSet tPolluted = new LongOpenHashSet(tStart.keySet());
+        final LongArrayList tList = new LongArrayList();
+        final LongOpenHashSet tPending = new LongOpenHashSet();
+        long tPackets = 0;
+        tNanos = System.nanoTime();
+        for (int tTick = 0; tTick < CYCLE; tTick++) {
+            if (tTick == 0) {
+                tList.clear();
+                tList.addAll(tPolluted);
+                tPerTick = Math.max(1, tList.size() / CYCLE);
+            }
+            for (int i = 0; i < tPerTick && !tList.isEmpty(); i++) {
+                final long tPos = tList.removeLong(tList.size() - 1);
+                final int tX = (int) tPos, tZ = (int) (tPos >> 32);
+                int tPollution = (int) (0.9945f * tAmounts.get(tPos));
+                if (tPollution > 400000) {
+                    for (int n = 0; n < 4; n++) {
+                        final long tNeighbor = ChunkCoordIntPair.chunkXZ2Int(tX + NEIGHBOR_X[n], tZ + NEIGHBOR_Z[n]);
+                        final int tNeighborPollution = tAmounts.get(tNeighbor);
+                        if (tNeighborPollution * 6 < tPollution * 5) {
+                            final int tDiff = (tPollution - tNeighborPollution) / 20;
+                            tPollution -= tDiff;
+                            set(tAmounts, tPolluted, tNeighbor, GTUtility.safeInt((long) tNeighborPollution + tDiff));
+                        }
+                    }
+                }
+                set(tAmounts, tPolluted, tPos, tPollution);
+                if (tPollution > PACKET_MIN) tPending.add(tPos);
+            }
+            if (tTick % PACKET_INTERVAL == 0 && !tPending.isEmpty()) {
+                for (int p = 0; p < tPlayers; p++) {
+                    for (long tPos : tPending) {
+                        if (Math.abs((int) tPos - tPlayerX[p]) <= VIEW_DISTANCE
+                            && Math.abs((int) (tPos >> 32) - tPlayerZ[p]) <= VIEW_DISTANCE) {
+                            tPackets++;
+                            break;
+                        }
+                    }
+                }
+                tPending.clear();
+            }
+        }
+        final long tNanosPacked = System.nanoTime() - tNanos;
+
+        return String.format(
+            "%d polluted chunks, %d players, one cycle: chunk objects %d us and %d packets; "
+                + "packed %d us and %d batch packets",
+            tChunks,
+            tPlayers,
+            tOldNanos / 1000,
+            tOldPackets,
+            tNanosPacked / 1000,
+            tPackets);
+    }
+
+    private static int getOld(Map<ChunkCoordIntPair, int[]> aAmounts, ChunkCoordIntPair aPos) {
+        final int[] tAmount = aAmounts.get(aPos);
+        return tAmount == null ? 0 : tAmount[0];
+    }
+
+    private static void setOld(Map<ChunkCoordIntPair, int[]> aAmounts, Set<ChunkCoordIntPair> aPolluted,
+        ChunkCoordIntPair aPos, int aPollution) {
+        aAmounts.computeIfAbsent(aPos, k -> new int[1])[0] = Math.max(0, aPollution);
+        if (aPollution > 0) aPolluted.add(aPos);
+        else aPolluted.remove(aPos);
+    }
+
+    private static void set(Long2IntOpenHashMap aAmounts, LongSet aPolluted, long aPos, int aPollution) {
+        aAmounts.put(aPos, Math.max(0, aPollution));
+        if (aPollution > 0) aPolluted.add(aPos);
+        else aPolluted.remove(aPos);
+    }
+}
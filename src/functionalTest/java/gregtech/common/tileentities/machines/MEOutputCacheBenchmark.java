@@ -0,0 +1,61 @@
+package gregtech.common.tileentities.machines;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+
+/**
+ * Compares counting the whole cache of an ME output bus and an ME output hatch on every space check with the running
+ * totals they keep, for hatches holding many distinct cached types. The hatches are made up and never placed in a
+ * world, so nothing is flushed into a grid. Run through /gt_benchmark of the dev test mod.
+ */
+public final class MEOutputCacheBenchmark {
+
+    private MEOutputCacheBenchmark() {}
+
+    /**
+     * @return the report line
+     */
+    public static String run(int aTypes, int aChecks) {
+        final int tTypes = Math.max(1, aTypes), tChecks = Math.max(1, aChecks);
+        final MTEHatchOutputBusME tBus = new MTEHatchOutputBusME("benchmark.me_output_bus", 3, new String[0], null);
+        final MTEHatchOutputME tHatch = new MTEHatchOutputME("benchmark.me_output_hatch", 3, new String[0], null);
+        for (int i = 0; i < tTypes; i++) {
+            tBus.storePartial(new ItemStack(Items.paper, 1 + i % 64, i), false);
+            final NBTTagCompound tTag = new NBTTagCompound();
+            tTag.setInteger("benchmark", i);
+            tHatch.tryFillAE(new FluidStack(FluidRegistry.WATER, 1 + i % 1000, tTag));
+        }
+
+        long tChecked = 0;
+        long tStart = System.nanoTime();
+        for (int i = 0; i < tChecks; i++) {
+            tChecked += tBus.countCachedAmount() + tHatch.countCachedAmount();
+        }
+        final long tCountNanos = System.nanoTime() - tStart;
+
+        int tAccepted = 0;
+        tStart = System.nanoTime();
+        for (int i = 0; i < tChecks; i++) {
+            if (tBus.canAcceptItem()) tAccepted++;
+            if (tHatch.canAcceptFluid()) tAccepted++;
+        }
+        final long tTotalNanos = System.nanoTime() - tStart;
+
+        final boolean tMatches = tBus.countCachedAmount() == tBus.cachedAmount
+            && tHatch.countCachedAmount() == tHatch.cachedAmount;
+        return String.format(
+            "%d cached types per hatch (%d items, %d L), %d checks of both: counting the caches %.1f ns per check, "
+                + "running totals %.1f ns per check, %d accepted, totals %s",
+            tBus.itemCache.size(),
+            tChecked / tChecks - tHatch.cachedAmount,
+            tHatch.cachedAmount,
+            tChecks,
+            (double) tCountNanos / tChecks,
+            (double) tTotalNanos / tChecks,
+            tAccepted,
+            tMatches ? "match" : "DO NOT MATCH");
+    }
+}
@@ -0,0 +1,150 @@
+package gregtech.test;
+
+import static gregtech.api.enums.GTValues.RA;
+import static net.minecraft.init.Blocks.chest;
+import static net.minecraft.init.Blocks.cobblestone;
+import static net.minecraft.init.Blocks.log;
+import static net.minecraft.init.Blocks.planks;
+import static net.minecraft.init.Blocks.sand;
+import static net.minecraft.init.Blocks.stone;
+import static net.minecraft.init.Items.gold_ingot;
+import static net.minecraft.init.Items.iron_ingot;
+import static net.minecraft.init.Items.redstone;
+import static net.minecraftforge.oredict.OreDictionary.WILDCARD_VALUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import gregtech.api.recipe.RecipeMap;
+import gregtech.api.recipe.RecipeMapBuilder;
+import gregtech.api.util.GTRecipe;
+import gregtech.common.config.Gregtech;
+
+/**
+ * Checks that the {@link gregtech.api.recipe.CompiledRecipeIndex} finds the same recipes as the item and fluid index.
+ */
+class CompiledRecipeIndexTest {
+
+    static RecipeMap<?> recipeMap;
+    static boolean compiledRecipeIndex;
+
+    @BeforeAll
+    static void setup() {
+        compiledRecipeIndex = Gregtech.performance.compiledRecipeIndex;
+        recipeMap = RecipeMapBuilder.of("__compiled_index_test__")
+            .maxIO(4, 1, 2, 0)
+            .build();
+
+        RA.stdBuilder()
+            .itemInputs(new ItemStack(log, 2, WILDCARD_VALUE), new ItemStack(planks, 2, WILDCARD_VALUE))
+            .itemOutputs(new ItemStack(chest, 1))
+            .duration(0)
+            .eut(0)
+            .addTo(recipeMap);
+        RA.stdBuilder()
+            .itemInputs(new ItemStack(iron_ingot, 3), new ItemStack(redstone, 1))
+            .itemOutputs(new ItemStack(stone, 1))
+            .duration(0)
+            .eut(0)
+            .addTo(recipeMap);
+        RA.stdBuilder()
+            .itemInputs(new ItemStack(iron_ingot, 1), new ItemStack(gold_ingot, 1))
+            .fluidInputs(new FluidStack(FluidRegistry.WATER, 1000))
+            .itemOutputs(new ItemStack(stone, 2))
+            .duration(0)
+            .eut(0)
+            .addTo(recipeMap);
+        RA.stdBuilder()
+            .itemInputs(new ItemStack(sand, 1))
+            .fluidInputs(new FluidStack(FluidRegistry.LAVA, 100), new FluidStack(FluidRegistry.WATER, 100))
+            .itemOutputs(new ItemStack(cobblestone, 1))
+            .duration(0)
+            .eut(0)
+            .addTo(recipeMap);
+        RA.stdBuilder()
+            .itemInputs(new ItemStack(sand, 1), new ItemStack(redstone, 0))
+            .itemOutputs(new ItemStack(stone, 3))
+            .duration(0)
+            .eut(0)
+            .addTo(recipeMap);
+    }
+
+    @AfterAll
+    static void restore() {
+        Gregtech.performance.compiledRecipeIndex = compiledRecipeIndex;
+    }
+
+    @Test
+    void findsEveryRecipeWithItsOwnInputs() {
+        for (GTRecipe recipe : recipeMap.getAllRecipes()) {
+            assertSameMatches(recipe.mInputs, recipe.mFluidInputs);
+        }
+    }
+
+    @Test
+    void matchesWildcardsAndNonConsumables() {
+        assertSameMatches(new ItemStack[] { new ItemStack(log, 2, 1), new ItemStack(planks, 2, 3) });
+        assertSameMatches(new ItemStack[] { new ItemStack(sand, 1), new ItemStack(redstone, 1) });
+        assertSameMatches(new ItemStack[] { new ItemStack(sand, 1) });
+    }
+
+    @Test
+    void matchesMissingAndExtraInputs() {
+        assertSameMatches(new ItemStack[] { new ItemStack(iron_ingot, 3) });
+        assertSameMatches(new ItemStack[] { new ItemStack(iron_ingot, 1), new ItemStack(gold_ingot, 1) });
+        assertNotNull(
+            assertSameMatches(
+                new ItemStack[] { new ItemStack(iron_ingot, 4), new ItemStack(gold_ingot, 1),
+                    new ItemStack(redstone, 1) },
+                new FluidStack(FluidRegistry.WATER, 1000)));
+        assertSameMatches(new ItemStack[] { new ItemStack(sand, 1) }, new FluidStack(FluidRegistry.LAVA, 100));
+        assertSameMatches(new ItemStack[] { new ItemStack(chest, 1), null }, new FluidStack(FluidRegistry.WATER, 1));
+        assertSameMatches(new ItemStack[0]);
+    }
+
+    /**
+     * @return the first recipe found
+     */
+    private static GTRecipe assertSameMatches(ItemStack[] items, FluidStack... fluids) {
+        Gregtech.performance.compiledRecipeIndex = false;
+        recipeMap.getBackend()
+            .reInit();
+        Set<GTRecipe> expected = findAll(items, fluids);
+        GTRecipe expectedFirst = find(items, fluids);
+
+        Gregtech.performance.compiledRecipeIndex = true;
+        recipeMap.getBackend()
+            .reInit();
+        assertNotNull(
+            recipeMap.getBackend()
+                .getCompiledIndex());
+        assertEquals(expected, findAll(items, fluids));
+        assertEquals(expectedFirst, find(items, fluids));
+        return expectedFirst;
+    }
+
+    private static Set<GTRecipe> findAll(ItemStack[] items, FluidStack[] fluids) {
+        return recipeMap.findRecipeQuery()
+            .items(items)
+            .fluids(fluids)
+            .findAll()
+            .collect(Collectors.toSet());
+    }
+
+    private static GTRecipe find(ItemStack[] items, FluidStack[] fluids) {
+        return recipeMap.findRecipeQuery()
+            .items(items)
+            .fluids(fluids)
+            .find();
+    }
+}
@@ -0,0 +1,107 @@
+package gregtech.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ChunkCoordinates;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import gregtech.api.GregTechAPI;
+import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+import gregtech.api.metatileentity.BaseTileEntity;
+import gregtech.api.metatileentity.implementations.FluidPipeSegment;
+import gregtech.api.metatileentity.implementations.MTEFluidPipe;
+
+/**
+ * Checks that a {@link FluidPipeSegment} stops distributing through pipes that unloaded with their chunk, since their
+ * fluid is already saved and would come back when the chunk loads again.
+ */
+class FluidPipeSegmentTest {
+
+    private World world;
+    private ChunkCoordinates origin;
+    private final MTEFluidPipe[] pipes = new MTEFluidPipe[3];
+
+    @BeforeEach
+    void placePipes() {
+        world = MinecraftServer.getServer()
+            .worldServerForDimension(0);
+        // the spawn chunks stay loaded, the pipes go to the top so they don't replace anything
+        final ChunkCoordinates spawn = world.getSpawnPoint();
+        origin = new ChunkCoordinates(spawn.posX, 250, spawn.posZ);
+        final short id = findFluidPipe();
+        for (int i = 0; i < pipes.length; i++) {
+            world.setBlock(
+                origin.posX + i,
+                origin.posY,
+                origin.posZ,
+                GregTechAPI.sBlockMachines,
+                GregTechAPI.METATILEENTITIES[id].getTileEntityBaseType(),
+                3);
+            final IGregTechTileEntity base = (IGregTechTileEntity) world
+                .getTileEntity(origin.posX + i, origin.posY, origin.posZ);
+            base.setInitialValuesAsNBT(null, id);
+            pipes[i] = (MTEFluidPipe) base.getMetaTileEntity();
+        }
+        for (int i = 0; i < pipes.length - 1; i++) pipes[i].connect(ForgeDirection.EAST);
+    }
+
+    @AfterEach
+    void removePipes() {
+        for (int i = 0; i < pipes.length; i++) world.setBlockToAir(origin.posX + i, origin.posY, origin.posZ);
+    }
+
+    @Test
+    void distributesOverThePipes() {
+        final FluidPipeSegment segment = FluidPipeSegment.build(pipes[0]);
+        assertNotNull(segment);
+        assertEquals(3, segment.getSize());
+        pipes[0].mFluids[0] = new FluidStack(FluidRegistry.WATER, 30);
+        assertTrue(segment.distribute(world.getTotalWorldTime()));
+        for (MTEFluidPipe pipe : pipes) assertEquals(10, pipe.mFluids[0].amount);
+    }
+
+    @Test
+    void chunkUnloadInvalidatesTheSegment() {
+        final FluidPipeSegment segment = FluidPipeSegment.build(pipes[0]);
+        assertNotNull(segment);
+        ((TileEntity) pipes[2].getBaseMetaTileEntity()).onChunkUnload();
+        assertFalse(segment.isValid());
+        // the unloaded pipe can't join the segment built instead
+        assertEquals(2, FluidPipeSegment.build(pipes[0]).getSize());
+    }
+
+    @Test
+    void deadPipesStopTheDistribution() {
+        final FluidPipeSegment segment = FluidPipeSegment.build(pipes[0]);
+        assertNotNull(segment);
+        for (MTEFluidPipe pipe : pipes) pipe.mFluids[0] = new FluidStack(FluidRegistry.WATER, 30);
+        pipes[1].mFluids[0] = null;
+        ((BaseTileEntity) pipes[2].getBaseMetaTileEntity()).isDead = true;
+        assertFalse(segment.distribute(world.getTotalWorldTime()));
+        assertFalse(segment.isValid());
+        assertEquals(30, pipes[0].mFluids[0].amount);
+        assertNull(pipes[1].mFluids[0]);
+        assertEquals(30, pipes[2].mFluids[0].amount);
+    }
+
+    private static short findFluidPipe() {
+        for (short i = 0; i < GregTechAPI.METATILEENTITIES.length; i++) {
+            if (GregTechAPI.METATILEENTITIES[i] instanceof MTEFluidPipe pipe && pipe.getClass() == MTEFluidPipe.class
+                && pipe.mPipeAmount == 1) return i;
+        }
+        throw new IllegalStateException("no single fluid pipe is registered");
+    }
+}
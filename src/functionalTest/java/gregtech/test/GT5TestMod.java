@@ -23,10 +23,16 @@ import org.junit.platform.reporting.legacy.xml.LegacyXmlReportGeneratingListener
 import cpw.mods.fml.common.FMLCommonHandler;
 import cpw.mods.fml.common.Mod;
 import cpw.mods.fml.common.event.FMLServerStartedEvent;
+import cpw.mods.fml.common.event.FMLServerStartingEvent;
 
 @Mod(modid = "gt5-tests", name = "GT5 Dev Tests", version = "1.0", dependencies = "required-after:gregtech")
 public class GT5TestMod {
 
+    @Mod.EventHandler
+    public void onServerStarting(FMLServerStartingEvent event) {
+        event.registerServerCommand(new GTBenchmarkCommand());
+    }
+
     @Mod.EventHandler
     public void onServerStarted(FMLServerStartedEvent event) {
         MinecraftServer.getServer()
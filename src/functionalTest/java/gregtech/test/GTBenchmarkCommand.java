@@ -0,0 +1,240 @@
+package gregtech.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.util.ChatComponentText;
+import net.minecraft.util.EnumChatFormatting;
+
+import gregtech.api.graphs.NodeMapBenchmark;
+import gregtech.api.metatileentity.implementations.BasicMachineHibernationBenchmark;
+import gregtech.api.metatileentity.implementations.FluidPipeBenchmark;
+import gregtech.api.net.TileEntitySyncBenchmark;
+import gregtech.api.recipe.RecipeIndexBenchmark;
+import gregtech.api.util.ChancedOutputBenchmark;
+import gregtech.api.util.GTLog;
+import gregtech.api.util.ItemPipeRoutingBenchmark;
+import gregtech.common.covers.redstone.WirelessRedstoneBenchmark;
+import gregtech.common.misc.WirelessEnergyBenchmark;
+import gregtech.common.pollution.PollutionBenchmark;
+import gregtech.common.tileentities.machines.MEOutputCacheBenchmark;
+import tectech.mechanics.tesla.TeslaBenchmark;
+
+/**
+ * Benchmarks that compare the optimized code paths with the ones they replaced. Only registered by the dev test mod,
+ * since some of them work on the networks and machines of the world they are run in.
+ */
+public final class GTBenchmarkCommand extends CommandBase {
+
+    // completed as the first argument
+    private static final String[] SUBCOMMANDS = {
+        "recipe_index", "cable_network", "item_pipe", "fluid_pipe", "tile_sync", "wireless_energy", "chanced_output",
+        "tesla", "wireless_redstone", "pollution", "hibernation", "me_output" };
+
+    @Override
+    public String getCommandName() {
+        return "gt_benchmark";
+    }
+
+    @Override
+    public String getCommandUsage(ICommandSender sender) {
+        return "Usage: gt_benchmark <benchmark>. Valid benchmarks are: " + String.join(", ", SUBCOMMANDS) + ".";
+    }
+
+    private void printHelp(ICommandSender sender) {
+        sender.addChatMessage(new ChatComponentText("Usage: gt_benchmark <" + String.join("|", SUBCOMMANDS) + ">"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"recipe_index [recipemap] [iterations]\" - compares compiled recipe index lookup with the stream lookup"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"cable_network <x> <y> <z> [edits]\" - compares regenerating the whole power network of a cable with local updates"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"item_pipe <x> <y> <z> [iterations]\" - compares searching the item pipe network of a pipe with its routing table"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"fluid_pipe <x> <y> <z> [intervals]\" - compares per pipe fluid distribution with the pipe segment solver, the pipes and tanks are reset after each pass"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"tile_sync [tiles] [iterations]\" - compares decoding tile entity sync packets one by one with a batch for the whole chunk and prints the batching counters"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"wireless_energy [machines] [ticks]\" - compares adding wireless EU as a BigInteger with the wireless energy ledger"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"chanced_output [chance] [parallel] [iterations]\" - compares rolling a chanced output for every parallel with sampling the total, chance is out of 10000"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"tesla [towers] [covers] [range]\" - compares matching Tesla towers with every target and with the target grid"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"wireless_redstone [transmitters] [receivers] [ticks]\" - compares evaluating advanced wireless redstone gates over every transmitter with the channel counts"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"pollution [chunks] [players]\" - compares a pollution cycle with chunk objects and one packet per chunk to packed chunks and batch packets"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"hibernation [machines] [ticks]\" - compares ticking the idle basic machines of this world awake and hibernating"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"me_output [types] [checks]\" - compares counting the cache of an ME output bus and hatch holding many types with their running totals"));
+        sender.addChatMessage(new ChatComponentText("All results are logged to GregTech.log"));
+    }
+
+    @Override
+    public List<String> addTabCompletionOptions(ICommandSender sender, String[] ss) {
+        List<String> l = new ArrayList<>();
+        if (ss.length > 1) return l;
+        String test = ss.length == 0 ? "" : ss[0].trim();
+        Arrays.stream(SUBCOMMANDS)
+            .filter(s -> test.isEmpty() || s.startsWith(test))
+            .forEach(l::add);
+        return l;
+    }
+
+    @Override
+    public void processCommand(ICommandSender sender, String[] strings) {
+        if (strings.length < 1) {
+            printHelp(sender);
+            return;
+        }
+        switch (strings[0]) {
+            case "recipe_index" -> {
+                String mapName = strings.length < 2 || "all".equals(strings[1]) ? null : strings[1];
+                int iterations = strings.length < 3 ? 10 : Integer.parseInt(strings[2]);
+                List<String> report = RecipeIndexBenchmark.run(mapName, iterations);
+                if (report.isEmpty()) {
+                    sender.addChatMessage(
+                        new ChatComponentText(
+                            "No compiled recipe index found. Enable performance.compiledRecipeIndex in GregTech.cfg."));
+                    break;
+                }
+                for (String line : report) {
+                    GTLog.out.println(line);
+                }
+                sender.addChatMessage(
+                    new ChatComponentText("Benchmarked " + report.size() + " recipemaps, results logged to GregTech.log"));
+            }
+            case "cable_network" -> {
+                if (strings.length < 4) {
+                    printHelp(sender);
+                    return;
+                }
+                int x = Integer.parseInt(strings[1]);
+                int y = Integer.parseInt(strings[2]);
+                int z = Integer.parseInt(strings[3]);
+                int edits = strings.length < 5 ? 100 : Integer.parseInt(strings[4]);
+                String report = NodeMapBenchmark.run(sender.getEntityWorld(), x, y, z, edits);
+                if (report == null) {
+                    sender.addChatMessage(new ChatComponentText("No cable network found at " + x + " " + y + " " + z));
+                    break;
+                }
+                GTLog.out.println(report);
+                sender.addChatMessage(new ChatComponentText("Benchmarked cable network, results logged to GregTech.log"));
+            }
+            case "item_pipe" -> {
+                if (strings.length < 4) {
+                    printHelp(sender);
+                    return;
+                }
+                int x = Integer.parseInt(strings[1]);
+                int y = Integer.parseInt(strings[2]);
+                int z = Integer.parseInt(strings[3]);
+                int iterations = strings.length < 5 ? 1000 : Integer.parseInt(strings[4]);
+                String report = ItemPipeRoutingBenchmark.run(sender.getEntityWorld(), x, y, z, iterations);
+                if (report == null) {
+                    sender.addChatMessage(new ChatComponentText("No item pipe found at " + x + " " + y + " " + z));
+                    break;
+                }
+                GTLog.out.println(report);
+                sender.addChatMessage(new ChatComponentText("Benchmarked item pipe network, results logged to GregTech.log"));
+            }
+            case "fluid_pipe" -> {
+                if (strings.length < 4) {
+                    printHelp(sender);
+                    return;
+                }
+                int x = Integer.parseInt(strings[1]);
+                int y = Integer.parseInt(strings[2]);
+                int z = Integer.parseInt(strings[3]);
+                int intervals = strings.length < 5 ? 100 : Integer.parseInt(strings[4]);
+                String report = FluidPipeBenchmark.run(sender.getEntityWorld(), x, y, z, intervals);
+                if (report == null) {
+                    sender.addChatMessage(new ChatComponentText("No single fluid pipe found at " + x + " " + y + " " + z));
+                    break;
+                }
+                GTLog.out.println(report);
+                sender.addChatMessage(new ChatComponentText("Benchmarked fluid pipes, results logged to GregTech.log"));
+            }
+            case "tile_sync" -> {
+                int tiles = strings.length < 2 ? 256 : Integer.parseInt(strings[1]);
+                int iterations = strings.length < 3 ? 1000 : Integer.parseInt(strings[2]);
+                GTLog.out.println(TileEntitySyncBenchmark.run(tiles, iterations));
+                sender.addChatMessage(new ChatComponentText("Benchmarked tile entity sync, results logged to GregTech.log"));
+            }
+            case "wireless_energy" -> {
+                int machines = strings.length < 2 ? 1000 : Integer.parseInt(strings[1]);
+                int ticks = strings.length < 3 ? 200 : Integer.parseInt(strings[2]);
+                GTLog.out.println(WirelessEnergyBenchmark.run(machines, ticks));
+                sender.addChatMessage(new ChatComponentText("Benchmarked wireless EU, results logged to GregTech.log"));
+            }
+            case "chanced_output" -> {
+                int chance = strings.length < 2 ? 250 : Integer.parseInt(strings[1]);
+                int parallel = strings.length < 3 ? 1_000_000 : Integer.parseInt(strings[2]);
+                int iterations = strings.length < 4 ? 100 : Integer.parseInt(strings[3]);
+                GTLog.out.println(ChancedOutputBenchmark.run(chance, parallel, iterations));
+                sender.addChatMessage(
+                    new ChatComponentText("Benchmarked chanced outputs, results logged to GregTech.log"));
+            }
+            case "tesla" -> {
+                int towers = strings.length < 2 ? 200 : Integer.parseInt(strings[1]);
+                int covers = strings.length < 3 ? 5000 : Integer.parseInt(strings[2]);
+                int range = strings.length < 4 ? 128 : Integer.parseInt(strings[3]);
+                GTLog.out.println(TeslaBenchmark.run(towers, covers, range));
+                sender.addChatMessage(new ChatComponentText("Benchmarked Tesla matching, results logged to GregTech.log"));
+            }
+            case "wireless_redstone" -> {
+                int transmitters = strings.length < 2 ? 1000 : Integer.parseInt(strings[1]);
+                int receivers = strings.length < 3 ? 1000 : Integer.parseInt(strings[2]);
+                int ticks = strings.length < 4 ? 200 : Integer.parseInt(strings[3]);
+                GTLog.out.println(WirelessRedstoneBenchmark.run(transmitters, receivers, ticks));
+                sender.addChatMessage(
+                    new ChatComponentText("Benchmarked wireless redstone gates, results logged to GregTech.log"));
+            }
+            case "pollution" -> {
+                int chunks = strings.length < 2 ? 10000 : Integer.parseInt(strings[1]);
+                int players = strings.length < 3 ? 10 : Integer.parseInt(strings[2]);
+                GTLog.out.println(PollutionBenchmark.run(chunks, players));
+                sender.addChatMessage(new ChatComponentText("Benchmarked pollution, results logged to GregTech.log"));
+            }
+            case "hibernation" -> {
+                int machines = strings.length < 2 ? 5000 : Integer.parseInt(strings[1]);
+                int ticks = strings.length < 3 ? 100 : Integer.parseInt(strings[2]);
+                String report = BasicMachineHibernationBenchmark.run(sender.getEntityWorld(), machines, ticks);
+                if (report == null) {
+                    sender.addChatMessage(new ChatComponentText("No idle basic machine loaded in this world"));
+                    break;
+                }
+                GTLog.out.println(report);
+                sender.addChatMessage(
+                    new ChatComponentText("Benchmarked machine hibernation, results logged to GregTech.log"));
+            }
+            case "me_output" -> {
+                int types = strings.length < 2 ? 2000 : Integer.parseInt(strings[1]);
+                int checks = strings.length < 3 ? 10000 : Integer.parseInt(strings[2]);
+                GTLog.out.println(MEOutputCacheBenchmark.run(types, checks));
+                sender.addChatMessage(
+                    new ChatComponentText("Benchmarked ME output caches, results logged to GregTech.log"));
+            }
+            default -> {
+                sender
+                    .addChatMessage(new ChatComponentText(EnumChatFormatting.RED + "Invalid command/syntax detected."));
+                printHelp(sender);
+            }
+        }
+    }
+}
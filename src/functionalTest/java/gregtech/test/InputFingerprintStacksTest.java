@@ -0,0 +1,79 @@
+package gregtech.test;
+
+import static net.minecraft.init.Items.gold_ingot;
+import static net.minecraft.init.Items.iron_ingot;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+
+import org.junit.jupiter.api.Test;
+
+import gregtech.api.logic.InputFingerprint;
+
+/**
+ * Checks that {@link InputFingerprint} tells apart every difference in item and fluid stacks a recipe check can see.
+ */
+class InputFingerprintStacksTest {
+
+    @Test
+    void equalItemStacksGiveEqualFingerprints() {
+        assertEquals(fingerprint(new ItemStack(iron_ingot, 3, 0)), fingerprint(new ItemStack(iron_ingot, 3, 0)));
+        assertEquals(
+            fingerprint(withTag(new ItemStack(iron_ingot, 3), 7)),
+            fingerprint(withTag(new ItemStack(iron_ingot, 3), 7)));
+    }
+
+    @Test
+    void itemStacksDifferInEveryField() {
+        long reference = fingerprint(new ItemStack(iron_ingot, 3, 0));
+        assertNotEquals(reference, fingerprint(new ItemStack(gold_ingot, 3, 0)));
+        assertNotEquals(reference, fingerprint(new ItemStack(iron_ingot, 4, 0)));
+        assertNotEquals(reference, fingerprint(new ItemStack(iron_ingot, 3, 1)));
+        assertNotEquals(reference, fingerprint(withTag(new ItemStack(iron_ingot, 3, 0), 7)));
+        assertNotEquals(
+            fingerprint(withTag(new ItemStack(iron_ingot, 3, 0), 7)),
+            fingerprint(withTag(new ItemStack(iron_ingot, 3, 0), 8)));
+    }
+
+    @Test
+    void fluidStacksDifferInEveryField() {
+        long reference = fingerprint(new FluidStack(FluidRegistry.WATER, 1000));
+        assertEquals(reference, fingerprint(new FluidStack(FluidRegistry.WATER, 1000)));
+        assertNotEquals(reference, fingerprint(new FluidStack(FluidRegistry.LAVA, 1000)));
+        assertNotEquals(reference, fingerprint(new FluidStack(FluidRegistry.WATER, 999)));
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setInteger("test", 1);
+        assertNotEquals(reference, fingerprint(new FluidStack(FluidRegistry.WATER, 1000, tag)));
+    }
+
+    @Test
+    void slotsAreOrderSensitive() {
+        ItemStack iron = new ItemStack(iron_ingot, 1);
+        ItemStack gold = new ItemStack(gold_ingot, 1);
+        assertNotEquals(
+            InputFingerprint.mix(InputFingerprint.EMPTY, new ItemStack[] { iron, gold }),
+            InputFingerprint.mix(InputFingerprint.EMPTY, new ItemStack[] { gold, iron }));
+        assertNotEquals(
+            InputFingerprint.mix(InputFingerprint.EMPTY, new ItemStack[] { iron, null }),
+            InputFingerprint.mix(InputFingerprint.EMPTY, new ItemStack[] { null, iron }));
+    }
+
+    private static long fingerprint(ItemStack stack) {
+        return InputFingerprint.mix(InputFingerprint.EMPTY, stack);
+    }
+
+    private static long fingerprint(FluidStack stack) {
+        return InputFingerprint.mix(InputFingerprint.EMPTY, stack);
+    }
+
+    private static ItemStack withTag(ItemStack stack, int value) {
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setInteger("test", value);
+        stack.setTagCompound(tag);
+        return stack;
+    }
+}
@@ -0,0 +1,125 @@
+package gregtech.test;
+
+import static net.minecraft.init.Items.gold_ingot;
+import static net.minecraft.init.Items.iron_ingot;
+import static net.minecraft.init.Items.redstone;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.item.Item;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.SetMultimap;
+
+import gregtech.api.objects.GTItemStack;
+import gregtech.api.util.ItemIdRemap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+
+/**
+ * Checks that {@link ItemIdRemap#reMap} finds every entry again after the hash of some item keys changed, like it does
+ * when Forge gives an item another ID, without leaving the old entries behind.
+ */
+class ItemIdRemapTest {
+
+    /** The items whose keys hash as if their ID changed */
+    private static final Set<Item> CHANGED = new ReferenceOpenHashSet<>();
+
+    @AfterEach
+    void restore() {
+        CHANGED.clear();
+    }
+
+    @Test
+    void leavesMapsWithoutChangedItemsAlone() {
+        final Map<GTItemStack, String> map = new HashMap<>();
+        map.put(key(gold_ingot), "gold");
+        map.put(key(redstone), "redstone");
+        CHANGED.add(iron_ingot);
+        assertEquals(0, ItemIdRemap.reMap(map, CHANGED));
+        assertEquals("gold", map.get(key(gold_ingot)));
+    }
+
+    @Test
+    void rehashesMaps() {
+        final Map<GTItemStack, String> map = new HashMap<>();
+        map.put(key(iron_ingot), "iron");
+        map.put(key(gold_ingot), "gold");
+        CHANGED.add(iron_ingot);
+        assertNull(map.get(key(iron_ingot)));
+        assertEquals(2, ItemIdRemap.reMap(map, CHANGED));
+        assertEquals(2, map.size());
+        assertEquals("iron", map.get(key(iron_ingot)));
+        assertEquals("gold", map.get(key(gold_ingot)));
+    }
+
+    @Test
+    void keepsTheOrderOfLinkedMaps() {
+        final Map<GTItemStack, String> map = new LinkedHashMap<>();
+        map.put(key(iron_ingot), "iron");
+        map.put(key(gold_ingot), "gold");
+        map.put(key(redstone), "redstone");
+        CHANGED.add(iron_ingot);
+        ItemIdRemap.reMap(map, CHANGED);
+        assertEquals(Arrays.asList("iron", "gold", "redstone"), new ArrayList<>(map.values()));
+        assertEquals("iron", map.get(key(iron_ingot)));
+    }
+
+    @Test
+    void rehashesMultimaps() {
+        final SetMultimap<GTItemStack, String> map = HashMultimap.create();
+        map.put(key(iron_ingot), "iron");
+        map.put(key(iron_ingot), "iron block");
+        map.put(key(gold_ingot), "gold");
+        CHANGED.add(iron_ingot);
+        assertEquals(3, ItemIdRemap.reMap(map, CHANGED));
+        assertEquals(3, map.size());
+        assertEquals(new HashSet<>(Arrays.asList(key(iron_ingot), key(gold_ingot))), new HashSet<>(map.keySet()));
+        assertEquals(new HashSet<>(Arrays.asList("iron", "iron block")), map.get(key(iron_ingot)));
+        assertEquals(Collections.singleton("gold"), map.get(key(gold_ingot)));
+    }
+
+    @Test
+    void keepsTheOrderOfLinkedMultimaps() {
+        final SetMultimap<GTItemStack, String> map = LinkedHashMultimap.create();
+        map.put(key(iron_ingot), "iron");
+        map.put(key(gold_ingot), "gold");
+        map.put(key(iron_ingot), "iron block");
+        map.put(key(redstone), "redstone");
+        CHANGED.add(iron_ingot);
+        CHANGED.add(redstone);
+        ItemIdRemap.reMap(map, CHANGED);
+        assertEquals(Arrays.asList("iron", "gold", "iron block", "redstone"), new ArrayList<>(map.values()));
+        assertEquals(Arrays.asList(key(iron_ingot), key(gold_ingot), key(redstone)), new ArrayList<>(map.keySet()));
+        assertEquals(Arrays.asList("iron", "iron block"), new ArrayList<>(map.get(key(iron_ingot))));
+    }
+
+    private static GTItemStack key(Item item) {
+        return new ShiftedStack(item);
+    }
+
+    // hashes like a GTItemStack of an item with another ID while its item is in CHANGED
+    private static class ShiftedStack extends GTItemStack {
+
+        private ShiftedStack(Item item) {
+            super(item, 1, 0);
+        }
+
+        @Override
+        public int hashCode() {
+            return super.hashCode() + (CHANGED.contains(mItem) ? 0x10000 : 0);
+        }
+    }
+}
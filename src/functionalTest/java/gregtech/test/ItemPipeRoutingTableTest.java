@@ -0,0 +1,116 @@
+package gregtech.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ChunkCoordinates;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import gregtech.api.GregTechAPI;
+import gregtech.api.interfaces.metatileentity.IMetaTileEntityItemPipe;
+import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+import gregtech.api.metatileentity.implementations.MTEItemPipe;
+import gregtech.api.util.ItemPipeRoutingTable;
+
+/**
+ * Checks that an {@link ItemPipeRoutingTable} finds the same pipes as {@link IMetaTileEntityItemPipe.Util#scanPipes}
+ * when a full pipe sits in a loop, and that it is invalidated when a pipe on it unloads.
+ */
+class ItemPipeRoutingTableTest {
+
+    // a ring of four pipes with a fifth one behind the pipe across from the first
+    private static final int[][] OFFSETS = { { 0, 0 }, { 1, 0 }, { 1, 1 }, { 0, 1 }, { 2, 1 } };
+
+    private World world;
+    private ChunkCoordinates origin;
+    private final MTEItemPipe[] pipes = new MTEItemPipe[OFFSETS.length];
+
+    @BeforeEach
+    void placePipes() {
+        world = MinecraftServer.getServer()
+            .worldServerForDimension(0);
+        // the spawn chunks stay loaded, the pipes go to the top so they don't replace anything
+        final ChunkCoordinates spawn = world.getSpawnPoint();
+        origin = new ChunkCoordinates(spawn.posX, 250, spawn.posZ);
+        final short id = findItemPipe();
+        for (int i = 0; i < pipes.length; i++) {
+            final int x = origin.posX + OFFSETS[i][0];
+            final int z = origin.posZ + OFFSETS[i][1];
+            world.setBlock(
+                x,
+                origin.posY,
+                z,
+                GregTechAPI.sBlockMachines,
+                GregTechAPI.METATILEENTITIES[id].getTileEntityBaseType(),
+                3);
+            final IGregTechTileEntity base = (IGregTechTileEntity) world.getTileEntity(x, origin.posY, z);
+            base.setInitialValuesAsNBT(null, id);
+            pipes[i] = (MTEItemPipe) base.getMetaTileEntity();
+        }
+        pipes[0].connect(ForgeDirection.EAST);
+        pipes[1].connect(ForgeDirection.SOUTH);
+        pipes[2].connect(ForgeDirection.WEST);
+        pipes[3].connect(ForgeDirection.NORTH);
+        pipes[2].connect(ForgeDirection.EAST);
+    }
+
+    @AfterEach
+    void removePipes() {
+        for (int[] offset : OFFSETS) {
+            world.setBlockToAir(origin.posX + offset[0], origin.posY, origin.posZ + offset[1]);
+        }
+    }
+
+    @Test
+    void fullPipesOnlyBlockWhatCantBeReachedAroundThem() {
+        final ItemPipeRoutingTable table = ItemPipeRoutingTable.build(pipes[0]);
+        assertNotNull(table);
+        assertEquals(5, table.getSize());
+        pipes[1].mTransferredItems = Integer.MAX_VALUE;
+
+        final Map<IMetaTileEntityItemPipe, Long> scanned = IMetaTileEntityItemPipe.Util
+            .scanPipes(pipes[0], new HashMap<>(), 0, false, false);
+        final List<IMetaTileEntityItemPipe> reachable = new ArrayList<>(table.getReachablePipes());
+        assertEquals(scanned.keySet(), new HashSet<>(reachable));
+        assertEquals(4, reachable.size());
+        for (int i = 1; i < reachable.size(); i++) {
+            assertTrue(scanned.get(reachable.get(i - 1)) <= scanned.get(reachable.get(i)));
+        }
+
+        pipes[0].mTransferredItems = Integer.MAX_VALUE;
+        assertTrue(
+            table.getReachablePipes()
+                .isEmpty());
+    }
+
+    @Test
+    void chunkUnloadInvalidatesTheTable() {
+        final ItemPipeRoutingTable table = ItemPipeRoutingTable.build(pipes[0]);
+        assertNotNull(table);
+        ((TileEntity) pipes[4].getBaseMetaTileEntity()).onChunkUnload();
+        assertFalse(table.isValid());
+    }
+
+    private static short findItemPipe() {
+        for (short i = 0; i < GregTechAPI.METATILEENTITIES.length; i++) {
+            if (GregTechAPI.METATILEENTITIES[i] instanceof MTEItemPipe pipe && pipe.getClass() == MTEItemPipe.class
+                && pipe.getStepSize() > 0) return i;
+        }
+        throw new IllegalStateException("no item pipe is registered");
+    }
+}
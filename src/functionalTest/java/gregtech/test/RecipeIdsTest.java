@@ -0,0 +1,103 @@
+package gregtech.test;
+
+import static net.minecraft.init.Items.arrow;
+import static net.minecraft.init.Items.feather;
+import static net.minecraft.init.Items.flint;
+import static net.minecraft.init.Items.string;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+
+import org.junit.jupiter.api.Test;
+
+import gregtech.api.recipe.RecipeIds;
+import gregtech.api.util.GTRecipe;
+
+/**
+ * Checks that {@link RecipeIds#computeId(GTRecipe)} only depends on the contents of a recipe and stays the same between
+ * game starts, since saved machines and data sticks store it.
+ */
+class RecipeIdsTest {
+
+    /** The ID of {@link #arrowRecipe()}, changing it makes every saved recipe ID unknown */
+    private static final long ARROW_RECIPE_ID = 0x27766c2d75d47e39L;
+
+    @Test
+    void idIsStableBetweenStarts() {
+        assertEquals(ARROW_RECIPE_ID, RecipeIds.computeId(arrowRecipe()));
+    }
+
+    @Test
+    void equalContentsGiveEqualIds() {
+        assertEquals(RecipeIds.computeId(arrowRecipe()), RecipeIds.computeId(arrowRecipe()));
+        assertEquals(
+            RecipeIds.computeId(arrowRecipe()),
+            RecipeIds.computeId(
+                arrowRecipe()
+                    .copy()));
+    }
+
+    @Test
+    void everyFieldChangesTheId() {
+        final long reference = RecipeIds.computeId(arrowRecipe());
+        GTRecipe recipe = arrowRecipe();
+        recipe.mInputs[0] = new ItemStack(flint, 2);
+        assertNotEquals(reference, RecipeIds.computeId(recipe));
+        recipe = arrowRecipe();
+        recipe.mInputs[0].stackSize = 3;
+        assertNotEquals(reference, RecipeIds.computeId(recipe));
+        recipe = arrowRecipe();
+        recipe.mInputs[0].setItemDamage(1);
+        assertNotEquals(reference, RecipeIds.computeId(recipe));
+        recipe = arrowRecipe();
+        final NBTTagCompound tag = new NBTTagCompound();
+        tag.setInteger("test", 1);
+        recipe.mOutputs[0].setTagCompound(tag);
+        assertNotEquals(reference, RecipeIds.computeId(recipe));
+        recipe = arrowRecipe();
+        recipe.mFluidInputs[0] = new FluidStack(FluidRegistry.LAVA, 100);
+        assertNotEquals(reference, RecipeIds.computeId(recipe));
+        recipe = arrowRecipe();
+        recipe.mFluidInputs[0].amount = 101;
+        assertNotEquals(reference, RecipeIds.computeId(recipe));
+        recipe = arrowRecipe();
+        recipe.mChances[0] = 5000;
+        assertNotEquals(reference, RecipeIds.computeId(recipe));
+        recipe = arrowRecipe();
+        recipe.mDuration = 21;
+        assertNotEquals(reference, RecipeIds.computeId(recipe));
+        recipe = arrowRecipe();
+        recipe.mEUt = 30;
+        assertNotEquals(reference, RecipeIds.computeId(recipe));
+        recipe = arrowRecipe();
+        recipe.mSpecialValue = 1;
+        assertNotEquals(reference, RecipeIds.computeId(recipe));
+    }
+
+    @Test
+    void inputsAndOutputsAreToldApart() {
+        final GTRecipe recipe = arrowRecipe();
+        final ItemStack[] inputs = recipe.mInputs;
+        recipe.mInputs = recipe.mOutputs;
+        recipe.mOutputs = inputs;
+        assertNotEquals(RecipeIds.computeId(arrowRecipe()), RecipeIds.computeId(recipe));
+    }
+
+    private static GTRecipe arrowRecipe() {
+        return new GTRecipe(
+            false,
+            new ItemStack[] { new ItemStack(feather, 2), new ItemStack(string, 1) },
+            new ItemStack[] { new ItemStack(arrow, 4) },
+            null,
+            null,
+            new FluidStack[] { new FluidStack(FluidRegistry.WATER, 100) },
+            null,
+            20,
+            16,
+            0);
+    }
+}
@@ -0,0 +1,223 @@
+package gregtech.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ChunkCoordinates;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import gregtech.api.GregTechAPI;
+import gregtech.api.graphs.GenerateNodeMap;
+import gregtech.api.graphs.GenerateNodeMapPower;
+import gregtech.api.graphs.Node;
+import gregtech.api.graphs.UpdateNodeMapPower;
+import gregtech.api.graphs.consumers.ConsumerNode;
+import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+import gregtech.api.metatileentity.BaseMetaPipeEntity;
+import gregtech.api.metatileentity.implementations.MTECable;
+
+/**
+ * Checks that {@link UpdateNodeMapPower} keeps the node values, the consumer order and the highest node values the
+ * same as generating the node map again, and that it leaves the node map alone when the edit can't be done locally.
+ */
+class UpdateNodeMapPowerTest {
+
+    // a line of five cables, a second line of three cables next to it and two cables to add between them
+    private static final int[][] OFFSETS = { { 0, 0 }, { 1, 0 }, { 2, 0 }, { 3, 0 }, { 4, 0 }, { 2, 2 }, { 3, 2 },
+        { 4, 2 }, { 1, 1 }, { 4, 1 } };
+    private static final int BRANCH = 8;
+    private static final int BRIDGE = 9;
+
+    private World world;
+    private ChunkCoordinates origin;
+    private final MTECable[] cables = new MTECable[OFFSETS.length];
+
+    @BeforeEach
+    void placeCables() {
+        world = MinecraftServer.getServer()
+            .worldServerForDimension(0);
+        // the spawn chunks stay loaded, the cables go to the top so they don't replace anything
+        final ChunkCoordinates spawn = world.getSpawnPoint();
+        origin = new ChunkCoordinates(spawn.posX, 250, spawn.posZ);
+        final short id = findCable();
+        for (int i = 0; i < cables.length; i++) {
+            final int x = origin.posX + OFFSETS[i][0];
+            final int z = origin.posZ + OFFSETS[i][1];
+            world.setBlock(
+                x,
+                origin.posY,
+                z,
+                GregTechAPI.sBlockMachines,
+                GregTechAPI.METATILEENTITIES[id].getTileEntityBaseType(),
+                3);
+            final IGregTechTileEntity base = (IGregTechTileEntity) world.getTileEntity(x, origin.posY, z);
+            base.setInitialValuesAsNBT(null, id);
+            cables[i] = (MTECable) base.getMetaTileEntity();
+        }
+        for (int i = 0; i < 4; i++) cables[i].connect(ForgeDirection.EAST);
+        for (int i = 5; i < 7; i++) cables[i].connect(ForgeDirection.EAST);
+        new GenerateNodeMapPower(base(2));
+        new GenerateNodeMapPower(base(6));
+    }
+
+    @AfterEach
+    void removeCables() {
+        for (int[] offset : OFFSETS) {
+            world.setBlockToAir(origin.posX + offset[0], origin.posY, origin.posZ + offset[1]);
+        }
+    }
+
+    @Test
+    void addingAndRemovingACableMatchesGeneratingTheMapAgain() {
+        checkNodeMap(base(2).getNode());
+        cables[1].connect(ForgeDirection.SOUTH);
+        assertTrue(UpdateNodeMapPower.updateNodeMap(base(BRANCH), false));
+        checkNodeMap(base(2).getNode());
+        assertEquals(5, values(base(2).getNode()).size());
+
+        assertTrue(UpdateNodeMapPower.updateNodeMap(base(BRANCH), true));
+        world.setBlockToAir(origin.posX + OFFSETS[BRANCH][0], origin.posY, origin.posZ + OFFSETS[BRANCH][1]);
+        checkNodeMap(base(2).getNode());
+        // the cable next to it still has the connection until it ticks, so it keeps its node
+        assertEquals(4, values(base(2).getNode()).size());
+    }
+
+    @Test
+    void splittingTheNetworkLeavesTheMapAlone() {
+        final Node tStart = base(2).getNode();
+        final Map<TileEntity, Node> tNodes = nodes(tStart);
+        final Map<TileEntity, List<Integer>> tValues = values(tStart);
+        final List<ConsumerNode> tConsumers = new ArrayList<>(tStart.mConsumers);
+
+        assertFalse(UpdateNodeMapPower.updateNodeMap(base(3), true));
+        assertEquals(tNodes, nodes(tStart));
+        assertEquals(tValues, values(tStart));
+        assertEquals(tConsumers, tStart.mConsumers);
+        checkNodeMap(tStart);
+    }
+
+    @Test
+    void joiningTwoNetworksLeavesBothMapsAlone() {
+        cables[BRIDGE].connect(ForgeDirection.NORTH);
+        assertTrue(UpdateNodeMapPower.updateNodeMap(base(BRIDGE), false));
+        checkNodeMap(base(2).getNode());
+
+        final Node tStart = base(2).getNode();
+        final Node tOtherStart = base(6).getNode();
+        final Map<TileEntity, List<Integer>> tValues = values(tStart);
+        final Map<TileEntity, List<Integer>> tOtherValues = values(tOtherStart);
+        final List<ConsumerNode> tConsumers = new ArrayList<>(tStart.mConsumers);
+        final List<ConsumerNode> tOtherConsumers = new ArrayList<>(tOtherStart.mConsumers);
+
+        cables[BRIDGE].connect(ForgeDirection.SOUTH);
+        assertFalse(UpdateNodeMapPower.updateNodeMap(base(BRIDGE), false));
+        assertEquals(tValues, values(tStart));
+        assertEquals(tOtherValues, values(tOtherStart));
+        assertEquals(tConsumers, tStart.mConsumers);
+        assertEquals(tOtherConsumers, tOtherStart.mConsumers);
+        assertSame(tStart, base(2).getNode());
+        assertSame(tOtherStart, base(6).getNode());
+    }
+
+    private BaseMetaPipeEntity base(int aCable) {
+        return (BaseMetaPipeEntity) cables[aCable].getBaseMetaTileEntity();
+    }
+
+    // checks the invariants of the node map and that generating it again gives the same values
+    private static void checkNodeMap(Node aStart) {
+        assertNotNull(aStart);
+        final Map<TileEntity, Node> tNodes = nodes(aStart);
+        final Set<Integer> tSeen = new HashSet<>();
+        for (Node tNode : tNodes.values()) {
+            assertTrue(tSeen.add(tNode.mNodeValue));
+            assertSame(aStart.mConsumers, tNode.mConsumers);
+        }
+        assertEquals(aStart.mHighestNodeValue, tSeen.size());
+        for (int i = 1; i <= aStart.mHighestNodeValue; i++) assertTrue(tSeen.contains(i));
+        checkRange(aStart, null);
+
+        final Set<ConsumerNode> tTreeConsumers = new HashSet<>();
+        for (Node tNode : tNodes.values()) {
+            if (tNode instanceof ConsumerNode tConsumer) tTreeConsumers.add(tConsumer);
+        }
+        assertEquals(tTreeConsumers, new HashSet<>(aStart.mConsumers));
+        for (int i = 1; i < aStart.mConsumers.size(); i++) {
+            assertTrue(aStart.mConsumers.get(i - 1).mNodeValue < aStart.mConsumers.get(i).mNodeValue);
+        }
+
+        final Map<TileEntity, List<Integer>> tValues = values(aStart);
+        final List<TileEntity> tConsumerTiles = consumerTiles(aStart);
+        final BaseMetaPipeEntity tStartPipe = (BaseMetaPipeEntity) aStart.mTileEntity;
+        GenerateNodeMap.clearNodeMap(aStart, -1);
+        new GenerateNodeMapPower(tStartPipe);
+        assertEquals(tValues, values(tStartPipe.getNode()));
+        assertEquals(tConsumerTiles, consumerTiles(tStartPipe.getNode()));
+    }
+
+    // the nodes below a node have the values from its own value up to its highest node value
+    private static void checkRange(Node aNode, Node aPreviousNode) {
+        int tHighest = aNode.mNodeValue;
+        for (Node tNextNode : aNode.mNeighbourNodes) {
+            if (tNextNode == null || tNextNode == aPreviousNode) continue;
+            assertTrue(tNextNode.mNodeValue > aNode.mNodeValue);
+            assertTrue(tNextNode.mHighestNodeValue <= aNode.mHighestNodeValue);
+            checkRange(tNextNode, aNode);
+            tHighest = Math.max(tHighest, tNextNode.mHighestNodeValue);
+        }
+        assertEquals(tHighest, aNode.mHighestNodeValue);
+    }
+
+    private static Map<TileEntity, Node> nodes(Node aStart) {
+        final Map<TileEntity, Node> tNodes = new IdentityHashMap<>();
+        collectNodes(aStart, null, tNodes);
+        return tNodes;
+    }
+
+    private static void collectNodes(Node aNode, Node aPreviousNode, Map<TileEntity, Node> aNodes) {
+        aNodes.put(aNode.mTileEntity, aNode);
+        for (Node tNextNode : aNode.mNeighbourNodes) {
+            if (tNextNode != null && tNextNode != aPreviousNode) collectNodes(tNextNode, aNode, aNodes);
+        }
+    }
+
+    private static Map<TileEntity, List<Integer>> values(Node aStart) {
+        final Map<TileEntity, List<Integer>> tValues = new HashMap<>();
+        for (Node tNode : nodes(aStart).values()) {
+            tValues.put(tNode.mTileEntity, Arrays.asList(tNode.mNodeValue, tNode.mHighestNodeValue));
+        }
+        return tValues;
+    }
+
+    private static List<TileEntity> consumerTiles(Node aStart) {
+        final List<TileEntity> tTiles = new ArrayList<>();
+        for (ConsumerNode tConsumer : aStart.mConsumers) tTiles.add(tConsumer.mTileEntity);
+        return tTiles;
+    }
+
+    private static short findCable() {
+        for (short i = 0; i < GregTechAPI.METATILEENTITIES.length; i++) {
+            if (GregTechAPI.METATILEENTITIES[i] != null && GregTechAPI.METATILEENTITIES[i].getClass() == MTECable.class)
+                return i;
+        }
+        throw new IllegalStateException("no cable is registered");
+    }
+}
@@ -0,0 +1,210 @@
+package tectech.mechanics.tesla;
+
+import static java.lang.Math.sqrt;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import com.gtnewhorizon.structurelib.util.Vec3Impl;
+
+import gregtech.api.objects.XSTR;
+import tectech.mechanics.spark.ThaumSpark;
+
+/**
+ * Compares matching Tesla towers with every target against the target grid of {@link ITeslaConnectable.TeslaUtil}, on
+ * made up towers and covers in a dimension that doesn't exist. Run through /gt_benchmark of the dev test mod.
+ */
+public final class TeslaBenchmark {
+
+    private static final Integer DIMENSION = Integer.MIN_VALUE;
+
+    private TeslaBenchmark() {}
+
+    /**
+     * @return the report line
+     */
+    public static String run(int aTowers, int aCovers, int aRange) {
+        final int tTowers = Math.max(1, aTowers);
+        final int tCovers = Math.max(1, aCovers);
+        final int tRange = Math.max(1, aRange);
+        final XSTR tRandom = new XSTR(tTowers ^ tCovers);
+        // a large base, towers a few hundred blocks apart
+        final int tSize = (int) Math.max(256, Math.sqrt(tTowers) * 256);
+
+        final List<Tower> tTowerList = new ArrayList<>();
+        final List<ITeslaConnectableSimple> tTargets = new ArrayList<>();
+        for (int i = 0; i < tTowers; i++) {
+            final Tower tTower = new Tower(randomPosition(tRandom, tSize), tRange);
+            tTowerList.add(tTower);
+            tTargets.add(tTower);
+        }
+        for (int i = 0; i < tCovers; i++) tTargets.add(new Cover(randomPosition(tRandom, tSize)));
+
+        long tStart = System.nanoTime();
+        long tMatches = 0;
+        for (Tower tTower : tTowerList) {
+            for (ITeslaConnectableSimple tTarget : tTargets) {
+                if (tTarget == tTower || !tTower.getTeslaDimension()
+                    .equals(tTarget.getTeslaDimension())) continue;
+                final int tDistance = (int) sqrt(
+                    tTower.getTeslaPosition()
+                        .distanceSq(tTarget.getTeslaPosition()));
+                if (tDistance <= tTower.getTeslaTransmissionRange() * tTarget.getTeslaReceptionCoefficient())
+                    tMatches++;
+            }
+        }
+        final long tAllNanos = System.nanoTime() - tStart;
+
+        try {
+            tStart = System.nanoTime();
+            for (ITeslaConnectableSimple tTarget : tTargets) {
+                ITeslaConnectable.TeslaUtil.teslaSimpleNodeSetAdd(tTarget);
+            }
+            final long tAddNanos = System.nanoTime() - tStart;
+
+            tStart = System.nanoTime();
+            long tGridMatches = 0;
+            for (Tower tTower : tTowerList) {
+                ITeslaConnectable.TeslaUtil.generateTeslaNodeMap(tTower);
+                tGridMatches += tTower.getTeslaNodeList()
+                    .size();
+            }
+            final long tGridNanos = System.nanoTime() - tStart;
+
+            return String.format(
+                "%d towers, %d covers, range %d: every target %d us for %d matches; grid %d us for %d matches, "
+                    + "adding the targets %d us",
+                tTowers,
+                tCovers,
+                tRange,
+                tAllNanos / 1000,
+                tMatches,
+                tGridNanos / 1000,
+                tGridMatches,
+                tAddNanos / 1000);
+        } finally {
+            for (ITeslaConnectableSimple tTarget : tTargets) {
+                ITeslaConnectable.TeslaUtil.teslaSimpleNodeSetRemove(tTarget);
+            }
+        }
+    }
+
+    private static Vec3Impl randomPosition(XSTR aRandom, int aSize) {
+        return new Vec3Impl(
+            aRandom.nextInt(aSize) - aSize / 2,
+            aRandom.nextInt(256),
+            aRandom.nextInt(aSize) - aSize / 2);
+    }
+
+    private static class Cover implements ITeslaConnectableSimple {
+
+        private final Vec3Impl position;
+
+        private Cover(Vec3Impl position) {
+            this.position = position;
+        }
+
+        @Override
+        public byte getTeslaReceptionCapability() {
+            return 0;
+        }
+
+        @Override
+        public float getTeslaReceptionCoefficient() {
+            return 1;
+        }
+
+        @Override
+        public boolean isTeslaReadyToReceive() {
+            return true;
+        }
+
+        @Override
+        public long getTeslaStoredEnergy() {
+            return 0;
+        }
+
+        @Override
+        public boolean teslaInjectEnergy(long teslaVoltageInjected) {
+            return false;
+        }
+
+        @Override
+        public Vec3Impl getTeslaPosition() {
+            return position;
+        }
+
+        @Override
+        public Integer getTeslaDimension() {
+            return DIMENSION;
+        }
+    }
+
+    private static class Tower extends Cover implements ITeslaConnectable {
+
+        private final TeslaNodeList teslaNodeList = new TeslaNodeList();
+        private final HashSet<ThaumSpark> sparkList = new HashSet<>();
+        private final int range;
+
+        private Tower(Vec3Impl position, int range) {
+            super(position);
+            this.range = range;
+        }
+
+        @Override
+        public float getTeslaReceptionCoefficient() {
+            return 0;
+        }
+
+        @Override
+        public TeslaNodeList getTeslaNodeList() {
+            return teslaNodeList;
+        }
+
+        @Override
+        public HashSet<ThaumSpark> getSparkList() {
+            return sparkList;
+        }
+
+        @Override
+        public byte getTeslaTransmissionCapability() {
+            return 0;
+        }
+
+        @Override
+        public int getTeslaTransmissionRange() {
+            return range;
+        }
+
+        @Override
+        public boolean isOverdriveEnabled() {
+            return false;
+        }
+
+        @Override
+        public int getTeslaEnergyLossPerBlock() {
+            return 0;
+        }
+
+        @Override
+        public float getTeslaOverdriveLossCoefficient() {
+            return 0;
+        }
+
+        @Override
+        public long getTeslaOutputVoltage() {
+            return 0;
+        }
+
+        @Override
+        public long getTeslaOutputCurrent() {
+            return 0;
+        }
+
+        @Override
+        public boolean teslaDrainEnergy(long teslaVoltageDrained) {
+            return false;
+        }
+    }
+}
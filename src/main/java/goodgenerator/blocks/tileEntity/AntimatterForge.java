@@ -439,6 +439,13 @@ public class AntimatterForge extends MTEExtendedPowerMultiBlockBase<AntimatterFo
 
     @Override
     public void onMachineBlockUpdate() {
+        structureFootprint.addUnlocatedUpdate();
+        mUpdate = 100;
+    }
+
+    @Override
+    public void onMachineBlockUpdate(int aX, int aY, int aZ) {
+        super.onMachineBlockUpdate(aX, aY, aZ);
         mUpdate = 100;
     }
 
@@ -58,8 +58,9 @@ import gregtech.api.recipe.check.CheckRecipeResult;
 import gregtech.api.recipe.check.SimpleCheckRecipeResult;
 import gregtech.api.render.TextureFactory;
 import gregtech.api.util.GTUtility;
-import gregtech.api.util.LongRunningAverage;
+import gregtech.api.util.LongData;
 import gregtech.api.util.MultiblockTooltipBuilder;
+import gregtech.api.util.RollingStatistics;
 import gregtech.common.misc.GTStructureChannels;
 import tectech.TecTech;
 import tectech.thing.gui.TecTechUITextures;
@@ -109,8 +110,10 @@ public class MTEYottaFluidTank extends MTETooltipMultiBlockBaseEM implements ICo
 
     protected boolean voidExcessEnabled = false;
 
-    private final LongRunningAverage fluidInputValues1m = new LongRunningAverage(60 * 20);
-    private final LongRunningAverage fluidOutputValues1m = new LongRunningAverage(60 * 20);
+    private final RollingStatistics fluidInputStats = new RollingStatistics(0, 60, 0);
+    private final RollingStatistics fluidOutputStats = new RollingStatistics(0, 60, 0);
+    private final LongData fluidInputValues1m = fluidInputStats.seconds();
+    private final LongData fluidOutputValues1m = fluidOutputStats.seconds();
 
     protected Parameters.Group.ParameterIn tickRateSettings;
 
@@ -489,8 +492,8 @@ public class MTEYottaFluidTank extends MTETooltipMultiBlockBaseEM implements ICo
         long tickRate = Math.min(100L, Math.max(1L, (long) tickRateSettings.get()));
         ++workTickCounter;
         if (workTickCounter < tickRate) {
-            fluidInputValues1m.update(totalInput);
-            fluidOutputValues1m.update(totalOutput);
+            fluidInputStats.update(totalInput);
+            fluidOutputStats.update(totalOutput);
             return true;
         }
         workTickCounter = 0;
@@ -575,8 +578,8 @@ public class MTEYottaFluidTank extends MTETooltipMultiBlockBaseEM implements ICo
                 }
             }
         }
-        fluidInputValues1m.update(totalInput);
-        fluidOutputValues1m.update(totalOutput);
+        fluidInputStats.update(totalInput);
+        fluidOutputStats.update(totalOutput);
         return true;
     }
 
@@ -398,6 +398,13 @@ public abstract class MTELargeFusionComputer extends MTETooltipMultiBlockBaseEM
 
     @Override
     public void onMachineBlockUpdate() {
+        structureFootprint.addUnlocatedUpdate();
+        mUpdate = 100;
+    }
+
+    @Override
+    public void onMachineBlockUpdate(int aX, int aY, int aZ) {
+        super.onMachineBlockUpdate(aX, aY, aZ);
         mUpdate = 100;
     }
 
@@ -28,7 +28,6 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.google.common.base.Stopwatch;
-import com.google.common.collect.SetMultimap;
 import com.gtnewhorizon.gtnhlib.config.ConfigException;
 import com.gtnewhorizon.gtnhlib.config.ConfigurationManager;
 
@@ -64,9 +63,9 @@ import gregtech.api.modularui2.GTGuiTextures;
 import gregtech.api.modularui2.GTGuiTheme;
 import gregtech.api.modularui2.GTGuis;
 import gregtech.api.modularui2.GTWidgetThemes;
-import gregtech.api.objects.GTItemStack;
 import gregtech.api.objects.ItemData;
 import gregtech.api.objects.XSTR;
+import gregtech.api.recipe.RecipeCompactor;
 import gregtech.api.registries.LHECoolantRegistry;
 import gregtech.api.threads.RunnableMachineUpdate;
 import gregtech.api.util.AssemblyLineServer;
@@ -79,6 +78,7 @@ import gregtech.api.util.GTRecipe;
 import gregtech.api.util.GTRecipeRegistrator;
 import gregtech.api.util.GTSpawnEventHandler;
 import gregtech.api.util.GTUtility;
+import gregtech.api.util.ItemIdRemap;
 import gregtech.common.GTDummyWorld;
 import gregtech.common.GTNetwork;
 import gregtech.common.GTProxy;
@@ -98,6 +98,7 @@ import gregtech.common.misc.spaceprojects.commands.SpaceProjectCommand;
 import gregtech.crossmod.ae2.AE2Compat;
 import gregtech.crossmod.holoinventory.HoloInventory;
 import gregtech.crossmod.waila.Waila;
+import gregtech.loaders.LoaderTimings;
 import gregtech.loaders.load.FuelLoader;
 import gregtech.loaders.load.GTItemIterator;
 import gregtech.loaders.load.MTERecipeLoader;
@@ -249,9 +250,7 @@ public class GTMod implements IGTMod {
             return;
         }
 
-        for (Runnable tRunnable : GregTechAPI.sBeforeGTPreload) {
-            tRunnable.run();
-        }
+        LoaderTimings.runAll("sBeforeGTPreload", GregTechAPI.sBeforeGTPreload);
 
         GTPreLoad.getConfiguration(aEvent.getModConfigurationDirectory());
         GTPreLoad.createLogFiles(
@@ -287,14 +286,14 @@ public class GTMod implements IGTMod {
 
         GTPreLoad.runMineTweakerCompat();
 
-        new LoaderOreProcessing().run();
-        new LoaderGTOreDictionary().run();
-        new LoaderGTItemData().run();
-        new LoaderGTBlockFluid().run();
-        new LoaderMetaTileEntities().run();
-        new LoaderMetaPipeEntities().run();
+        LoaderTimings.run(new LoaderOreProcessing());
+        LoaderTimings.run(new LoaderGTOreDictionary());
+        LoaderTimings.run(new LoaderGTItemData());
+        LoaderTimings.run(new LoaderGTBlockFluid());
+        LoaderTimings.run(new LoaderMetaTileEntities());
+        LoaderTimings.run(new LoaderMetaPipeEntities());
 
-        new LoaderCircuitBehaviors().run();
+        LoaderTimings.run(new LoaderCircuitBehaviors());
         new GTSpawnEventHandler();
 
         // populate itemstack instance for NBT check in GTRecipe
@@ -309,9 +308,7 @@ public class GTMod implements IGTMod {
 
         IBlockWithClientMeta.register();
 
-        for (Runnable tRunnable : GregTechAPI.sAfterGTPreload) {
-            tRunnable.run();
-        }
+        LoaderTimings.runAll("sAfterGTPreload", GregTechAPI.sAfterGTPreload);
 
         if (FMLCommonHandler.instance()
             .getEffectiveSide()
@@ -324,9 +321,7 @@ public class GTMod implements IGTMod {
             return;
         }
 
-        for (Runnable tRunnable : GregTechAPI.sBeforeGTLoad) {
-            tRunnable.run();
-        }
+        LoaderTimings.runAll("sBeforeGTLoad", GregTechAPI.sBeforeGTLoad);
 
         if (Forestry.isModLoaded())
             // noinspection InstantiationOfUtilityClass//TODO: Refactor GTBees with proper state handling
@@ -339,11 +334,11 @@ public class GTMod implements IGTMod {
 
         gregtechproxy.onLoad();
 
-        new MTERecipeLoader().run();
+        LoaderTimings.run(new MTERecipeLoader());
 
-        new GTItemIterator().run();
+        LoaderTimings.run(new GTItemIterator());
         gregtechproxy.registerUnificationEntries();
-        new FuelLoader().run();
+        LoaderTimings.run(new FuelLoader());
 
         if (Mods.Waila.isModLoaded()) {
             Waila.init();
@@ -363,9 +358,7 @@ public class GTMod implements IGTMod {
         GTLog.out.println("GTMod: Load-Phase finished!");
         GTLog.ore.println("GTMod: Load-Phase finished!");
 
-        for (Runnable tRunnable : GregTechAPI.sAfterGTLoad) {
-            tRunnable.run();
-        }
+        LoaderTimings.runAll("sAfterGTLoad", GregTechAPI.sAfterGTLoad);
     }
 
     @Mod.EventHandler
@@ -375,9 +368,7 @@ public class GTMod implements IGTMod {
         }
 
         // Seems only used by GGFab so far
-        for (Runnable tRunnable : GregTechAPI.sBeforeGTPostload) {
-            tRunnable.run();
-        }
+        LoaderTimings.runAll("sBeforeGTPostload", GregTechAPI.sBeforeGTPostload);
 
         gregtechproxy.onPostLoad();
 
@@ -393,16 +384,16 @@ public class GTMod implements IGTMod {
 
         gregtechproxy.registerUnificationEntries();
 
-        new BookAndLootLoader().run();
-        new ItemMaxStacksizeLoader().run();
-        new BlockResistanceLoader().run();
-        new RecyclerBlacklistLoader().run();
-        new FakeRecipeLoader().run();
-        new MachineRecipeLoader().run();
-        new ScrapboxDropLoader().run();
-        new CropLoader().run();
-        new GTWorldgenloader().run();
-        new CoverLoader().run();
+        LoaderTimings.run(new BookAndLootLoader());
+        LoaderTimings.run(new ItemMaxStacksizeLoader());
+        LoaderTimings.run(new BlockResistanceLoader());
+        LoaderTimings.run(new RecyclerBlacklistLoader());
+        LoaderTimings.run(new FakeRecipeLoader());
+        LoaderTimings.run(new MachineRecipeLoader());
+        LoaderTimings.run(new ScrapboxDropLoader());
+        LoaderTimings.run(new CropLoader());
+        LoaderTimings.run(new GTWorldgenloader());
+        LoaderTimings.run(new CoverLoader());
 
         GTRecipeRegistrator.registerUsagesForMaterials(
             null,
@@ -451,7 +442,7 @@ public class GTMod implements IGTMod {
         GT_FML_LOGGER.info(
             "If your Log stops here, you were too impatient. Wait a bit more next time, before killing Minecraft with the Task Manager.");
 
-        GTPostLoad.activateOreDictHandler();
+        LoaderTimings.run("Material processing", GTPostLoad::activateOreDictHandler);
         GTPostLoad.replaceVanillaMaterials();
         GTPostLoad.removeIc2Recipes(
             aMaceratorRecipeList,
@@ -466,7 +457,7 @@ public class GTMod implements IGTMod {
                     "=> " + iRecipe.getRecipeOutput()
                         .getDisplayName()));
         }
-        new CraftingRecipeLoader().run();
+        LoaderTimings.run(new CraftingRecipeLoader());
         GTModHandler.removeRecipeByOutput(ItemList.IC2_ForgeHammer.getWildcard(1L));
         GTModHandler.removeRecipeByOutput(GTModHandler.getIC2Item("machine", 1L));
         GTModHandler.addCraftingRecipe(
@@ -495,7 +486,7 @@ public class GTMod implements IGTMod {
         GTPostLoad.changeWoodenVanillaTools();
 
         // Register postea transformers
-        new PosteaTransformers().run();
+        LoaderTimings.run(new PosteaTransformers());
 
         /*
          * Until this point most crafting recipe additions, and removals, have been buffered. Go through, execute the
@@ -511,14 +502,12 @@ public class GTMod implements IGTMod {
         GT_FML_LOGGER.info("Executed delayed Crafting Recipes (" + stopwatch.stop() + "). Have a Cake.");
 
         GTLog.out.println("GTMod: Saving Lang File.");
-        new MachineTooltipsLoader().run();
+        LoaderTimings.run(new MachineTooltipsLoader());
         GTLanguageManager.sEnglishFile.save();
         GregTechAPI.sPostloadFinished = true;
         GTLog.out.println("GTMod: PostLoad-Phase finished!");
         GTLog.ore.println("GTMod: PostLoad-Phase finished!");
-        for (Runnable tRunnable : GregTechAPI.sAfterGTPostload) {
-            tRunnable.run();
-        }
+        LoaderTimings.runAll("sAfterGTPostload", GregTechAPI.sAfterGTPostload);
         GTPostLoad.addFakeRecipes();
 
         if (GregTechAPI.mOutputRF || GregTechAPI.mInputRF) {
@@ -547,11 +536,12 @@ public class GTMod implements IGTMod {
     @Mod.EventHandler
     public void onLoadComplete(FMLLoadCompleteEvent aEvent) {
         gregtechproxy.onLoadComplete();
-        for (Runnable tRunnable : GregTechAPI.sGTCompleteLoad) {
-            tRunnable.run();
-        }
+        LoaderTimings.runAll("sGTCompleteLoad", GregTechAPI.sGTCompleteLoad);
         GregTechAPI.sGTCompleteLoad = null;
         GregTechAPI.sFullLoadFinished = true;
+        if (Gregtech.performance.compactRecipes) LoaderTimings.run("Recipe compaction", RecipeCompactor::compact);
+        ItemIdRemap.rememberIds();
+        LoaderTimings.report("Loading");
     }
 
     @Mod.EventHandler
@@ -574,6 +564,7 @@ public class GTMod implements IGTMod {
         gregtechproxy.onServerStarting();
         GTModHandler.removeAllIC2Recipes();
         GTLog.out.println("GTMod: Unificating outputs of all known Recipe Types.");
+        final long tUnificationStart = System.nanoTime();
         ArrayList<ItemStack> tStacks = new ArrayList<>(10000);
         GTLog.out.println("GTMod: IC2 Machines");
 
@@ -694,6 +685,10 @@ public class GTMod implements IGTMod {
                 tOutput.setStackDisplayName("ERROR! PLEASE CHECK YOUR LOG FOR 'GT-ERR-01'!");
             }
         }
+        GTLog.out.printf(
+            "GTMod: Unificated %d outputs in %d ms.%n",
+            tStacks.size(),
+            (System.nanoTime() - tUnificationStart) / 1_000_000);
         GregTechAPI.mServerStarted = true;
         GTLog.out.println("GTMod: ServerStarting-Phase finished!");
         GTLog.ore.println("GTMod: ServerStarting-Phase finished!");
@@ -733,13 +728,10 @@ public class GTMod implements IGTMod {
     @Mod.EventHandler
     public void onIDChangingEvent(FMLModIdMappingEvent aEvent) {
         GTUtility.reInit();
-        GTRecipe.reInit();
-        for (Map<?, ?> gt_itemStackMap : GregTechAPI.sItemStackMappings) {
-            GTUtility.reMap(gt_itemStackMap);
-        }
-        for (SetMultimap<GTItemStack, ?> gt_itemStackMap : GregTechAPI.itemStackMultiMaps) {
-            GTUtility.reMap(gt_itemStackMap);
-        }
+        // recipe IDs and the unificator don't depend on item IDs and the recipe indices are rehashed with the other
+        // maps, but the NEI data sticks of the assembly line recipes hold numeric item IDs and are written again
+        if (ItemIdRemap.onIdsChanged()) GTRecipe.RecipeAssemblyLine.reInit();
+        else GTRecipe.reInit();
     }
 
     @Mod.EventHandler
@@ -40,7 +40,7 @@ public abstract class GenerateNodeMap {
     }
 
     // get how many connections the pipe have
-    private static int getNumberOfConnections(MetaPipeEntity aPipe) {
+    protected static int getNumberOfConnections(MetaPipeEntity aPipe) {
         int tCons = 0;
         for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
             if (aPipe.isConnectedAtSide(side)) tCons++;
@@ -110,6 +110,7 @@ public abstract class GenerateNodeMap {
                 final int iInvalid = tInvalidSide.ordinal();
                 tPipeNode.mNeighbourNodes[iInvalid] = aPreviousNode;
                 tPipeNode.mNodePaths[iInvalid] = getNewPath(aPipes.toArray(new MetaPipeEntity[0]));
+                tPipeNode.mNodePaths[iInvalid].mReturnNode = aPreviousNode;
                 final Lock lock = new Lock();
                 tPipeNode.mNodePaths[oppositeSide.ordinal()].lock = lock;
                 tPipeNode.locks[iInvalid] = lock;
@@ -123,6 +124,7 @@ public abstract class GenerateNodeMap {
             final ConsumerNode tConsumeNode = aConsumers.get(aConsumers.size() - 1);
             tConsumeNode.mNeighbourNodes[oppositeSideOrdinal] = aPreviousNode;
             tConsumeNode.mNodePaths[oppositeSideOrdinal] = getNewPath(aPipes.toArray(new MetaPipeEntity[0]));
+            tConsumeNode.mNodePaths[oppositeSideOrdinal].mReturnNode = aPreviousNode;
             final Lock lock = new Lock();
             tConsumeNode.mNodePaths[oppositeSideOrdinal].lock = lock;
             aPreviousNode.returnValues.mReturnPath = tConsumeNode.mNodePaths[oppositeSideOrdinal];
@@ -140,7 +142,7 @@ public abstract class GenerateNodeMap {
             final MetaPipeEntity tMetaPipe = (MetaPipeEntity) tPipe.getMetaTileEntity();
             final Node tNode = tPipe.getNode();
             if (tNode != null) {
-                if (aNodeMap.contains(tNode)) return null;
+                if (isVisited(tNode, aNodeMap)) return null;
             }
             final int tConnections = getNumberOfConnections(tMetaPipe);
             if (tConnections == 2) {
@@ -165,6 +167,11 @@ public abstract class GenerateNodeMap {
         return null;
     }
 
+    // check if the node has already been generated and should not be walked over again
+    protected boolean isVisited(Node aNode, HashSet<Node> aNodeMap) {
+        return aNodeMap.contains(aNode);
+    }
+
     // check if the tile entity is the correct pipe
     protected boolean isPipe(TileEntity aTileEntity) {
         return aTileEntity instanceof BaseMetaPipeEntity;
@@ -189,7 +196,7 @@ public abstract class GenerateNodeMap {
         return new Node(aNodeValue, aTileEntity, aConsumers);
     }
 
-    private static class Pair {
+    protected static class Pair {
 
         public ForgeDirection mSide;
         public TileEntity mTileEntity;
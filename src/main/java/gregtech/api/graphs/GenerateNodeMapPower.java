@@ -30,6 +30,9 @@ public class GenerateNodeMapPower extends GenerateNodeMap {
         generateNode(aTileEntity, null, 1, null, ForgeDirection.UNKNOWN, new ArrayList<>(), new HashSet<>());
     }
 
+    // for subclasses that work on an existing node map instead of generating a new one
+    protected GenerateNodeMapPower() {}
+
     @Override
     protected boolean isPipe(TileEntity aTileEntity) {
         return super.isPipe(aTileEntity) && ((BaseMetaPipeEntity) aTileEntity).getMetaTileEntity() instanceof MTECable;
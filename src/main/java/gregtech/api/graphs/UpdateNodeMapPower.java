@@ -0,0 +1,280 @@
+package gregtech.api.graphs;
+
+import static gregtech.api.enums.GTValues.ALL_VALID_SIDES;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import gregtech.api.graphs.consumers.ConsumerNode;
+import gregtech.api.graphs.paths.NodePath;
+import gregtech.api.metatileentity.BaseMetaPipeEntity;
+import gregtech.api.metatileentity.MetaPipeEntity;
+import gregtech.api.metatileentity.implementations.MTECable;
+
+/*
+ * applies a local edit to an existing power node map instead of generating the whole map again. the edit is anchored
+ * at the closest node that has the changed cable below it, only the nodes below that node are generated again. the
+ * nodes below a node always have the values from its own value up to its highest node value, so after the edit only
+ * the values above the old range have to be shifted by how much the range grew or shrank. if the edit joins another
+ * node map or cuts off a part of the network it can't be applied locally and the whole map has to be generated again.
+ * that is found out by walking the cables below the node the way they will be generated before anything is changed, so
+ * a node map that can't be updated locally keeps working until it is generated again
+ */
+public class UpdateNodeMapPower extends GenerateNodeMapPower {
+
+    private final ArrayList<ConsumerNode> mNetworkConsumers;
+    private final TileEntity mRemovedTile;
+    private final Set<TileEntity> mOldTiles = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<TileEntity> mNewNodeTiles = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<TileEntity> mReachedTiles = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final ArrayList<ConsumerNode> mCheckedConsumers = new ArrayList<>();
+    private boolean mFoundOtherNodeMap = false;
+
+    private UpdateNodeMapPower(ArrayList<ConsumerNode> aConsumers, TileEntity aRemovedTile) {
+        mNetworkConsumers = aConsumers;
+        mRemovedTile = aRemovedTile;
+    }
+
+    /**
+     * Updates the node map around a cable that was placed, removed or had its connections changed.
+     *
+     * @param aPipe    the cable that changed
+     * @param aRemoved true if the cable is about to be removed from the world
+     * @return false if the node map could not be updated locally and has to be generated again
+     */
+    public static boolean updateNodeMap(BaseMetaPipeEntity aPipe, boolean aRemoved) {
+        if (!(aPipe.getMetaTileEntity() instanceof MTECable)) return false;
+        final Node tRoot = getEditRoot(aPipe, aRemoved);
+        if (tRoot == null) return false;
+        return new UpdateNodeMapPower(tRoot.mConsumers, aRemoved ? aPipe : null).updateBelow(tRoot);
+    }
+
+    // get the node that has everything the changed cable is connected to below it
+    private static Node getEditRoot(BaseMetaPipeEntity aPipe, boolean aRemoved) {
+        Node tRoot = null;
+        final Node tNode = aPipe.getNode();
+        final NodePath tPath = aPipe.getNodePath();
+        if (tNode != null) {
+            if (isLive(tNode)) {
+                tRoot = getReturnNode(tNode);
+                // the start of the node map can only regenerate what is below itself
+                if (tRoot == null && !aRemoved) tRoot = tNode;
+            }
+        } else if (tPath != null) {
+            if (tPath.mReturnNode != null && isLive(tPath.mReturnNode)) tRoot = tPath.mReturnNode;
+        } else {
+            // the cable is not part of a node map, so use the node maps of the cables it is connected to
+            final MetaPipeEntity tMetaPipe = (MetaPipeEntity) aPipe.getMetaTileEntity();
+            for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+                if (!tMetaPipe.isConnectedAtSide(side)) continue;
+                if (!(aPipe.getTileEntityAtSide(side) instanceof BaseMetaPipeEntity tNextPipe)
+                    || !(tNextPipe.getMetaTileEntity() instanceof MTECable)) continue;
+                final Node tCandidate;
+                if (tNextPipe.getNode() != null) {
+                    tCandidate = tNextPipe.getNode();
+                } else if (tNextPipe.getNodePath() != null) {
+                    tCandidate = tNextPipe.getNodePath().mReturnNode;
+                } else {
+                    continue;
+                }
+                if (tCandidate == null || !isLive(tCandidate)) return null;
+                if (tRoot == null) {
+                    tRoot = tCandidate;
+                } else if (tRoot.mConsumers != tCandidate.mConsumers) {
+                    // the cable joins two node maps
+                    return null;
+                } else {
+                    tRoot = getCommonReturnNode(tRoot, tCandidate);
+                    if (tRoot == null) return null;
+                }
+            }
+        }
+        // dead ends and consumers can't have nodes below them
+        while (tRoot instanceof ConsumerNode) tRoot = getReturnNode(tRoot);
+        return tRoot;
+    }
+
+    // check that the node is still the one its cable uses and not from a node map that has been cleared
+    private static boolean isLive(Node aNode) {
+        return aNode.mTileEntity instanceof BaseMetaPipeEntity tPipe && tPipe.getNode() == aNode;
+    }
+
+    // the neighbour with a lower value is the one closer to the start of the node map
+    static Node getReturnNode(Node aNode) {
+        for (byte side : ALL_VALID_SIDES) {
+            final Node tNextNode = aNode.mNeighbourNodes[side];
+            if (tNextNode != null && tNextNode.mNodeValue < aNode.mNodeValue) return tNextNode;
+        }
+        return null;
+    }
+
+    private static Node getCommonReturnNode(Node aNode, Node aOtherNode) {
+        Node tNode = aNode;
+        while (tNode != null && (aOtherNode.mNodeValue < tNode.mNodeValue
+            || aOtherNode.mNodeValue > tNode.mHighestNodeValue)) {
+            tNode = getReturnNode(tNode);
+        }
+        return tNode;
+    }
+
+    private boolean updateBelow(Node aRoot) {
+        final Node tReturnNode = getReturnNode(aRoot);
+        ForgeDirection tReturnSide = ForgeDirection.UNKNOWN;
+        for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+            if (tReturnNode != null && aRoot.mNeighbourNodes[side.ordinal()] == tReturnNode) tReturnSide = side;
+        }
+        final int tOldHighest = aRoot.mHighestNodeValue;
+
+        // remember what was below the root to notice anything that is not reachable from it anymore
+        for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+            final Node tNextNode = aRoot.mNeighbourNodes[side.ordinal()];
+            if (side != tReturnSide && tNextNode != null) collectTiles(tNextNode, aRoot, mOldTiles);
+        }
+        checkNextNode((BaseMetaPipeEntity) aRoot.mTileEntity, tReturnSide);
+        if (mFoundOtherNodeMap) return false;
+        for (TileEntity tTile : mOldTiles) {
+            if (tTile != mRemovedTile && !tTile.isInvalid() && !mReachedTiles.contains(tTile)) return false;
+        }
+
+        // clear the nodes below the root and their consumers, the consumers are sorted by node value
+        for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+            if (side == tReturnSide) continue;
+            final int i = side.ordinal();
+            final Node tNextNode = aRoot.mNeighbourNodes[i];
+            if (tNextNode != null) clearNodeMap(tNextNode, aRoot.mNodeValue);
+            aRoot.mNeighbourNodes[i] = null;
+            aRoot.mNodePaths[i] = null;
+            aRoot.locks[i] = null;
+        }
+        int tFrom = 0;
+        while (tFrom < mNetworkConsumers.size() && mNetworkConsumers.get(tFrom).mNodeValue <= aRoot.mNodeValue) {
+            tFrom++;
+        }
+        int tTo = tFrom;
+        while (tTo < mNetworkConsumers.size() && mNetworkConsumers.get(tTo).mNodeValue <= tOldHighest) tTo++;
+        mNetworkConsumers.subList(tFrom, tTo)
+            .clear();
+        final int tKept = mNetworkConsumers.size();
+
+        aRoot.mHighestNodeValue = aRoot.mNodeValue;
+        generateNextNode(
+            (BaseMetaPipeEntity) aRoot.mTileEntity,
+            aRoot,
+            tReturnSide,
+            aRoot.mNodeValue,
+            mNetworkConsumers,
+            new HashSet<>());
+
+        // move the new consumers to where the old ones were and shift everything after them
+        final int tAdded = mNetworkConsumers.size() - tKept;
+        Collections.rotate(mNetworkConsumers.subList(tFrom, mNetworkConsumers.size()), tAdded);
+        final int tShift = aRoot.mHighestNodeValue - tOldHighest;
+        if (tShift != 0 && tReturnNode != null) shiftNodeValues(tReturnNode, aRoot, tOldHighest, tShift);
+
+        return true;
+    }
+
+    // walks the cables like generateNextNode does, but only notes which tiles would get a node or a path
+    private void checkNextNode(BaseMetaPipeEntity aPipe, ForgeDirection aInvalidSide) {
+        final MetaPipeEntity tMetaPipe = (MetaPipeEntity) aPipe.getMetaTileEntity();
+        for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+            if (side == aInvalidSide) continue;
+            final TileEntity tNextTileEntity = aPipe.getTileEntityAtSide(side);
+            if (tNextTileEntity == null || (tMetaPipe != null && !tMetaPipe.isConnectedAtSide(side))) continue;
+            final ArrayList<TileEntity> tPathTiles = new ArrayList<>();
+            final Pair tNext = checkNextValidTileEntity(tNextTileEntity, tPathTiles, side);
+            // the cables on the way only get a path if there is a node at its end
+            if (tNext != null && checkNode(tNext.mTileEntity, tNext.mSide)) mReachedTiles.addAll(tPathTiles);
+        }
+    }
+
+    // like getNextValidTileEntity, the nodes below the root are cleared by then and only the new ones are there
+    private Pair checkNextValidTileEntity(TileEntity aTileEntity, ArrayList<TileEntity> aPathTiles,
+        ForgeDirection side) {
+        if (aTileEntity == mRemovedTile) return null;
+        if (!isPipe(aTileEntity)) return new Pair(aTileEntity, side);
+        final BaseMetaPipeEntity tPipe = (BaseMetaPipeEntity) aTileEntity;
+        if (mNewNodeTiles.contains(tPipe)) return null;
+        if (tPipe.getNode() != null && !mOldTiles.contains(tPipe)) {
+            if (tPipe.getNode().mConsumers != mNetworkConsumers) mFoundOtherNodeMap = true;
+            return null;
+        }
+        final MetaPipeEntity tMetaPipe = (MetaPipeEntity) tPipe.getMetaTileEntity();
+        if (getNumberOfConnections(tMetaPipe) != 2) return new Pair(aTileEntity, side);
+        final ForgeDirection tSideOp = side.getOpposite();
+        for (final ForgeDirection s : ForgeDirection.VALID_DIRECTIONS) {
+            if (s == tSideOp || !(tMetaPipe.isConnectedAtSide(s))) continue;
+            final TileEntity tNewTileEntity = tPipe.getTileEntityAtSide(s);
+            if (tNewTileEntity == null) continue;
+            if (!isPipe(tNewTileEntity)) return new Pair(aTileEntity, s);
+            aPathTiles.add(aTileEntity);
+            return checkNextValidTileEntity(tNewTileEntity, aPathTiles, s);
+        }
+        return null;
+    }
+
+    // like generateNode, returns true if the tile would get a node
+    private boolean checkNode(TileEntity aTileEntity, ForgeDirection side) {
+        if (aTileEntity == mRemovedTile || aTileEntity.isInvalid()) return false;
+        final ForgeDirection oppositeSide = side.getOpposite();
+        if (isPipe(aTileEntity)) {
+            final BaseMetaPipeEntity tPipe = (BaseMetaPipeEntity) aTileEntity;
+            mNewNodeTiles.add(tPipe);
+            mReachedTiles.add(tPipe);
+            if (getNumberOfConnections((MetaPipeEntity) tPipe.getMetaTileEntity()) > 1) {
+                checkNextNode(tPipe, oppositeSide);
+            }
+            return true;
+        }
+        // only ask the consumer, the node it was given is thrown away
+        if (!addConsumer(aTileEntity, oppositeSide, 0, mCheckedConsumers)) return false;
+        mCheckedConsumers.clear();
+        mReachedTiles.add(aTileEntity);
+        return true;
+    }
+
+    private static void collectTiles(Node aNode, Node aPreviousNode, Set<TileEntity> aTiles) {
+        aTiles.add(aNode.mTileEntity);
+        for (byte side : ALL_VALID_SIDES) {
+            final Node tNextNode = aNode.mNeighbourNodes[side];
+            if (tNextNode != null && tNextNode != aPreviousNode) collectTiles(tNextNode, aNode, aTiles);
+        }
+    }
+
+    private static void shiftNodeValues(Node aNode, Node aPreviousNode, int aOldHighest, int aShift) {
+        if (aNode.mNodeValue > aOldHighest) aNode.mNodeValue += aShift;
+        if (aNode.mHighestNodeValue >= aOldHighest) aNode.mHighestNodeValue += aShift;
+        for (byte side : ALL_VALID_SIDES) {
+            final Node tNextNode = aNode.mNeighbourNodes[side];
+            if (tNextNode != null && tNextNode != aPreviousNode)
+                shiftNodeValues(tNextNode, aNode, aOldHighest, aShift);
+        }
+    }
+
+    @Override
+    protected Node generateNode(TileEntity aTileEntity, Node aPreviousNode, int aNextNodeValue,
+        ArrayList<MetaPipeEntity> aPipes, ForgeDirection side, ArrayList<ConsumerNode> aConsumers,
+        HashSet<Node> aNodeMap) {
+        if (aTileEntity == mRemovedTile) return null;
+        return super.generateNode(aTileEntity, aPreviousNode, aNextNodeValue, aPipes, side, aConsumers, aNodeMap);
+    }
+
+    @Override
+    protected Pair getNextValidTileEntity(TileEntity aTileEntity, ArrayList<MetaPipeEntity> aPipes,
+        ForgeDirection side, HashSet<Node> aNodeMap) {
+        if (aTileEntity == mRemovedTile) return null;
+        return super.getNextValidTileEntity(aTileEntity, aPipes, side, aNodeMap);
+    }
+
+    // nodes outside the edited part are already in the map, the check made sure none of them is from another map
+    @Override
+    protected boolean isVisited(Node aNode, HashSet<Node> aNodeMap) {
+        return true;
+    }
+}
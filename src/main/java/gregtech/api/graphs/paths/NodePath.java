@@ -1,6 +1,7 @@
 package gregtech.api.graphs.paths;
 
 import gregtech.api.graphs.Lock;
+import gregtech.api.graphs.Node;
 import gregtech.api.metatileentity.BaseMetaPipeEntity;
 import gregtech.api.metatileentity.MetaPipeEntity;
 
@@ -9,6 +10,8 @@ public class NodePath {
 
     protected MetaPipeEntity[] mPipes;
     public Lock lock = new Lock();
+    // the node on the side of this path that is closer to the start of the node map
+    public Node mReturnNode;
 
     public NodePath(MetaPipeEntity[] aCables) {
         this.mPipes = aCables;
@@ -15,6 +15,13 @@ public interface IMachineBlockUpdateable {
      */
     void onMachineBlockUpdate();
 
+    /**
+     * The Machine Update, with the position of the block that caused it.
+     */
+    default void onMachineBlockUpdate(int aX, int aY, int aZ) {
+        onMachineBlockUpdate();
+    }
+
     /**
      * Should recurse?
      */
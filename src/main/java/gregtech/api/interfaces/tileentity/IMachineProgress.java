@@ -36,6 +36,14 @@ public interface IMachineProgress extends IHasWorldObjectAndCoords {
      */
     boolean hasWorkJustBeenEnabled();
 
+    /**
+     * returns if a neighbouring Block or a Cover of the Machine changed since the Machine ticked last. Used by idle
+     * Machines to know when to look for work again.
+     */
+    default boolean hasSurroundingsJustChanged() {
+        return false;
+    }
+
     /**
      * allows Machine to work
      */
@@ -0,0 +1,66 @@
+package gregtech.api.logic;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.FluidStack;
+
+/**
+ * Cheap 64-bit fingerprints over machine inputs, used to detect that nothing relevant to recipe search has changed
+ * since the last check. Equal inputs always give equal fingerprints; different inputs give different ones with
+ * overwhelming probability. Fingerprints are only meaningful within the same session.
+ */
+public final class InputFingerprint {
+
+    public static final long EMPTY = 0x2545F4914F6CDD1DL;
+    /**
+     * Returned by sources whose contents can't be fingerprinted, e.g. ME hatches that only expose their contents
+     * during recipe processing. Never matches any cached fingerprint.
+     */
+    public static final long UNKNOWN = 0L;
+
+    private InputFingerprint() {}
+
+    /**
+     * Mixes the value into the fingerprint. Order-sensitive.
+     */
+    public static long mix(long fingerprint, long value) {
+        long h = (fingerprint ^ value) * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        h *= 0xD6E8FEB86659FD93L;
+        return h ^ h >>> 32;
+    }
+
+    public static long mix(long fingerprint, ItemStack stack) {
+        if (stack == null || stack.getItem() == null) return mix(fingerprint, 0L);
+        NBTTagCompound tag = stack.getTagCompound();
+        long h = mix(fingerprint, System.identityHashCode(stack.getItem()));
+        h = mix(h, (long) Items.feather.getDamage(stack) << 32 | stack.stackSize & 0xFFFFFFFFL);
+        return tag == null ? h : mix(h, tag.hashCode());
+    }
+
+    public static long mix(long fingerprint, FluidStack stack) {
+        if (stack == null || stack.getFluid() == null) return mix(fingerprint, 0L);
+        long h = mix(fingerprint, System.identityHashCode(stack.getFluid()));
+        h = mix(h, stack.amount);
+        return stack.tag == null ? h : mix(h, stack.tag.hashCode());
+    }
+
+    public static long mix(long fingerprint, ItemStack[] stacks) {
+        if (stacks == null) return mix(fingerprint, 0L);
+        long h = mix(fingerprint, stacks.length);
+        for (ItemStack stack : stacks) {
+            h = mix(h, stack);
+        }
+        return h;
+    }
+
+    public static long mix(long fingerprint, FluidStack[] stacks) {
+        if (stacks == null) return mix(fingerprint, 0L);
+        long h = mix(fingerprint, stacks.length);
+        for (FluidStack stack : stacks) {
+            h = mix(h, stack);
+        }
+        return h;
+    }
+}
@@ -80,6 +80,9 @@ public class ProcessingLogic {
      */
     protected Map<IDualInputInventoryWithPattern, Set<GTRecipe>> dualInvWithPatternToRecipeCache = new HashMap<>();
 
+    protected long noRecipeKey;
+    protected boolean hasNoRecipeKey;
+
     public ProcessingLogic() {}
 
     // region Setters
@@ -330,6 +333,57 @@ public class ProcessingLogic {
         return this;
     }
 
+    // region NO_RECIPE cache
+
+    /**
+     * @param inputFingerprint Fingerprint of the machine inputs, see {@link InputFingerprint}.
+     * @return Whether the last search with the same inputs and the same settings found no recipe, so searching again
+     *         can be skipped.
+     */
+    public boolean isNoRecipeCached(long inputFingerprint) {
+        if (!hasNoRecipeKey || inputFingerprint == InputFingerprint.UNKNOWN) return false;
+        if (noRecipeKey != getNoRecipeKey(inputFingerprint)) {
+            invalidateNoRecipeCache();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Remembers that searching with these inputs and the current settings found no recipe.
+     */
+    public void cacheNoRecipe(long inputFingerprint) {
+        if (inputFingerprint == InputFingerprint.UNKNOWN) return;
+        noRecipeKey = getNoRecipeKey(inputFingerprint);
+        hasNoRecipeKey = true;
+    }
+
+    public void invalidateNoRecipeCache() {
+        hasNoRecipeKey = false;
+    }
+
+    /**
+     * Combines the input fingerprint with every setting that can change the result of {@link #process}.
+     * Override if your subclass has more of them.
+     */
+    protected long getNoRecipeKey(long inputFingerprint) {
+        long key = InputFingerprint.mix(inputFingerprint, System.identityHashCode(getCurrentRecipeMap()));
+        key = InputFingerprint.mix(key, specialSlotItem);
+        key = InputFingerprint.mix(key, availableVoltage);
+        key = InputFingerprint.mix(key, availableAmperage);
+        key = InputFingerprint.mix(key, maxParallelSupplier != null ? maxParallelSupplier.get() : maxParallel);
+        key = InputFingerprint.mix(key, batchSize);
+        key = InputFingerprint.mix(
+            key,
+            (isRecipeLocked ? 1 : 0) | (protectItems ? 2 : 0) | (protectFluids ? 4 : 0) | (amperageOC ? 8 : 0));
+        if (isRecipeLocked && recipeLockableMachine != null) {
+            key = InputFingerprint.mix(key, System.identityHashCode(recipeLockableMachine.getSingleRecipeCheck()));
+        }
+        return key;
+    }
+
+    // endregion
+
     // region Logic
 
     /**
@@ -35,19 +35,26 @@ import gregtech.api.enums.SoundResource;
 import gregtech.api.enums.Textures;
 import gregtech.api.graphs.Lock;
 import gregtech.api.graphs.Node;
+import gregtech.api.graphs.UpdateNodeMapPower;
 import gregtech.api.graphs.paths.NodePath;
 import gregtech.api.interfaces.ITemporaryTE;
 import gregtech.api.interfaces.ITexture;
 import gregtech.api.interfaces.metatileentity.IConnectable;
 import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
+import gregtech.api.interfaces.metatileentity.IMetaTileEntityItemPipe;
 import gregtech.api.interfaces.tileentity.IDebugableTileEntity;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.interfaces.tileentity.IPipeRenderedTileEntity;
+import gregtech.api.metatileentity.implementations.FluidPipeSegment;
+import gregtech.api.metatileentity.implementations.MTEFluidPipe;
 import gregtech.api.net.GTPacketCreateTE;
 import gregtech.api.net.GTPacketTileEntity;
+import gregtech.api.net.TileEntitySyncBatcher;
 import gregtech.api.util.GTModHandler;
 import gregtech.api.util.GTOreDictUnificator;
 import gregtech.api.util.GTUtility;
+import gregtech.api.util.ItemPipeRoutingTable;
+import gregtech.common.config.Gregtech;
 import gregtech.common.covers.Cover;
 import mcp.mobius.waila.api.IWailaConfigHandler;
 import mcp.mobius.waila.api.IWailaDataAccessor;
@@ -114,6 +121,21 @@ public class BaseMetaPipeEntity extends CommonBaseMetaTileEntity
         }
     }
 
+    @Override
+    public void attachCover(@NotNull Cover cover) {
+        super.attachCover(cover);
+        if (mMetaTileEntity instanceof IMetaTileEntityItemPipe) ItemPipeRoutingTable.invalidateAround(this);
+        if (mMetaTileEntity instanceof MTEFluidPipe) FluidPipeSegment.invalidateAround(this);
+    }
+
+    @Override
+    public ItemStack detachCover(ForgeDirection side) {
+        final ItemStack tCover = super.detachCover(side);
+        if (mMetaTileEntity instanceof IMetaTileEntityItemPipe) ItemPipeRoutingTable.invalidateAround(this);
+        if (mMetaTileEntity instanceof MTEFluidPipe) FluidPipeSegment.invalidateAround(this);
+        return tCover;
+    }
+
     public BaseMetaPipeEntity() {}
 
     @Override
@@ -198,7 +220,10 @@ public class BaseMetaPipeEntity extends CommonBaseMetaTileEntity
 
                 if (mTickTimer > 12 && mConnections != mMetaTileEntity.mConnections) {
                     mConnections = mMetaTileEntity.mConnections;
-                    GregTechAPI.causeCableUpdate(worldObj, xCoord, yCoord, zCoord);
+                    if (!Gregtech.performance.incrementalCableNetworks
+                        || !UpdateNodeMapPower.updateNodeMap(this, false)) {
+                        GregTechAPI.causeCableUpdate(worldObj, xCoord, yCoord, zCoord);
+                    }
                 }
             }
             mMetaTileEntity.onPreTick(this, mTickTimer);
@@ -302,25 +327,23 @@ public class BaseMetaPipeEntity extends CommonBaseMetaTileEntity
                     xCoord,
                     zCoord);
             } else {
-                NW.sendPacketToAllPlayersInRange(
-                    worldObj,
-                    new GTPacketTileEntity(
-                        xCoord,
-                        (short) yCoord,
-                        zCoord,
-                        mID,
-                        getCoverAtSide(ForgeDirection.DOWN).getCoverID(),
-                        getCoverAtSide(ForgeDirection.UP).getCoverID(),
-                        getCoverAtSide(ForgeDirection.NORTH).getCoverID(),
-                        getCoverAtSide(ForgeDirection.SOUTH).getCoverID(),
-                        getCoverAtSide(ForgeDirection.WEST).getCoverID(),
-                        getCoverAtSide(ForgeDirection.EAST).getCoverID(),
-                        oldConnections,
-                        oldUpdateData,
-                        oldRedstoneData,
-                        oldColor),
+                final GTPacketTileEntity packet = new GTPacketTileEntity(
                     xCoord,
-                    zCoord);
+                    (short) yCoord,
+                    zCoord,
+                    mID,
+                    getCoverAtSide(ForgeDirection.DOWN).getCoverID(),
+                    getCoverAtSide(ForgeDirection.UP).getCoverID(),
+                    getCoverAtSide(ForgeDirection.NORTH).getCoverID(),
+                    getCoverAtSide(ForgeDirection.SOUTH).getCoverID(),
+                    getCoverAtSide(ForgeDirection.WEST).getCoverID(),
+                    getCoverAtSide(ForgeDirection.EAST).getCoverID(),
+                    oldConnections,
+                    oldUpdateData,
+                    oldRedstoneData,
+                    oldColor);
+                if (isCoverDataPending() || !TileEntitySyncBatcher.queue(worldObj, packet))
+                    NW.sendPacketToAllPlayersInRange(worldObj, packet, xCoord, zCoord);
                 mSendClientData = false;
             }
         }
@@ -511,6 +534,12 @@ public class BaseMetaPipeEntity extends CommonBaseMetaTileEntity
         super.invalidate();
     }
 
+    @Override
+    public void onChunkUnload() {
+        if (hasValidMetaTileEntity()) mMetaTileEntity.onUnload();
+        super.onChunkUnload();
+    }
+
     @Override
     public boolean hasCustomInventoryName() {
         return false;
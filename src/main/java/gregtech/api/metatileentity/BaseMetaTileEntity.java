@@ -64,6 +64,7 @@ import gregtech.api.enums.Textures;
 import gregtech.api.graphs.GenerateNodeMap;
 import gregtech.api.graphs.GenerateNodeMapPower;
 import gregtech.api.graphs.Node;
+import gregtech.api.graphs.UpdateNodeMapPower;
 import gregtech.api.interfaces.ITexture;
 import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
 import gregtech.api.interfaces.tileentity.IDebugableTileEntity;
@@ -72,6 +73,7 @@ import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.interfaces.tileentity.IGregtechWailaProvider;
 import gregtech.api.metatileentity.implementations.MTEBasicMachine;
 import gregtech.api.net.GTPacketTileEntity;
+import gregtech.api.net.TileEntitySyncBatcher;
 import gregtech.api.objects.blockupdate.BlockUpdateHandler;
 import gregtech.api.util.GTLog;
 import gregtech.api.util.GTModHandler;
@@ -79,6 +81,7 @@ import gregtech.api.util.GTOreDictUnificator;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.shutdown.ShutDownReason;
 import gregtech.api.util.shutdown.ShutDownReasonRegistry;
+import gregtech.common.config.Gregtech;
 import gregtech.common.covers.Cover;
 import gregtech.common.pollution.Pollution;
 import ic2.api.Direction;
@@ -604,7 +607,7 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
             }
         }
 
-        mWorkUpdate = mInventoryChanged = mRunningThroughTick = false;
+        mWorkUpdate = mInventoryChanged = mSurroundingsChanged = mRunningThroughTick = false;
     }
 
     @Override
@@ -643,25 +646,23 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
 
             oldColor = mColor;
 
-            NW.sendPacketToAllPlayersInRange(
-                worldObj,
-                new GTPacketTileEntity(
-                    xCoord,
-                    (short) yCoord,
-                    zCoord,
-                    mID,
-                    getCoverAtSide(ForgeDirection.DOWN).getCoverID(),
-                    getCoverAtSide(ForgeDirection.UP).getCoverID(),
-                    getCoverAtSide(ForgeDirection.NORTH).getCoverID(),
-                    getCoverAtSide(ForgeDirection.SOUTH).getCoverID(),
-                    getCoverAtSide(ForgeDirection.WEST).getCoverID(),
-                    getCoverAtSide(ForgeDirection.EAST).getCoverID(),
-                    oldTextureData,
-                    oldUpdateData,
-                    oldRedstoneData,
-                    oldColor),
+            final GTPacketTileEntity packet = new GTPacketTileEntity(
                 xCoord,
-                zCoord);
+                (short) yCoord,
+                zCoord,
+                mID,
+                getCoverAtSide(ForgeDirection.DOWN).getCoverID(),
+                getCoverAtSide(ForgeDirection.UP).getCoverID(),
+                getCoverAtSide(ForgeDirection.NORTH).getCoverID(),
+                getCoverAtSide(ForgeDirection.SOUTH).getCoverID(),
+                getCoverAtSide(ForgeDirection.WEST).getCoverID(),
+                getCoverAtSide(ForgeDirection.EAST).getCoverID(),
+                oldTextureData,
+                oldUpdateData,
+                oldRedstoneData,
+                oldColor);
+            if (isCoverDataPending() || !TileEntitySyncBatcher.queue(worldObj, packet))
+                NW.sendPacketToAllPlayersInRange(worldObj, packet, xCoord, zCoord);
             mSendClientData = false;
         }
         sendCoverDataIfNeeded();
@@ -918,6 +919,15 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
         cableUpdateDelay = 10;
     }
 
+    /**
+     * Checks validity of meta tile and delegates to it
+     */
+    @Override
+    public void onMachineBlockUpdate(int aX, int aY, int aZ) {
+        if (canAccessData()) mMetaTileEntity.onMachineBlockUpdate(aX, aY, aZ);
+        cableUpdateDelay = 10;
+    }
+
     /**
      * Checks validity of meta tile and delegates to it
      */
@@ -974,6 +984,11 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
         return mWorkUpdate;
     }
 
+    @Override
+    public boolean hasSurroundingsJustChanged() {
+        return mSurroundingsChanged;
+    }
+
     @Override
     public int getMetaTileID() {
         return mID;
@@ -1073,10 +1088,16 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
                         && (pipe.getConnections() & side.getOpposite().flag) != 0) {
                         final Node node = pipe.getNode();
                         if (node == null) {
-                            new GenerateNodeMapPower(pipe);
+                            if (!Gregtech.performance.incrementalCableNetworks || pipe.getNodePath() == null
+                                || !UpdateNodeMapPower.updateNodeMap(pipe, false)) {
+                                new GenerateNodeMapPower(pipe);
+                            }
                         } else if (node.mCreationTime != time) {
-                            GenerateNodeMap.clearNodeMap(node, -1);
-                            new GenerateNodeMapPower(pipe);
+                            if (!Gregtech.performance.incrementalCableNetworks
+                                || !UpdateNodeMapPower.updateNodeMap(pipe, false)) {
+                                GenerateNodeMap.clearNodeMap(node, -1);
+                                new GenerateNodeMapPower(pipe);
+                            }
                         }
                     }
                 }
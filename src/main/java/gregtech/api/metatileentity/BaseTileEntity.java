@@ -78,6 +78,8 @@ public abstract class BaseTileEntity extends TileEntity implements IHasWorldObje
     ITileWithModularUI, IAddGregtechLogo, IGetGUITextureSet, IAddInventorySlots {
 
     protected boolean mInventoryChanged = false;
+    /** If a neighbouring Block or a Cover changed since the last tick */
+    protected boolean mSurroundingsChanged = false;
 
     /**
      * Buffers adjacent TileEntities for faster access
@@ -508,6 +510,7 @@ public abstract class BaseTileEntity extends TileEntity implements IHasWorldObje
 
     public final void onAdjacentBlockChange(int ignoredAX, int ignoredAY, int ignoredAZ) {
         clearNullMarkersFromTileEntityBuffer();
+        mSurroundingsChanged = true;
     }
 
     public void updateNeighbours(int mStrongRedstone, int oStrongRedstone) {
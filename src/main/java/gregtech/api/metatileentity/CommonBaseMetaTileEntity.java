@@ -331,6 +331,7 @@ public abstract class CommonBaseMetaTileEntity extends CoverableTileEntity imple
     @Override
     public void issueCoverUpdate(ForgeDirection side) {
         super.issueCoverUpdate(side);
+        mSurroundingsChanged = true;
         issueClientUpdate();
     }
 
@@ -0,0 +1,93 @@
+package gregtech.api.metatileentity;
+
+import com.gtnewhorizon.gtnhlib.eventbus.EventBusSubscriber;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.relauncher.Side;
+import gregtech.api.util.GTLog;
+
+/**
+ * Measures how much time the covers of all tiles take in every server tick for a while, to see how evenly the covers
+ * with the same tick rate are spread over their interval.
+ */
+@EventBusSubscriber
+public final class CoverTickProfiler {
+
+    private static long[] sTickNanos;
+    private static int[] sTickCovers;
+    /** The tick that is being sampled, or -1 if nothing is sampled */
+    private static int sTick = -1;
+    private static long sCurrentNanos;
+    private static int sCurrentCovers;
+
+    private CoverTickProfiler() {}
+
+    static boolean isSampling() {
+        return sTick >= 0;
+    }
+
+    static void record(long aNanos) {
+        sCurrentNanos += aNanos;
+        sCurrentCovers++;
+    }
+
+    /**
+     * Samples the following server ticks and logs the result to GregTech.log once done.
+     */
+    public static void start(int aTicks) {
+        sTickNanos = new long[Math.max(1, aTicks)];
+        sTickCovers = new int[sTickNanos.length];
+        sCurrentNanos = 0;
+        sCurrentCovers = 0;
+        sTick = 0;
+    }
+
+    @SubscribeEvent
+    public static void onTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) return;
+        if (event.side != Side.SERVER) return;
+        if (sTick < 0) return;
+
+        sTickNanos[sTick] = sCurrentNanos;
+        sTickCovers[sTick] = sCurrentCovers;
+        sCurrentNanos = 0;
+        sCurrentCovers = 0;
+        if (++sTick == sTickNanos.length) {
+            sTick = -1;
+            report();
+        }
+    }
+
+    private static void report() {
+        long tTotal = 0, tMax = 0;
+        int tMaxTick = 0;
+        for (int i = 0; i < sTickNanos.length; i++) {
+            tTotal += sTickNanos[i];
+            if (sTickNanos[i] > tMax) {
+                tMax = sTickNanos[i];
+                tMaxTick = i;
+            }
+        }
+        final double tAverage = (double) tTotal / sTickNanos.length;
+        double tVariance = 0;
+        for (long tNanos : sTickNanos) tVariance += (tNanos - tAverage) * (tNanos - tAverage);
+        final double tDeviation = Math.sqrt(tVariance / sTickNanos.length);
+
+        GTLog.out.printf(
+            "Cover ticks over %d server ticks: average %.1f us, deviation %.1f us, highest %.1f us in tick %d%n",
+            sTickNanos.length,
+            tAverage / 1000,
+            tDeviation / 1000,
+            tMax / 1000D,
+            tMaxTick);
+        final StringBuilder tLine = new StringBuilder("Cover us/covers per tick:");
+        for (int i = 0; i < sTickNanos.length; i++) {
+            tLine.append(' ')
+                .append(sTickNanos[i] / 1000)
+                .append('/')
+                .append(sTickCovers[i]);
+        }
+        GTLog.out.println(tLine);
+    }
+}
@@ -56,6 +56,7 @@ import gregtech.api.net.GTPacketRequestCoverData;
 import gregtech.api.net.GTPacketSendCoverData;
 import gregtech.api.util.GTOreDictUnificator;
 import gregtech.common.GTClient;
+import gregtech.common.config.Gregtech;
 import gregtech.common.covers.Cover;
 import mcp.mobius.waila.api.IWailaConfigHandler;
 import mcp.mobius.waila.api.IWailaDataAccessor;
@@ -182,18 +183,34 @@ public abstract class CoverableTileEntity extends BaseTileEntity implements ICov
     private boolean tickCoverAtSide(ForgeDirection side) {
         final Cover cover = getCoverAtSide(side);
         if (!cover.isValid()) return true;
-        final int aTickTimer = MinecraftServer.getServer()
-            .getTickCounter();
         final int tCoverTickRate = cover.getTickRate();
-        if (tCoverTickRate > 0 && aTickTimer % tCoverTickRate == 0) {
+        if (tCoverTickRate <= 0) return true;
+        int aTickTimer = MinecraftServer.getServer()
+            .getTickCounter();
+        // the cover sees a timer that is a multiple of its tick rate, like when it isn't staggered
+        if (Gregtech.performance.staggeredCoverTicks) aTickTimer += getCoverTickPhase(side, tCoverTickRate);
+        if (aTickTimer % tCoverTickRate == 0) {
+            final boolean tProfiling = CoverTickProfiler.isSampling();
+            final long tStart = tProfiling ? System.nanoTime() : 0;
             final byte tRedstone = cover.isRedstoneSensitive(aTickTimer) ? getInputRedstoneSignal(side) : 0;
             cover.doCoverThings(tRedstone, aTickTimer);
+            if (tProfiling) CoverTickProfiler.record(System.nanoTime() - tStart);
             return isStillValid();
         }
 
         return true;
     }
 
+    /**
+     * A stable offset for the ticks of the cover, so covers with the same tick rate don't all run in the same tick.
+     */
+    private int getCoverTickPhase(ForgeDirection side, int aTickRate) {
+        if (aTickRate == 1) return 0;
+        final int tHash = ((xCoord * 31 + yCoord) * 31 + zCoord) * 6 + side.ordinal();
+        // spread neighbouring positions over the whole interval
+        return Math.floorMod((tHash * 0x9E3779B9) >>> 8, aTickRate);
+    }
+
     public abstract boolean allowCoverOnSide(ForgeDirection side, ItemStack coverItem);
 
     protected void checkDropCover() {
@@ -450,6 +467,16 @@ public abstract class CoverableTileEntity extends BaseTileEntity implements ICov
         cover.readFromPacket(data);
     }
 
+    /**
+     * @return if {@link #sendCoverDataIfNeeded()} will send cover data, which has to arrive after the tile entity data
+     */
+    protected boolean isCoverDataPending() {
+        for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+            if (getCoverAtSide(side).needsUpdate()) return true;
+        }
+        return false;
+    }
+
     protected void sendCoverDataIfNeeded() {
         if (worldObj == null || worldObj.isRemote) return;
         for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
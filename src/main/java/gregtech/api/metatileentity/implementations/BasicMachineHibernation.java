@@ -0,0 +1,41 @@
+package gregtech.api.metatileentity.implementations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.common.DimensionManager;
+
+import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+
+/**
+ * Counts the hibernating {@link MTEBasicMachine}s.
+ */
+public final class BasicMachineHibernation {
+
+    private BasicMachineHibernation() {}
+
+    /**
+     * @return one line for every loaded dimension with basic machines in it
+     */
+    public static List<String> count() {
+        final List<String> rLines = new ArrayList<>();
+        for (WorldServer tWorld : DimensionManager.getWorlds()) {
+            int tHibernating = 0, tAwake = 0;
+            for (Object tTileEntity : tWorld.loadedTileEntityList) {
+                if (!(tTileEntity instanceof IGregTechTileEntity tBase)
+                    || !(tBase.getMetaTileEntity() instanceof MTEBasicMachine tMachine)) continue;
+                if (tMachine.isHibernating()) tHibernating++;
+                else tAwake++;
+            }
+            if (tHibernating + tAwake == 0) continue;
+            rLines.add(
+                String.format(
+                    "Dimension %d: %d hibernating, %d awake basic machines",
+                    tWorld.provider.dimensionId,
+                    tHibernating,
+                    tAwake));
+        }
+        return rLines;
+    }
+}
@@ -0,0 +1,244 @@
+package gregtech.api.metatileentity.implementations;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import net.minecraftforge.common.util.ForgeDirection;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.IFluidHandler;
+
+import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
+import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+
+/**
+ * A group of connected single fluid pipes that distributes its fluid as one tank. Instead of every pipe passing fluid
+ * on to its neighbours, the fluid of all pipes in the segment is pooled once per interval and sent straight to the
+ * tanks at the border of the segment. Every border connection is limited to the throughput of the pipe it leaves
+ * from, and the whole segment to the throughput of its narrowest pipe.
+ * <p>
+ * Pipes are only joined when both sides are connected, uncovered and accept input, so every cover, restrictor and
+ * multi fluid pipe stays at the border of a segment and keeps its usual behaviour. Connection, cover and restrictor
+ * changes and pipes being loaded or removed only invalidate the segments of the pipe and its neighbours through
+ * {@link #invalidateAround(IGregTechTileEntity)}, since a pipe can only join or leave a segment next to them. A pipe
+ * unloading with its chunk isn't removed, so it invalidates its own segment through {@link #invalidate}, and a segment
+ * that still finds a dead pipe doesn't distribute at all.
+ */
+public class FluidPipeSegment {
+
+    private static final int DISTRIBUTION_INTERVAL = 5;
+    private final MTEFluidPipe[] mPipes;
+    private final MTEFluidPipe[] mBorderPipes;
+    private final ForgeDirection[] mBorderSides;
+    private final IFluidHandler[] mSinks;
+    private final int[] mSinkAmounts;
+    private final int mThroughput;
+    private long mLastDistribution = -DISTRIBUTION_INTERVAL;
+    private boolean mLastHandled = false;
+    private boolean mInvalidated = false;
+
+    /**
+     * Called whenever the shape of the fluid pipe network around a pipe changes.
+     */
+    public static void invalidateAround(IGregTechTileEntity aPipe) {
+        invalidate(aPipe.getMetaTileEntity());
+        for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+            final IGregTechTileEntity tNextPipe = aPipe.getIGregTechTileEntityAtSide(side);
+            if (tNextPipe != null) invalidate(tNextPipe.getMetaTileEntity());
+        }
+    }
+
+    static void invalidate(IMetaTileEntity aMetaTileEntity) {
+        if (aMetaTileEntity instanceof MTEFluidPipe tPipe && tPipe.mSegment != null) tPipe.mSegment.mInvalidated = true;
+    }
+
+    private FluidPipeSegment(List<MTEFluidPipe> aPipes, List<MTEFluidPipe> aBorderPipes,
+        List<ForgeDirection> aBorderSides) {
+        mPipes = aPipes.toArray(new MTEFluidPipe[0]);
+        mBorderPipes = aBorderPipes.toArray(new MTEFluidPipe[0]);
+        mBorderSides = aBorderSides.toArray(new ForgeDirection[0]);
+        mSinks = new IFluidHandler[mBorderPipes.length];
+        mSinkAmounts = new int[mBorderPipes.length];
+        int tThroughput = Integer.MAX_VALUE;
+        for (MTEFluidPipe tPipe : mPipes) tThroughput = Math.min(tThroughput, tPipe.mCapacity * 10);
+        mThroughput = Math.max(1, tThroughput);
+    }
+
+    /**
+     * Builds the segment the pipe belongs to and assigns it to every pipe in it.
+     *
+     * @return the segment, or null if the pipe can't be part of a segment
+     */
+    public static FluidPipeSegment build(MTEFluidPipe aPipe) {
+        if (!canJoin(aPipe)) return null;
+        final Set<MTEFluidPipe> tVisited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final List<MTEFluidPipe> tPipes = new ArrayList<>();
+        final List<MTEFluidPipe> tBorderPipes = new ArrayList<>();
+        final List<ForgeDirection> tBorderSides = new ArrayList<>();
+        tVisited.add(aPipe);
+        tPipes.add(aPipe);
+        // the list grows while it is walked, every pipe is only added once
+        for (int i = 0; i < tPipes.size(); i++) {
+            final MTEFluidPipe tPipe = tPipes.get(i);
+            final IGregTechTileEntity tBase = tPipe.getBaseMetaTileEntity();
+            for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+                if (!tPipe.isConnectedAtSide(side)) continue;
+                final MTEFluidPipe tNextPipe = getJoinedPipe(tPipe, tBase, side);
+                if (tNextPipe == null) {
+                    tBorderPipes.add(tPipe);
+                    tBorderSides.add(side);
+                } else if (tVisited.add(tNextPipe)) {
+                    tPipes.add(tNextPipe);
+                }
+            }
+        }
+        final FluidPipeSegment rSegment = new FluidPipeSegment(tPipes, tBorderPipes, tBorderSides);
+        for (MTEFluidPipe tPipe : tPipes) tPipe.mSegment = rSegment;
+        return rSegment;
+    }
+
+    private static boolean canJoin(MTEFluidPipe aPipe) {
+        final IGregTechTileEntity tBase = aPipe.getBaseMetaTileEntity();
+        return aPipe.mPipeAmount == 1 && tBase != null && !tBase.isDead();
+    }
+
+    // the pipe on the other side, if both pipes can share their fluid through this side
+    private static MTEFluidPipe getJoinedPipe(MTEFluidPipe aPipe, IGregTechTileEntity aBase, ForgeDirection side) {
+        if (aPipe.isInputDisabledAtSide(side) || aBase.getCoverAtSide(side)
+            .isValid()) return null;
+        final IGregTechTileEntity tNextBase = aBase.getIGregTechTileEntityAtSide(side);
+        if (tNextBase == null || !(tNextBase.getMetaTileEntity() instanceof MTEFluidPipe tNextPipe)) return null;
+        final ForgeDirection tOpposite = side.getOpposite();
+        if (!canJoin(tNextPipe) || !tNextPipe.isConnectedAtSide(tOpposite)
+            || tNextPipe.isInputDisabledAtSide(tOpposite)
+            || tNextBase.getCoverAtSide(tOpposite)
+                .isValid()) return null;
+        return tNextPipe;
+    }
+
+    public boolean isValid() {
+        return !mInvalidated;
+    }
+
+    public int getSize() {
+        return mPipes.length;
+    }
+
+    public int getBorderSize() {
+        return mBorderPipes.length;
+    }
+
+    MTEFluidPipe[] getPipes() {
+        return mPipes;
+    }
+
+    MTEFluidPipe[] getBorderPipes() {
+        return mBorderPipes;
+    }
+
+    ForgeDirection[] getBorderSides() {
+        return mBorderSides;
+    }
+
+    /**
+     * Distributes the fluid of the segment if that hasn't happened in this interval yet.
+     *
+     * @return false if the pipes of the segment hold different fluids and have to distribute on their own
+     */
+    public boolean distribute(long aWorldTime) {
+        if (aWorldTime - mLastDistribution < DISTRIBUTION_INTERVAL && aWorldTime >= mLastDistribution)
+            return mLastHandled;
+        mLastDistribution = aWorldTime;
+        mLastHandled = solve();
+        return mLastHandled;
+    }
+
+    boolean solve() {
+        FluidStack tFluid = null;
+        long tPool = 0;
+        for (MTEFluidPipe tPipe : mPipes) {
+            final IGregTechTileEntity tBase = tPipe.getBaseMetaTileEntity();
+            // a pipe in an unloaded chunk already saved its fluid, pooling it would copy it into the loaded pipes
+            if (tBase == null || tBase.isDead()) {
+                mInvalidated = true;
+                return false;
+            }
+            final FluidStack tPipeFluid = tPipe.mFluids[0];
+            if (tPipeFluid == null || tPipeFluid.amount <= 0) continue;
+            if (tFluid == null) tFluid = tPipeFluid;
+            else if (!tFluid.isFluidEqual(tPipeFluid)) return false;
+            tPool += tPipeFluid.amount;
+        }
+        if (tFluid == null) return true;
+        tFluid = tFluid.copy();
+
+        // ask every tank at the border how much it can take, at most what its pipe could pass on
+        long tAvailable = 0;
+        for (int i = 0; i < mBorderPipes.length; i++) {
+            mSinks[i] = null;
+            mSinkAmounts[i] = 0;
+            final MTEFluidPipe tPipe = mBorderPipes[i];
+            final ForgeDirection side = mBorderSides[i];
+            if ((tPipe.mLastReceivedFrom & side.flag) != 0) continue;
+            final IGregTechTileEntity tBase = tPipe.getBaseMetaTileEntity();
+            final IFluidHandler tTank = tBase.getITankContainerAtSide(side);
+            if (tTank == null || !tBase.getCoverAtSide(side)
+                .letsFluidOut(tFluid.getFluid())) continue;
+            if (tTank instanceof IGregTechTileEntity tGTTank && !tGTTank.getCoverAtSide(side.getOpposite())
+                .letsFluidIn(tFluid.getFluid())) continue;
+            tFluid.amount = Math.max(1, tPipe.mCapacity * 10);
+            final int tAmount = tTank.fill(side.getOpposite(), tFluid, false);
+            if (tAmount <= 0) continue;
+            mSinks[i] = tTank;
+            mSinkAmounts[i] = tAmount;
+            tAvailable += tAmount;
+        }
+
+        // share the throughput by the space available at each tank, like a single pipe does
+        final long tBudget = Math.min(tPool, mThroughput);
+        long tSent = 0;
+        for (int i = 0; i < mSinks.length && tSent < tBudget; i++) {
+            if (mSinks[i] == null) continue;
+            int tAmount = mSinkAmounts[i];
+            if (tAvailable > tBudget) tAmount = (int) Math.max(1, tAmount * tBudget / tAvailable);
+            tFluid.amount = (int) Math.min(tAmount, tBudget - tSent);
+            // some mods keep or modify the stack they are filled with
+            tSent += mSinks[i].fill(mBorderSides[i].getOpposite(), tFluid.copy(), true);
+            mSinks[i] = null;
+        }
+        tPool -= tSent;
+
+        // write the remaining fluid back into the pipes for rendering, hazards and saving
+        final int tPipeCount = mPipes.length;
+        long tLeft = tPool;
+        for (int i = 0; i < tPipeCount; i++) {
+            final MTEFluidPipe tPipe = mPipes[i];
+            final int tAmount = (int) Math.min(tPipe.getCapacity(), tLeft / (tPipeCount - i));
+            setFluid(tPipe, tFluid, tAmount);
+            tLeft -= tAmount;
+            tPipe.mLastReceivedFrom = 0;
+        }
+        // pipes with a smaller capacity may not have taken their full share
+        for (int i = 0; i < tPipeCount && tLeft > 0; i++) {
+            final MTEFluidPipe tPipe = mPipes[i];
+            final int tCurrent = tPipe.mFluids[0] == null ? 0 : tPipe.mFluids[0].amount;
+            final int tAmount = (int) Math.min(tPipe.getCapacity() - tCurrent, tLeft);
+            if (tAmount <= 0) continue;
+            setFluid(tPipe, tFluid, tCurrent + tAmount);
+            tLeft -= tAmount;
+        }
+        return true;
+    }
+
+    private static void setFluid(MTEFluidPipe aPipe, FluidStack aFluid, int aAmount) {
+        if (aAmount <= 0) {
+            aPipe.mFluids[0] = null;
+        } else if (aPipe.mFluids[0] == null || !aPipe.mFluids[0].isFluidEqual(aFluid)) {
+            aPipe.mFluids[0] = new FluidStack(aFluid, aAmount);
+        } else {
+            aPipe.mFluids[0].amount = aAmount;
+        }
+    }
+}
@@ -86,6 +86,7 @@ import gregtech.api.util.GTTooltipDataCache;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.GTWaila;
 import gregtech.api.util.OverclockCalculator;
+import gregtech.common.config.Gregtech;
 import gregtech.common.gui.modularui.UIHelper;
 import mcp.mobius.waila.api.IWailaConfigHandler;
 import mcp.mobius.waila.api.IWailaDataAccessor;
@@ -106,6 +107,8 @@ public abstract class MTEBasicMachine extends MTEBasicTank implements RecipeMapW
         FOUND_AND_SUCCESSFULLY_USED_RECIPE = 2;
 
     public static final int OTHER_SLOT_COUNT = 5;
+    /** Ticks a machine has to be idle before it hibernates */
+    public static final int HIBERNATION_DELAY = 20;
     public final ItemStack[] mOutputItems;
     public final int mInputSlotCount, mAmperage;
     public boolean mAllowInputFromOutputSide = false, mFluidTransfer = false, mItemTransfer = false,
@@ -125,6 +128,16 @@ public abstract class MTEBasicMachine extends MTEBasicTank implements RecipeMapW
     protected GTRecipe mLastRecipe = null;
 
     private FluidStack mFluidOut;
+
+    /**
+     * A hibernating machine has no recipe and nothing to output, and skips its tick until its inventory, neighbours,
+     * covers, energy or input fluid change, or the recipe check every 600 ticks comes up.
+     */
+    private boolean mHibernating = false;
+    private int mIdleTicks = 0;
+    private long mHibernationEnergy;
+    private int mHibernationFluid;
+
     protected final FluidStackTank fluidOutputTank = new FluidStackTank(
         () -> mFluidOut,
         fluidStack -> mFluidOut = fluidStack,
@@ -212,6 +225,7 @@ public abstract class MTEBasicMachine extends MTEBasicTank implements RecipeMapW
     @Override
     public void onFacingChange() {
         super.onFacingChange();
+        mHibernating = false;
         // Set up the correct facing (front towards player, output opposite) client-side before the server packet
         // arrives
         if (mMainFacing == UNKNOWN) {
@@ -555,6 +569,12 @@ public abstract class MTEBasicMachine extends MTEBasicTank implements RecipeMapW
     public void onPostTick(IGregTechTileEntity aBaseMetaTileEntity, long aTick) {
         super.onPostTick(aBaseMetaTileEntity, aTick);
 
+        if (mHibernating) {
+            if (!shouldWakeUp(aBaseMetaTileEntity, aTick)) return;
+            mHibernating = false;
+            mIdleTicks = 0;
+        }
+
         if (aBaseMetaTileEntity.isServerSide()) {
             mCharge = aBaseMetaTileEntity.getStoredEU() / 2 > aBaseMetaTileEntity.getEUCapacity() / 3;
             mDecharge = aBaseMetaTileEntity.getStoredEU() < aBaseMetaTileEntity.getEUCapacity() / 3;
@@ -677,6 +697,16 @@ public abstract class MTEBasicMachine extends MTEBasicTank implements RecipeMapW
                     mStuttering = true;
                 }
             }
+
+            if (Gregtech.performance.hibernatingMachines && isIdle(aBaseMetaTileEntity)) {
+                if (++mIdleTicks >= HIBERNATION_DELAY) {
+                    mHibernating = true;
+                    mHibernationEnergy = aBaseMetaTileEntity.getUniversalEnergyStored();
+                    mHibernationFluid = getFillableStack() == null ? 0 : getFillableStack().amount;
+                }
+            } else {
+                mIdleTicks = 0;
+            }
         }
         // Only using mNeedsSteamVenting right now and assigning it to 64 to space in the range for more single block
         // machine problems.
@@ -687,6 +717,32 @@ public abstract class MTEBasicMachine extends MTEBasicTank implements RecipeMapW
                                                          // 0));
     }
 
+    /**
+     * @return if the machine has no recipe, nothing left to output and nothing that changed this tick
+     */
+    boolean isIdle(IGregTechTileEntity aBaseMetaTileEntity) {
+        return mMaxProgresstime <= 0 && mOutputBlocked == 0
+            && isOutputEmpty()
+            && getDrainableStack() == null
+            && allowToCheckRecipe()
+            && !aBaseMetaTileEntity.hasInventoryBeenModified()
+            && !aBaseMetaTileEntity.hasWorkJustBeenEnabled()
+            && !aBaseMetaTileEntity.hasSurroundingsJustChanged();
+    }
+
+    private boolean shouldWakeUp(IGregTechTileEntity aBaseMetaTileEntity, long aTick) {
+        return !Gregtech.performance.hibernatingMachines || aTick % 600 == 0
+            || aBaseMetaTileEntity.hasInventoryBeenModified()
+            || aBaseMetaTileEntity.hasWorkJustBeenEnabled()
+            || aBaseMetaTileEntity.hasSurroundingsJustChanged()
+            || aBaseMetaTileEntity.getUniversalEnergyStored() != mHibernationEnergy
+            || (getFillableStack() == null ? 0 : getFillableStack().amount) != mHibernationFluid;
+    }
+
+    public boolean isHibernating() {
+        return mHibernating;
+    }
+
     protected void doDisplayThings() {
         if (!isValidMainFacing(mMainFacing) && isValidMainFacing(getBaseMetaTileEntity().getFrontFacing())) {
             mMainFacing = getBaseMetaTileEntity().getFrontFacing();
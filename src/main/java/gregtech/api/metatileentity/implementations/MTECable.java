@@ -29,6 +29,7 @@ import gregtech.api.graphs.Node;
 import gregtech.api.graphs.NodeList;
 import gregtech.api.graphs.PowerNode;
 import gregtech.api.graphs.PowerNodes;
+import gregtech.api.graphs.UpdateNodeMapPower;
 import gregtech.api.graphs.consumers.ConsumerNode;
 import gregtech.api.graphs.paths.PowerNodePath;
 import gregtech.api.interfaces.ITexture;
@@ -44,6 +45,7 @@ import gregtech.api.util.GTGCCompat;
 import gregtech.api.util.GTModHandler;
 import gregtech.api.util.GTUtility;
 import gregtech.common.blocks.ItemMachines;
+import gregtech.common.config.Gregtech;
 import gregtech.common.covers.Cover;
 import gregtech.common.covers.CoverSolarPanel;
 import ic2.api.energy.EnergyNet;
@@ -175,6 +177,24 @@ public class MTECable extends MetaPipeEntity implements IMetaTileEntityCable {
         GTUtility.applyElectricityDamage(livingEntity, voltage, amperage);
     }
 
+    @Override
+    public void onBlockDestroyed() {
+        if (!Gregtech.performance.incrementalCableNetworks
+            || !(getBaseMetaTileEntity() instanceof BaseMetaPipeEntity baseEntity)
+            || !baseEntity.isServerSide()) return;
+        if (UpdateNodeMapPower.updateNodeMap(baseEntity, true)) return;
+        // the local update gave up, so let the machines on both sides generate their node maps again. the cable
+        // update starts at the neighbours since this cable is gone by the time it runs
+        for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+            if (!isConnectedAtSide(side)) continue;
+            GregTechAPI.causeCableUpdate(
+                baseEntity.getWorld(),
+                baseEntity.getOffsetX(side, 1),
+                baseEntity.getOffsetY(side, 1),
+                baseEntity.getOffsetZ(side, 1));
+        }
+    }
+
     @Override
     public boolean isFacingValid(ForgeDirection facing) {
         return false;
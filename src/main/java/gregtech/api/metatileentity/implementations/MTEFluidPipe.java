@@ -61,6 +61,7 @@ import gregtech.api.util.GTLog;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.WorldSpawnedEventBuilder.ParticleEventBuilder;
 import gregtech.common.blocks.ItemMachines;
+import gregtech.common.config.Gregtech;
 import gregtech.common.config.Other;
 import gregtech.common.covers.Cover;
 import gregtech.common.covers.CoverDrain;
@@ -112,6 +113,7 @@ public class MTEFluidPipe extends MetaPipeEntity {
      * Bitmask for whether disable fluid input form each side.
      */
     public byte mDisableInput = 0;
+    FluidPipeSegment mSegment;
 
     public MTEFluidPipe(int aID, String aName, String aNameRegional, float aThickNess, Materials aMaterial,
         int aCapacity, int aHeatResistance, boolean aGasProof) {
@@ -300,6 +302,8 @@ public class MTEFluidPipe extends MetaPipeEntity {
             if (!GTMod.gregtechproxy.gt6Pipe || mCheckConnections) checkConnections();
 
             final boolean shouldDistribute = (oLastReceivedFrom == mLastReceivedFrom);
+            final boolean distributedBySegment = Gregtech.performance.fluidPipeSegments
+                && distributeInSegment(aBaseMetaTileEntity);
             for (int i = 0, j = aBaseMetaTileEntity.getRandomNumber(mPipeAmount); i < mPipeAmount; i++) {
                 final int index = (i + j) % mPipeAmount;
                 if (mFluids[index] != null && mFluids[index].amount <= 0) mFluids[index] = null;
@@ -307,7 +311,7 @@ public class MTEFluidPipe extends MetaPipeEntity {
 
                 if (checkEnvironment(index, aBaseMetaTileEntity)) return;
 
-                if (shouldDistribute) {
+                if (shouldDistribute && !distributedBySegment) {
                     distributeFluid(index, aBaseMetaTileEntity);
                     mLastReceivedFrom = 0;
                 }
@@ -386,7 +390,15 @@ public class MTEFluidPipe extends MetaPipeEntity {
         return false;
     }
 
-    private void distributeFluid(int index, IGregTechTileEntity aBaseMetaTileEntity) {
+    private boolean distributeInSegment(IGregTechTileEntity aBaseMetaTileEntity) {
+        if (mPipeAmount != 1) return false;
+        if (mSegment == null || !mSegment.isValid()) mSegment = FluidPipeSegment.build(this);
+        return mSegment != null && mSegment.distribute(
+            aBaseMetaTileEntity.getWorld()
+                .getTotalWorldTime());
+    }
+
+    void distributeFluid(int index, IGregTechTileEntity aBaseMetaTileEntity) {
         final FluidStack tFluid = mFluids[index];
         if (tFluid == null) return;
 
@@ -465,6 +477,40 @@ public class MTEFluidPipe extends MetaPipeEntity {
             mDisableInput |= mask;
             GTUtility.sendChatToPlayer(entityPlayer, GTUtility.trans("213", "Input disabled"));
         }
+        FluidPipeSegment.invalidateAround(getBaseMetaTileEntity());
+    }
+
+    @Override
+    public void onFirstTick(IGregTechTileEntity aBaseMetaTileEntity) {
+        super.onFirstTick(aBaseMetaTileEntity);
+        FluidPipeSegment.invalidateAround(aBaseMetaTileEntity);
+    }
+
+    @Override
+    public void onRemoval() {
+        super.onRemoval();
+        FluidPipeSegment.invalidateAround(getBaseMetaTileEntity());
+    }
+
+    @Override
+    public void onUnload() {
+        super.onUnload();
+        FluidPipeSegment.invalidate(this);
+    }
+
+    @Override
+    public int connect(ForgeDirection side) {
+        final byte tConnections = mConnections;
+        final int rConnected = super.connect(side);
+        if (tConnections != mConnections) FluidPipeSegment.invalidateAround(getBaseMetaTileEntity());
+        return rConnected;
+    }
+
+    @Override
+    public void disconnect(ForgeDirection side) {
+        final byte tConnections = mConnections;
+        super.disconnect(side);
+        if (tConnections != mConnections) FluidPipeSegment.invalidateAround(getBaseMetaTileEntity());
     }
 
     @Override
@@ -20,6 +20,7 @@ import gregtech.GTMod;
 import gregtech.api.enums.Dyes;
 import gregtech.api.interfaces.ITexture;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+import gregtech.api.logic.InputFingerprint;
 import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.recipe.RecipeMap;
 import gregtech.api.render.TextureFactory;
@@ -171,6 +172,14 @@ public class MTEHatchInput extends MTEHatch {
             mInventory[getInputSlot()] = null;
     }
 
+    /**
+     * @return Fingerprint of the color and the stored fluids, or {@link InputFingerprint#UNKNOWN} if they can't be
+     *         read outside of recipe processing.
+     */
+    public long getContentFingerprint() {
+        return InputFingerprint.mix(InputFingerprint.mix(InputFingerprint.EMPTY, getColor()), getFillableStack());
+    }
+
     @Override
     public boolean isFluidInputAllowed(FluidStack aFluid) {
         return mRecipeMap == null || mRecipeMap.containsInput(aFluid);
@@ -34,6 +34,7 @@ import gregtech.api.interfaces.IConfigurationCircuitSupport;
 import gregtech.api.interfaces.ITexture;
 import gregtech.api.interfaces.modularui.IAddUIWidgets;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+import gregtech.api.logic.InputFingerprint;
 import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.recipe.RecipeMap;
 import gregtech.api.render.TextureFactory;
@@ -126,6 +127,19 @@ public class MTEHatchInputBus extends MTEHatch implements IConfigurationCircuitS
         return new MTEHatchInputBus(mName, mTier, mDescriptionArray, mTextures);
     }
 
+    /**
+     * @return Fingerprint of the color and the stored items, or {@link InputFingerprint#UNKNOWN} if they can't be
+     *         read outside of recipe processing.
+     */
+    public long getContentFingerprint() {
+        IGregTechTileEntity tileEntity = getBaseMetaTileEntity();
+        long fingerprint = InputFingerprint.mix(InputFingerprint.EMPTY, getColor());
+        for (int i = tileEntity.getSizeInventory() - 1; i >= 0; i--) {
+            fingerprint = InputFingerprint.mix(fingerprint, tileEntity.getStackInSlot(i));
+        }
+        return fingerprint;
+    }
+
     @Override
     public boolean onRightclick(IGregTechTileEntity aBaseMetaTileEntity, EntityPlayer aPlayer) {
         openGui(aPlayer);
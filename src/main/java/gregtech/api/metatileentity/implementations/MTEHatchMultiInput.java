@@ -18,6 +18,7 @@ import com.gtnewhorizons.modularui.common.widget.FluidSlotWidget;
 import gregtech.api.interfaces.ITexture;
 import gregtech.api.interfaces.modularui.IAddUIWidgets;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+import gregtech.api.logic.InputFingerprint;
 import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.render.TextureFactory;
 
@@ -80,6 +81,11 @@ public class MTEHatchMultiInput extends MTEHatchInput implements IAddUIWidgets {
         return mStoredFluid;
     }
 
+    @Override
+    public long getContentFingerprint() {
+        return InputFingerprint.mix(InputFingerprint.mix(InputFingerprint.EMPTY, getColor()), getStoredFluid());
+    }
+
     @Override
     public ITexture[] getTexturesActive(ITexture aBaseTexture) {
         byte color = getBaseMetaTileEntity().getColorization();
@@ -5,6 +5,7 @@ import static gregtech.api.enums.Textures.BlockIcons.PIPE_RESTRICTOR;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.IInventory;
@@ -29,6 +30,8 @@ import gregtech.api.metatileentity.BaseMetaPipeEntity;
 import gregtech.api.metatileentity.MetaPipeEntity;
 import gregtech.api.render.TextureFactory;
 import gregtech.api.util.GTUtility;
+import gregtech.api.util.ItemPipeRoutingTable;
+import gregtech.common.config.Gregtech;
 import gregtech.common.covers.Cover;
 
 public class MTEItemPipe extends MetaPipeEntity implements IMetaTileEntityItemPipe {
@@ -42,6 +45,8 @@ public class MTEItemPipe extends MetaPipeEntity implements IMetaTileEntityItemPi
     public ForgeDirection mLastReceivedFrom = ForgeDirection.UNKNOWN, oLastReceivedFrom = ForgeDirection.UNKNOWN;
     public boolean mIsRestrictive = false;
     private int[] cacheSides;
+    private ItemPipeRoutingTable mRoutingTable;
+    private final List<ItemPipeRoutingTable> mRoutingTablesThrough = new ArrayList<>();
 
     public MTEItemPipe(int aID, String aName, String aNameRegional, float aThickNess, Materials aMaterial,
         int aInvSlotCount, int aStepSize, boolean aIsRestrictive, int aTickTime) {
@@ -201,10 +206,7 @@ public class MTEItemPipe extends MetaPipeEntity implements IMetaTileEntityItemPi
                 for (boolean temp = true; temp && !isInventoryEmpty() && pipeCapacityCheck();) {
                     temp = false;
                     tPipeList.clear();
-                    for (IMetaTileEntityItemPipe tTileEntity : GTUtility
-                        .sortMapByValuesAcending(
-                            IMetaTileEntityItemPipe.Util.scanPipes(this, new HashMap<>(), 0, false, false))
-                        .keySet()) {
+                    for (IMetaTileEntityItemPipe tTileEntity : getReachablePipes()) {
                         if (temp) break;
                         tPipeList.add(tTileEntity);
                         while (!temp && !isInventoryEmpty() && tTileEntity.sendItemStack(aBaseMetaTileEntity))
@@ -219,6 +221,68 @@ public class MTEItemPipe extends MetaPipeEntity implements IMetaTileEntityItemPi
         }
     }
 
+    /**
+     * Remembers a routing table of this or another pipe that routes through this pipe.
+     */
+    public void addRoutingTable(ItemPipeRoutingTable aTable) {
+        mRoutingTablesThrough.removeIf(ItemPipeRoutingTable::isInvalidated);
+        mRoutingTablesThrough.add(aTable);
+    }
+
+    public void invalidateRoutingTables() {
+        for (ItemPipeRoutingTable tTable : mRoutingTablesThrough) tTable.invalidate();
+        mRoutingTablesThrough.clear();
+    }
+
+    private Iterable<IMetaTileEntityItemPipe> getReachablePipes() {
+        if (Gregtech.performance.itemPipeRoutingTables) {
+            if (mRoutingTable == null || !mRoutingTable.isValid()) mRoutingTable = ItemPipeRoutingTable.build(this);
+            if (mRoutingTable != null) return mRoutingTable.getReachablePipes();
+        }
+        return GTUtility
+            .sortMapByValuesAcending(IMetaTileEntityItemPipe.Util.scanPipes(this, new HashMap<>(), 0, false, false))
+            .keySet();
+    }
+
+    @Override
+    public void onFirstTick(IGregTechTileEntity aBaseMetaTileEntity) {
+        super.onFirstTick(aBaseMetaTileEntity);
+        ItemPipeRoutingTable.invalidateAround(aBaseMetaTileEntity);
+    }
+
+    @Override
+    public void onRemoval() {
+        super.onRemoval();
+        ItemPipeRoutingTable.invalidateAround(getBaseMetaTileEntity());
+    }
+
+    @Override
+    public void onUnload() {
+        super.onUnload();
+        invalidateRoutingTables();
+    }
+
+    @Override
+    public void onColorChangeServer(byte aColor) {
+        super.onColorChangeServer(aColor);
+        ItemPipeRoutingTable.invalidateAround(getBaseMetaTileEntity());
+    }
+
+    @Override
+    public int connect(ForgeDirection side) {
+        final byte tConnections = mConnections;
+        final int rConnected = super.connect(side);
+        if (tConnections != mConnections) ItemPipeRoutingTable.invalidateAround(getBaseMetaTileEntity());
+        return rConnected;
+    }
+
+    @Override
+    public void disconnect(ForgeDirection side) {
+        final byte tConnections = mConnections;
+        super.disconnect(side);
+        if (tConnections != mConnections) ItemPipeRoutingTable.invalidateAround(getBaseMetaTileEntity());
+    }
+
     @Override
     public boolean onWrenchRightClick(ForgeDirection side, ForgeDirection wrenchingSide, EntityPlayer entityPlayer,
         float aX, float aY, float aZ, ItemStack aTool) {
@@ -105,6 +105,7 @@ import gregtech.api.interfaces.modularui.IAddUIWidgets;
 import gregtech.api.interfaces.modularui.IBindPlayerInventoryUI;
 import gregtech.api.interfaces.modularui.IControllerWithOptionalFeatures;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+import gregtech.api.logic.InputFingerprint;
 import gregtech.api.logic.ProcessingLogic;
 import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.metatileentity.implementations.gui.MTEMultiBlockBaseGui;
@@ -112,6 +113,8 @@ import gregtech.api.recipe.RecipeMap;
 import gregtech.api.recipe.check.CheckRecipeResult;
 import gregtech.api.recipe.check.CheckRecipeResultRegistry;
 import gregtech.api.recipe.check.SingleRecipeCheck;
+import gregtech.api.structure.StructureCheckStats;
+import gregtech.api.structure.StructureFootprint;
 import gregtech.api.util.ExoticEnergyInputHelper;
 import gregtech.api.util.GTClientPreference;
 import gregtech.api.util.GTLog;
@@ -125,6 +128,7 @@ import gregtech.api.util.VoidProtectionHelper;
 import gregtech.api.util.shutdown.ShutDownReason;
 import gregtech.api.util.shutdown.ShutDownReasonRegistry;
 import gregtech.client.GTSoundLoop;
+import gregtech.common.config.Gregtech;
 import gregtech.common.config.MachineStats;
 import gregtech.common.data.GTCoilTracker;
 import gregtech.common.gui.modularui.widget.CheckRecipeResultSyncer;
@@ -165,6 +169,7 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
         mStartUpCheck = 100, mRuntime = 0, mEfficiency = 0;
     public volatile boolean mUpdated = false;
     public int mUpdate = 0;
+    protected final StructureFootprint structureFootprint = new StructureFootprint();
     public ItemStack[] mOutputItems = null;
     public FluidStack[] mOutputFluids = null;
     public String mNEI;
@@ -471,6 +476,13 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
 
     @Override
     public void onMachineBlockUpdate() {
+        structureFootprint.addUnlocatedUpdate();
+        mUpdated = true;
+    }
+
+    @Override
+    public void onMachineBlockUpdate(int aX, int aY, int aZ) {
+        structureFootprint.addUpdate(aX, aY, aZ);
         mUpdated = true;
     }
 
@@ -495,6 +507,40 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
         deactivateCoilLease();
     }
 
+    /**
+     * Whether block updates that left everything the last structure check looked at unchanged may skip the next check.
+     * Only multiblocks whose {@link #checkMachine} reads the world through their structure definition and depends on
+     * nothing but the blocks it reads there, the controller facing and the controller slot should return true.
+     */
+    protected boolean supportsIncrementalStructureCheck() {
+        return false;
+    }
+
+    /**
+     * @return what the last structure check looked at, only recorded if {@link #supportsIncrementalStructureCheck()}
+     */
+    public StructureFootprint getStructureFootprint() {
+        return structureFootprint;
+    }
+
+    private boolean isIncrementalStructureCheck() {
+        return Gregtech.performance.incrementalStructureChecks && supportsIncrementalStructureCheck();
+    }
+
+    private boolean canSkipStructureCheck(IGregTechTileEntity aBaseMetaTileEntity) {
+        if (!isIncrementalStructureCheck() || !mMachine || mStructureChanged) return false;
+        if (!structureFootprint.canSkipCheck(
+            aBaseMetaTileEntity.getWorld(),
+            aBaseMetaTileEntity.getXCoord(),
+            aBaseMetaTileEntity.getYCoord(),
+            aBaseMetaTileEntity.getZCoord(),
+            aBaseMetaTileEntity.getFrontFacing()
+                .ordinal(),
+            mInventory[1])) return false;
+        StructureCheckStats.recordSkip(mName);
+        return true;
+    }
+
     public boolean checkStructure(boolean aForceReset) {
         return checkStructure(aForceReset, getBaseMetaTileEntity());
     }
@@ -505,9 +551,26 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
         if ((mStructureChanged || aForceReset)) {
             clearHatches();
 
-            mMachine = checkMachine(aBaseMetaTileEntity, mInventory[1]);
-
-            doStructureValidation();
+            final long tStart = System.nanoTime();
+            if (isIncrementalStructureCheck()) {
+                structureFootprint.startRecording();
+                try {
+                    mMachine = checkMachine(aBaseMetaTileEntity, mInventory[1]);
+                    doStructureValidation();
+                } finally {
+                    structureFootprint.stopRecording(
+                        aBaseMetaTileEntity.getWorld(),
+                        mMachine,
+                        aBaseMetaTileEntity.getFrontFacing()
+                            .ordinal(),
+                        mInventory[1]);
+                }
+            } else {
+                mMachine = checkMachine(aBaseMetaTileEntity, mInventory[1]);
+                doStructureValidation();
+            }
+            StructureCheckStats.recordCheck(mName, System.nanoTime() - tStart);
+            if (processingLogic != null) processingLogic.invalidateNoRecipeCache();
         }
         mStructureChanged = false;
         return mMachine;
@@ -590,7 +653,10 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
                 mUpdated = false;
             }
             if (--mUpdate == 0 || --mStartUpCheck == 0) {
-                checkStructure(true, aBaseMetaTileEntity);
+                // block updates after the first check only need a check if they changed the structure
+                if (mStartUpCheck >= 0 || !canSkipStructureCheck(aBaseMetaTileEntity)) {
+                    checkStructure(true, aBaseMetaTileEntity);
+                }
             }
 
             if (mStartUpCheck < 0) {
@@ -761,6 +827,9 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
 
                 if (shouldCheckRecipeThisTick(aTick) || aBaseMetaTileEntity.hasWorkJustBeenEnabled()
                     || aBaseMetaTileEntity.hasInventoryBeenModified()) {
+                    if (processingLogic != null && aBaseMetaTileEntity.hasWorkJustBeenEnabled()) {
+                        processingLogic.invalidateNoRecipeCache();
+                    }
                     if (checkRecipe()) {
                         markDirty();
                     }
@@ -969,7 +1038,14 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
 
         setupProcessingLogic(processingLogic);
 
-        CheckRecipeResult result = doCheckRecipe();
+        CheckRecipeResult result;
+        long inputFingerprint = getInputFingerprint();
+        if (processingLogic.isNoRecipeCached(inputFingerprint)) {
+            result = CheckRecipeResultRegistry.NO_RECIPE;
+        } else {
+            result = doCheckRecipe();
+            if (result == CheckRecipeResultRegistry.NO_RECIPE) processingLogic.cacheNoRecipe(inputFingerprint);
+        }
         result = postCheckRecipe(result, processingLogic);
         // inputs are consumed at this point
         updateSlots();
@@ -1022,6 +1098,49 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
         return true;
     }
 
+    /**
+     * Whether a search that found no recipe may be skipped until the inputs or the processing logic settings change.
+     * Only return true if the recipe check reads nothing but what {@link #getInputFingerprint} and
+     * {@link ProcessingLogic#getNoRecipeKey} cover: the default {@link #doCheckRecipe} over the input hatches and
+     * buses, and a processing logic that doesn't look at any other state of the machine or the world.
+     */
+    protected boolean supportsNoRecipeCache() {
+        return false;
+    }
+
+    /**
+     * Fingerprints everything the default {@link #doCheckRecipe} reads from the hatches and the controller, so that a
+     * search that found nothing doesn't have to be repeated until something changes.
+     *
+     * @return Fingerprint of the inputs, or {@link InputFingerprint#UNKNOWN} if they can't be fingerprinted, e.g.
+     *         because this machine doesn't {@link #supportsNoRecipeCache} or uses ME hatches.
+     */
+    protected long getInputFingerprint() {
+        if (!Gregtech.performance.noRecipeCache || !supportsNoRecipeCache()) {
+            return InputFingerprint.UNKNOWN;
+        }
+        long fingerprint = InputFingerprint.EMPTY;
+        for (IDualInputHatch dualInputHatch : mDualInputHatches) {
+            long hatchFingerprint = dualInputHatch.getContentFingerprint();
+            if (hatchFingerprint == InputFingerprint.UNKNOWN) return InputFingerprint.UNKNOWN;
+            fingerprint = InputFingerprint.mix(fingerprint, hatchFingerprint);
+        }
+        for (MTEHatchInputBus bus : validMTEList(mInputBusses)) {
+            if (bus instanceof MTEHatchCraftingInputME) continue;
+            long busFingerprint = bus.getContentFingerprint();
+            if (busFingerprint == InputFingerprint.UNKNOWN) return InputFingerprint.UNKNOWN;
+            fingerprint = InputFingerprint.mix(fingerprint, busFingerprint);
+        }
+        for (MTEHatchInput hatch : validMTEList(mInputHatches)) {
+            long hatchFingerprint = hatch.getContentFingerprint();
+            if (hatchFingerprint == InputFingerprint.UNKNOWN) return InputFingerprint.UNKNOWN;
+            fingerprint = InputFingerprint.mix(fingerprint, hatchFingerprint);
+        }
+        fingerprint = InputFingerprint.mix(fingerprint, getStackInSlot(1));
+        fingerprint = InputFingerprint.mix(fingerprint, getControllerSlot());
+        return InputFingerprint.mix(fingerprint, (long) machineMode << 1 | (isInputSeparationEnabled() ? 1 : 0));
+    }
+
     /**
      * Iterates over hatches and tries to find recipe. Assume {@link #processingLogic} is already set up for use.
      * If return value is successful, inputs are consumed.
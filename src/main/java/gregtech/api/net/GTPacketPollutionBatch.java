@@ -0,0 +1,70 @@
+package gregtech.api.net;
+
+import static gregtech.api.net.GTPacketTileEntityBatch.readVarInt;
+import static gregtech.api.net.GTPacketTileEntityBatch.unZigZag;
+import static gregtech.api.net.GTPacketTileEntityBatch.writeVarInt;
+import static gregtech.api.net.GTPacketTileEntityBatch.zigZag;
+
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.IBlockAccess;
+
+import com.google.common.io.ByteArrayDataInput;
+
+import gregtech.common.GTClient;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * The new pollution of every chunk a player watches that was updated since the last batch, instead of one
+ * {@link GTPacketPollution} per chunk. Chunk coordinates and amounts are sent as var ints.
+ */
+public class GTPacketPollutionBatch extends GTPacket {
+
+    private int[] mChunkX, mChunkZ, mPollution;
+    private int mCount;
+
+    public GTPacketPollutionBatch() {}
+
+    /**
+     * The arrays are not copied, only the first {@code aCount} entries are sent.
+     */
+    public GTPacketPollutionBatch(int[] aChunkX, int[] aChunkZ, int[] aPollution, int aCount) {
+        mChunkX = aChunkX;
+        mChunkZ = aChunkZ;
+        mPollution = aPollution;
+        mCount = aCount;
+    }
+
+    @Override
+    public void encode(ByteBuf aOut) {
+        writeVarInt(aOut, mCount);
+        for (int i = 0; i < mCount; i++) {
+            writeVarInt(aOut, zigZag(mChunkX[i]));
+            writeVarInt(aOut, zigZag(mChunkZ[i]));
+            writeVarInt(aOut, mPollution[i]);
+        }
+    }
+
+    @Override
+    public GTPacket decode(ByteArrayDataInput aData) {
+        final int tCount = readVarInt(aData);
+        final int[] tChunkX = new int[tCount], tChunkZ = new int[tCount], tPollution = new int[tCount];
+        for (int i = 0; i < tCount; i++) {
+            tChunkX[i] = unZigZag(readVarInt(aData));
+            tChunkZ[i] = unZigZag(readVarInt(aData));
+            tPollution[i] = readVarInt(aData);
+        }
+        return new GTPacketPollutionBatch(tChunkX, tChunkZ, tPollution, tCount);
+    }
+
+    @Override
+    public void process(IBlockAccess aWorld) {
+        for (int i = 0; i < mCount; i++) {
+            GTClient.recieveChunkPollutionPacket(new ChunkCoordIntPair(mChunkX[i], mChunkZ[i]), mPollution[i]);
+        }
+    }
+
+    @Override
+    public byte getPacketID() {
+        return GTPacketTypes.POLLUTION_BATCH.id;
+    }
+}
@@ -61,6 +61,61 @@ public class GTPacketTileEntity extends GTPacket {
         aOut.writeByte(mColor);
     }
 
+    /**
+     * Writes the data of this packet as an entry of a {@link GTPacketTileEntityBatch}. The position is written relative
+     * to the chunk, and only covers that are present are written.
+     */
+    void encodeBatchEntry(ByteBuf aOut) {
+        aOut.writeByte((mX & 15) | (mZ & 15) << 4);
+        GTPacketTileEntityBatch.writeVarInt(aOut, mY);
+        GTPacketTileEntityBatch.writeVarInt(aOut, mID & 0xFFFF);
+
+        final int[] tCovers = { mC0, mC1, mC2, mC3, mC4, mC5 };
+        int tCoverMask = 0;
+        for (int i = 0; i < 6; i++) if (tCovers[i] != 0) tCoverMask |= 1 << i;
+        aOut.writeByte(tCoverMask);
+        for (int i = 0; i < 6; i++) if (tCovers[i] != 0) GTPacketTileEntityBatch.writeVarInt(aOut, tCovers[i]);
+
+        aOut.writeByte(mCommon);
+        aOut.writeByte(mUpdate);
+        aOut.writeByte(mRedstone);
+        aOut.writeByte(mColor);
+    }
+
+    static GTPacketTileEntity decodeBatchEntry(ByteArrayDataInput aData, int aChunkX, int aChunkZ) {
+        final int tXZ = aData.readUnsignedByte();
+        final int tY = GTPacketTileEntityBatch.readVarInt(aData);
+        final short tID = (short) GTPacketTileEntityBatch.readVarInt(aData);
+        final int tCoverMask = aData.readUnsignedByte();
+        final int[] tCovers = new int[6];
+        for (int i = 0; i < 6; i++) {
+            if ((tCoverMask & 1 << i) != 0) tCovers[i] = GTPacketTileEntityBatch.readVarInt(aData);
+        }
+        return new GTPacketTileEntity(
+            aChunkX << 4 | tXZ & 15,
+            (short) tY,
+            aChunkZ << 4 | tXZ >> 4,
+            tID,
+            tCovers[0],
+            tCovers[1],
+            tCovers[2],
+            tCovers[3],
+            tCovers[4],
+            tCovers[5],
+            aData.readByte(),
+            aData.readByte(),
+            aData.readByte(),
+            aData.readByte());
+    }
+
+    int getX() {
+        return mX;
+    }
+
+    int getZ() {
+        return mZ;
+    }
+
     @Override
     public GTPacket decode(ByteArrayDataInput aData) {
         return new GTPacketTileEntity(
@@ -0,0 +1,111 @@
+package gregtech.api.net;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.world.IBlockAccess;
+
+import com.google.common.io.ByteArrayDataInput;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * The {@link GTPacketTileEntity} data of all tile entities of one chunk that were synced in the same tick. Positions
+ * are sent relative to the chunk and numbers as var ints, see {@link TileEntitySyncBatcher}.
+ */
+public class GTPacketTileEntityBatch extends GTPacket {
+
+    private int mChunkX, mChunkZ, mCount;
+    /** The encoded entries when sending */
+    private ByteBuf mEntries;
+    /** The decoded entries when receiving */
+    private List<GTPacketTileEntity> mPackets;
+
+    public GTPacketTileEntityBatch() {}
+
+    public GTPacketTileEntityBatch(int aChunkX, int aChunkZ, int aCount, ByteBuf aEntries) {
+        mChunkX = aChunkX;
+        mChunkZ = aChunkZ;
+        mCount = aCount;
+        mEntries = aEntries;
+    }
+
+    private GTPacketTileEntityBatch(List<GTPacketTileEntity> aPackets) {
+        mPackets = aPackets;
+    }
+
+    @Override
+    public void encode(ByteBuf aOut) {
+        writeVarInt(aOut, zigZag(mChunkX));
+        writeVarInt(aOut, zigZag(mChunkZ));
+        writeVarInt(aOut, mCount);
+        // don't move the reader index, the same packet is encoded for every player watching the chunk
+        aOut.writeBytes(mEntries, mEntries.readerIndex(), mEntries.readableBytes());
+    }
+
+    @Override
+    public GTPacket decode(ByteArrayDataInput aData) {
+        final int tChunkX = unZigZag(readVarInt(aData));
+        final int tChunkZ = unZigZag(readVarInt(aData));
+        final int tCount = readVarInt(aData);
+        final List<GTPacketTileEntity> tPackets = new ArrayList<>(tCount);
+        for (int i = 0; i < tCount; i++) tPackets.add(GTPacketTileEntity.decodeBatchEntry(aData, tChunkX, tChunkZ));
+        return new GTPacketTileEntityBatch(tPackets);
+    }
+
+    @Override
+    public void process(IBlockAccess aWorld) {
+        if (aWorld == null) return;
+        for (GTPacketTileEntity tPacket : mPackets) tPacket.process(aWorld);
+    }
+
+    @Override
+    public byte getPacketID() {
+        return GTPacketTypes.TILE_ENTITY_BATCH.id;
+    }
+
+    int getEncodedSize() {
+        return getVarIntSize(zigZag(mChunkX)) + getVarIntSize(zigZag(mChunkZ))
+            + getVarIntSize(mCount)
+            + mEntries.readableBytes();
+    }
+
+    List<GTPacketTileEntity> getPackets() {
+        return mPackets;
+    }
+
+    static void writeVarInt(ByteBuf aOut, int aValue) {
+        while ((aValue & ~0x7F) != 0) {
+            aOut.writeByte(aValue & 0x7F | 0x80);
+            aValue >>>= 7;
+        }
+        aOut.writeByte(aValue);
+    }
+
+    static int readVarInt(ByteArrayDataInput aData) {
+        int rValue = 0;
+        for (int tShift = 0; tShift < 35; tShift += 7) {
+            final int tByte = aData.readUnsignedByte();
+            rValue |= (tByte & 0x7F) << tShift;
+            if ((tByte & 0x80) == 0) return rValue;
+        }
+        throw new IllegalStateException("VarInt too long");
+    }
+
+    private static int getVarIntSize(int aValue) {
+        int rSize = 1;
+        while ((aValue & ~0x7F) != 0) {
+            aValue >>>= 7;
+            rSize++;
+        }
+        return rSize;
+    }
+
+    static int zigZag(int aValue) {
+        return aValue << 1 ^ aValue >> 31;
+    }
+
+    static int unZigZag(int aValue) {
+        return aValue >>> 1 ^ -(aValue & 1);
+    }
+}
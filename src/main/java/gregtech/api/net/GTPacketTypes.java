@@ -42,6 +42,8 @@ public enum GTPacketTypes {
     LMA_CRAFTING_FX(32, new GTPacketLMACraftingFX()),
     SEND_WIRELESS_EU(33, new GTPacketUpdatePowerGoggles()),
     LINK_GOGGLES(34, new GTPacketLinkPowerGoggles()),
+    TILE_ENTITY_BATCH(35, new GTPacketTileEntityBatch()),
+    POLLUTION_BATCH(36, new GTPacketPollutionBatch()),
     // merge conflict prevention comment, keep a trailing comma above
     ;
 
@@ -0,0 +1,108 @@
+package gregtech.api.net;
+
+import static gregtech.api.enums.GTValues.NW;
+
+import java.util.Map;
+
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
+
+import com.google.common.collect.MapMaker;
+import com.gtnewhorizon.gtnhlib.eventbus.EventBusSubscriber;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.relauncher.Side;
+import gregtech.common.config.Gregtech;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+/**
+ * Collects the {@link GTPacketTileEntity} syncs of a tick by chunk and sends them as one
+ * {@link GTPacketTileEntityBatch} per chunk at the end of the tick, to the players watching that chunk.
+ */
+@EventBusSubscriber
+public class TileEntitySyncBatcher {
+
+    /** Size of a {@link GTPacketTileEntity} including its packet id */
+    private static final int SINGLE_PACKET_BYTES = 41;
+
+    private static final Map<World, Long2ObjectOpenHashMap<ChunkBatch>> BATCHES = new MapMaker().weakKeys()
+        .makeMap();
+
+    private static long sBatchedTiles, sSentPackets, sSavedPackets, sSavedBytes;
+
+    private TileEntitySyncBatcher() {}
+
+    /**
+     * @return false if batching is disabled and the packet has to be sent on its own
+     */
+    public static boolean queue(World aWorld, GTPacketTileEntity aPacket) {
+        if (!Gregtech.performance.batchedTileEntitySync || aWorld.isRemote) return false;
+        final int tChunkX = aPacket.getX() >> 4, tChunkZ = aPacket.getZ() >> 4;
+        final ChunkBatch tBatch = BATCHES.computeIfAbsent(aWorld, w -> new Long2ObjectOpenHashMap<>())
+            .computeIfAbsent(ChunkCoordIntPair.chunkXZ2Int(tChunkX, tChunkZ), k -> new ChunkBatch(tChunkX, tChunkZ));
+        aPacket.encodeBatchEntry(tBatch.mEntries);
+        tBatch.mCount++;
+        sBatchedTiles++;
+        return true;
+    }
+
+    // subscribe statically so that FML doesn't keep a reference to the worlds
+    @SubscribeEvent
+    public static void onTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) return;
+        if (event.side != Side.SERVER) return;
+
+        BATCHES.forEach((world, batches) -> {
+            if (batches.isEmpty()) return;
+            for (ChunkBatch tBatch : batches.values()) {
+                final GTPacketTileEntityBatch tPacket = new GTPacketTileEntityBatch(
+                    tBatch.mChunkX,
+                    tBatch.mChunkZ,
+                    tBatch.mCount,
+                    tBatch.mEntries);
+                final int tBytes = tPacket.getEncodedSize() + 1;
+                for (Object tObject : world.playerEntities) {
+                    if (!(tObject instanceof EntityPlayerMP tPlayer)) continue;
+                    if (!tPlayer.getServerForPlayer()
+                        .getPlayerManager()
+                        .isPlayerWatchingChunk(tPlayer, tBatch.mChunkX, tBatch.mChunkZ)) continue;
+                    NW.sendToPlayer(tPacket, tPlayer);
+                    sSentPackets++;
+                    sSavedPackets += tBatch.mCount - 1;
+                    sSavedBytes += (long) tBatch.mCount * SINGLE_PACKET_BYTES - tBytes;
+                }
+            }
+            // the entries may still be referenced by packets that are being sent, so they aren't reused
+            batches.clear();
+        });
+    }
+
+    /**
+     * @return the number of batched tile entity syncs, the batch packets sent for them, and how many packets and bytes
+     *         were saved compared to sending every sync on its own
+     */
+    public static String getStatistics() {
+        return String.format(
+            "%d tile entity syncs batched into %d packets, %d packets and %d KiB saved",
+            sBatchedTiles,
+            sSentPackets,
+            sSavedPackets,
+            sSavedBytes / 1024);
+    }
+
+    private static class ChunkBatch {
+
+        private final int mChunkX, mChunkZ;
+        private final ByteBuf mEntries = Unpooled.buffer();
+        private int mCount;
+
+        private ChunkBatch(int aChunkX, int aChunkZ) {
+            mChunkX = aChunkX;
+            mChunkZ = aChunkZ;
+        }
+    }
+}
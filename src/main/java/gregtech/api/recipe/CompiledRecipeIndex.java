@@ -0,0 +1,392 @@
+package gregtech.api.recipe;
+
+import static gregtech.api.util.GTRecipeBuilder.WILDCARD;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+
+import gregtech.api.objects.ItemData;
+import gregtech.api.util.GTOreDictUnificator;
+import gregtech.api.util.GTRecipe;
+import gregtech.api.util.MethodsReturnNonnullByDefault;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+
+/**
+ * Immutable recipe index compiled from the recipes indexed by {@link RecipeMapBackend}.
+ * <p>
+ * Every distinct input type of a recipe (item + meta, or fluid) is one requirement, represented by one bit of a mask.
+ * A recipe only becomes a candidate once every one of its requirements has been hit by the supplied inputs, so lookup
+ * returns the handful of recipes that can actually match instead of every recipe sharing a single input. Candidates
+ * still have to be verified with {@link RecipeMapBackend#filterFindRecipe}.
+ * <p>
+ * Items are keyed by reference and fluids by name, so the index is not affected by ID remapping. Lookup doesn't
+ * allocate, the candidates are returned in a buffer kept per thread.
+ */
+@ParametersAreNonnullByDefault
+@MethodsReturnNonnullByDefault
+public final class CompiledRecipeIndex {
+
+    private static final GTRecipe[] NO_RECIPES = new GTRecipe[0];
+    private static final long NO_KEY = -1L;
+    /**
+     * Recipes with more distinct input types than this can't be described by a single mask, they are always
+     * returned as candidates.
+     */
+    private static final int MAX_REQUIREMENTS = Long.SIZE;
+
+    /** Recipes in registration order. Candidates are returned in this order. */
+    private final GTRecipe[] recipes;
+    /** Mask of all the requirements of each recipe. */
+    private final long[] requiredMasks;
+    /** Recipes that can't be narrowed down and are always candidates. */
+    private final int[] unindexedRecipes;
+
+    private final Reference2IntOpenHashMap<Item> itemOrdinals = new Reference2IntOpenHashMap<>();
+    private final Object2IntOpenHashMap<String> fluidOrdinals = new Object2IntOpenHashMap<>();
+    private final Long2IntOpenHashMap types = new Long2IntOpenHashMap();
+
+    /** For each input type, the recipes using it... */
+    private final int[][] postingRecipes;
+    /** ...and the requirement bits it satisfies in those recipes. */
+    private final long[][] postingMasks;
+
+    private final ThreadLocal<Scratch> scratch;
+
+    private CompiledRecipeIndex(Collection<GTRecipe> indexedRecipes) {
+        itemOrdinals.defaultReturnValue(-1);
+        fluidOrdinals.defaultReturnValue(-1);
+        types.defaultReturnValue(-1);
+
+        recipes = indexedRecipes.toArray(NO_RECIPES);
+        requiredMasks = new long[recipes.length];
+        IntArrayList unindexed = new IntArrayList();
+        Long2ObjectOpenHashMap<IntArrayList> typeRecipes = new Long2ObjectOpenHashMap<>();
+        Long2ObjectOpenHashMap<LongArrayList> typeMasks = new Long2ObjectOpenHashMap<>();
+        LongArrayList requirementKeys = new LongArrayList();
+        // Keys of the posting lists a recipe belongs to, paired with the requirement bit they satisfy
+        LongArrayList postingKeys = new LongArrayList();
+        IntArrayList postingBits = new IntArrayList();
+
+        for (int r = 0; r < recipes.length; r++) {
+            GTRecipe recipe = recipes[r];
+            requirementKeys.clear();
+            postingKeys.clear();
+            postingBits.clear();
+
+            for (int i = 0; i < recipe.mInputs.length; i++) {
+                ItemStack input = recipe.mInputs[i];
+                if (input == null || input.getItem() == null) continue;
+                long key = registerItemKey(input);
+                int bit = requirementKeys.indexOf(key);
+                if (bit < 0) {
+                    bit = requirementKeys.size();
+                    requirementKeys.add(key);
+                }
+                postingKeys.add(key);
+                postingBits.add(bit);
+                if (recipe instanceof GTRecipe.GTRecipe_WithAlt recipeWithAlt && i < recipeWithAlt.mOreDictAlt.length
+                    && recipeWithAlt.mOreDictAlt[i] != null) {
+                    for (ItemStack alt : recipeWithAlt.mOreDictAlt[i]) {
+                        if (alt == null || alt.getItem() == null) continue;
+                        postingKeys.add(registerItemKey(alt));
+                        postingBits.add(bit);
+                    }
+                }
+            }
+            // Zero-amount fluids are not required for the recipe to match, but the recipe is still found through them
+            // when it has nothing else to be found by
+            addFluidRequirements(recipe, false, requirementKeys, postingKeys, postingBits);
+            if (requirementKeys.isEmpty()) {
+                addFluidRequirements(recipe, true, requirementKeys, postingKeys, postingBits);
+            }
+
+            if (requirementKeys.isEmpty()) continue;
+            if (requirementKeys.size() > MAX_REQUIREMENTS) {
+                unindexed.add(r);
+                continue;
+            }
+            requiredMasks[r] = requirementKeys.size() == MAX_REQUIREMENTS ? -1L : (1L << requirementKeys.size()) - 1;
+            for (int p = 0; p < postingKeys.size(); p++) {
+                long key = postingKeys.getLong(p);
+                IntArrayList list = typeRecipes.get(key);
+                LongArrayList masks;
+                if (list == null) {
+                    list = new IntArrayList(4);
+                    masks = new LongArrayList(4);
+                    typeRecipes.put(key, list);
+                    typeMasks.put(key, masks);
+                } else {
+                    masks = typeMasks.get(key);
+                }
+                int last = list.size() - 1;
+                if (last >= 0 && list.getInt(last) == r) {
+                    // Same type listed for several requirements, e.g. as an alternative of another input
+                    masks.set(last, masks.getLong(last) | 1L << postingBits.getInt(p));
+                } else {
+                    list.add(r);
+                    masks.add(1L << postingBits.getInt(p));
+                }
+            }
+        }
+
+        unindexedRecipes = unindexed.toIntArray();
+        int typeCount = types.size();
+        postingRecipes = new int[typeCount][];
+        postingMasks = new long[typeCount][];
+        Arrays.fill(postingRecipes, new int[0]);
+        Arrays.fill(postingMasks, new long[0]);
+        for (Long2ObjectMap.Entry<IntArrayList> entry : typeRecipes.long2ObjectEntrySet()) {
+            int type = types.get(entry.getLongKey());
+            postingRecipes[type] = entry.getValue()
+                .toIntArray();
+            postingMasks[type] = typeMasks.get(entry.getLongKey())
+                .toLongArray();
+        }
+        int recipeCount = recipes.length;
+        scratch = ThreadLocal.withInitial(() -> new Scratch(recipeCount, typeCount));
+    }
+
+    private void addFluidRequirements(GTRecipe recipe, boolean emptyOnly, LongArrayList requirementKeys,
+        LongArrayList postingKeys, IntArrayList postingBits) {
+        for (FluidStack fluid : recipe.mFluidInputs) {
+            if (fluid == null || fluid.getFluid() == null || (fluid.amount <= 0) != emptyOnly) continue;
+            long key = registerFluidKey(
+                fluid.getFluid()
+                    .getName());
+            int bit = requirementKeys.indexOf(key);
+            if (bit < 0) {
+                bit = requirementKeys.size();
+                requirementKeys.add(key);
+            }
+            postingKeys.add(key);
+            postingBits.add(bit);
+        }
+    }
+
+    /**
+     * Compiles the index.
+     *
+     * @param indexedRecipes All the recipes that can be found by the backend, in the order they should be returned.
+     */
+    static CompiledRecipeIndex compile(Collection<GTRecipe> indexedRecipes) {
+        return new CompiledRecipeIndex(new ReferenceLinkedOpenHashSet<>(indexedRecipes));
+    }
+
+    /**
+     * @return Number of recipes contained in this index.
+     */
+    public int size() {
+        return recipes.length;
+    }
+
+    /**
+     * @return Number of distinct item and fluid types the recipes are indexed by.
+     */
+    public int typeCount() {
+        return postingRecipes.length;
+    }
+
+    /**
+     * Finds all the recipes whose every input type is present in the supplied inputs. The returned buffer belongs to
+     * the current thread and has to be closed once the candidates have been checked, a lookup done before that gets a
+     * buffer of its own.
+     *
+     * @param items  Unificated item inputs.
+     * @param fluids Fluid inputs.
+     * @return Candidate recipes in registration order. They still have to be checked for amounts, voltage and so on.
+     */
+    public Scratch findCandidates(ItemStack[] items, FluidStack[] fluids) {
+        Scratch s = scratch.get();
+        if (s.inUse) {
+            // Only happens when a recipe check does a lookup of its own
+            s = new Scratch(recipes.length, postingRecipes.length);
+        }
+        s.inUse = true;
+        int epoch = s.nextEpoch();
+        int found = 0;
+        for (ItemStack item : items) {
+            if (item == null || item.getItem() == null) continue;
+            Item type = item.getItem();
+            found = probe(s, epoch, itemKey(type, Items.feather.getDamage(item)), found);
+            found = probe(s, epoch, itemKey(type, WILDCARD), found);
+            // Inputs can also be matched through their unification target
+            ItemData association = GTOreDictUnificator.getAssociation(item);
+            if (association != null && association.hasValidPrefixMaterialData()) {
+                ItemStack target = association.mUnificationTarget;
+                if (target != null && target.getItem() != null) {
+                    found = probe(s, epoch, itemKey(target.getItem(), Items.feather.getDamage(target)), found);
+                }
+            }
+        }
+        for (FluidStack fluid : fluids) {
+            if (fluid == null || fluid.getFluid() == null) continue;
+            found = probe(
+                s,
+                epoch,
+                fluidKey(
+                    fluid.getFluid()
+                        .getName()),
+                found);
+        }
+
+        int[] candidates = s.candidates;
+        // Few candidates are expected, insertion sort restores registration order
+        for (int i = 1; i < found; i++) {
+            int value = candidates[i];
+            int j = i - 1;
+            while (j >= 0 && candidates[j] > value) {
+                candidates[j + 1] = candidates[j];
+                j--;
+            }
+            candidates[j + 1] = value;
+        }
+        GTRecipe[] result = s.results;
+        for (int i = 0; i < found; i++) {
+            result[i] = recipes[candidates[i]];
+        }
+        for (int i = 0; i < unindexedRecipes.length; i++) {
+            result[found + i] = recipes[unindexedRecipes[i]];
+        }
+        s.count = found + unindexedRecipes.length;
+        return s;
+    }
+
+    private int probe(Scratch s, int epoch, long key, int found) {
+        if (key == NO_KEY) return found;
+        int type = types.get(key);
+        if (type < 0 || s.typeEpochs[type] == epoch) return found;
+        s.typeEpochs[type] = epoch;
+        int[] postings = postingRecipes[type];
+        long[] masks = postingMasks[type];
+        for (int i = 0; i < postings.length; i++) {
+            int r = postings[i];
+            long required = requiredMasks[r];
+            long before;
+            if (s.recipeEpochs[r] != epoch) {
+                s.recipeEpochs[r] = epoch;
+                before = 0;
+            } else {
+                before = s.hitMasks[r];
+            }
+            if (before == required) continue;
+            long after = before | masks[i];
+            s.hitMasks[r] = after;
+            if (after == required) {
+                s.candidates[found++] = r;
+            }
+        }
+        return found;
+    }
+
+    // region keys
+
+    private long itemKey(Item item, int meta) {
+        int ordinal = itemOrdinals.getInt(item);
+        if (ordinal < 0) return NO_KEY;
+        return (long) ordinal << 16 | (meta & 0xFFFF);
+    }
+
+    private long fluidKey(String fluidName) {
+        int ordinal = fluidOrdinals.getInt(fluidName);
+        if (ordinal < 0) return NO_KEY;
+        return Long.MIN_VALUE | ordinal;
+    }
+
+    private long registerItemKey(ItemStack stack) {
+        Item item = stack.getItem();
+        if (!itemOrdinals.containsKey(item)) {
+            itemOrdinals.put(item, itemOrdinals.size());
+        }
+        return registerType(itemKey(item, Items.feather.getDamage(stack)));
+    }
+
+    private long registerFluidKey(String fluidName) {
+        if (!fluidOrdinals.containsKey(fluidName)) {
+            fluidOrdinals.put(fluidName, fluidOrdinals.size());
+        }
+        return registerType(fluidKey(fluidName));
+    }
+
+    private long registerType(long key) {
+        if (!types.containsKey(key)) {
+            types.put(key, types.size());
+        }
+        return key;
+    }
+
+    // endregion
+
+    /**
+     * Per-thread lookup state, also holding the candidates of the last lookup. Arrays are reset lazily through epochs
+     * instead of being cleared on every lookup.
+     */
+    public static final class Scratch implements AutoCloseable {
+
+        private final int[] recipeEpochs;
+        private final long[] hitMasks;
+        private final int[] typeEpochs;
+        private final int[] candidates;
+        /** Candidates of the last lookup. Unindexed recipes are never found through postings, so they all fit. */
+        private final GTRecipe[] results;
+        private int count;
+        private int epoch;
+        private boolean inUse;
+
+        private Scratch(int recipeCount, int typeCount) {
+            recipeEpochs = new int[recipeCount];
+            hitMasks = new long[recipeCount];
+            typeEpochs = new int[typeCount];
+            candidates = new int[recipeCount];
+            results = new GTRecipe[recipeCount];
+        }
+
+        /**
+         * @return Number of candidates found by the last lookup.
+         */
+        public int size() {
+            return count;
+        }
+
+        public GTRecipe get(int index) {
+            return results[index];
+        }
+
+        /**
+         * @return Copy of the candidates, for callers that need them after the buffer is closed.
+         */
+        public GTRecipe[] toArray() {
+            return count == 0 ? NO_RECIPES : Arrays.copyOf(results, count);
+        }
+
+        /**
+         * Hands the buffer back for the next lookup.
+         */
+        @Override
+        public void close() {
+            inUse = false;
+        }
+
+        private int nextEpoch() {
+            if (++epoch == 0) {
+                Arrays.fill(recipeEpochs, 0);
+                Arrays.fill(typeEpochs, 0);
+                epoch = 1;
+            }
+            return epoch;
+        }
+    }
+}
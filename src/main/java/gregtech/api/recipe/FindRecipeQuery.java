@@ -62,21 +62,20 @@ public final class FindRecipeQuery {
      */
     @Nullable
     public GTRecipe find() {
-        return findAll().findFirst()
-            .orElse(null);
+        if (forCollisionCheck) {
+            return findAll().findFirst()
+                .orElse(null);
+        }
+        fillEmptyInputs();
+        return recipeMap.getBackend()
+            .findRecipe(items, fluids, specialSlot, cachedRecipe, notUnificated, dontCheckStackSizes, this::accepts);
     }
 
     /**
      * @return All the matched recipes in the form of Stream.
      */
     public Stream<GTRecipe> findAll() {
-        if (items == null) {
-            items = new ItemStack[0];
-        }
-        if (fluids == null) {
-            fluids = new FluidStack[0];
-        }
-
+        fillEmptyInputs();
         return recipeMap.getBackend()
             .matchRecipeStream(
                 items,
@@ -86,7 +85,7 @@ public final class FindRecipeQuery {
                 notUnificated,
                 dontCheckStackSizes,
                 forCollisionCheck)
-            .filter(recipe -> voltage * recipeMap.getAmperage() >= recipe.mEUt && filter.test(recipe));
+            .filter(this::accepts);
     }
 
     /**
@@ -101,6 +100,19 @@ public final class FindRecipeQuery {
             .isPresent();
     }
 
+    private void fillEmptyInputs() {
+        if (items == null) {
+            items = new ItemStack[0];
+        }
+        if (fluids == null) {
+            fluids = new FluidStack[0];
+        }
+    }
+
+    private boolean accepts(GTRecipe recipe) {
+        return voltage * recipeMap.getAmperage() >= recipe.mEUt && filter.test(recipe);
+    }
+
     // endregion
 
     // region setters
@@ -0,0 +1,194 @@
+package gregtech.api.recipe;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+
+import com.google.common.collect.ImmutableList;
+
+import cpw.mods.fml.common.ModContainer;
+import gregtech.api.util.GTLog;
+import gregtech.api.util.GTRecipe;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+
+/**
+ * Shrinks the recipes in {@link RecipeMap#ALL_RECIPE_MAPS} once loading is done: equal owner lists, stack traces and
+ * stack trace lines are shared between recipes, equal item and fluid stacks without NBT are replaced by one instance,
+ * and the merged input caches are built up front instead of at the first recipe check.
+ * <p>
+ * Shared stacks must not be changed anymore, which is what every recipe check already expects from recipe stacks.
+ */
+public final class RecipeCompactor {
+
+    // rough sizes on a 64-bit JVM with compressed references
+    private static final int RECIPE_BYTES = 96, ITEM_STACK_BYTES = 40, FLUID_STACK_BYTES = 32, LIST_BYTES = 24,
+        MERGED_INPUT_BYTES = 32, STRING_BYTES = 24, ARRAY_HEADER_BYTES = 16, REFERENCE_BYTES = 4;
+
+    private RecipeCompactor() {}
+
+    /**
+     * Compacts every recipe, see the class description.
+     */
+    public static void compact() {
+        final long tStart = System.nanoTime();
+        final Map<List<ModContainer>, List<ModContainer>> tOwners = new HashMap<>();
+        final Map<String, String> tLines = new HashMap<>();
+        final Map<List<String>, List<String>> tTraces = new HashMap<>();
+        final Map<List<List<String>>, List<List<String>>> tTraceLists = new HashMap<>();
+        final Map<Item, Long2ObjectOpenHashMap<ItemStack>> tItems = new Reference2ObjectOpenHashMap<>();
+        final Map<Fluid, Int2ObjectOpenHashMap<FluidStack>> tFluids = new Reference2ObjectOpenHashMap<>();
+        final ReferenceOpenHashSet<GTRecipe> tDone = new ReferenceOpenHashSet<>();
+        int tRecipes = 0, tSharedStacks = 0;
+        for (RecipeMap<?> tMap : RecipeMap.ALL_RECIPE_MAPS.values()) {
+            for (GTRecipe tRecipe : tMap.getAllRecipes()) {
+                if (!tDone.add(tRecipe)) continue;
+                tRecipes++;
+                if (tRecipe.owners != null) {
+                    tRecipe.owners = tOwners.computeIfAbsent(ImmutableList.copyOf(tRecipe.owners), k -> k);
+                }
+                if (tRecipe.stackTraces != null) {
+                    final List<List<String>> tRecipeTraces = new ArrayList<>(tRecipe.stackTraces.size());
+                    for (List<String> tTrace : tRecipe.stackTraces) {
+                        final List<String> tTraceLines = new ArrayList<>(tTrace.size());
+                        for (String tLine : tTrace) tTraceLines.add(tLines.computeIfAbsent(tLine, k -> k));
+                        tRecipeTraces.add(tTraces.computeIfAbsent(ImmutableList.copyOf(tTraceLines), k -> k));
+                    }
+                    tRecipe.stackTraces = tTraceLists.computeIfAbsent(ImmutableList.copyOf(tRecipeTraces), k -> k);
+                }
+                tSharedStacks += shareItems(tRecipe.mInputs, tItems) + shareItems(tRecipe.mOutputs, tItems)
+                    + shareFluids(tRecipe.mFluidInputs, tFluids)
+                    + shareFluids(tRecipe.mFluidOutputs, tFluids);
+                tRecipe.buildMergedInputCache();
+            }
+        }
+        GTLog.out.printf(
+            "GTMod: Compacted %d recipes in %d ms, %d stacks and %d stack trace lines are shared.%n",
+            tRecipes,
+            (System.nanoTime() - tStart) / 1_000_000,
+            tSharedStacks,
+            tLines.size());
+    }
+
+    private static int shareItems(ItemStack[] aStacks, Map<Item, Long2ObjectOpenHashMap<ItemStack>> aShared) {
+        if (aStacks == null) return 0;
+        int tShared = 0;
+        for (int i = 0; i < aStacks.length; i++) {
+            final ItemStack tStack = aStacks[i];
+            // stacks with NBT may still get their tag changed by the merged input cache
+            if (tStack == null || tStack.getItem() == null || tStack.getTagCompound() != null) continue;
+            final long tKey = (long) tStack.getItemDamage() << 32 | tStack.stackSize & 0xFFFFFFFFL;
+            final ItemStack tExisting = aShared.computeIfAbsent(tStack.getItem(), k -> new Long2ObjectOpenHashMap<>())
+                .putIfAbsent(tKey, tStack);
+            if (tExisting != null && tExisting != tStack) {
+                aStacks[i] = tExisting;
+                tShared++;
+            }
+        }
+        return tShared;
+    }
+
+    private static int shareFluids(FluidStack[] aStacks, Map<Fluid, Int2ObjectOpenHashMap<FluidStack>> aShared) {
+        if (aStacks == null) return 0;
+        int tShared = 0;
+        for (int i = 0; i < aStacks.length; i++) {
+            final FluidStack tStack = aStacks[i];
+            if (tStack == null || tStack.getFluid() == null || tStack.tag != null) continue;
+            final FluidStack tExisting = aShared.computeIfAbsent(tStack.getFluid(), k -> new Int2ObjectOpenHashMap<>())
+                .putIfAbsent(tStack.amount, tStack);
+            if (tExisting != null && tExisting != tStack) {
+                aStacks[i] = tExisting;
+                tShared++;
+            }
+        }
+        return tShared;
+    }
+
+    /**
+     * Estimates how much heap the recipes of every map take. Objects shared by several recipes only count for the
+     * first map that uses them, so the lines add up to the total.
+     *
+     * @return one line per recipe map, the largest first, and the total last
+     */
+    public static List<String> reportMemory() {
+        final ReferenceOpenHashSet<Object> tSeen = new ReferenceOpenHashSet<>();
+        final List<RecipeMap<?>> tMaps = new ArrayList<>(RecipeMap.ALL_RECIPE_MAPS.values());
+        final Map<RecipeMap<?>, Long> tBytes = new HashMap<>();
+        long tTotal = 0;
+        for (RecipeMap<?> tMap : tMaps) {
+            long tMapBytes = 0;
+            for (GTRecipe tRecipe : tMap.getAllRecipes()) tMapBytes += estimate(tRecipe, tSeen);
+            tBytes.put(tMap, tMapBytes);
+            tTotal += tMapBytes;
+        }
+        tMaps.sort(Comparator.comparingLong(tBytes::get));
+        final List<String> tReport = new ArrayList<>();
+        for (int i = tMaps.size() - 1; i >= 0; i--) {
+            final RecipeMap<?> tMap = tMaps.get(i);
+            tReport.add(
+                String.format(
+                    "%s: %d recipes, %d KiB",
+                    tMap.unlocalizedName,
+                    tMap.getAllRecipes()
+                        .size(),
+                    tBytes.get(tMap) / 1024));
+        }
+        tReport.add(String.format("Total: %d KiB in %d objects", tTotal / 1024, tSeen.size()));
+        return tReport;
+    }
+
+    private static long estimate(GTRecipe aRecipe, ReferenceOpenHashSet<Object> aSeen) {
+        if (!aSeen.add(aRecipe)) return 0;
+        long tBytes = RECIPE_BYTES;
+        tBytes += estimateArray(aRecipe.mInputs, ITEM_STACK_BYTES, aSeen);
+        tBytes += estimateArray(aRecipe.mOutputs, ITEM_STACK_BYTES, aSeen);
+        tBytes += estimateArray(aRecipe.mFluidInputs, FLUID_STACK_BYTES, aSeen);
+        tBytes += estimateArray(aRecipe.mFluidOutputs, FLUID_STACK_BYTES, aSeen);
+        if (aRecipe.mChances != null && aSeen.add(aRecipe.mChances)) {
+            tBytes += align(ARRAY_HEADER_BYTES + 4L * aRecipe.mChances.length);
+        }
+        final int tMerged = aRecipe.getMergedInputCacheSize();
+        if (tMerged > 0) {
+            tBytes += align(ARRAY_HEADER_BYTES + (long) REFERENCE_BYTES * tMerged);
+            tBytes += (long) MERGED_INPUT_BYTES * tMerged;
+        }
+        if (aRecipe.owners != null && aSeen.add(aRecipe.owners)) tBytes += estimateList(aRecipe.owners.size());
+        if (aRecipe.stackTraces != null && aSeen.add(aRecipe.stackTraces)) {
+            tBytes += estimateList(aRecipe.stackTraces.size());
+            for (List<String> tTrace : aRecipe.stackTraces) {
+                if (!aSeen.add(tTrace)) continue;
+                tBytes += estimateList(tTrace.size());
+                for (String tLine : tTrace) {
+                    if (aSeen.add(tLine)) tBytes += STRING_BYTES + align(ARRAY_HEADER_BYTES + 2L * tLine.length());
+                }
+            }
+        }
+        return tBytes;
+    }
+
+    private static long estimateArray(Object[] aArray, int aElementBytes, ReferenceOpenHashSet<Object> aSeen) {
+        if (aArray == null || !aSeen.add(aArray)) return 0;
+        long tBytes = align(ARRAY_HEADER_BYTES + (long) REFERENCE_BYTES * aArray.length);
+        for (Object tElement : aArray) {
+            if (tElement != null && aSeen.add(tElement)) tBytes += aElementBytes;
+        }
+        return tBytes;
+    }
+
+    private static long estimateList(int aSize) {
+        return LIST_BYTES + align(ARRAY_HEADER_BYTES + (long) REFERENCE_BYTES * aSize);
+    }
+
+    private static long align(long aBytes) {
+        return aBytes + 7 & ~7L;
+    }
+}
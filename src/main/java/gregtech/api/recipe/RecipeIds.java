@@ -0,0 +1,341 @@
+package gregtech.api.recipe;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.FluidStack;
+
+import gregtech.api.util.GTLog;
+import gregtech.api.util.GTRecipe;
+import gregtech.api.util.GTRecipe.RecipeAssemblyLine;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+
+/**
+ * Deterministic 64-bit IDs of recipes, hashed from what they consume and produce, and the recipes they belong to.
+ * Items are hashed by registry name and fluids by fluid name, so the IDs stay the same between game starts and between
+ * modpack versions that didn't change the recipe. Saved machines and data sticks store the ID to find their recipe
+ * again without searching for it.
+ * <p>
+ * The IDs are assigned after every {@link GTRecipe#reInit()}, since that changes the items of the recipes.
+ */
+public final class RecipeIds {
+
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+    private static final long NULL_MARKER = 0x5BD1E9955BD1E995L;
+    private static final int LOGGED_COLLISIONS = 20;
+
+    private static final Map<RecipeMap<?>, Long2ObjectOpenHashMap<GTRecipe>> RECIPES = new IdentityHashMap<>();
+    private static final Long2ObjectMap<RecipeAssemblyLine> ASSEMBLY_LINE_RECIPES = new Long2ObjectOpenHashMap<>();
+    private static final Reference2LongOpenHashMap<Item> ITEM_NAME_HASHES = new Reference2LongOpenHashMap<>();
+    private static final Object2LongOpenHashMap<String> FLUID_NAME_HASHES = new Object2LongOpenHashMap<>();
+    private static int sCollisions = 0;
+
+    private RecipeIds() {}
+
+    /**
+     * Assigns the IDs of all the recipes in {@link RecipeMap#ALL_RECIPE_MAPS} and registers them, and logs the IDs that
+     * belong to more than one recipe of a map.
+     */
+    public static void assignRecipeIds() {
+        RECIPES.clear();
+        ITEM_NAME_HASHES.clear();
+        FLUID_NAME_HASHES.clear();
+        sCollisions = 0;
+        for (RecipeMap<?> map : RecipeMap.ALL_RECIPE_MAPS.values()) {
+            final Long2ObjectOpenHashMap<GTRecipe> ids = new Long2ObjectOpenHashMap<>();
+            for (GTRecipe recipe : map.getAllRecipes()) {
+                final long id = computeId(recipe);
+                recipe.setContentId(id);
+                final GTRecipe previous = ids.putIfAbsent(id, recipe);
+                if (previous != null && previous != recipe) reportCollision(map.unlocalizedName, id, previous, recipe);
+            }
+            RECIPES.put(map, ids);
+        }
+        GTLog.out.println("GTMod: Assigned recipe IDs, " + sCollisions + " collisions.");
+    }
+
+    /**
+     * Assigns the IDs of all the assembly line recipes and registers them.
+     */
+    public static void assignAssemblyLineIds() {
+        ASSEMBLY_LINE_RECIPES.clear();
+        for (RecipeAssemblyLine recipe : RecipeAssemblyLine.sAssemblylineRecipes) {
+            final long id = computeId(recipe);
+            recipe.setContentId(id);
+            final RecipeAssemblyLine previous = ASSEMBLY_LINE_RECIPES.putIfAbsent(id, recipe);
+            if (previous != null && previous != recipe) reportCollision("assemblyline", id, previous, recipe);
+        }
+    }
+
+    private static void reportCollision(String mapName, long id, Object first, Object second) {
+        if (sCollisions++ < LOGGED_COLLISIONS) {
+            GTLog.err.printf("Recipe ID %016x in %s belongs to %s and %s%n", id, mapName, first, second);
+        }
+    }
+
+    /**
+     * @return the recipe of the map with the ID, or null if there is none
+     */
+    @Nullable
+    public static GTRecipe getRecipe(RecipeMap<?> map, long id) {
+        final Long2ObjectOpenHashMap<GTRecipe> ids = RECIPES.get(map);
+        return ids == null ? null : ids.get(id);
+    }
+
+    /**
+     * @return the assembly line recipe with the ID, or null if there is none
+     */
+    @Nullable
+    public static RecipeAssemblyLine getAssemblyLineRecipe(long id) {
+        return ASSEMBLY_LINE_RECIPES.get(id);
+    }
+
+    public static int getRecipeCount() {
+        int count = 0;
+        for (Long2ObjectOpenHashMap<GTRecipe> ids : RECIPES.values()) count += ids.size();
+        return count;
+    }
+
+    public static int getAssemblyLineRecipeCount() {
+        return ASSEMBLY_LINE_RECIPES.size();
+    }
+
+    /**
+     * @return how many recipes got an ID another recipe of the same map already had at the last assignment
+     */
+    public static int getCollisions() {
+        return sCollisions;
+    }
+
+    public static long computeId(GTRecipe recipe) {
+        long hash = SEED;
+        hash = hashItems(hash, recipe.mInputs);
+        hash = hashItems(hash, recipe.mOutputs);
+        hash = hashFluids(hash, recipe.mFluidInputs);
+        hash = hashFluids(hash, recipe.mFluidOutputs);
+        if (recipe.mChances == null) {
+            hash = mix(hash, NULL_MARKER);
+        } else {
+            hash = mix(hash, recipe.mChances.length);
+            for (int chance : recipe.mChances) hash = mix(hash, chance);
+        }
+        hash = mix(hash, recipe.mDuration);
+        hash = mix(hash, recipe.mEUt);
+        hash = mix(hash, recipe.mSpecialValue);
+        return finish(hash);
+    }
+
+    public static long computeId(RecipeAssemblyLine recipe) {
+        long hash = SEED;
+        hash = hashItem(hash, recipe.mResearchItem);
+        hash = mix(hash, recipe.mResearchTime);
+        hash = mix(hash, recipe.mResearchVoltage);
+        hash = hashItems(hash, recipe.mInputs);
+        hash = hashFluids(hash, recipe.mFluidInputs);
+        hash = hashItem(hash, recipe.mOutput);
+        hash = mix(hash, recipe.mDuration);
+        hash = mix(hash, recipe.mEUt);
+        return finish(hash);
+    }
+
+    private static long hashItems(long hash, ItemStack[] stacks) {
+        if (stacks == null) return mix(hash, NULL_MARKER);
+        hash = mix(hash, stacks.length);
+        for (ItemStack stack : stacks) hash = hashItem(hash, stack);
+        return hash;
+    }
+
+    private static long hashItem(long hash, ItemStack stack) {
+        if (stack == null || stack.getItem() == null) return mix(hash, NULL_MARKER);
+        hash = mix(hash, getNameHash(stack.getItem()));
+        hash = mix(hash, stack.getItemDamage());
+        hash = mix(hash, stack.stackSize);
+        return hashTag(hash, stack.getTagCompound());
+    }
+
+    private static long hashFluids(long hash, FluidStack[] stacks) {
+        if (stacks == null) return mix(hash, NULL_MARKER);
+        hash = mix(hash, stacks.length);
+        for (FluidStack stack : stacks) {
+            if (stack == null || stack.getFluid() == null) {
+                hash = mix(hash, NULL_MARKER);
+                continue;
+            }
+            hash = mix(
+                hash,
+                getNameHash(
+                    stack.getFluid()
+                        .getName()));
+            hash = mix(hash, stack.amount);
+            hash = hashTag(hash, stack.tag);
+        }
+        return hash;
+    }
+
+    private static long hashTag(long hash, @Nullable NBTTagCompound tag) {
+        // the hash code of a compound is built from its keys and values, not from identities
+        return mix(hash, tag == null ? 0 : tag.hashCode());
+    }
+
+    static long getNameHash(Item item) {
+        if (ITEM_NAME_HASHES.containsKey(item)) return ITEM_NAME_HASHES.getLong(item);
+        final Object name = Item.itemRegistry.getNameForObject(item);
+        final long hash = name == null ? NULL_MARKER : hashString(name.toString());
+        ITEM_NAME_HASHES.put(item, hash);
+        return hash;
+    }
+
+    private static long getNameHash(String fluidName) {
+        if (FLUID_NAME_HASHES.containsKey(fluidName)) return FLUID_NAME_HASHES.getLong(fluidName);
+        final long hash = hashString(fluidName);
+        FLUID_NAME_HASHES.put(fluidName, hash);
+        return hash;
+    }
+
+    static long hashString(String string) {
+        long hash = SEED;
+        for (int i = 0; i < string.length(); i++) hash = mix(hash, string.charAt(i));
+        return finish(hash);
+    }
+
+    static long mix(long hash, long value) {
+        return Long.rotateLeft(hash ^ value * 0xBF58476D1CE4E5B9L, 31) * SEED;
+    }
+
+    static long finish(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Writes the ID and recipe map of every recipe, to compare them with another modpack version through
+     * {@link #diff(File)}.
+     *
+     * @return how many lines were written
+     */
+    public static int dump(File file) throws IOException {
+        final List<String> lines = getIdLines();
+        try (PrintWriter writer = new PrintWriter(file, "UTF-8")) {
+            for (String line : lines) writer.println(line);
+        }
+        return lines.size();
+    }
+
+    /**
+     * Compares the IDs written by {@link #dump(File)} with the current ones, and logs the IDs that were added or
+     * removed per recipe map.
+     *
+     * @return the summary line
+     */
+    public static String diff(File file) throws IOException {
+        final Map<String, List<String>> removed = new HashMap<>();
+        final Map<String, List<String>> added = new HashMap<>();
+        final Set<String> old = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line;
+            while ((line = reader.readLine()) != null) if (!line.isEmpty()) old.add(line);
+        }
+        final Set<String> current = new HashSet<>(getIdLines());
+        for (String line : old) {
+            if (!current.contains(line)) removed.computeIfAbsent(mapOf(line), k -> new ArrayList<>())
+                .add(line);
+        }
+        for (String line : current) {
+            if (!old.contains(line)) added.computeIfAbsent(mapOf(line), k -> new ArrayList<>())
+                .add(line);
+        }
+        final Set<String> maps = new TreeSet<>(added.keySet());
+        maps.addAll(removed.keySet());
+        int addedCount = 0, removedCount = 0;
+        for (String map : maps) {
+            final List<String> mapAdded = added.getOrDefault(map, new ArrayList<>());
+            final List<String> mapRemoved = removed.getOrDefault(map, new ArrayList<>());
+            addedCount += mapAdded.size();
+            removedCount += mapRemoved.size();
+            GTLog.out.printf("%s: %d recipes added, %d removed%n", map, mapAdded.size(), mapRemoved.size());
+            for (String line : mapAdded) GTLog.out.println("+ " + line);
+            for (String line : mapRemoved) GTLog.out.println("- " + line);
+        }
+        return String.format(
+            "%d recipes added and %d removed in %d recipe maps since %s",
+            addedCount,
+            removedCount,
+            maps.size(),
+            file.getName());
+    }
+
+    private static String mapOf(String line) {
+        final int start = line.indexOf(' ') + 1;
+        final int end = line.indexOf(' ', start);
+        return end < 0 ? line.substring(start) : line.substring(start, end);
+    }
+
+    private static List<String> getIdLines() {
+        final List<String> lines = new ArrayList<>();
+        for (Map.Entry<RecipeMap<?>, Long2ObjectOpenHashMap<GTRecipe>> entry : RECIPES.entrySet()) {
+            for (Long2ObjectMap.Entry<GTRecipe> recipe : entry.getValue()
+                .long2ObjectEntrySet()) {
+                lines.add(
+                    String.format(
+                        "%016x %s %s",
+                        recipe.getLongKey(),
+                        entry.getKey().unlocalizedName,
+                        describe(
+                            recipe.getValue().mOutputs,
+                            recipe.getValue().mFluidOutputs,
+                            recipe.getValue().mInputs)));
+            }
+        }
+        for (Long2ObjectMap.Entry<RecipeAssemblyLine> recipe : ASSEMBLY_LINE_RECIPES.long2ObjectEntrySet()) {
+            lines.add(
+                String.format(
+                    "%016x assemblyline %s",
+                    recipe.getLongKey(),
+                    describe(new ItemStack[] { recipe.getValue().mOutput }, null, null)));
+        }
+        lines.sort(null);
+        return lines;
+    }
+
+    // names the first output, so the lines of a diff can be told apart
+    private static String describe(ItemStack[] outputs, FluidStack[] fluidOutputs, ItemStack[] inputs) {
+        for (ItemStack[] stacks : new ItemStack[][] { outputs, inputs }) {
+            if (stacks == null) continue;
+            for (ItemStack stack : stacks) {
+                if (stack != null && stack.getItem() != null) {
+                    return Item.itemRegistry.getNameForObject(stack.getItem()) + "@" + stack.getItemDamage();
+                }
+            }
+            if (stacks == outputs && fluidOutputs != null) {
+                for (FluidStack stack : fluidOutputs) {
+                    if (stack != null && stack.getFluid() != null) return stack.getFluid()
+                        .getName();
+                }
+            }
+        }
+        return "-";
+    }
+}
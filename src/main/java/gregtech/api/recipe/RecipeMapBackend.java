@@ -8,12 +8,15 @@ import static gregtech.api.util.GTRecipeBuilder.handleRecipeCollision;
 import static gregtech.api.util.GTUtility.areStacksEqualOrNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -36,6 +39,8 @@ import gregtech.api.util.GTRecipe;
 import gregtech.api.util.GTRecipeBuilder;
 import gregtech.api.util.GTStreamUtil;
 import gregtech.api.util.MethodsReturnNonnullByDefault;
+import gregtech.common.config.Gregtech;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 
 /**
  * Responsible for recipe addition / search for recipemap.
@@ -63,6 +68,13 @@ public class RecipeMapBackend {
      */
     private final Map<RecipeCategory, Collection<GTRecipe>> recipesByCategory = new HashMap<>();
 
+    /**
+     * Index compiled from {@link #itemIndex} and {@link #fluidIndex} on {@link #reInit}. Null if disabled or if the
+     * recipe list has been modified since.
+     */
+    @Nullable
+    private CompiledRecipeIndex compiledIndex;
+
     /**
      * All the properties specific to this backend.
      */
@@ -77,6 +89,17 @@ public class RecipeMapBackend {
         this.recipeMap = recipeMap;
     }
 
+    /**
+     * @return how many items and fluids the index has keys for and how many recipes it lists under them
+     */
+    int[] getIndexSizes() {
+        final int itemKeys = itemIndex.keySet()
+            .size();
+        final int fluidKeys = fluidIndex.keySet()
+            .size();
+        return new int[] { itemKeys, itemIndex.size(), fluidKeys, fluidIndex.size() };
+    }
+
     /**
      * @return Properties specific to this backend.
      */
@@ -125,6 +148,7 @@ public class RecipeMapBackend {
      * @return Supplied recipe.
      */
     public GTRecipe compileRecipe(GTRecipe recipe) {
+        compiledIndex = null;
         if (recipe.getRecipeCategory() == null) {
             recipe.setRecipeCategory(recipeMap.getDefaultRecipeCategory());
         }
@@ -229,6 +253,7 @@ public class RecipeMapBackend {
      * Removes supplied recipes from recipe list. Do not use unless absolute necessity!
      */
     public void removeRecipes(Collection<? extends GTRecipe> recipesToRemove) {
+        compiledIndex = null;
         for (Collection<GTRecipe> recipes : recipesByCategory.values()) {
             recipes.removeAll(recipesToRemove);
         }
@@ -253,6 +278,7 @@ public class RecipeMapBackend {
      * If you want to shoot your foot...
      */
     public void clearRecipes() {
+        compiledIndex = null;
         recipesByCategory.clear();
     }
 
@@ -268,6 +294,32 @@ public class RecipeMapBackend {
             GTOreDictUnificator.setStackArray(true, true, recipe.mOutputs);
             addToItemMap(recipe);
         }
+        compiledIndex = Gregtech.performance.compiledRecipeIndex ? compileIndex() : null;
+    }
+
+    /**
+     * Compiles all the recipes that can be found through the item and fluid index.
+     */
+    private CompiledRecipeIndex compileIndex() {
+        Set<GTRecipe> indexed = new ReferenceOpenHashSet<>(itemIndex.values());
+        if (properties.minItemInputs == 0) {
+            indexed.addAll(fluidIndex.values());
+        }
+        Collection<GTRecipe> ordered = new ArrayList<>(indexed.size());
+        for (GTRecipe recipe : allRecipes()) {
+            if (indexed.contains(recipe)) {
+                ordered.add(recipe);
+            }
+        }
+        return CompiledRecipeIndex.compile(ordered);
+    }
+
+    /**
+     * @return Index compiled on last {@link #reInit}, or null if disabled or outdated.
+     */
+    @Nullable
+    public CompiledRecipeIndex getCompiledIndex() {
+        return compiledIndex;
     }
 
     /**
@@ -347,6 +399,25 @@ public class RecipeMapBackend {
     Stream<GTRecipe> matchRecipeStream(ItemStack[] rawItems, FluidStack[] fluids, @Nullable ItemStack specialSlot,
         @Nullable GTRecipe cachedRecipe, boolean notUnificated, boolean dontCheckStackSizes,
         boolean forCollisionCheck) {
+        return matchRecipeStream(
+            rawItems,
+            fluids,
+            specialSlot,
+            cachedRecipe,
+            notUnificated,
+            dontCheckStackSizes,
+            forCollisionCheck,
+            true);
+    }
+
+    /**
+     * @param useCompiledIndex If set to false, {@link #compiledIndex} is ignored even if present. Used for comparing
+     *                         both lookups.
+     * @see #matchRecipeStream(ItemStack[], FluidStack[], ItemStack, GTRecipe, boolean, boolean, boolean)
+     */
+    Stream<GTRecipe> matchRecipeStream(ItemStack[] rawItems, FluidStack[] fluids, @Nullable ItemStack specialSlot,
+        @Nullable GTRecipe cachedRecipe, boolean notUnificated, boolean dontCheckStackSizes, boolean forCollisionCheck,
+        boolean useCompiledIndex) {
         if (doesOverwriteFindRecipe()) {
             return GTStreamUtil.ofNullable(overwriteFindRecipe(rawItems, fluids, specialSlot, cachedRecipe));
         }
@@ -355,26 +426,9 @@ public class RecipeMapBackend {
             return Stream.empty();
         }
 
-        // Some recipe classes require a certain amount of inputs of certain kinds. Like "at least 1 fluid + 1 item"
-        // or "at least 2 items" before they start searching for recipes.
-        // This improves performance massively, especially when people leave things like programmed circuits,
-        // molds or shapes in their machines.
         // For checking collision, we assume min inputs check already has been passed as of building the recipe.
-        if (!forCollisionCheck) {
-            if (properties.minFluidInputs > 0) {
-                int count = 0;
-                for (FluidStack fluid : fluids) if (fluid != null) count++;
-                if (count < properties.minFluidInputs) {
-                    return Stream.empty();
-                }
-            }
-            if (properties.minItemInputs > 0) {
-                int count = 0;
-                for (ItemStack item : rawItems) if (item != null) count++;
-                if (count < properties.minItemInputs) {
-                    return Stream.empty();
-                }
-            }
+        if (!forCollisionCheck && !hasMinInputs(rawItems, fluids)) {
+            return Stream.empty();
         }
 
         ItemStack[] items;
@@ -385,6 +439,30 @@ public class RecipeMapBackend {
             items = rawItems;
         }
 
+        CompiledRecipeIndex index = compiledIndex;
+        if (useCompiledIndex && index != null && !forCollisionCheck) {
+            // The stream is consumed after the candidate buffer is handed back, so it needs its own copy
+            final GTRecipe[] candidates;
+            try (CompiledRecipeIndex.Scratch found = index.findCandidates(items, fluids)) {
+                candidates = found.toArray();
+            }
+            return Stream.<Stream<GTRecipe>>of(
+                GTStreamUtil.ofNullable(cachedRecipe)
+                    .filter(recipe -> recipe.mCanBeBuffered)
+                    .filter(recipe -> filterFindRecipe(recipe, items, fluids, specialSlot, dontCheckStackSizes))
+                    .map(recipe -> modifyFoundRecipe(recipe, items, fluids, specialSlot))
+                    .filter(Objects::nonNull),
+                // The compiled index only returns recipes whose every input type is present, and replaces both the
+                // item and the fluid index.
+                Arrays.stream(candidates)
+                    .filter(recipe -> filterFindRecipe(recipe, items, fluids, specialSlot, dontCheckStackSizes))
+                    .map(recipe -> modifyFoundRecipe(recipe, items, fluids, specialSlot))
+                    .filter(Objects::nonNull),
+                GTStreamUtil.ofSupplier(() -> findFallback(items, fluids, specialSlot))
+                    .filter(Objects::nonNull))
+                .flatMap(Function.identity());
+        }
+
         return Stream.<Stream<GTRecipe>>of(
             // Check the recipe which has been used last time in order to not have to search for it again, if possible.
             GTStreamUtil.ofNullable(cachedRecipe)
@@ -420,6 +498,96 @@ public class RecipeMapBackend {
             .flatMap(Function.identity());
     }
 
+    /**
+     * Returns the first matched recipe that is accepted by the filter, like {@link #matchRecipeStream} followed by
+     * {@code filter(filter).findFirst()}. With the compiled index the candidates are checked in a plain loop, so the
+     * lookup doesn't build a stream.
+     *
+     * @param filter Tested on every matched recipe, the next one is tried if it returns false.
+     * @return The first accepted recipe, or null if not found.
+     * @see #matchRecipeStream(ItemStack[], FluidStack[], ItemStack, GTRecipe, boolean, boolean, boolean)
+     */
+    @Nullable
+    GTRecipe findRecipe(ItemStack[] rawItems, FluidStack[] fluids, @Nullable ItemStack specialSlot,
+        @Nullable GTRecipe cachedRecipe, boolean notUnificated, boolean dontCheckStackSizes,
+        Predicate<GTRecipe> filter) {
+        CompiledRecipeIndex index = compiledIndex;
+        if (index == null || doesOverwriteFindRecipe()) {
+            Stream<GTRecipe> matches = matchRecipeStream(
+                rawItems,
+                fluids,
+                specialSlot,
+                cachedRecipe,
+                notUnificated,
+                dontCheckStackSizes,
+                false);
+            return matches.filter(filter)
+                .findFirst()
+                .orElse(null);
+        }
+
+        if (recipesByCategory.isEmpty() || !hasMinInputs(rawItems, fluids)) {
+            return null;
+        }
+
+        ItemStack[] items;
+        if (notUnificated) {
+            items = GTOreDictUnificator.getStackArray(true, (Object[]) rawItems);
+        } else {
+            items = rawItems;
+        }
+
+        if (cachedRecipe != null && cachedRecipe.mCanBeBuffered) {
+            GTRecipe recipe = matchCandidate(cachedRecipe, items, fluids, specialSlot, dontCheckStackSizes, filter);
+            if (recipe != null) return recipe;
+        }
+        try (CompiledRecipeIndex.Scratch candidates = index.findCandidates(items, fluids)) {
+            for (int i = 0; i < candidates.size(); i++) {
+                GTRecipe recipe = matchCandidate(
+                    candidates.get(i),
+                    items,
+                    fluids,
+                    specialSlot,
+                    dontCheckStackSizes,
+                    filter);
+                if (recipe != null) return recipe;
+            }
+        }
+        GTRecipe fallback = findFallback(items, fluids, specialSlot);
+        return fallback != null && filter.test(fallback) ? fallback : null;
+    }
+
+    @Nullable
+    private GTRecipe matchCandidate(GTRecipe recipe, ItemStack[] items, FluidStack[] fluids,
+        @Nullable ItemStack specialSlot, boolean dontCheckStackSizes, Predicate<GTRecipe> filter) {
+        if (!filterFindRecipe(recipe, items, fluids, specialSlot, dontCheckStackSizes)) return null;
+        GTRecipe modified = modifyFoundRecipe(recipe, items, fluids, specialSlot);
+        return modified != null && filter.test(modified) ? modified : null;
+    }
+
+    /**
+     * Some recipe classes require a certain amount of inputs of certain kinds. Like "at least 1 fluid + 1 item" or "at
+     * least 2 items" before they start searching for recipes. This improves performance massively, especially when
+     * people leave things like programmed circuits, molds or shapes in their machines.
+     */
+    private boolean hasMinInputs(ItemStack[] rawItems, FluidStack[] fluids) {
+        if (properties.minFluidInputs > 0) {
+            int count = 0;
+            for (FluidStack fluid : fluids) if (fluid != null) count++;
+            if (count < properties.minFluidInputs) {
+                return false;
+            }
+        }
+        if (properties.minItemInputs > 0) {
+            int count = 0;
+            for (ItemStack item : rawItems) if (item != null) count++;
+            if (count < properties.minItemInputs) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * The minimum filter required for recipe match logic. You can override this to have custom validation.
      * <p>
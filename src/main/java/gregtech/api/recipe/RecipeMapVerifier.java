@@ -0,0 +1,215 @@
+package gregtech.api.recipe;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+import cpw.mods.fml.common.Loader;
+import cpw.mods.fml.common.ModContainer;
+import gregtech.api.util.GTLog;
+import gregtech.api.util.GTRecipe;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+
+/**
+ * Checks that a setup builds the same recipe maps as before, for changes to recipe loading that shouldn't change any
+ * recipe. {@link #save()} writes the {@link RecipeIds} of every recipe in the order its map holds them and the sizes of
+ * the item and fluid indices to {@code gregtech/RecipeMaps.dat} in the instance directory. {@link #verify()} compares
+ * the current recipe maps with that file and logs the maps that differ.
+ * <p>
+ * The file also holds a hash of the loaded mod versions, the GregTech configs and the OreDictionary, so a verification
+ * against a different setup says so. Nothing is read back from the file into the recipe maps.
+ */
+public final class RecipeMapVerifier {
+
+    private static final int MAGIC = 0x47545253, VERSION = 1;
+
+    private RecipeMapVerifier() {}
+
+    public static File getFile() {
+        return new File(
+            new File(
+                Loader.instance()
+                    .getConfigDir()
+                    .getParentFile(),
+                "gregtech"),
+            "RecipeMaps.dat");
+    }
+
+    /**
+     * Writes the current recipe maps to the file later verifications compare with.
+     *
+     * @return how many recipes were written
+     */
+    public static int save() throws IOException {
+        final RecipeMaps tRecipeMaps = capture(computeKey());
+        write(getFile(), tRecipeMaps);
+        int rRecipes = 0;
+        for (long[] tIds : tRecipeMaps.mIds.values()) rRecipes += tIds.length;
+        return rRecipes;
+    }
+
+    /**
+     * Compares the current recipe maps with the ones written by {@link #save()}, and logs the maps that differ.
+     *
+     * @return the summary line
+     */
+    public static String verify() throws IOException {
+        final RecipeMaps tOld = read(getFile());
+        final RecipeMaps tCurrent = capture(computeKey());
+        return verify(tOld, tCurrent) + (tOld.mKey == tCurrent.mKey ? "" : ", mods, configs or OreDictionary changed");
+    }
+
+    private static String verify(RecipeMaps aOld, RecipeMaps aCurrent) {
+        final List<String> tNames = new ArrayList<>(aOld.mIds.keySet());
+        for (String tName : aCurrent.mIds.keySet()) if (!aOld.mIds.containsKey(tName)) tNames.add(tName);
+        int tDiffering = 0;
+        for (String tName : tNames) {
+            final long[] tOldIds = aOld.mIds.getOrDefault(tName, new long[0]);
+            final long[] tIds = aCurrent.mIds.getOrDefault(tName, new long[0]);
+            final int[] tOldSizes = aOld.mIndexSizes.getOrDefault(tName, new int[0]);
+            final int[] tSizes = aCurrent.mIndexSizes.getOrDefault(tName, new int[0]);
+            if (Arrays.equals(tOldIds, tIds) && Arrays.equals(tOldSizes, tSizes)) continue;
+            tDiffering++;
+            final LongOpenHashSet tOldSet = new LongOpenHashSet(tOldIds), tSet = new LongOpenHashSet(tIds);
+            int tAdded = 0, tRemoved = 0;
+            for (long tId : tIds) if (!tOldSet.contains(tId)) tAdded++;
+            for (long tId : tOldIds) if (!tSet.contains(tId)) tRemoved++;
+            GTLog.out.printf(
+                "%s: %d recipes, %d saved, %d added, %d removed%s%s%n",
+                tName,
+                tIds.length,
+                tOldIds.length,
+                tAdded,
+                tRemoved,
+                tAdded == 0 && tRemoved == 0 && !Arrays.equals(tOldIds, tIds) ? ", in another order" : "",
+                Arrays.equals(tOldSizes, tSizes) ? ""
+                    : ", index sizes " + Arrays.toString(tSizes) + " instead of " + Arrays.toString(tOldSizes));
+        }
+        return tDiffering == 0 ? "All " + tNames.size() + " recipe maps match the saved ones"
+            : tDiffering + " of " + tNames.size() + " recipe maps differ from the saved ones, see GregTech.log";
+    }
+
+    /**
+     * @return a hash of the loaded mods and their versions, the GregTech config files and the OreDictionary
+     */
+    static long computeKey() throws IOException {
+        long tHash = RecipeIds.hashString("gregtech recipe maps");
+        for (ModContainer tMod : Loader.instance()
+            .getActiveModList()) {
+            tHash = RecipeIds.mix(tHash, RecipeIds.hashString(tMod.getModId()));
+            tHash = RecipeIds.mix(tHash, RecipeIds.hashString(tMod.getVersion()));
+        }
+        final File tConfigs = new File(
+            Loader.instance()
+                .getConfigDir(),
+            "GregTech");
+        tHash = hashFiles(tHash, tConfigs, "");
+        final String[] tOreNames = OreDictionary.getOreNames();
+        Arrays.sort(tOreNames);
+        for (String tOreName : tOreNames) {
+            tHash = RecipeIds.mix(tHash, RecipeIds.hashString(tOreName));
+            for (ItemStack tStack : OreDictionary.getOres(tOreName)) {
+                if (tStack == null || tStack.getItem() == null) continue;
+                tHash = RecipeIds.mix(tHash, RecipeIds.getNameHash(tStack.getItem()));
+                tHash = RecipeIds.mix(tHash, tStack.getItemDamage());
+            }
+        }
+        return RecipeIds.finish(tHash);
+    }
+
+    private static long hashFiles(long aHash, File aDirectory, String aPath) throws IOException {
+        final File[] tFiles = aDirectory.listFiles();
+        if (tFiles == null) return aHash;
+        Arrays.sort(tFiles);
+        for (File tFile : tFiles) {
+            final String tPath = aPath + "/" + tFile.getName();
+            if (tFile.isDirectory()) {
+                aHash = hashFiles(aHash, tFile, tPath);
+                continue;
+            }
+            aHash = RecipeIds.mix(aHash, RecipeIds.hashString(tPath));
+            for (byte tByte : Files.readAllBytes(tFile.toPath())) aHash = RecipeIds.mix(aHash, tByte);
+        }
+        return aHash;
+    }
+
+    private static RecipeMaps capture(long aKey) {
+        final RecipeMaps rRecipeMaps = new RecipeMaps(aKey);
+        for (RecipeMap<?> tMap : RecipeMap.ALL_RECIPE_MAPS.values()) {
+            final long[] tIds = new long[tMap.getAllRecipes()
+                .size()];
+            int i = 0;
+            for (GTRecipe tRecipe : tMap.getAllRecipes()) tIds[i++] = RecipeIds.computeId(tRecipe);
+            rRecipeMaps.mIds.put(tMap.unlocalizedName, tIds);
+            rRecipeMaps.mIndexSizes.put(
+                tMap.unlocalizedName,
+                tMap.getBackend()
+                    .getIndexSizes());
+        }
+        return rRecipeMaps;
+    }
+
+    private static void write(File aFile, RecipeMaps aRecipeMaps) throws IOException {
+        final File tDirectory = aFile.getParentFile();
+        if (!tDirectory.isDirectory() && !tDirectory.mkdirs()) throw new IOException("Could not create " + tDirectory);
+        try (DataOutputStream tOut = new DataOutputStream(new GZIPOutputStream(new FileOutputStream(aFile)))) {
+            tOut.writeInt(MAGIC);
+            tOut.writeInt(VERSION);
+            tOut.writeLong(aRecipeMaps.mKey);
+            tOut.writeInt(aRecipeMaps.mIds.size());
+            for (Map.Entry<String, long[]> tEntry : aRecipeMaps.mIds.entrySet()) {
+                tOut.writeUTF(tEntry.getKey());
+                final int[] tSizes = aRecipeMaps.mIndexSizes.get(tEntry.getKey());
+                tOut.writeInt(tSizes.length);
+                for (int tSize : tSizes) tOut.writeInt(tSize);
+                tOut.writeInt(tEntry.getValue().length);
+                for (long tId : tEntry.getValue()) tOut.writeLong(tId);
+            }
+        }
+    }
+
+    private static RecipeMaps read(File aFile) throws IOException {
+        try (DataInputStream tIn = new DataInputStream(new GZIPInputStream(new FileInputStream(aFile)))) {
+            if (tIn.readInt() != MAGIC || tIn.readInt() != VERSION) {
+                throw new IOException("Not a recipe map file of this version");
+            }
+            final RecipeMaps rRecipeMaps = new RecipeMaps(tIn.readLong());
+            for (int tMaps = tIn.readInt(); tMaps > 0; tMaps--) {
+                final String tName = tIn.readUTF();
+                final int[] tSizes = new int[tIn.readInt()];
+                for (int i = 0; i < tSizes.length; i++) tSizes[i] = tIn.readInt();
+                final long[] tIds = new long[tIn.readInt()];
+                for (int i = 0; i < tIds.length; i++) tIds[i] = tIn.readLong();
+                rRecipeMaps.mIds.put(tName, tIds);
+                rRecipeMaps.mIndexSizes.put(tName, tSizes);
+            }
+            return rRecipeMaps;
+        }
+    }
+
+    private static final class RecipeMaps {
+
+        private final long mKey;
+        /** Recipe IDs and index sizes by recipe map, sorted by name so the file is the same for the same recipes */
+        private final Map<String, long[]> mIds = new TreeMap<>();
+        private final Map<String, int[]> mIndexSizes = new TreeMap<>();
+
+        private RecipeMaps(long aKey) {
+            mKey = aKey;
+        }
+    }
+}
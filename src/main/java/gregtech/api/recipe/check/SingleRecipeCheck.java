@@ -23,6 +23,7 @@ import net.minecraftforge.fluids.FluidStack;
 import com.google.common.collect.ImmutableMap;
 
 import gregtech.api.enums.GTValues;
+import gregtech.api.recipe.RecipeIds;
 import gregtech.api.recipe.RecipeMap;
 import gregtech.api.util.GTRecipe;
 import gregtech.api.util.GTUtility;
@@ -233,6 +234,9 @@ public class SingleRecipeCheck {
         // Consider move serialization code to GTRecipe once this has been proven to work
         NBTTagCompound tag = new NBTTagCompound();
         tag.setString("recipemap", recipeMap.unlocalizedName);
+        if (recipe.getContentId() != 0) {
+            tag.setLong("recipeId", recipe.getContentId());
+        }
         if (recipe.mInputs != null) {
             tag.setTag("inputs", writeList(recipe.mInputs, GTUtility::saveItem));
         }
@@ -369,6 +373,7 @@ public class SingleRecipeCheck {
 
     /**
      * Tries to find the corresponding recipe from the recipe map using the data stored in the NBTTagCompound.
+     * The recipe ID is looked up first, a recipe search is only done if the ID is unknown.
      * It checks the inputs, outputs, fluid inputs, fluid outputs, chances, duration, EUT, and special value.
      *
      * @param recipeMap the RecipeMap to search for the recipe
@@ -389,24 +394,34 @@ public class SingleRecipeCheck {
             .map(FluidStack::loadFluidStackFromNBT)
             .toArray(FluidStack[]::new);
         int eut = tag.getInteger("eut");
+        int[] chances = tag.getIntArray("chances");
+        if (chances.length == 0) chances = null;
+        if (tag.hasKey("recipeId")) {
+            // the ID only says where to look, the recipe still has to match in case of a collision
+            GTRecipe byId = RecipeIds.getRecipe(recipeMap, tag.getLong("recipeId"));
+            if (matches(byId, tag, inputs, outputs, fInputs, fOutputs, chances, eut)) return byId;
+        }
         GTRecipe found = recipeMap.findRecipeQuery()
             .items(inputs)
             .fluids(fInputs)
             .voltage(GTValues.V[GTUtility.getTier(eut)])
             .find();
-        int[] chances = tag.getIntArray("chances");
-        if (chances.length == 0) chances = null;
-        if (found == null || !GTUtility.equals(inputs, found.mInputs)
-            || !Arrays.equals(fInputs, found.mFluidInputs)
-            || !GTUtility.equals(outputs, found.mOutputs)
-            || !Arrays.equals(fOutputs, found.mFluidOutputs)
-            || !Arrays.equals(chances, found.mChances)
-            || found.mDuration != tag.getInteger("duration")
-            || found.mEUt != eut
-            || found.mSpecialValue != tag.getInteger("specialValue")) return null;
+        if (!matches(found, tag, inputs, outputs, fInputs, fOutputs, chances, eut)) return null;
         return found;
     }
 
+    private static boolean matches(GTRecipe found, NBTTagCompound tag, ItemStack[] inputs, ItemStack[] outputs,
+        FluidStack[] fInputs, FluidStack[] fOutputs, int[] chances, int eut) {
+        return found != null && GTUtility.equals(inputs, found.mInputs)
+            && Arrays.equals(fInputs, found.mFluidInputs)
+            && GTUtility.equals(outputs, found.mOutputs)
+            && Arrays.equals(fOutputs, found.mFluidOutputs)
+            && Arrays.equals(chances, found.mChances)
+            && found.mDuration == tag.getInteger("duration")
+            && found.mEUt == eut
+            && found.mSpecialValue == tag.getInteger("specialValue");
+    }
+
     /**
      * Builds an immutable map of item costs from an array of input ItemStacks.
      *
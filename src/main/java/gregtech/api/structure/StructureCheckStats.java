@@ -0,0 +1,63 @@
+package gregtech.api.structure;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * How long the structure checks of every kind of multiblock took, and how many checks the structure footprints
+ * skipped, since the server started or the stats were reset.
+ */
+public final class StructureCheckStats {
+
+    private static final Map<String, Entry> STATS = new HashMap<>();
+
+    private StructureCheckStats() {}
+
+    private static class Entry {
+
+        private final String name;
+        private long checks, nanos, maxNanos, skipped;
+
+        private Entry(String name) {
+            this.name = name;
+        }
+    }
+
+    public static synchronized void recordCheck(String aName, long aNanos) {
+        final Entry tEntry = STATS.computeIfAbsent(aName, Entry::new);
+        tEntry.checks++;
+        tEntry.nanos += aNanos;
+        tEntry.maxNanos = Math.max(tEntry.maxNanos, aNanos);
+    }
+
+    public static synchronized void recordSkip(String aName) {
+        STATS.computeIfAbsent(aName, Entry::new).skipped++;
+    }
+
+    public static synchronized void reset() {
+        STATS.clear();
+    }
+
+    /**
+     * @return one line per kind of multiblock, the ones that spent the most time checking first
+     */
+    public static synchronized List<String> report() {
+        final List<Entry> tEntries = new ArrayList<>(STATS.values());
+        tEntries.sort((a, b) -> Long.compare(b.nanos, a.nanos));
+        final List<String> tLines = new ArrayList<>();
+        for (Entry tEntry : tEntries) {
+            tLines.add(
+                String.format(
+                    "%s: %d checks, %d us total, %d us average, %d us max, %d skipped",
+                    tEntry.name,
+                    tEntry.checks,
+                    tEntry.nanos / 1000,
+                    tEntry.checks == 0 ? 0 : tEntry.nanos / tEntry.checks / 1000,
+                    tEntry.maxNanos / 1000,
+                    tEntry.skipped));
+        }
+        return tLines;
+    }
+}
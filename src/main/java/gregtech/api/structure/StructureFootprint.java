@@ -0,0 +1,248 @@
+package gregtech.api.structure;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.minecraft.block.Block;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+
+import com.gtnewhorizon.gtnhlib.util.CoordinatePacker;
+import com.gtnewhorizon.structurelib.alignment.enumerable.ExtendedFacing;
+import com.gtnewhorizon.structurelib.structure.IStructureDefinition;
+import com.gtnewhorizon.structurelib.structure.IStructureElement;
+
+import gregtech.api.metatileentity.implementations.MTEMultiBlockBase;
+import gregtech.api.util.GTStructureUtility.ProxyStructureElement;
+import gregtech.api.util.GTUtility;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+
+/**
+ * The blocks the last successful structure check of a multiblock looked at, and what was there. Block updates are
+ * tested against it: an update outside the structure or one that left every checked block as it was doesn't need
+ * another structure check.
+ * <p>
+ * Only checks that go through {@link #check} while {@link #startRecording()} is active are recorded. They run the
+ * structure elements on the real world, wrapped in elements that remember the position they are checked at. What is
+ * at those positions is read once the check is done. A multiblock whose check didn't record anything is always
+ * checked again.
+ */
+public class StructureFootprint {
+
+    /** More updates than this between two checks aren't worth testing one by one */
+    private static final int MAX_PENDING_UPDATES = 64;
+
+    /** The recording elements of the element arrays of the structure definitions, by the identity of the array */
+    private static final Map<IStructureElement<?>[], IStructureElement<?>[]> sRecordingElements =
+        new ConcurrentHashMap<>();
+
+    private final LongOpenHashSet positions = new LongOpenHashSet();
+    private final Long2ObjectOpenHashMap<Block> blocks = new Long2ObjectOpenHashMap<>();
+    private final Long2IntOpenHashMap metas = new Long2IntOpenHashMap();
+    private final Long2ObjectOpenHashMap<TileEntity> tiles = new Long2ObjectOpenHashMap<>();
+    private int minX, minY, minZ, maxX, maxY, maxZ;
+    private boolean recording = false;
+    private boolean valid = false;
+    private int facing;
+    private ItemStack controllerStack;
+
+    private final LongArrayList pendingUpdates = new LongArrayList();
+    private boolean unlocatedUpdate = false;
+
+    /**
+     * Checks a piece of a structure like {@link IStructureDefinition#check} does, and records the positions of the
+     * elements it checks if the footprint of the multiblock is recorded.
+     */
+    public static <T extends MTEMultiBlockBase> boolean check(IStructureDefinition<T> definition, T object,
+        String piece, World world, ExtendedFacing extendedFacing, int basePositionX, int basePositionY,
+        int basePositionZ, int basePositionA, int basePositionB, int basePositionC, boolean forceCheckAllElements) {
+        if (!object.getStructureFootprint().recording) {
+            return definition.check(
+                object,
+                piece,
+                world,
+                extendedFacing,
+                basePositionX,
+                basePositionY,
+                basePositionZ,
+                basePositionA,
+                basePositionB,
+                basePositionC,
+                forceCheckAllElements);
+        }
+        return IStructureDefinition.iterate(
+            object,
+            null,
+            getRecordingElements(definition.getStructureFor(piece)),
+            world,
+            extendedFacing,
+            basePositionX,
+            basePositionY,
+            basePositionZ,
+            basePositionA,
+            basePositionB,
+            basePositionC,
+            false,
+            forceCheckAllElements);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends MTEMultiBlockBase> IStructureElement<T>[] getRecordingElements(
+        IStructureElement<T>[] elements) {
+        if (elements == null) return null;
+        return (IStructureElement<T>[]) sRecordingElements.computeIfAbsent(elements, k -> {
+            final IStructureElement<T>[] rElements = elements.clone();
+            for (int i = 0; i < rElements.length; i++) {
+                if (!rElements[i].isNavigating()) rElements[i] = new RecordingElement<>(rElements[i]);
+            }
+            return rElements;
+        });
+    }
+
+    /**
+     * Forgets the last footprint and records the positions checked through {@link #check} until
+     * {@link #stopRecording}.
+     */
+    public void startRecording() {
+        positions.clear();
+        blocks.clear();
+        metas.clear();
+        tiles.clear();
+        minX = minY = minZ = Integer.MAX_VALUE;
+        maxX = maxY = maxZ = Integer.MIN_VALUE;
+        valid = false;
+        synchronized (pendingUpdates) {
+            pendingUpdates.clear();
+            unlocatedUpdate = false;
+        }
+        recording = true;
+    }
+
+    /**
+     * Stops recording and remembers what is at the checked positions now, right after the check.
+     *
+     * @param formed          whether the structure check succeeded, only a formed structure can skip checks
+     * @param facing          the facing of the controller, any other facing needs a full check
+     * @param controllerStack the stack in the controller slot, any other stack needs a full check
+     */
+    public void stopRecording(World world, boolean formed, int facing, ItemStack controllerStack) {
+        recording = false;
+        valid = formed && !positions.isEmpty();
+        if (valid) {
+            for (long tPosition : positions) {
+                final int x = CoordinatePacker.unpackX(tPosition);
+                final int y = CoordinatePacker.unpackY(tPosition);
+                final int z = CoordinatePacker.unpackZ(tPosition);
+                if (!world.blockExists(x, y, z)) {
+                    valid = false;
+                    break;
+                }
+                blocks.put(tPosition, world.getBlock(x, y, z));
+                metas.put(tPosition, world.getBlockMetadata(x, y, z));
+                tiles.put(tPosition, world.getTileEntity(x, y, z));
+            }
+        }
+        positions.clear();
+        if (!valid) {
+            blocks.clear();
+            metas.clear();
+            tiles.clear();
+        }
+        this.facing = facing;
+        this.controllerStack = controllerStack == null ? null : controllerStack.copy();
+    }
+
+    public void invalidate() {
+        valid = false;
+    }
+
+    public int size() {
+        return blocks.size();
+    }
+
+    /**
+     * Remembers a block update near the structure. Called from the machine block update threads.
+     */
+    public void addUpdate(int x, int y, int z) {
+        synchronized (pendingUpdates) {
+            if (pendingUpdates.size() < MAX_PENDING_UPDATES) pendingUpdates.add(CoordinatePacker.pack(x, y, z));
+            else unlocatedUpdate = true;
+        }
+    }
+
+    /**
+     * Remembers an update that didn't say where it came from, so the next check can't be skipped.
+     */
+    public void addUnlocatedUpdate() {
+        synchronized (pendingUpdates) {
+            unlocatedUpdate = true;
+        }
+    }
+
+    /**
+     * Tests the updates since the last call against the footprint and forgets them.
+     *
+     * @param controllerX the controller position, an update there needs a full check
+     * @return true if none of the updates changed anything the last structure check looked at
+     */
+    public boolean canSkipCheck(World world, int controllerX, int controllerY, int controllerZ, int facing,
+        ItemStack controllerStack) {
+        final long[] tUpdates;
+        synchronized (pendingUpdates) {
+            final boolean tUnlocated = unlocatedUpdate;
+            tUpdates = pendingUpdates.toLongArray();
+            pendingUpdates.clear();
+            unlocatedUpdate = false;
+            if (tUnlocated) return false;
+        }
+        if (!valid || tUpdates.length == 0 || this.facing != facing) return false;
+        if (!GTUtility.areStacksEqualOrNull(this.controllerStack, controllerStack)) return false;
+        final long tController = CoordinatePacker.pack(controllerX, controllerY, controllerZ);
+        for (long tUpdate : tUpdates) {
+            if (tUpdate == tController || !isUnchanged(world, tUpdate)) return false;
+        }
+        return true;
+    }
+
+    private boolean isUnchanged(World world, long position) {
+        final int x = CoordinatePacker.unpackX(position);
+        final int y = CoordinatePacker.unpackY(position);
+        final int z = CoordinatePacker.unpackZ(position);
+        if (x < minX || x > maxX || y < minY || y > maxY || z < minZ || z > maxZ) return true;
+        // inside the structure, but the check didn't look there itself, so something else might
+        if (!blocks.containsKey(position)) return false;
+        if (!world.blockExists(x, y, z)) return false;
+        return world.getBlock(x, y, z) == blocks.get(position) && world.getBlockMetadata(x, y, z) == metas.get(position)
+            && world.getTileEntity(x, y, z) == tiles.get(position);
+    }
+
+    private void record(int x, int y, int z) {
+        if (!recording || !positions.add(CoordinatePacker.pack(x, y, z))) return;
+        if (x < minX) minX = x;
+        if (x > maxX) maxX = x;
+        if (y < minY) minY = y;
+        if (y > maxY) maxY = y;
+        if (z < minZ) minZ = z;
+        if (z > maxZ) maxZ = z;
+    }
+
+    // remembers where the element it wraps is checked, in the footprint of the multiblock that is checked
+    private static class RecordingElement<T extends MTEMultiBlockBase>
+        extends ProxyStructureElement<T, IStructureElement<T>> {
+
+        private RecordingElement(IStructureElement<T> element) {
+            super(element);
+        }
+
+        @Override
+        public boolean check(T t, World world, int x, int y, int z) {
+            t.getStructureFootprint()
+                .record(x, y, z);
+            return super.check(t, world, x, y, z);
+        }
+    }
+}
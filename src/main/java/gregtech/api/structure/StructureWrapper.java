@@ -196,7 +196,8 @@ public class StructureWrapper<MTE extends MTEMultiBlockBase & IAlignment & IStru
 
     private boolean checkStructureImpl(MTE instance, String piece, Vec3Impl pieceOffset) {
         final IGregTechTileEntity tTile = instance.getBaseMetaTileEntity();
-        return structureDefinition.check(
+        return StructureFootprint.check(
+            structureDefinition,
             instance,
             piece,
             tTile.getWorld(),
@@ -146,7 +146,7 @@ public class RunnableMachineUpdate implements Runnable {
 
                 // See if the block itself needs an update
                 if (tTileEntity instanceof IMachineBlockUpdateable)
-                    ((IMachineBlockUpdateable) tTileEntity).onMachineBlockUpdate();
+                    ((IMachineBlockUpdateable) tTileEntity).onMachineBlockUpdate(initialX, initialY, initialZ);
 
                 // Now see if we should add the nearby blocks to the queue:
                 // 1) If we've visited less than 5 blocks, then yes
@@ -18,6 +18,7 @@ import com.google.common.collect.MultimapBuilder;
 import cpw.mods.fml.common.FMLCommonHandler;
 import gregtech.GTMod;
 import gregtech.api.enums.ItemList;
+import gregtech.api.recipe.RecipeIds;
 import gregtech.api.util.GTRecipe.RecipeAssemblyLine;
 import gregtech.api.util.GTUtility.ItemId;
 
@@ -45,7 +46,18 @@ public class AssemblyLineUtils {
      * @return The recipes that match the data stick.
      */
     public static Collection<RecipeAssemblyLine> findALRecipeFromDataStick(ItemStack dataStick) {
-        return findALRecipeByOutput(getDataStickOutput(dataStick));
+        final ItemStack output = getDataStickOutput(dataStick);
+        if (output != null && dataStick.getTagCompound()
+            .hasKey("recipeId")) {
+            // data sticks written since recipes have IDs know exactly which of the recipes for the output they hold
+            final RecipeAssemblyLine recipe = RecipeIds.getAssemblyLineRecipe(
+                dataStick.getTagCompound()
+                    .getLong("recipeId"));
+            if (recipe != null && GTUtility.areStacksEqual(recipe.mOutput, output, true)) {
+                return Collections.singletonList(recipe);
+            }
+        }
+        return findALRecipeByOutput(output);
     }
 
     /**
@@ -176,6 +188,7 @@ public class AssemblyLineUtils {
 
         rootTag.setTag("output", aNewRecipe.mOutput.writeToNBT(new NBTTagCompound()));
         rootTag.setString("author", author);
+        if (aNewRecipe.getContentId() != 0) rootTag.setLong("recipeId", aNewRecipe.getContentId());
 
         NBTTagList tooltip = new NBTTagList();
         tooltip.appendTag(
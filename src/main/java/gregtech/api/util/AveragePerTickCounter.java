@@ -1,7 +1,6 @@
 package gregtech.api.util;
 
 import java.security.InvalidParameterException;
-import java.util.ArrayDeque;
 
 import net.minecraft.server.MinecraftServer;
 
@@ -18,122 +17,73 @@ public class AveragePerTickCounter {
         if (period <= 0) throw new InvalidParameterException("period should be a positive non-zero number");
 
         this.period = period;
-        values = new ArrayDeque<>(period);
+        values = new RollingStatistics(period, 0, 0);
     }
 
     public void addValue(long value) {
 
-        if (value == 0) return;
+        if (value <= 0) return;
 
         final int currTick = getWorldTimeInTicks();
 
-        if (values.isEmpty()) {
-            values.addLast(new Measurement(currTick, value));
-            isCachedAverageValid = false;
+        if (!hasValues) {
+            values.update(value);
+            lastTick = currTick;
+            hasValues = true;
             return;
         }
 
-        Measurement lastMeasurement = values.peekLast();
-        final int lastMeasurementTick = lastMeasurement.TimestampInWorldTicks;
-
         /// sums up values added in the same tick
         /// for example a cable had an amp running through it multiple times in the same tick
-        if (currTick == lastMeasurementTick) {
-            lastMeasurement.Value = lastMeasurement.Value + value;
-            isCachedAverageValid = false;
+        if (currTick == lastTick) {
+            values.add(value);
             return;
         }
 
-        if (currTick > lastMeasurementTick) {
-            trimIrrelevantData(currTick);
-
-            values.addLast(new Measurement(currTick, value));
-            isCachedAverageValid = false;
-            return;
+        if (currTick > lastTick) {
+            values.skip(currTick - lastTick - 1);
+            values.update(value);
+            lastTick = currTick;
         }
     }
 
     public double getAverage() {
 
-        if (values.isEmpty()) return 0;
+        if (!hasValues) return 0;
 
         final int currTick = getWorldTimeInTicks();
 
-        Measurement lastMeasurement = values.peekLast();
-        final int lastMeasurementTick = lastMeasurement.TimestampInWorldTicks;
-
-        if (currTick < lastMeasurementTick) return 0;
+        if (currTick < lastTick) return 0;
 
-        if (currTick > lastMeasurementTick) {
-            trimIrrelevantData(currTick);
+        if (currTick > lastTick) {
+            values.skip(currTick - lastTick);
+            lastTick = currTick;
         }
 
-        if (isCachedAverageValid) return cachedAverage;
-
-        return calculateAverage();
+        return values.ticks()
+            .sum()
+            .doubleValue() / period;
     }
 
     public long getLast() {
 
-        if (values.isEmpty()) return 0;
+        if (!hasValues) return 0;
 
         final int currTick = getWorldTimeInTicks();
 
-        Measurement lastMeasurement = values.peekLast();
-        final int lastMeasurementTick = lastMeasurement.TimestampInWorldTicks;
-
-        if (currTick == lastMeasurementTick) return values.getLast().Value;
+        if (currTick == lastTick) return values.getLast();
 
         return 0;
     }
 
-    private double calculateAverage() {
-
-        isCachedAverageValid = true;
-        long sum = 0;
-
-        for (Measurement measurement : values) {
-            sum += measurement.Value;
-        }
-
-        return sum / (double) period;
-    }
-
-    private void trimIrrelevantData(int currWorldTimeInTicks) {
-
-        if (values.isEmpty()) return;
-
-        int firstMeasurementTick = values.peekFirst().TimestampInWorldTicks;
-
-        while (currWorldTimeInTicks - firstMeasurementTick >= period) {
-            values.removeFirst();
-            isCachedAverageValid = false;
-
-            if (values.isEmpty()) return;
-
-            firstMeasurementTick = values.peekFirst().TimestampInWorldTicks;
-        }
-    }
-
     private int getWorldTimeInTicks() {
         return MinecraftServer.getServer()
             .getTickCounter();
     }
 
-    private final ArrayDeque<Measurement> values;
+    private final RollingStatistics values;
     private final int period;
 
-    private final double cachedAverage = 0;
-    private boolean isCachedAverageValid = true;
-
-    private static class Measurement {
-
-        public int TimestampInWorldTicks;
-        public long Value;
-
-        public Measurement(int timestampInWorldTicks, long value) {
-            this.TimestampInWorldTicks = timestampInWorldTicks;
-            this.Value = value;
-        }
-    }
+    private int lastTick;
+    private boolean hasValues = false;
 }
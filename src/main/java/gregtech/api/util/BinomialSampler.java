@@ -0,0 +1,140 @@
+package gregtech.api.util;
+
+import java.util.Random;
+
+/**
+ * Draws from a binomial distribution, the number of successful rolls out of n rolls with the chance p, without rolling
+ * n times. Small means are drawn by inversion, which takes about n * p steps. Larger means use the BTPE algorithm of
+ * Kachitvichyanukul and Schmeiser (1988), which takes a small constant number of steps no matter how large n is.
+ */
+public final class BinomialSampler {
+
+    // below this mean the inversion is faster than setting up BTPE
+    private static final double INVERSION_MAX_MEAN = 10;
+
+    private BinomialSampler() {}
+
+    /**
+     * @param aRandom the random number generator to draw from
+     * @param aTrials the number of rolls
+     * @param aChance the chance of every roll to succeed, between 0 and 1
+     * @return the number of successful rolls, between 0 and aTrials
+     */
+    public static long sample(Random aRandom, long aTrials, double aChance) {
+        if (aTrials <= 0 || aChance <= 0) return 0;
+        if (aChance >= 1) return aTrials;
+        // both algorithms need a chance of at most 1/2, count the failed rolls instead
+        if (aChance > 0.5) return aTrials - sample(aRandom, aTrials, 1 - aChance);
+        if (aTrials * aChance < INVERSION_MAX_MEAN) return sampleInversion(aRandom, aTrials, aChance);
+        return sampleBTPE(aRandom, aTrials, aChance);
+    }
+
+    // walks the cumulative distribution from 0 upwards until it passes a uniform random number
+    private static long sampleInversion(Random aRandom, long aTrials, double aChance) {
+        final double q = 1 - aChance;
+        final double s = aChance / q;
+        final double a = (aTrials + 1) * s;
+        // q^n, the chance of no successful roll, is at least e^-10 here
+        final double r0 = Math.exp(aTrials * Math.log1p(-aChance));
+        // the chance of anything beyond this is negligible, only rounding errors get there
+        final double mean = aTrials * aChance;
+        final long bound = (long) Math.min(aTrials, mean + 10 * Math.sqrt(mean * q + 1));
+        while (true) {
+            double r = r0;
+            double u = aRandom.nextDouble();
+            long x = 0;
+            while (u > r && x <= bound) {
+                u -= r;
+                x++;
+                r *= a / x - s;
+            }
+            if (x <= bound) return x;
+        }
+    }
+
+    // BTPE, with the names of the original paper
+    private static long sampleBTPE(Random aRandom, long aTrials, double aChance) {
+        final double n = aTrials;
+        final double r = aChance;
+        final double q = 1 - r;
+        final double nrq = n * r * q;
+        final double fm = n * r + r;
+        final long m = (long) fm;
+        final double p1 = Math.floor(2.195 * Math.sqrt(nrq) - 4.6 * q) + 0.5;
+        final double xm = m + 0.5;
+        final double xl = xm - p1;
+        final double xr = xm + p1;
+        final double c = 0.134 + 20.5 / (15.3 + m);
+        double a = (fm - xl) / (fm - xl * r);
+        final double laml = a * (1 + a / 2);
+        a = (xr - fm) / (xr * q);
+        final double lamr = a * (1 + a / 2);
+        final double p2 = p1 * (1 + 2 * c);
+        final double p3 = p2 + c / laml;
+        final double p4 = p3 + c / lamr;
+
+        while (true) {
+            final double u = aRandom.nextDouble() * p4;
+            double v = aRandom.nextDouble();
+            final long y;
+            if (u <= p1) {
+                // the triangle in the middle is accepted right away
+                return (long) Math.floor(xm - p1 * v + u);
+            } else if (u <= p2) {
+                // the parallelograms next to the triangle
+                final double x = xl + (u - p1) / c;
+                v = v * c + 1 - Math.abs(m - x + 0.5) / p1;
+                if (v > 1) continue;
+                y = (long) Math.floor(x);
+            } else if (u <= p3) {
+                // the exponential tail on the left
+                y = (long) Math.floor(xl + Math.log(v) / laml);
+                if (y < 0 || v == 0) continue;
+                v = v * (u - p2) * laml;
+            } else {
+                // the exponential tail on the right
+                y = (long) Math.floor(xr - Math.log(v) / lamr);
+                if (y > aTrials || v == 0) continue;
+                v = v * (u - p3) * lamr;
+            }
+
+            final long k = Math.abs(y - m);
+            if (k <= 20 || k >= nrq / 2 - 1) {
+                // close to the mode, compare with the exact ratio of the chances of y and m
+                final double s = r / q;
+                final double as = s * (n + 1);
+                double f = 1;
+                if (m < y) {
+                    for (long i = m + 1; i <= y; i++) f *= as / i - s;
+                } else if (m > y) {
+                    for (long i = y + 1; i <= m; i++) f /= as / i - s;
+                }
+                if (v <= f) return y;
+                continue;
+            }
+
+            // far from the mode, squeeze with bounds first and compare with Stirling's approximation last
+            final double rho = (k / nrq) * ((k * (k / 3.0 + 0.625) + 0.1666666666666) / nrq + 0.5);
+            final double t = -(double) k * k / (2 * nrq);
+            final double logV = Math.log(v);
+            if (logV < t - rho) return y;
+            if (logV > t + rho) continue;
+            final double x1 = y + 1;
+            final double f1 = m + 1;
+            final double z = n + 1 - m;
+            final double w = n - y + 1;
+            final double bound = xm * Math.log(f1 / x1) + (n - m + 0.5) * Math.log(z / w)
+                + (y - m) * Math.log(w * r / (x1 * q))
+                + stirlingCorrection(f1)
+                + stirlingCorrection(z)
+                + stirlingCorrection(x1)
+                + stirlingCorrection(w);
+            if (logV <= bound) return y;
+        }
+    }
+
+    private static double stirlingCorrection(double x) {
+        final double x2 = x * x;
+        return (13680. - (462. - (132. - (99. - 140. / x2) / x2) / x2) / x2) / x / 166320.;
+    }
+}
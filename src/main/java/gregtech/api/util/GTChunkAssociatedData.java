@@ -2,12 +2,13 @@ package gregtech.api.util;
 
 import static gregtech.api.enums.Mods.GregTech;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.DataOutput;
 import java.io.DataOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -17,13 +18,19 @@ import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -36,6 +43,7 @@ import net.minecraft.world.ChunkCoordIntPair;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.event.world.WorldEvent;
 
 import org.apache.commons.io.FileUtils;
@@ -43,6 +51,7 @@ import org.apache.commons.io.FileUtils;
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 import gregtech.api.enums.GTValues;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+import gregtech.common.config.Gregtech;
 
 /**
  * A utility to save all kinds of data that is a function of any chunk.
@@ -57,7 +66,9 @@ import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
  * <p>
  * Element cannot be null.
  * <p>
- * TODO: Implement automatic region unloading.
+ * If enabled in the config, super regions that had a chunk unloaded are evicted once none of their chunks are loaded
+ * and their data hasn't been accessed for a while. Their data is saved before they are evicted and loaded again from
+ * disk when accessed. Don't hold on to elements, changes to an element of an evicted region are lost.
  *
  * @param <T> data element type
  * @author glease
@@ -75,6 +86,11 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
                 / 3));
     private static final ExecutorService IO_WORKERS = Executors.newWorkStealingPool(IO_PARALLELISM);
     private static final Pattern FILE_PATTERN = Pattern.compile("(.+)\\.(-?\\d+)\\.(-?\\d+)\\.dat");
+    /**
+     * How long a super region must not have been accessed before it can be evicted. Longer than a pollution cycle, so
+     * regions with pollution that is still spreading stay loaded.
+     */
+    private static final long EVICTION_IDLE_TICKS = 6000;
 
     static {
         // register event handler
@@ -91,6 +107,13 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
      * determined by regionSize. Here it is called super region, to not confuse with vanilla's regions.
      */
     private final Map<Integer, Map<ChunkCoordIntPair, SuperRegion>> masterMap = new ConcurrentHashMap<>();
+    /**
+     * Super regions that had a chunk unloaded since they were last checked for eviction, by world id.
+     */
+    private final Map<Integer, Set<ChunkCoordIntPair>> evictionCandidates = new ConcurrentHashMap<>();
+    private final AtomicLong evictedRegions = new AtomicLong();
+    private final AtomicLong savedRegions = new AtomicLong();
+    private final AtomicLong saveNanos = new AtomicLong();
 
     /**
      * Initialize this instance.
@@ -139,12 +162,14 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
     public final T get(World world, int chunkX, int chunkZ) {
         SuperRegion region = masterMap.computeIfAbsent(world.provider.dimensionId, ignored -> new ConcurrentHashMap<>())
             .computeIfAbsent(getRegionID(chunkX, chunkZ), c -> new SuperRegion(world, c));
+        region.lastAccess = world.getTotalWorldTime();
         return region.get(Math.floorMod(chunkX, regionLength), Math.floorMod(chunkZ, regionLength));
     }
 
     protected final void set(World world, int chunkX, int chunkZ, T data) {
         SuperRegion region = masterMap.computeIfAbsent(world.provider.dimensionId, ignored -> new ConcurrentHashMap<>())
             .computeIfAbsent(getRegionID(chunkX, chunkZ), c -> new SuperRegion(world, c));
+        region.lastAccess = world.getTotalWorldTime();
         region.set(Math.floorMod(chunkX, regionLength), Math.floorMod(chunkZ, regionLength), data);
     }
 
@@ -171,6 +196,7 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
                 "Clearing ChunkAssociatedData with " + dirtyRegionCount + " regions dirty. Data might have been lost!");
         }
         masterMap.clear();
+        evictionCandidates.clear();
     }
 
     public void save() {
@@ -189,6 +215,64 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
                 .stream());
     }
 
+    /**
+     * Save and drop the super regions of a world that had a chunk unloaded, have no chunks loaded anymore and haven't
+     * been accessed for {@link #EVICTION_IDLE_TICKS}.
+     */
+    public void evictIdleRegions(World world) {
+        Set<ChunkCoordIntPair> candidates = evictionCandidates.get(world.provider.dimensionId);
+        Map<ChunkCoordIntPair, SuperRegion> map = masterMap.get(world.provider.dimensionId);
+        if (candidates == null || map == null) return;
+        long now = world.getTotalWorldTime();
+        for (Iterator<ChunkCoordIntPair> iterator = candidates.iterator(); iterator.hasNext();) {
+            ChunkCoordIntPair coord = iterator.next();
+            SuperRegion region = map.get(coord);
+            if (region == null) {
+                iterator.remove();
+                continue;
+            }
+            if (now - region.lastAccess < EVICTION_IDLE_TICKS) continue;
+            if (!region.hasLoadedChunks(world)) {
+                if (region.isDirty()) region.save();
+                map.remove(coord);
+                evictedRegions.incrementAndGet();
+            }
+            // a region with loaded chunks is a candidate again once one of them is unloaded
+            iterator.remove();
+        }
+    }
+
+    private void onChunkUnload(Chunk chunk) {
+        Map<ChunkCoordIntPair, SuperRegion> map = masterMap.get(chunk.worldObj.provider.dimensionId);
+        if (map == null) return;
+        ChunkCoordIntPair coord = getRegionID(chunk.xPosition, chunk.zPosition);
+        if (map.containsKey(coord)) evictionCandidates
+            .computeIfAbsent(chunk.worldObj.provider.dimensionId, ignored -> ConcurrentHashMap.newKeySet())
+            .add(coord);
+    }
+
+    public int getResidentRegionCount() {
+        int count = 0;
+        for (Map<ChunkCoordIntPair, SuperRegion> map : masterMap.values()) count += map.size();
+        return count;
+    }
+
+    public long getEvictedRegionCount() {
+        return evictedRegions.get();
+    }
+
+    public long getSavedRegionCount() {
+        return savedRegions.get();
+    }
+
+    /**
+     * @return the average time it took to save one super region, in nanoseconds
+     */
+    public long getAverageSaveNanos() {
+        long saved = savedRegions.get();
+        return saved == 0 ? 0 : saveNanos.get() / saved;
+    }
+
     private void saveRegions(Stream<SuperRegion> stream) {
         stream.filter(SuperRegion::isDirty)
             .map(c -> (Runnable) c::save)
@@ -226,6 +310,23 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
         for (GTChunkAssociatedData<?> d : instances.values()) d.save();
     }
 
+    /**
+     * @return one line per instance with its resident regions, evictions and save times
+     */
+    public static List<String> getStatistics() {
+        List<String> lines = new ArrayList<>();
+        for (GTChunkAssociatedData<?> d : instances.values()) lines.add(
+            String.format(
+                "%s: %d regions resident, %d evicted, %d saved, %.2f ms per region save",
+                d.mId,
+                d.getResidentRegionCount(),
+                d.getEvictedRegionCount(),
+                d.getSavedRegionCount(),
+                d.getAverageSaveNanos() / 1_000_000D));
+        Collections.sort(lines);
+        return lines;
+    }
+
     /**
      * Load data for all chunks for a given world. Current data for that world will be discarded. If this is what you
      * intended, call {@link #save(World)} beforehand.
@@ -297,9 +398,14 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
          * Be aware, this means region coord, not bottom-left chunk coord
          */
         private final ChunkCoordIntPair coord;
+        /**
+         * World time of the last time an element was accessed through the outer class
+         */
+        private volatile long lastAccess;
 
         private SuperRegion(World world, int regionX, int regionZ) {
             this.world = new WeakReference<>(world);
+            this.lastAccess = world.getTotalWorldTime();
             this.coord = new ChunkCoordIntPair(regionX, regionZ);
             backingStorage = new File(getSaveDirectory(world), String.format("%s.%d.%d.dat", mId, regionX, regionZ));
             if (backingStorage.isFile()) load();
@@ -307,6 +413,7 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
 
         private SuperRegion(World world, ChunkCoordIntPair regionCoord) {
             this.world = new WeakReference<>(world);
+            this.lastAccess = world.getTotalWorldTime();
             this.coord = regionCoord;
             backingStorage = new File(
                 getSaveDirectory(world),
@@ -358,6 +465,17 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
             return index % regionLength + coord.chunkZPos * regionLength;
         }
 
+        private boolean hasLoadedChunks(World world) {
+            int chunkX = coord.chunkXPos * regionLength, chunkZ = coord.chunkZPos * regionLength;
+            for (int x = chunkX; x < chunkX + regionLength; x++) {
+                for (int z = chunkZ; z < chunkZ + regionLength; z++) {
+                    if (world.getChunkProvider()
+                        .chunkExists(x, z)) return true;
+                }
+            }
+            return false;
+        }
+
         public boolean isDirty() {
             for (T datum : data) {
                 if (datum != null && !datum.isSameAsDefault()) return true;
@@ -366,8 +484,11 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
         }
 
         public void save() {
+            long start = System.nanoTime();
             try {
                 save0();
+                saveNanos.addAndGet(System.nanoTime() - start);
+                savedRegions.incrementAndGet();
             } catch (IOException e) {
                 GTLog.err.println("Error saving data " + backingStorage.getPath());
                 e.printStackTrace(GTLog.err);
@@ -380,7 +501,8 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
                 .mkdirs();
             File tmpFile = getTmpFile();
             World world = Objects.requireNonNull(this.world.get(), "Attempting to save region of another world!");
-            try (DataOutputStream output = new DataOutputStream(new FileOutputStream(tmpFile))) {
+            try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
                 int ptr = 0;
                 boolean nullRange = data[0] == null;
                 // write a magic byte as storage format version
@@ -436,7 +558,9 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
 
         private void loadFromFile(File file) throws IOException {
             World world = Objects.requireNonNull(this.world.get(), "Attempting to load region of another world!");
-            try (DataInputStream input = new DataInputStream(new FileInputStream(file))) {
+            // read the whole file at once instead of a few bytes for every read of the element data
+            try (DataInputStream input = new DataInputStream(
+                new ByteArrayInputStream(Files.readAllBytes(file.toPath())))) {
                 byte b = input.readByte();
                 if (b == 0) {
                     loadV0(input, world);
@@ -478,6 +602,8 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
         @SubscribeEvent
         public void onWorldSave(WorldEvent.Save e) {
             for (GTChunkAssociatedData<?> d : instances.values()) {
+                // evicted regions are saved on their own, so they are not saved twice
+                if (Gregtech.performance.chunkDataRegionEviction) d.evictIdleRegions(e.world);
                 d.save(e.world);
             }
         }
@@ -488,6 +614,15 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
                 // there is no need to explicitly do a save here
                 // forge will send a WorldEvent.Save on server thread before this event is distributed
                 d.masterMap.remove(e.world.provider.dimensionId);
+                d.evictionCandidates.remove(e.world.provider.dimensionId);
+            }
+        }
+
+        @SubscribeEvent
+        public void onChunkUnload(ChunkEvent.Unload e) {
+            if (e.world.isRemote || !Gregtech.performance.chunkDataRegionEviction) return;
+            for (GTChunkAssociatedData<?> d : instances.values()) {
+                d.onChunkUnload(e.getChunk());
             }
         }
     }
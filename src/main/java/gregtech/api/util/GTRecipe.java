@@ -30,6 +30,8 @@ import gregtech.api.metatileentity.implementations.MTEHatchInputBus;
 import gregtech.api.metatileentity.implementations.MTEHatchMultiInput;
 import gregtech.api.objects.ItemData;
 import gregtech.api.recipe.RecipeCategory;
+import gregtech.api.recipe.RecipeCompactor;
+import gregtech.api.recipe.RecipeIds;
 import gregtech.api.recipe.RecipeMap;
 import gregtech.api.recipe.RecipeMaps;
 import gregtech.api.recipe.RecipeMetadataKey;
@@ -121,14 +123,19 @@ public class GTRecipe implements Comparable<GTRecipe> {
      */
     private RecipeCategory recipeCategory;
     /**
-     * Stores which mod added this recipe
+     * Stores which mod added this recipe, shared and unmodifiable after {@link RecipeCompactor#compact()}
      */
     public List<ModContainer> owners = new ArrayList<>();
     /**
-     * Stores stack traces where this recipe was added
+     * Stores stack traces where this recipe was added, shared and unmodifiable after
+     * {@link RecipeCompactor#compact()}
      */
     // BW wants to overwrite it, so no final
     public List<List<String>> stackTraces = new ArrayList<>();
+    /**
+     * Content hash of this recipe, set by {@link RecipeIds} after every {@link #reInit()}, 0 before that
+     */
+    private long contentId;
 
     /** Used for simple cache validation */
     private ItemStack[] inputsAtCacheTime = null;
@@ -367,6 +374,7 @@ public class GTRecipe implements Comparable<GTRecipe> {
             map.getBackend()
                 .reInit();
         }
+        RecipeIds.assignRecipeIds();
         RecipeAssemblyLine.reInit();
     }
 
@@ -501,6 +509,22 @@ public class GTRecipe implements Comparable<GTRecipe> {
         }
     }
 
+    /**
+     * Builds the cache of merged inputs now instead of at the first recipe check. Does nothing before the full load is
+     * finished, since the inputs can still change until then.
+     */
+    public void buildMergedInputCache() {
+        if (GregTechAPI.sFullLoadFinished) getCachedCombinedItemInputs();
+    }
+
+    /**
+     * @return how many merged inputs are cached, 0 if the cache isn't built yet
+     */
+    public int getMergedInputCacheSize() {
+        final RecipeItemInput[] cache = mergedInputCache;
+        return cache == null ? 0 : cache.length;
+    }
+
     /**
      * WARNING: Do not call this method with both {@code aDecreaseStacksizeBySuccess} and {@code aDontCheckStackSizes}
      * set to {@code true}! You'll get weird behavior.
@@ -743,6 +767,17 @@ public class GTRecipe implements Comparable<GTRecipe> {
         this.recipeCategory = recipeCategory;
     }
 
+    /**
+     * @return the ID {@link RecipeIds} gave this recipe, or 0 if it has none
+     */
+    public long getContentId() {
+        return contentId;
+    }
+
+    public void setContentId(long contentId) {
+        this.contentId = contentId;
+    }
+
     private static final List<String> excludedStacktraces = Arrays.asList(
         "java.lang.Thread",
         "gregtech.api.interfaces.IRecipeMap",
@@ -772,6 +807,7 @@ public class GTRecipe implements Comparable<GTRecipe> {
                     toAdd.add(formatStackTrace(stackTrace));
                 }
             }
+            if (!(stackTraces instanceof ArrayList)) stackTraces = new ArrayList<>(stackTraces);
             stackTraces.add(toAdd);
         }
     }
@@ -791,6 +827,7 @@ public class GTRecipe implements Comparable<GTRecipe> {
     public void setOwner(ModContainer newOwner) {
         ModContainer oldOwner = !owners.isEmpty() ? this.owners.get(owners.size() - 1) : null;
         if (newOwner != null && newOwner != oldOwner) {
+            if (!(owners instanceof ArrayList)) owners = new ArrayList<>(owners);
             owners.add(newOwner);
         }
     }
@@ -878,6 +915,7 @@ public class GTRecipe implements Comparable<GTRecipe> {
         public int mEUt;
         public ItemStack[][] mOreDictAlt;
         private int mPersistentHash;
+        private long contentId;
 
         private final List<ItemStack> dataSticksForNEI = new ArrayList<>();
 
@@ -969,6 +1007,17 @@ public class GTRecipe implements Comparable<GTRecipe> {
             else this.mPersistentHash = aPersistentHash;
         }
 
+        /**
+         * @return the ID {@link RecipeIds} gave this recipe, or 0 if it has none
+         */
+        public long getContentId() {
+            return contentId;
+        }
+
+        public void setContentId(long contentId) {
+            this.contentId = contentId;
+        }
+
         /**
          * WARNING: this class will maintain a strong reference over ALL data sticks created this way. DO NOT call this
          * methods recklessly as it will cause memory leak!
@@ -984,6 +1033,7 @@ public class GTRecipe implements Comparable<GTRecipe> {
         }
 
         public static void reInit() {
+            RecipeIds.assignAssemblyLineIds();
             for (RecipeAssemblyLine recipe : sAssemblylineRecipes) {
                 for (ItemStack stack : recipe.dataSticksForNEI) {
                     AssemblyLineUtils.setAssemblyLineRecipeOnDataStick(stack, recipe, false);
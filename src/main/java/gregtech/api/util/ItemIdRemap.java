@@ -0,0 +1,117 @@
+package gregtech.api.util;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.item.Item;
+
+import com.google.common.collect.SetMultimap;
+
+import gregtech.api.GregTechAPI;
+import gregtech.api.objects.GTItemStack;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceSet;
+
+/**
+ * Rehashes the maps of {@link GregTechAPI#sItemStackMappings} and {@link GregTechAPI#itemStackMultiMaps} after Forge
+ * changed item IDs, since {@link GTItemStack} hashes by numeric ID. The ID every item had when the maps were hashed
+ * last is remembered next to the item, so only the maps holding a key of an item whose ID really changed are rehashed.
+ * <p>
+ * Those maps are rehashed as a whole like {@link GTUtility#reMap(Map)} does, which keeps the order of linked maps and
+ * multimaps. Their entries can't be moved one by one: on Java 8 the iterators of {@link java.util.HashMap}, which also
+ * back the Guava multimaps, remove an entry by the hash of its key now, which a changed ID doesn't match anymore.
+ */
+public final class ItemIdRemap {
+
+    private static final Reference2IntOpenHashMap<Item> ITEM_IDS = new Reference2IntOpenHashMap<>();
+
+    private ItemIdRemap() {}
+
+    /**
+     * Remembers the current ID of every item, as the one the maps are hashed with.
+     */
+    public static void rememberIds() {
+        ITEM_IDS.clear();
+        for (Object tItem : Item.itemRegistry) ITEM_IDS.put((Item) tItem, Item.getIdFromItem((Item) tItem));
+    }
+
+    /**
+     * Rehashes the entries of the items whose ID changed since the IDs were remembered, then remembers the new IDs.
+     *
+     * @return false if no IDs were remembered, so every map was rehashed as a whole
+     */
+    public static boolean onIdsChanged() {
+        final long tStart = System.nanoTime();
+        final boolean tKnown = !ITEM_IDS.isEmpty();
+        final ReferenceSet<Item> tChanged = new ReferenceOpenHashSet<>();
+        if (tKnown) {
+            for (Object tObject : Item.itemRegistry) {
+                final Item tItem = (Item) tObject;
+                if (!ITEM_IDS.containsKey(tItem) || ITEM_IDS.getInt(tItem) != Item.getIdFromItem(tItem)) {
+                    tChanged.add(tItem);
+                }
+            }
+        }
+        int tMoved = 0, tEntries = 0, tMaps = 0;
+        if (!tKnown || !tChanged.isEmpty()) {
+            for (Map<?, ?> tMap : GregTechAPI.sItemStackMappings) {
+                tEntries += tMap.size();
+                tMoved += tKnown ? reMap(tMap, tChanged) : reMapAll(tMap);
+                tMaps++;
+            }
+            for (SetMultimap<GTItemStack, ?> tMap : GregTechAPI.itemStackMultiMaps) {
+                tEntries += tMap.size();
+                tMoved += tKnown ? reMap(tMap, tChanged) : reMapAll(tMap);
+                tMaps++;
+            }
+        }
+        rememberIds();
+        GTLog.out.printf(
+            "GTMod: %d item IDs changed, rehashed %d of %d entries in %d item keyed maps in %d ms.%n",
+            tKnown ? tChanged.size() : ITEM_IDS.size(),
+            tMoved,
+            tEntries,
+            tMaps,
+            (System.nanoTime() - tStart) / 1_000_000);
+        return tKnown;
+    }
+
+    private static int reMapAll(Map<?, ?> aMap) {
+        GTUtility.reMap(aMap);
+        return aMap.size();
+    }
+
+    private static int reMapAll(SetMultimap<?, ?> aMap) {
+        GTUtility.reMap(aMap);
+        return aMap.size();
+    }
+
+    /**
+     * Rehashes the map if it holds a key of an item whose ID changed.
+     *
+     * @return how many entries were rehashed
+     */
+    public static int reMap(Map<?, ?> aMap, Set<Item> aChanged) {
+        return hasChangedKeys(aMap.keySet(), aChanged) ? reMapAll(aMap) : 0;
+    }
+
+    /**
+     * Rehashes the multimap if it holds a key of an item whose ID changed.
+     *
+     * @return how many entries were rehashed
+     */
+    public static int reMap(SetMultimap<?, ?> aMap, Set<Item> aChanged) {
+        return hasChangedKeys(aMap.keySet(), aChanged) ? reMapAll(aMap) : 0;
+    }
+
+    private static boolean hasChangedKeys(Collection<?> aKeys, Set<Item> aChanged) {
+        for (Object tKey : aKeys) if (isChanged(tKey, aChanged)) return true;
+        return false;
+    }
+
+    private static boolean isChanged(Object aKey, Set<Item> aChanged) {
+        return aKey instanceof GTItemStack tStack && tStack.mItem != null && aChanged.contains(tStack.mItem);
+    }
+}
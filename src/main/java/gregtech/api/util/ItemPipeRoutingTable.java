@@ -0,0 +1,223 @@
+package gregtech.api.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraftforge.common.util.ForgeDirection;
+
+import gregtech.api.interfaces.metatileentity.IConnectable;
+import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
+import gregtech.api.interfaces.metatileentity.IMetaTileEntityItemPipe;
+import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+import gregtech.api.metatileentity.BaseMetaPipeEntity;
+import gregtech.api.metatileentity.implementations.MTEItemPipe;
+import gregtech.common.covers.Cover;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongHeapIndirectPriorityQueue;
+
+/**
+ * The item pipe network {@link IMetaTileEntityItemPipe.Util#scanPipes} walks for one sending pipe, kept until the
+ * network changes. Every send walks the cached connections again with the capacity of every pipe, so a full pipe only
+ * blocks the pipes that can't be reached around it, like the walk over the world does, without looking up any tile
+ * entity.
+ * <p>
+ * Every pipe remembers the tables that route through it. Connection, colour and cover placement changes and pipes
+ * being loaded or removed only invalidate the tables of the pipe and its neighbours through
+ * {@link #invalidateAround(IGregTechTileEntity)}, since a pipe can only join or leave a network next to them. A pipe
+ * unloading with its chunk invalidates every table through it, and a walk that still finds a dead pipe doesn't send to
+ * it. Covers on the routes can change their state at any time (shutters, conveyor modes), so every cover that was asked
+ * is asked again when the table is validated.
+ */
+public class ItemPipeRoutingTable {
+
+    private final IMetaTileEntityItemPipe[] mPipes;
+    private final long[] mStepSizes;
+    /** The connections of pipe i are mConnections[mFirstConnection[i]] until mConnections[mFirstConnection[i + 1]] */
+    private final int[] mFirstConnection;
+    private final int[] mConnections;
+    private final long[] mSteps;
+    private final LongHeapIndirectPriorityQueue mQueue;
+    private final Cover[] mCovers;
+    private final boolean[] mCoverLetsItemsIn;
+    private final boolean[] mCoverResults;
+    private final List<IMetaTileEntityItemPipe> mReachablePipes = new ArrayList<>();
+    private boolean mInvalidated = false;
+
+    /**
+     * Called whenever the shape of the item pipe network around a pipe changes.
+     */
+    public static void invalidateAround(IGregTechTileEntity aPipe) {
+        invalidateThrough(aPipe.getMetaTileEntity());
+        for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+            final IGregTechTileEntity tNextPipe = aPipe.getIGregTechTileEntityAtSide(side);
+            if (tNextPipe != null) invalidateThrough(tNextPipe.getMetaTileEntity());
+        }
+    }
+
+    private static void invalidateThrough(IMetaTileEntity aMetaTileEntity) {
+        if (aMetaTileEntity instanceof MTEItemPipe tPipe) tPipe.invalidateRoutingTables();
+    }
+
+    private ItemPipeRoutingTable(Scan aScan) {
+        mPipes = aScan.mPipes.toArray(new IMetaTileEntityItemPipe[0]);
+        mStepSizes = new long[mPipes.length];
+        for (int i = 0; i < mPipes.length; i++) mStepSizes[i] = mPipes[i].getStepSize();
+        // the scan adds the connections pipe by pipe, so they are already grouped by the pipe they leave from
+        mFirstConnection = new int[mPipes.length + 1];
+        for (int tFrom : aScan.mConnectionsFrom.toIntArray()) mFirstConnection[tFrom + 1]++;
+        for (int i = 0; i < mPipes.length; i++) mFirstConnection[i + 1] += mFirstConnection[i];
+        mConnections = aScan.mConnectionsTo.toIntArray();
+        mSteps = new long[mPipes.length];
+        mQueue = new LongHeapIndirectPriorityQueue(mSteps, mPipes.length);
+
+        final int tCovers = aScan.mCoversIn.size() + aScan.mCoversOut.size();
+        mCovers = new Cover[tCovers];
+        mCoverLetsItemsIn = new boolean[tCovers];
+        mCoverResults = new boolean[tCovers];
+        int i = 0;
+        for (Map.Entry<Cover, Boolean> tEntry : aScan.mCoversIn.entrySet()) {
+            mCovers[i] = tEntry.getKey();
+            mCoverLetsItemsIn[i] = true;
+            mCoverResults[i++] = tEntry.getValue();
+        }
+        for (Map.Entry<Cover, Boolean> tEntry : aScan.mCoversOut.entrySet()) {
+            mCovers[i] = tEntry.getKey();
+            mCoverResults[i++] = tEntry.getValue();
+        }
+    }
+
+    /**
+     * @return the routing table of the pipe, or null if the network can't be cached (pipes with a step size that
+     *         isn't positive, or pipes that can't remember the table)
+     */
+    public static ItemPipeRoutingTable build(IMetaTileEntityItemPipe aPipe) {
+        final Scan tScan = new Scan();
+        tScan.scan(aPipe);
+        if (!tScan.mCacheable) return null;
+        final ItemPipeRoutingTable rTable = new ItemPipeRoutingTable(tScan);
+        for (IMetaTileEntityItemPipe tPipe : rTable.mPipes) ((MTEItemPipe) tPipe).addRoutingTable(rTable);
+        return rTable;
+    }
+
+    public void invalidate() {
+        mInvalidated = true;
+    }
+
+    public boolean isInvalidated() {
+        return mInvalidated;
+    }
+
+    /**
+     * @return if the network didn't change around any of its pipes since the table was built, and the covers on the
+     *         routes still let the same items through
+     */
+    public boolean isValid() {
+        if (mInvalidated) return false;
+        for (int i = 0; i < mCovers.length; i++) {
+            final boolean tResult = mCoverLetsItemsIn[i] ? mCovers[i].letsItemsIn(-2) : mCovers[i].letsItemsOut(-2);
+            if (tResult != mCoverResults[i]) {
+                mInvalidated = true;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The same pipes {@link IMetaTileEntityItemPipe.Util#scanPipes} finds when it doesn't ignore the capacity, sorted
+     * by ascending step distance. Pipes that are over capacity are skipped, and the pipes behind them are reached by
+     * the shortest route around them if there is one. The returned list is reused by the next call.
+     */
+    public List<IMetaTileEntityItemPipe> getReachablePipes() {
+        mReachablePipes.clear();
+        Arrays.fill(mSteps, Long.MAX_VALUE);
+        mQueue.clear();
+        mSteps[0] = mStepSizes[0];
+        mQueue.enqueue(0);
+        // step sizes are positive, so every pipe is dequeued at its shortest distance
+        while (!mQueue.isEmpty()) {
+            final int tIndex = mQueue.dequeue();
+            final IMetaTileEntityItemPipe tPipe = mPipes[tIndex];
+            final IGregTechTileEntity tBase = tPipe.getBaseMetaTileEntity();
+            if (tBase == null || tBase.isDead()) {
+                // sending into an unloaded pipe would load the chunks around it
+                mInvalidated = true;
+                continue;
+            }
+            if (!tPipe.pipeCapacityCheck()) continue;
+            mReachablePipes.add(tPipe);
+            for (int i = mFirstConnection[tIndex]; i < mFirstConnection[tIndex + 1]; i++) {
+                final int tNext = mConnections[i];
+                final long tStep = mSteps[tIndex] + mStepSizes[tNext];
+                if (tStep >= mSteps[tNext]) continue;
+                mSteps[tNext] = tStep;
+                if (mQueue.contains(tNext)) mQueue.changed(tNext);
+                else mQueue.enqueue(tNext);
+            }
+        }
+        return mReachablePipes;
+    }
+
+    public int getSize() {
+        return mPipes.length;
+    }
+
+    // the pipes IMetaTileEntityItemPipe.Util.scanPipes reaches when it ignores the capacity, and the connections it
+    // follows between them
+    private static class Scan {
+
+        private final List<IMetaTileEntityItemPipe> mPipes = new ArrayList<>();
+        private final Map<IMetaTileEntityItemPipe, Integer> mIndices = new IdentityHashMap<>();
+        private final IntArrayList mConnectionsFrom = new IntArrayList();
+        private final IntArrayList mConnectionsTo = new IntArrayList();
+        private final Map<Cover, Boolean> mCoversIn = new IdentityHashMap<>();
+        private final Map<Cover, Boolean> mCoversOut = new IdentityHashMap<>();
+        private boolean mCacheable = true;
+
+        private void scan(IMetaTileEntityItemPipe aPipe) {
+            getIndex(aPipe);
+            // the list grows while it is walked, every pipe is only added once
+            for (int i = 0; i < mPipes.size(); i++) {
+                final IMetaTileEntityItemPipe tPipe = mPipes.get(i);
+                // only MTEItemPipe remembers the tables that route through it
+                if (tPipe.getStepSize() <= 0 || !(tPipe instanceof MTEItemPipe)) mCacheable = false;
+                final IGregTechTileEntity tBaseMetaTileEntity = tPipe.getBaseMetaTileEntity();
+                for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+                    if (tPipe instanceof IConnectable && !((IConnectable) tPipe).isConnectedAtSide(side)) continue;
+                    if (!letsItems(tBaseMetaTileEntity.getCoverAtSide(side), false)) continue;
+                    final IGregTechTileEntity tItemPipe = tBaseMetaTileEntity.getIGregTechTileEntityAtSide(side);
+                    if (tItemPipe == null) continue;
+                    if (tBaseMetaTileEntity.getColorization() >= 0) {
+                        final byte tColor = tItemPipe.getColorization();
+                        if (tColor >= 0 && tColor != tBaseMetaTileEntity.getColorization()) continue;
+                    }
+                    if (tItemPipe instanceof BaseMetaPipeEntity) {
+                        final IMetaTileEntity tMetaTileEntity = tItemPipe.getMetaTileEntity();
+                        if (tMetaTileEntity instanceof IMetaTileEntityItemPipe tNextPipe
+                            && letsItems(tItemPipe.getCoverAtSide(side.getOpposite()), true)) {
+                            mConnectionsFrom.add(i);
+                            mConnectionsTo.add(getIndex(tNextPipe));
+                        }
+                    }
+                }
+            }
+        }
+
+        private int getIndex(IMetaTileEntityItemPipe aPipe) {
+            final Integer tIndex = mIndices.get(aPipe);
+            if (tIndex != null) return tIndex;
+            mIndices.put(aPipe, mPipes.size());
+            mPipes.add(aPipe);
+            return mPipes.size() - 1;
+        }
+
+        private boolean letsItems(Cover aCover, boolean aIn) {
+            final boolean tResult = aIn ? aCover.letsItemsIn(-2) : aCover.letsItemsOut(-2);
+            if (aCover.isValid()) (aIn ? mCoversIn : mCoversOut).put(aCover, tResult);
+            return tResult;
+        }
+    }
+}
@@ -586,25 +586,8 @@ public class ParallelHelper {
         double multiplier = Math.floorDiv(chanceInt, 10000) * parallel;
         int transformedChanceInt = chanceInt % 10000;
         if (transformedChanceInt == 0) return multiplier;
-        // Calculation of the Decimal Part of chance
-        double chance = transformedChanceInt / 10000.0;
-        double mean = parallel * chance;
-        double stdDev = Math.sqrt(parallel * chance * (1 - chance));
-        // Check if everything within 3 standard deviations of mean is within the range
-        // of possible values (0 ~ currentParallel)
-        boolean isSuitableForFittingWithNormalDistribution = mean - 3 * stdDev >= 0 && mean + 3 * stdDev <= parallel;
-        if (isSuitableForFittingWithNormalDistribution) {
-            // Use Normal Distribution to fit Binomial Distribution
-            double tMultiplier = stdDev * XSTR.XSTR_INSTANCE.nextGaussian() + mean;
-            multiplier += Math.max(Math.min(tMultiplier, parallel), 0);
-        } else {
-            // Do Binomial Distribution by loop
-            for (int roll = 0; roll < parallel; roll++) {
-                if (transformedChanceInt > XSTR.XSTR_INSTANCE.nextInt(10000)) {
-                    multiplier += 1;
-                }
-            }
-        }
+        // Roll the Decimal Part of chance once for every parallel, without rolling parallel times
+        multiplier += BinomialSampler.sample(XSTR.XSTR_INSTANCE, parallel, transformedChanceInt / 10000.0);
         return multiplier;
     }
 
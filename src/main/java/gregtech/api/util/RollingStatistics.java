@@ -0,0 +1,263 @@
+package gregtech.api.util;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import net.minecraft.nbt.NBTTagCompound;
+
+/**
+ * Sums of a non-negative value recorded once per tick, over three windows at once: the last ticks exactly, the last
+ * seconds rolled up per second and the last minutes rolled up per minute. Averages over every window are O(1), and an
+ * hour of rollups takes 60 slots instead of the 72000 a {@link LongRunningAverage} needs.
+ * <p>
+ * The rolled up windows end with the second or minute that is still being recorded, so they cover up to one second or
+ * minute less than their full length. Sums are kept in 127 bits like {@link LongRunningAverage}.
+ */
+public class RollingStatistics {
+
+    private static final long LOW_MASK = 0x7FFFFFFFFFFFFFFFL;
+
+    private final Level ticks, seconds, minutes;
+
+    /**
+     * @param ticks   length of the exact window in ticks
+     * @param seconds length of the per second window in seconds
+     * @param minutes length of the per minute window in minutes
+     */
+    public RollingStatistics(int ticks, int seconds, int minutes) {
+        if (ticks < 0 || seconds < 0 || minutes < 0 || ticks + seconds + minutes == 0) {
+            throw new IllegalArgumentException("Window lengths must not be negative and not all zero");
+        }
+        this.ticks = new Level(ticks, 1);
+        this.seconds = new Level(seconds, 20);
+        this.minutes = new Level(minutes, 60 * 20);
+    }
+
+    /**
+     * Records the next tick.
+     */
+    public void update(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value must not be negative");
+        }
+        ticks.update(value);
+        seconds.update(value);
+        minutes.update(value);
+    }
+
+    /**
+     * Adds to the tick recorded last, or records the first tick if there is none yet.
+     */
+    public void add(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value must not be negative");
+        }
+        if (ticks.recorded == 0 && seconds.recorded == 0 && minutes.recorded == 0) {
+            update(value);
+            return;
+        }
+        ticks.add(value);
+        seconds.add(value);
+        minutes.add(value);
+    }
+
+    /**
+     * Records ticks in which the value was 0.
+     */
+    public void skip(long ticks) {
+        if (ticks <= 0) return;
+        this.ticks.skip(ticks);
+        seconds.skip(ticks);
+        minutes.skip(ticks);
+    }
+
+    /**
+     * @return the value of the tick recorded last
+     */
+    public long getLast() {
+        if (ticks.slots() > 0) return ticks.recorded == 0 ? 0 : ticks.lows[ticks.ptr];
+        throw new IllegalStateException("Only the exact window knows the last tick");
+    }
+
+    /**
+     * @return the exact window
+     */
+    public LongData ticks() {
+        return ticks;
+    }
+
+    /**
+     * @return the window rolled up per second
+     */
+    public LongData seconds() {
+        return seconds;
+    }
+
+    /**
+     * @return the window rolled up per minute
+     */
+    public LongData minutes() {
+        return minutes;
+    }
+
+    public void saveNBTData(NBTTagCompound aNBT, String aKey) {
+        final ByteBuffer tBuffer = ByteBuffer.allocate(ticks.byteSize() + seconds.byteSize() + minutes.byteSize());
+        ticks.write(tBuffer);
+        seconds.write(tBuffer);
+        minutes.write(tBuffer);
+        aNBT.setByteArray(aKey, tBuffer.array());
+    }
+
+    /**
+     * Restores what {@link #saveNBTData} saved, unless it was saved with other window lengths.
+     */
+    public void loadNBTData(NBTTagCompound aNBT, String aKey) {
+        final byte[] tData = aNBT.getByteArray(aKey);
+        if (tData.length != ticks.byteSize() + seconds.byteSize() + minutes.byteSize()) return;
+        final ByteBuffer tBuffer = ByteBuffer.wrap(tData);
+        ticks.read(tBuffer);
+        seconds.read(tBuffer);
+        minutes.read(tBuffer);
+    }
+
+    private static class Level implements LongData {
+
+        private final int unit;
+        /** Sum of every slot, split into 63 bits in the low and the rest in the high part */
+        private final long[] lows;
+        private final int[] highs;
+        private long sumHigh, sumLow;
+        /** The slot that is being recorded */
+        private int ptr;
+        private int ticksInSlot;
+        private long recorded;
+
+        private Level(int slots, int unit) {
+            this.unit = unit;
+            lows = new long[slots];
+            highs = new int[slots];
+        }
+
+        private int slots() {
+            return lows.length;
+        }
+
+        private void update(long value) {
+            if (slots() == 0) return;
+            if (ticksInSlot == unit) advance();
+            ticksInSlot++;
+            recorded++;
+            add(value);
+        }
+
+        private void add(long value) {
+            if (slots() == 0) return;
+            long low = lows[ptr] + value;
+            if (low < 0) {
+                highs[ptr]++;
+                low &= LOW_MASK;
+            }
+            lows[ptr] = low;
+            low = sumLow + value;
+            if (low < 0) {
+                sumHigh++;
+                low &= LOW_MASK;
+            }
+            sumLow = low;
+        }
+
+        private void skip(long ticks) {
+            if (slots() == 0) return;
+            recorded += ticks;
+            if (ticks >= (long) slots() * unit) {
+                // the whole window is 0 now, only where the slots start has to stay the same
+                final int tPhase = (int) ((ticksInSlot + ticks - 1) % unit) + 1;
+                clear();
+                ticksInSlot = tPhase;
+                return;
+            }
+            int tTicks = (int) ticks;
+            final int tFirst = Math.min(tTicks, unit - ticksInSlot);
+            ticksInSlot += tFirst;
+            tTicks -= tFirst;
+            while (tTicks > 0) {
+                advance();
+                ticksInSlot = Math.min(tTicks, unit);
+                tTicks -= ticksInSlot;
+            }
+        }
+
+        /** Drops the oldest slot and starts recording into it */
+        private void advance() {
+            if (++ptr == slots()) ptr = 0;
+            long low = sumLow - lows[ptr];
+            long high = sumHigh - highs[ptr];
+            if (low < 0) {
+                high--;
+                low &= LOW_MASK;
+            }
+            sumLow = low;
+            sumHigh = high;
+            lows[ptr] = 0;
+            highs[ptr] = 0;
+            ticksInSlot = 0;
+        }
+
+        @Override
+        public int size() {
+            if (slots() == 0) return 0;
+            return (int) Math.min(recorded, (long) (slots() - 1) * unit + ticksInSlot);
+        }
+
+        @Override
+        public BigInteger sum() {
+            return BigInteger.valueOf(sumHigh)
+                .shiftLeft(63)
+                .add(BigInteger.valueOf(sumLow));
+        }
+
+        private int byteSize() {
+            return 4 + 4 + 8 + slots() * (8 + 4);
+        }
+
+        private void write(ByteBuffer buffer) {
+            buffer.putInt(ptr);
+            buffer.putInt(ticksInSlot);
+            buffer.putLong(recorded);
+            for (long low : lows) buffer.putLong(low);
+            for (int high : highs) buffer.putInt(high);
+        }
+
+        private void read(ByteBuffer buffer) {
+            ptr = buffer.getInt();
+            ticksInSlot = buffer.getInt();
+            recorded = buffer.getLong();
+            sumHigh = sumLow = 0;
+            for (int i = 0; i < slots(); i++) {
+                lows[i] = buffer.getLong();
+                sumLow += lows[i];
+                if (sumLow < 0) {
+                    sumHigh++;
+                    sumLow &= LOW_MASK;
+                }
+            }
+            for (int i = 0; i < slots(); i++) {
+                highs[i] = buffer.getInt();
+                sumHigh += highs[i];
+            }
+            if (slots() > 0 && (ptr < 0 || ptr >= slots() || ticksInSlot < 0 || ticksInSlot > unit)) {
+                clear();
+                recorded = 0;
+            }
+        }
+
+        private void clear() {
+            Arrays.fill(lows, 0);
+            Arrays.fill(highs, 0);
+            sumHigh = sumLow = 0;
+            ptr = 0;
+            ticksInSlot = 0;
+        }
+    }
+}
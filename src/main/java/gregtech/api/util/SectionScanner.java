@@ -0,0 +1,134 @@
+package gregtech.api.util;
+
+import net.minecraft.block.Block;
+import net.minecraft.init.Blocks;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import com.gtnewhorizon.gtnhlib.util.CoordinatePacker;
+
+import gregtech.common.blocks.BlockOresAbstract;
+import gregtech.common.blocks.TileEntityOres;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
+/**
+ * Reads blocks straight from the 16x16x16 sections of the chunks instead of asking the world for every block, for the
+ * machines that walk large areas block by block. Like {@link gregtech.api.metatileentity.BaseTileEntity#getBlock}, it
+ * doesn't load chunks, blocks in unloaded chunks read as air.
+ * <p>
+ * Only use a scanner on the server thread, and only for one scan at a time.
+ */
+public class SectionScanner {
+
+    private static final byte UNKNOWN = 0, ORE = 1, NOT_ORE = 2;
+    /** What {@link GTUtility#isOre(Block, int)} said about every block and meta it was asked about */
+    private static final Reference2ObjectOpenHashMap<Block, byte[]> ORE_CACHE = new Reference2ObjectOpenHashMap<>();
+
+    private final World world;
+    private Chunk chunk;
+    /** Whether the sections the current scan looked at contain any ore, so columns can skip the ones that don't */
+    private final Reference2BooleanOpenHashMap<ExtendedBlockStorage> oreSections = new Reference2BooleanOpenHashMap<>();
+
+    public SectionScanner(World world) {
+        this.world = world;
+    }
+
+    public boolean isFor(World world) {
+        return this.world == world;
+    }
+
+    /**
+     * Same as {@link GTUtility#isOre(Block, int)}, but remembers the answer.
+     */
+    public static boolean isOre(Block block, int meta) {
+        byte[] tMetas = ORE_CACHE.get(block);
+        if (tMetas == null) ORE_CACHE.put(block, tMetas = new byte[16]);
+        if (tMetas[meta & 15] == UNKNOWN) tMetas[meta & 15] = GTUtility.isOre(block, meta) ? ORE : NOT_ORE;
+        return tMetas[meta & 15] == ORE;
+    }
+
+    private Chunk getChunk(int x, int z) {
+        if (chunk == null || !chunk.isChunkLoaded || chunk.xPosition != x >> 4 || chunk.zPosition != z >> 4) {
+            if (!world.getChunkProvider()
+                .chunkExists(x >> 4, z >> 4)) return null;
+            chunk = world.getChunkFromChunkCoords(x >> 4, z >> 4);
+        }
+        return chunk;
+    }
+
+    /**
+     * @return the section holding the block, or null if it is all air or not loaded
+     */
+    private ExtendedBlockStorage getSection(int x, int y, int z) {
+        if (y < 0 || y > 255) return null;
+        final Chunk tChunk = getChunk(x, z);
+        if (tChunk == null) return null;
+        final ExtendedBlockStorage tSection = tChunk.getBlockStorageArray()[y >> 4];
+        return tSection == null || tSection.isEmpty() ? null : tSection;
+    }
+
+    public Block getBlock(int x, int y, int z) {
+        final ExtendedBlockStorage tSection = getSection(x, y, z);
+        return tSection == null ? Blocks.air : tSection.getBlockByExtId(x & 15, y & 15, z & 15);
+    }
+
+    public int getMeta(int x, int y, int z) {
+        final ExtendedBlockStorage tSection = getSection(x, y, z);
+        return tSection == null ? 0 : tSection.getExtBlockMetadata(x & 15, y & 15, z & 15);
+    }
+
+    /**
+     * Adds the position of every ore a drill should mine in the box to the collection, packed with
+     * {@link CoordinatePacker}, going through x, then z, then y. GregTech ores only count if they were generated.
+     * When the box is at least a section high, sections without any ore are skipped.
+     *
+     * @param maxX exclusive, like maxY and maxZ
+     */
+    public void scanOres(int minX, int maxX, int minY, int maxY, int minZ, int maxZ, LongCollection ores) {
+        oreSections.clear();
+        final int tMinY = Math.max(0, minY);
+        final int tMaxY = Math.min(256, maxY);
+        // looking for ores in a whole section only pays off if the box covers most of it
+        final boolean tSkipSections = tMaxY - tMinY >= 16;
+        for (int x = minX; x < maxX; ++x) {
+            for (int z = minZ; z < maxZ; ++z) {
+                for (int y = tMinY; y < tMaxY; ++y) {
+                    final ExtendedBlockStorage tSection = getSection(x, y, z);
+                    if (tSection == null || tSkipSections && !mayHaveOres(tSection)) {
+                        y |= 15; // on to the next section
+                        continue;
+                    }
+                    final Block tBlock = tSection.getBlockByExtId(x & 15, y & 15, z & 15);
+                    if (!isOre(tBlock, tSection.getExtBlockMetadata(x & 15, y & 15, z & 15))) continue;
+                    if (tBlock instanceof BlockOresAbstract) {
+                        final TileEntity tTileEntity = world.getTileEntity(x, y, z);
+                        if (!(tTileEntity instanceof TileEntityOres tOres) || !tOres.mNatural) continue;
+                    }
+                    ores.add(CoordinatePacker.pack(x, y, z));
+                }
+            }
+        }
+        oreSections.clear();
+    }
+
+    private boolean mayHaveOres(ExtendedBlockStorage section) {
+        if (oreSections.containsKey(section)) return oreSections.getBoolean(section);
+        boolean tOres = false;
+        search: for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    if (isOre(section.getBlockByExtId(x, y, z), section.getExtBlockMetadata(x, y, z))) {
+                        tOres = true;
+                        break search;
+                    }
+                }
+            }
+        }
+        oreSections.put(section, tOres);
+        return tOres;
+    }
+}
@@ -145,9 +145,11 @@ import gregtech.api.util.GTShapedRecipe;
 import gregtech.api.util.GTShapelessRecipe;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.WorldSpawnedEventBuilder;
+import gregtech.common.config.Gregtech;
 import gregtech.common.config.OPStuff;
 import gregtech.common.handlers.PowerGogglesEventHandler;
 import gregtech.common.items.MetaGeneratedItem98;
+import gregtech.common.misc.EntityCramming;
 import gregtech.common.misc.GlobalEnergyWorldSavedData;
 import gregtech.common.misc.GlobalMetricsCoverDatabase;
 import gregtech.common.misc.WirelessChargerManager;
@@ -2030,7 +2032,9 @@ public abstract class GTProxy implements IGTMod, IFuelHandler {
                     }
                 }
             }
-            if ((aEvent.world.getTotalWorldTime() % 100L == 0L)
+            if (Gregtech.performance.bucketedEntityCramming) {
+                EntityCramming.onWorldTick(aEvent.world, this.mItemDespawnTime, this.mMaxEqualEntitiesAtOneSpot);
+            } else if ((aEvent.world.getTotalWorldTime() % 100L == 0L)
                 && ((this.mItemDespawnTime != 6000) || (this.mMaxEqualEntitiesAtOneSpot > 0))) {
                 long startTime = System.nanoTime();
                 double oldX = 0, oldY = 0, oldZ = 0;
@@ -2096,6 +2100,7 @@ public abstract class GTProxy implements IGTMod, IFuelHandler {
 
     @SubscribeEvent
     public void onWorldUnload(WorldEvent.Unload event) {
+        EntityCramming.onWorldUnload(event.world);
         for (TileEntity tileEntity : event.world.loadedTileEntityList) {
             if (tileEntity instanceof IGregTechTileEntity) {
                 tileEntity.onChunkUnload();
@@ -113,6 +113,8 @@ public class BlockMachines extends GTGenericBlock implements IDebugableBlock, IT
         final TileEntity tTileEntity = aWorld.getTileEntity(aX, aY, aZ);
         if ((tTileEntity instanceof BaseMetaPipeEntity)) {
             ((BaseMetaPipeEntity) tTileEntity).onNeighborBlockChange(aX, aY, aZ);
+        } else if ((tTileEntity instanceof BaseTileEntity)) {
+            ((BaseTileEntity) tTileEntity).onAdjacentBlockChange(aX, aY, aZ);
         }
     }
 
@@ -27,6 +27,9 @@ public class Gregtech {
     @Config.Comment("Ore drop behavior section")
     public static final OreDropBehavior oreDropBehavior = new OreDropBehavior();
 
+    @Config.Comment("Performance section")
+    public static final Performance performance = new Performance();
+
     @Config.LangKey("GT5U.gui.config.gregtech.debug")
     public static class Debug {
 
@@ -549,4 +552,75 @@ public class Gregtech {
         @Config.RequiresMcRestart
         public GTProxy.OreDropSystem setting = GTProxy.OreDropSystem.FortuneItem;
     }
+
+    @Config.LangKey("GT5U.gui.config.gregtech.performance")
+    public static class Performance {
+
+        @Config.Comment("if true, recipe maps build a compiled input index after re-unification and use it to narrow down recipe lookups.")
+        @Config.DefaultBoolean(false)
+        @Config.RequiresMcRestart
+        public boolean compiledRecipeIndex;
+
+        @Config.Comment("if true, multiblocks that support it remember when their inputs matched no recipe and skip searching again until the inputs, recipe map or power change.")
+        @Config.DefaultBoolean(false)
+        public boolean noRecipeCache;
+
+        @Config.Comment("if true, placing, removing or reconnecting a cable only regenerates the part of the power node map below it instead of the whole network.")
+        @Config.DefaultBoolean(false)
+        public boolean incrementalCableNetworks;
+
+        @Config.Comment("if true, item pipes keep the pipes they can send to sorted by distance until a pipe network changes, instead of searching the network every time they send items.")
+        @Config.DefaultBoolean(false)
+        public boolean itemPipeRoutingTables;
+
+        @Config.Comment("if true, connected single fluid pipes distribute their fluid together as one segment straight to the tanks at its border, instead of every pipe passing fluid to its neighbours.")
+        @Config.DefaultBoolean(false)
+        public boolean fluidPipeSegments;
+
+        @Config.Comment("if true, chunk data like pollution and underground fluids is saved and dropped from memory for regions that have no loaded chunks and weren't used for a while.")
+        @Config.DefaultBoolean(false)
+        public boolean chunkDataRegionEviction;
+
+        @Config.Comment("if true, tile entity syncs are collected per chunk and sent as one packet per chunk at the end of the tick. Clients need this version of GregTech.")
+        @Config.DefaultBoolean(false)
+        public boolean batchedTileEntitySync;
+
+        @Config.Comment("if true, covers with the same tick rate run in different ticks depending on their position, instead of all in the same tick.")
+        @Config.DefaultBoolean(false)
+        public boolean staggeredCoverTicks;
+
+        @Config.Comment("if true, wireless EU added and removed during a tick is collected as a long per team and added to the stored EU at the end of the tick.")
+        @Config.DefaultBoolean(false)
+        @Config.RequiresMcRestart
+        public boolean wirelessEnergyLedger;
+
+        @Config.Comment("if true, TecTech data and laser hatches remember the hatch at the end of their pipes until one of the pipes or mirrors on the way changes or unloads, instead of following their pipes every time they send.")
+        @Config.DefaultBoolean(false)
+        public boolean cachedPipeLinks;
+
+        @Config.Comment("if true, multiblocks that support it remember the blocks their last structure check looked at and skip the structure check after block updates that didn't change any of them.")
+        @Config.DefaultBoolean(false)
+        public boolean incrementalStructureChecks;
+
+        @Config.Comment("if true, recipes share equal owner lists, stack traces, item stacks and fluid stacks and build their merged input caches once loading is done, to save heap.")
+        @Config.DefaultBoolean(false)
+        public boolean compactRecipes;
+
+        @Config.Comment("if true, pollution updates are collected and sent once a second as one packet per player with all the updated chunks the player watches. Clients need this version of GregTech.")
+        @Config.DefaultBoolean(false)
+        public boolean batchedPollutionPackets;
+
+        @Config.Comment("if true, the entity cramming check counts entities per class and block and is spread over the 100 ticks between two checks, with a time budget per tick. Only the entities above the limit of a block are damaged.")
+        @Config.DefaultBoolean(false)
+        public boolean bucketedEntityCramming;
+
+        @Config.Comment("How many microseconds per tick the spread out entity cramming check may take.")
+        @Config.DefaultInt(500)
+        @Config.RangeInt(min = 1)
+        public int entityCrammingBudgetMicros;
+
+        @Config.Comment("if true, idle single block machines stop checking for work every tick until something changes.")
+        @Config.DefaultBoolean(false)
+        public boolean hibernatingMachines;
+    }
 }
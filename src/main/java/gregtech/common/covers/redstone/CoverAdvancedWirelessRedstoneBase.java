@@ -26,6 +26,8 @@ import io.netty.buffer.ByteBuf;
 
 public abstract class CoverAdvancedWirelessRedstoneBase extends Cover {
 
+    private static final WirelessRedstoneChannel EMPTY_CHANNEL = new WirelessRedstoneChannel();
+
     protected String frequency;
 
     /**
@@ -62,10 +64,7 @@ public abstract class CoverAdvancedWirelessRedstoneBase extends Cover {
         NBTTagCompound tag = (NBTTagCompound) nbt;
         ICoverable cover = coveredTile.get();;
         if (cover != null && cover.getWorld() != null) {
-            GregTechAPI.sAdvancedWirelessRedstone
-                .computeIfAbsent(uuid == null ? "null" : uuid.toString(), (k) -> new ConcurrentHashMap<>())
-                .computeIfAbsent(frequency, (k) -> new ConcurrentHashMap<>())
-                .remove(getCoverKey(cover, coverSide));
+            removeSignalAt(uuid, frequency, getCoverKey(cover, coverSide));
         }
         frequency = tag.getString("frequency");
         if (tag.hasKey("uuid")) {
@@ -117,47 +116,9 @@ public abstract class CoverAdvancedWirelessRedstoneBase extends Cover {
             .get(String.valueOf(uuid));
         if (frequencies == null) return 0;
 
-        Map<CoverPosition, Byte> signals = frequencies.get(frequency);
-        if (signals == null) signals = new ConcurrentHashMap<>();
-
-        switch (mode) {
-            case AND -> {
-                return (byte) (signals.values()
-                    .stream()
-                    .map(signal -> signal > 0)
-                    .reduce(true, (signalA, signalB) -> signalA && signalB) ? 15 : 0);
-            }
-            case NAND -> {
-                return (byte) (signals.values()
-                    .stream()
-                    .map(signal -> signal > 0)
-                    .reduce(true, (signalA, signalB) -> signalA && signalB) ? 0 : 15);
-            }
-            case OR -> {
-                return (byte) (signals.values()
-                    .stream()
-                    .map(signal -> signal > 0)
-                    .reduce(false, (signalA, signalB) -> signalA || signalB) ? 15 : 0);
-            }
-            case NOR -> {
-                return (byte) (signals.values()
-                    .stream()
-                    .map(signal -> signal > 0)
-                    .reduce(false, (signalA, signalB) -> signalA || signalB) ? 0 : 15);
-            }
-            case SINGLE_SOURCE -> {
-                if (signals.values()
-                    .isEmpty()) {
-                    return 0;
-                }
-                return signals.values()
-                    .iterator()
-                    .next();
-            }
-            default -> {
-                return 0;
-            }
-        }
+        // The channel counts its active transmitters, so no gate has to look at every transmitter
+        if (frequencies.get(frequency) instanceof WirelessRedstoneChannel channel) return channel.getSignal(mode);
+        return EMPTY_CHANNEL.getSignal(mode);
     }
 
     public static void removeSignalAt(UUID uuid, String frequency, CoverPosition key) {
@@ -173,7 +134,7 @@ public abstract class CoverAdvancedWirelessRedstoneBase extends Cover {
     public static void setSignalAt(UUID uuid, String frequency, CoverPosition key, byte value) {
         Map<String, Map<CoverPosition, Byte>> frequencies = GregTechAPI.sAdvancedWirelessRedstone
             .computeIfAbsent(String.valueOf(uuid), k -> new ConcurrentHashMap<>());
-        Map<CoverPosition, Byte> signals = frequencies.computeIfAbsent(frequency, k -> new ConcurrentHashMap<>());
+        Map<CoverPosition, Byte> signals = frequencies.computeIfAbsent(frequency, k -> new WirelessRedstoneChannel());
         signals.put(key, value);
     }
 
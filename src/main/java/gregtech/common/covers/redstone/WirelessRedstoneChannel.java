@@ -0,0 +1,59 @@
+package gregtech.common.covers.redstone;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import gregtech.common.covers.CoverPosition;
+
+/**
+ * The signals of all transmitters on one frequency of advanced wireless redstone. Counts the active transmitters while
+ * they change, so receivers can evaluate their gate without looking at every transmitter.
+ * <p>
+ * Only {@link #put}, {@link #remove(Object)} and {@link #clear()} keep the counts, the other ways of changing a
+ * {@link ConcurrentHashMap} must not be used on a channel.
+ */
+public class WirelessRedstoneChannel extends ConcurrentHashMap<CoverPosition, Byte> {
+
+    private static final long serialVersionUID = -3311720591627429712L;
+
+    private int activeCount = 0;
+
+    @Override
+    public synchronized Byte put(CoverPosition key, Byte value) {
+        final Byte previous = super.put(key, value);
+        if (previous != null && previous > 0) activeCount--;
+        if (value > 0) activeCount++;
+        return previous;
+    }
+
+    @Override
+    public synchronized Byte remove(Object key) {
+        final Byte previous = super.remove(key);
+        if (previous == null) return null;
+        if (previous > 0) activeCount--;
+        return previous;
+    }
+
+    @Override
+    public synchronized void clear() {
+        super.clear();
+        activeCount = 0;
+    }
+
+    public synchronized byte getSignal(CoverAdvancedRedstoneReceiverBase.GateMode mode) {
+        final int totalCount = size();
+        return switch (mode) {
+            case AND -> (byte) (activeCount == totalCount ? 15 : 0);
+            case NAND -> (byte) (activeCount == totalCount ? 0 : 15);
+            case OR -> (byte) (activeCount > 0 ? 15 : 0);
+            case NOR -> (byte) (activeCount > 0 ? 0 : 15);
+            case SINGLE_SOURCE -> getSingleSource();
+        };
+    }
+
+    // the signal of any one transmitter, the first one the map iterates over
+    private byte getSingleSource() {
+        if (isEmpty()) return 0;
+        return values().iterator()
+            .next();
+    }
+}
@@ -0,0 +1,208 @@
+package gregtech.common.misc;
+
+import static gregtech.api.enums.GTValues.debugEntityCramming;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.DamageSource;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.World;
+
+import com.gtnewhorizon.gtnhlib.util.CoordinatePacker;
+
+import gregtech.api.util.GTLog;
+import gregtech.common.config.Gregtech;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
+/**
+ * Damages living entities crammed into one spot, spread over the ticks between two checks instead of checking every
+ * entity against its neighbours in one tick. The entities of a world are first counted per class and block, a bit of
+ * the entity list every tick, and then the entities above {@code maxEqualEntitiesAtOneSpot} in every block are damaged
+ * by how many entities too much the block holds. Every tick only works for the configured time budget.
+ */
+public final class EntityCramming {
+
+    /** Ticks between the starts of two checks of a world */
+    public static final int INTERVAL = 100;
+    /** How many entities are handled between two looks at the clock */
+    private static final int BATCH = 64;
+
+    /** The unfinished check of every dimension, a check is dropped once it is done */
+    private static final Int2ObjectMap<Check> CHECKS = new Int2ObjectOpenHashMap<>();
+
+    private static long sNanos, sMaxTickNanos, sTicks, sChecks, sUnfinishedChecks, sEntities, sDamaged;
+
+    private EntityCramming() {}
+
+    /**
+     * Called every server tick of the world.
+     *
+     * @param aItemDespawnTime lifespan given to new item entities, 6000 to leave them alone
+     * @param aMaxEntities     entities of one class a block may hold, 0 or less to allow any number
+     */
+    public static void onWorldTick(World aWorld, int aItemDespawnTime, int aMaxEntities) {
+        if (aItemDespawnTime == 6000 && aMaxEntities <= 0) return;
+        final int tDimension = aWorld.provider.dimensionId;
+        Check tCheck = CHECKS.get(tDimension);
+        if (aWorld.getTotalWorldTime() % INTERVAL == 0) {
+            if (tCheck != null) sUnfinishedChecks++;
+            tCheck = new Check(aWorld.loadedEntityList.toArray(), aItemDespawnTime, aMaxEntities);
+            CHECKS.put(tDimension, tCheck);
+            sChecks++;
+        }
+        if (tCheck == null) return;
+        final long tStart = System.nanoTime();
+        tCheck.work(tStart + Gregtech.performance.entityCrammingBudgetMicros * 1000L);
+        final long tNanos = System.nanoTime() - tStart;
+        tCheck.mNanos += tNanos;
+        sNanos += tNanos;
+        sMaxTickNanos = Math.max(sMaxTickNanos, tNanos);
+        sTicks++;
+        if (!tCheck.isDone()) return;
+        CHECKS.remove(tDimension);
+        if (debugEntityCramming) {
+            GTLog.out.println(
+                "CRAM: Checked " + tCheck.mCounted
+                    + " entities in "
+                    + tCheck.mNanos / 1000
+                    + " microseconds, damaged "
+                    + tCheck.mDamaged
+                    + " crammed entities");
+        }
+    }
+
+    /**
+     * Drops the unfinished check of the world, so it doesn't keep the entities of an unloaded world.
+     */
+    public static void onWorldUnload(World aWorld) {
+        if (!aWorld.isRemote) CHECKS.remove(aWorld.provider.dimensionId);
+    }
+
+    /**
+     * @return how much time the checks took and how many entities they handled
+     */
+    public static String getStatistics() {
+        return String.format(
+            "%d checks (%d not done in time), %d entities counted, %d damaged; %d us in %d ticks, %d us max per tick",
+            sChecks,
+            sUnfinishedChecks,
+            sEntities,
+            sDamaged,
+            sNanos / 1000,
+            sTicks,
+            sMaxTickNanos / 1000);
+    }
+
+    private static class Check {
+
+        private Object[] mEntities;
+        private final int mItemDespawnTime, mMaxEntities;
+        /** The entities of every class that can be crammed, by packed block position */
+        private final Map<Class<?>, Long2ObjectMap<List<Entity>>> mBlocks = new Reference2ObjectOpenHashMap<>();
+        /** The entities to damage, the block they were counted in and how much damage they get */
+        private final List<EntityLivingBase> mCrammed = new ArrayList<>();
+        private final LongArrayList mCrammedBlocks = new LongArrayList();
+        private final IntArrayList mDamage = new IntArrayList();
+        private int mCounted, mDone;
+        private boolean mCountingDone;
+        private long mNanos;
+        private int mDamaged;
+
+        private Check(Object[] aEntities, int aItemDespawnTime, int aMaxEntities) {
+            mEntities = aEntities;
+            mItemDespawnTime = aItemDespawnTime;
+            mMaxEntities = aMaxEntities;
+        }
+
+        private boolean isDone() {
+            return mCountingDone && mDone == mCrammed.size();
+        }
+
+        private void work(long aDeadline) {
+            while (!mCountingDone) {
+                final int tEnd = Math.min(mEntities.length, mCounted + BATCH);
+                sEntities += tEnd - mCounted;
+                for (; mCounted < tEnd; mCounted++) count(mEntities[mCounted]);
+                if (mCounted == mEntities.length) findCrammed();
+                else if (System.nanoTime() > aDeadline) return;
+            }
+            while (mDone < mCrammed.size()) {
+                final int tEnd = Math.min(mCrammed.size(), mDone + BATCH);
+                for (; mDone < tEnd; mDone++) {
+                    damage(mCrammed.get(mDone), mCrammedBlocks.getLong(mDone), mDamage.getInt(mDone));
+                }
+                if (System.nanoTime() > aDeadline) return;
+            }
+        }
+
+        private void count(Object aEntity) {
+            if (aEntity instanceof EntityItem tItem) {
+                if (mItemDespawnTime != 6000 && tItem.lifespan == 6000) tItem.lifespan = mItemDespawnTime;
+                return;
+            }
+            if (mMaxEntities <= 0 || !(aEntity instanceof EntityLivingBase tEntity) || !canBeCrammed(tEntity)) return;
+            mBlocks.computeIfAbsent(tEntity.getClass(), k -> new Long2ObjectOpenHashMap<>())
+                .computeIfAbsent(getBlock(tEntity), k -> new ArrayList<>(1))
+                .add(tEntity);
+        }
+
+        private void findCrammed() {
+            for (Long2ObjectMap<List<Entity>> tBlocks : mBlocks.values()) {
+                for (Long2ObjectMap.Entry<List<Entity>> tBlock : tBlocks.long2ObjectEntrySet()) {
+                    final List<Entity> tEntities = tBlock.getValue();
+                    if (tEntities.size() <= mMaxEntities) continue;
+                    if (debugEntityCramming) {
+                        GTLog.out.println(
+                            "CRAM: Excess entities: " + tEntities.size()
+                                + " at X "
+                                + CoordinatePacker.unpackX(tBlock.getLongKey())
+                                + " Y "
+                                + CoordinatePacker.unpackY(tBlock.getLongKey())
+                                + " Z "
+                                + CoordinatePacker.unpackZ(tBlock.getLongKey()));
+                    }
+                    // the first entities in a block may stay, only the ones that don't fit anymore get hurt
+                    for (int i = mMaxEntities; i < tEntities.size(); i++) {
+                        mCrammed.add((EntityLivingBase) tEntities.get(i));
+                        mCrammedBlocks.add(tBlock.getLongKey());
+                        mDamage.add(tEntities.size() - mMaxEntities);
+                    }
+                }
+            }
+            mBlocks.clear();
+            mEntities = null;
+            mCountingDone = true;
+        }
+
+        private void damage(EntityLivingBase aEntity, long aBlock, int aDamage) {
+            // counted up to a few seconds ago, so it has to still be in that block
+            if (aEntity.isDead || !canBeCrammed(aEntity) || getBlock(aEntity) != aBlock) return;
+            aEntity.attackEntityFrom(DamageSource.inWall, aDamage);
+            mDamaged++;
+            sDamaged++;
+        }
+
+        private static boolean canBeCrammed(EntityLivingBase aEntity) {
+            return !(aEntity instanceof EntityPlayer) && aEntity.canBePushed() && aEntity.getHealth() > 0.0F;
+        }
+
+        private static long getBlock(Entity aEntity) {
+            return CoordinatePacker.pack(
+                MathHelper.floor_double(aEntity.posX),
+                MathHelper.floor_double(aEntity.posY),
+                MathHelper.floor_double(aEntity.posZ));
+        }
+    }
+}
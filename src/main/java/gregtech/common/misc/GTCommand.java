@@ -4,9 +4,12 @@ import static gregtech.common.misc.WirelessNetworkManager.addEUToGlobalEnergyMap
 import static gregtech.common.misc.WirelessNetworkManager.getUserEU;
 import static gregtech.common.misc.WirelessNetworkManager.setUserEU;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Field;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -22,14 +25,29 @@ import com.gtnewhorizon.structurelib.StructureLib;
 import cpw.mods.fml.relauncher.FMLLaunchHandler;
 import gregtech.GTMod;
 import gregtech.api.enums.GTValues;
+import gregtech.api.metatileentity.CoverTickProfiler;
+import gregtech.api.metatileentity.implementations.BasicMachineHibernation;
 import gregtech.api.objects.GTChunkManager;
+import gregtech.api.recipe.RecipeCompactor;
+import gregtech.api.recipe.RecipeIds;
+import gregtech.api.recipe.RecipeMapVerifier;
+import gregtech.api.structure.StructureCheckStats;
+import gregtech.api.util.GTChunkAssociatedData;
+import gregtech.api.util.GTLog;
 import gregtech.api.util.GTMusicSystem;
 import gregtech.api.util.GTUtility;
 import gregtech.common.misc.spaceprojects.SpaceProjectManager;
 import gregtech.common.pollution.Pollution;
+import tectech.mechanics.pipe.CachedLink;
 
 public final class GTCommand extends CommandBase {
 
+    // completed as the first argument
+    private static final String[] SUBCOMMANDS = {
+        "toggle", "chunks", "chunk_data", "pollution", "global_energy_add", "global_energy_set", "global_energy_join",
+        "global_energy_display", "dump_music_durations", "cover_ticks", "pipe_links", "structure_checks", "recipe_ids",
+        "recipes", "entity_cramming", "hibernation" };
+
     @Override
     public String getCommandName() {
         return "gt";
@@ -37,13 +55,13 @@ public final class GTCommand extends CommandBase {
 
     @Override
     public String getCommandUsage(ICommandSender sender) {
-        return "Usage: gt <subcommand>. Valid subcommands are: toggle, chunks, pollution, global_energy_add, global_energy_set, global_energy_join, dump_music_durations.";
+        return "Usage: gt <subcommand>. Valid subcommands are: toggle, chunks, chunk_data, pollution, global_energy_add, global_energy_set, global_energy_join, dump_music_durations, cover_ticks, pipe_links, structure_checks, recipe_ids, recipes, entity_cramming, hibernation.";
     }
 
     private void printHelp(ICommandSender sender) {
         sender.addChatMessage(
             new ChatComponentText(
-                "Usage: gt <toggle|chunks|pollution|global_energy_add|global_energy_set|global_energy_join|dump_music_durations>"));
+                "Usage: gt <toggle|chunks|chunk_data|pollution|global_energy_add|global_energy_set|global_energy_join|dump_music_durations|cover_ticks|pipe_links|structure_checks|recipe_ids|recipes|entity_cramming|hibernation>"));
         sender.addChatMessage(new ChatComponentText("\"toggle D1\" - toggles general.Debug (D1)"));
         sender.addChatMessage(new ChatComponentText("\"toggle D2\" - toggles general.Debug2 (D2)"));
         sender.addChatMessage(new ChatComponentText("\"toggle debugCleanroom\" - toggles cleanroom debug log"));
@@ -59,6 +77,9 @@ public final class GTCommand extends CommandBase {
         sender.addChatMessage(new ChatComponentText("\"toggle debugChunkloaders\" - toggles chunkloaders debug"));
         sender.addChatMessage(new ChatComponentText("\"toggle debugMulti\" - toggles structurelib debug"));
         sender.addChatMessage(new ChatComponentText("\"chunks\" - print a list of the force loaded chunks"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"chunk_data\" - print the resident regions, evictions and save times of the chunk data like pollution"));
         sender.addChatMessage(
             new ChatComponentText(
                 "\"pollution <amount>\" - adds the <amount> of the pollution to the current chunk, "
@@ -101,33 +122,35 @@ public final class GTCommand extends CommandBase {
         sender.addChatMessage(
             new ChatComponentText(
                 "\"dump_music_durations\" - dumps soundmeta/durations.json for all registered records in the game to the log. Client-only"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"cover_ticks [ticks]\" - measures the time covers take in each of the next server ticks, results are logged to GregTech.log"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"pipe_links\" - shows how many TecTech data and laser links are cached and how often they were used or resolved again"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"structure_checks [reset]\" - logs how long the structure checks of every kind of multiblock took and how many were skipped to GregTech.log, or resets the stats"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"recipe_ids [dump|diff <file>]\" - shows how many recipes have IDs and how many IDs collided, writes all recipe IDs to RecipeIds.txt, or logs which recipe IDs changed since a file written by dump to GregTech.log"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"recipes <memory|verify [save]>\" - logs an estimate of how much heap the recipes of every recipe map take to GregTech.log, or compares the recipe maps with the ones saved by \"verify save\" and logs the differences"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"entity_cramming\" - shows how long the spread out entity cramming checks took and how many entities they damaged"));
+        sender.addChatMessage(
+            new ChatComponentText("\"hibernation\" - counts the hibernating and awake basic machines per dimension"));
     }
 
     @Override
     public List<String> addTabCompletionOptions(ICommandSender sender, String[] ss) {
         List<String> l = new ArrayList<>();
         String test = ss.length == 0 ? "" : ss[0].trim();
-        if (ss.length == 0 || ss.length == 1 && (test.isEmpty() || Stream
-            .of(
-                "toggle",
-                "chunks",
-                "pollution",
-                "global_energy_add",
-                "global_energy_set",
-                "global_energy_join",
-                "global_energy_display",
-                "dump_music_durations")
+        if (ss.length == 0 || ss.length == 1 && (test.isEmpty() || Arrays.stream(SUBCOMMANDS)
             .anyMatch(s -> s.startsWith(test)))) {
-            Stream
-                .of(
-                    "toggle",
-                    "chunks",
-                    "pollution",
-                    "global_energy_add",
-                    "global_energy_set",
-                    "global_energy_join",
-                    "global_energy_display",
-                    "dump_music_durations")
+            Arrays.stream(SUBCOMMANDS)
                 .filter(s -> test.isEmpty() || s.startsWith(test))
                 .forEach(l::add);
         } else if (test.equals("toggle")) {
@@ -189,6 +212,12 @@ public final class GTCommand extends CommandBase {
                 GTChunkManager.printTickets();
                 sender.addChatMessage(new ChatComponentText("Forced chunks logged to GregTech.log"));
             }
+            case "chunk_data" -> {
+                for (String line : GTChunkAssociatedData.getStatistics()) {
+                    GTLog.out.println(line);
+                    sender.addChatMessage(new ChatComponentText(line));
+                }
+            }
             case "pollution" -> {
                 ChunkCoordinates coordinates = sender.getPlayerCoordinates();
                 int amount = (strings.length < 2) ? GTMod.gregtechproxy.mPollutionSmogLimit
@@ -345,6 +374,91 @@ public final class GTCommand extends CommandBase {
                 }
                 GTMusicSystem.ClientSystem.dumpAllRecordDurations();
             }
+            case "cover_ticks" -> {
+                int ticks = strings.length < 2 ? 200 : Integer.parseInt(strings[1]);
+                CoverTickProfiler.start(ticks);
+                sender.addChatMessage(
+                    new ChatComponentText("Measuring covers for " + ticks + " ticks, results will be logged to GregTech.log"));
+            }
+            case "pipe_links" -> {
+                sender.addChatMessage(
+                    new ChatComponentText(
+                        String.format(
+                            "%d cached TecTech links, %d uses of a cached link, %d resolved again",
+                            CachedLink.getLinkCount(),
+                            CachedLink.getHits(),
+                            CachedLink.getMisses())));
+            }
+            case "structure_checks" -> {
+                if (strings.length > 1 && strings[1].equals("reset")) {
+                    StructureCheckStats.reset();
+                    sender.addChatMessage(new ChatComponentText("Reset the structure check stats"));
+                } else {
+                    for (String line : StructureCheckStats.report()) GTLog.out.println(line);
+                    sender.addChatMessage(
+                        new ChatComponentText("Logged the structure check stats to GregTech.log"));
+                }
+            }
+            case "recipe_ids" -> {
+                try {
+                    if (strings.length > 1 && strings[1].equals("dump")) {
+                        File file = new File(
+                            GTLog.mLogFile == null ? new File(".") : GTLog.mLogFile.getParentFile(),
+                            "RecipeIds.txt");
+                        int lines = RecipeIds.dump(file);
+                        sender.addChatMessage(
+                            new ChatComponentText("Wrote " + lines + " recipe IDs to " + file.getAbsolutePath()));
+                    } else if (strings.length > 2 && strings[1].equals("diff")) {
+                        sender.addChatMessage(new ChatComponentText(RecipeIds.diff(new File(strings[2]))));
+                    } else {
+                        sender.addChatMessage(
+                            new ChatComponentText(
+                                RecipeIds.getRecipeCount() + " recipes and "
+                                    + RecipeIds.getAssemblyLineRecipeCount()
+                                    + " assembly line recipes have IDs, "
+                                    + RecipeIds.getCollisions()
+                                    + " IDs collided"));
+                    }
+                } catch (IOException e) {
+                    sender.addChatMessage(
+                        new ChatComponentText(EnumChatFormatting.RED + "Could not access the file: " + e.getMessage()));
+                }
+            }
+            case "recipes" -> {
+                if (strings.length > 1 && strings[1].equals("memory")) {
+                    List<String> report = RecipeCompactor.reportMemory();
+                    for (String line : report) GTLog.out.println(line);
+                    sender.addChatMessage(new ChatComponentText(report.get(report.size() - 1)));
+                } else if (strings.length > 2 && strings[1].equals("verify") && strings[2].equals("save")) {
+                    try {
+                        int recipes = RecipeMapVerifier.save();
+                        sender.addChatMessage(
+                            new ChatComponentText("Wrote " + recipes + " recipes to " + RecipeMapVerifier.getFile()));
+                    } catch (IOException e) {
+                        sender.addChatMessage(new ChatComponentText("Could not write the recipe maps: " + e));
+                    }
+                } else if (strings.length > 1 && strings[1].equals("verify")) {
+                    try {
+                        String summary = RecipeMapVerifier.verify();
+                        GTLog.out.println(summary);
+                        sender.addChatMessage(new ChatComponentText(summary));
+                    } catch (IOException e) {
+                        sender.addChatMessage(
+                            new ChatComponentText(
+                                "Could not read the saved recipe maps, run \"gt recipes verify save\" first: " + e));
+                    }
+                } else {
+                    sender.addChatMessage(new ChatComponentText("Usage: gt recipes <memory|verify [save]>"));
+                }
+            }
+            case "entity_cramming" -> {
+                sender.addChatMessage(new ChatComponentText(EntityCramming.getStatistics()));
+            }
+            case "hibernation" -> {
+                List<String> lines = BasicMachineHibernation.count();
+                if (lines.isEmpty()) sender.addChatMessage(new ChatComponentText("No basic machines loaded"));
+                for (String line : lines) sender.addChatMessage(new ChatComponentText(line));
+            }
             default -> {
                 sender
                     .addChatMessage(new ChatComponentText(EnumChatFormatting.RED + "Invalid command/syntax detected."));
@@ -34,6 +34,7 @@ public class GlobalEnergyWorldSavedData extends WorldSavedData {
     private static void loadInstance(World world) {
 
         GlobalEnergy.clear();
+        WirelessEnergyLedger.clear();
 
         MapStorage storage = world.mapStorage;
         INSTANCE = (GlobalEnergyWorldSavedData) storage.loadData(GlobalEnergyWorldSavedData.class, DATA_NAME);
@@ -110,6 +111,7 @@ public class GlobalEnergyWorldSavedData extends WorldSavedData {
     @Override
     public void writeToNBT(NBTTagCompound nbtTagCompound) {
 
+        WirelessNetworkManager.flushPendingEU();
         try {
             ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
             ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
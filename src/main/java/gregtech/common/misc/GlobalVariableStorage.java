@@ -10,7 +10,8 @@ import gregtech.common.WirelessDataStore;
 public abstract class GlobalVariableStorage {
     // --------------------- NEVER access these maps! Use the methods provided! ---------------------
 
-    // Global EU map.
+    // Global EU map. Read and write it through WirelessNetworkManager: with the wireless energy ledger enabled the EU
+    // of a team may still be pending there, and a direct write is only seen once the ledger next reads the team.
     public static HashMap<UUID, BigInteger> GlobalEnergy = new HashMap<>(100, 0.9f);
 
     // Global Wireless Data map
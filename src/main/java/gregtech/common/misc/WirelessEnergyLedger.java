@@ -0,0 +1,189 @@
+package gregtech.common.misc;
+
+import static gregtech.common.misc.GlobalVariableStorage.GlobalEnergy;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.gtnewhorizon.gtnhlib.eventbus.EventBusSubscriber;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.relauncher.Side;
+import gregtech.common.misc.spaceprojects.SpaceProjectManager;
+
+/**
+ * Collects the wireless EU added and removed during a tick as a long per team, and adds it to the {@link BigInteger}
+ * in {@link GlobalVariableStorage#GlobalEnergy} once at the end of the tick. A removal that would make the energy of
+ * the team negative still fails right away. Reading the energy of a team adds its pending EU first.
+ * <p>
+ * The energy map stays the source of truth: an account takes the energy of its team from the map again whenever it
+ * adds its pending EU or is read, so a write made directly to the map is kept, and an account of a team that changed
+ * or disbanded can't write back an outdated value. Such a write is only seen by removals once the account next reads
+ * the map, which is why writes should go through {@link WirelessNetworkManager}.
+ */
+@EventBusSubscriber
+public final class WirelessEnergyLedger {
+
+    private static final Map<UUID, Account> ACCOUNTS = new ConcurrentHashMap<>();
+    /** The account of the leader of every team member that used the ledger */
+    private static final Map<UUID, Account> MEMBER_ACCOUNTS = new ConcurrentHashMap<>();
+
+    private WirelessEnergyLedger() {}
+
+    static boolean addEU(UUID aMember, long aEU) {
+        return getAccount(aMember).add(aEU);
+    }
+
+    static boolean addEU(UUID aMember, BigInteger aEU) {
+        return getAccount(aMember).add(aEU);
+    }
+
+    static BigInteger getEU(UUID aMember) {
+        return getAccount(aMember).get();
+    }
+
+    static void setEU(UUID aMember, BigInteger aEU) {
+        getAccount(aMember).set(aEU);
+    }
+
+    /**
+     * Adds the pending EU of every team to the global energy map.
+     *
+     * @return if any team had pending EU
+     */
+    static boolean flush() {
+        boolean rChanged = false;
+        for (Account tAccount : ACCOUNTS.values()) rChanged |= tAccount.fold();
+        return rChanged;
+    }
+
+    /**
+     * Forgets all teams, without adding their pending EU. Call when the global energy map is cleared or loaded.
+     */
+    static void clear() {
+        ACCOUNTS.clear();
+        MEMBER_ACCOUNTS.clear();
+    }
+
+    private static Account getAccount(UUID aMember) {
+        final Account tAccount = MEMBER_ACCOUNTS.get(aMember);
+        // the member may have changed teams since
+        if (tAccount != null && tAccount.mLeader.equals(SpaceProjectManager.spaceTeams.get(aMember))) return tAccount;
+        final Account rAccount = ACCOUNTS.computeIfAbsent(SpaceProjectManager.getLeader(aMember), Account::new);
+        MEMBER_ACCOUNTS.put(aMember, rAccount);
+        return rAccount;
+    }
+
+    private static void markDirty() {
+        try {
+            GlobalEnergyWorldSavedData.INSTANCE.markDirty();
+        } catch (Exception exception) {
+            System.out.println("COULD NOT MARK GLOBAL ENERGY AS DIRTY IN LEDGER");
+            exception.printStackTrace();
+        }
+    }
+
+    // subscribe statically, the ledger is shared by all worlds
+    @SubscribeEvent
+    public static void onTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) return;
+        if (event.side != Side.SERVER) return;
+        if (flush()) markDirty();
+    }
+
+    private static final class Account {
+
+        private final UUID mLeader;
+        /** The energy of the team in the global energy map */
+        private BigInteger mBase;
+        /** {@link #mBase}, or {@link Long#MAX_VALUE} if it doesn't fit into a long */
+        private long mBaseFloor;
+        private long mPending;
+
+        private Account(UUID aLeader) {
+            mLeader = aLeader;
+            readBase();
+        }
+
+        private synchronized boolean add(long aEU) {
+            if (aEU < 0) {
+                // the pending EU is never less than the negative base, so this is at least 0
+                final long tAvailable = mBaseFloor + mPending;
+                final boolean tSaturated = mBaseFloor == Long.MAX_VALUE
+                    || (mPending > 0 && tAvailable < 0);
+                if (tSaturated) {
+                    // an overflow means there is more than any long can remove, otherwise this is only a lower bound
+                    if (tAvailable >= 0 && tAvailable + aEU < 0) return add(BigInteger.valueOf(aEU));
+                } else if (tAvailable + aEU < 0) {
+                    return false;
+                }
+            }
+            final long tPending = mPending + aEU;
+            if (((mPending ^ tPending) & (aEU ^ tPending)) < 0) {
+                // the pending EU would overflow
+                fold();
+                mPending = aEU;
+            } else {
+                mPending = tPending;
+            }
+            return true;
+        }
+
+        private synchronized boolean add(BigInteger aEU) {
+            fold();
+            final BigInteger tTotal = mBase.add(aEU);
+            if (tTotal.signum() < 0) return false;
+            publish(tTotal);
+            markDirty();
+            return true;
+        }
+
+        private synchronized BigInteger get() {
+            if (fold()) {
+                markDirty();
+            } else {
+                readBase();
+            }
+            return mBase;
+        }
+
+        private synchronized void set(BigInteger aEU) {
+            mPending = 0;
+            publish(aEU);
+            markDirty();
+        }
+
+        private synchronized boolean fold() {
+            if (mPending == 0) return false;
+            readBase();
+            final BigInteger tTotal = mBase.add(BigInteger.valueOf(mPending));
+            mPending = 0;
+            publish(tTotal);
+            return true;
+        }
+
+        private void publish(BigInteger aEU) {
+            setBase(aEU);
+            synchronized (GlobalEnergy) {
+                GlobalEnergy.put(mLeader, aEU);
+            }
+        }
+
+        // the map may have been written to without the ledger since the last fold
+        private void readBase() {
+            final BigInteger tBase;
+            synchronized (GlobalEnergy) {
+                tBase = GlobalEnergy.getOrDefault(mLeader, BigInteger.ZERO);
+            }
+            if (tBase != mBase) setBase(tBase);
+        }
+
+        private void setBase(BigInteger aEU) {
+            mBase = aEU;
+            mBaseFloor = aEU.bitLength() < Long.SIZE ? aEU.longValue() : Long.MAX_VALUE;
+        }
+    }
+}
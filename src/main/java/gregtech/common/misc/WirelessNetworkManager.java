@@ -6,6 +6,7 @@ import java.math.BigInteger;
 import java.util.UUID;
 
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+import gregtech.common.config.Gregtech;
 import gregtech.common.misc.spaceprojects.SpaceProjectManager;
 
 public class WirelessNetworkManager {
@@ -26,6 +27,11 @@ public class WirelessNetworkManager {
     // BigIntegers have much slower operations than longs/ints. You should call these methods
     // as infrequently as possible and bulk store values to add to the global map.
     public static boolean addEUToGlobalEnergyMap(UUID user_uuid, BigInteger EU) {
+        if (Gregtech.performance.wirelessEnergyLedger) return WirelessEnergyLedger.addEU(user_uuid, EU);
+        return addEUDirectly(user_uuid, EU);
+    }
+
+    static boolean addEUDirectly(UUID user_uuid, BigInteger EU) {
         // Mark the data as dirty and in need of saving.
         try {
             GlobalEnergyWorldSavedData.INSTANCE.markDirty();
@@ -51,12 +57,15 @@ public class WirelessNetworkManager {
         return false;
     }
 
+    // With the wireless energy ledger enabled these add to a long per team that is added to the global map at the end
+    // of the tick, so they are cheap enough to be called every tick.
     public static boolean addEUToGlobalEnergyMap(UUID user_uuid, long EU) {
-        return addEUToGlobalEnergyMap(user_uuid, BigInteger.valueOf(EU));
+        if (Gregtech.performance.wirelessEnergyLedger) return WirelessEnergyLedger.addEU(user_uuid, EU);
+        return addEUDirectly(user_uuid, BigInteger.valueOf(EU));
     }
 
     public static boolean addEUToGlobalEnergyMap(UUID user_uuid, int EU) {
-        return addEUToGlobalEnergyMap(user_uuid, BigInteger.valueOf(EU));
+        return addEUToGlobalEnergyMap(user_uuid, (long) EU);
     }
 
     // Ticks between energy additions to the hatch. For a dynamo this is how many ticks between energy being consumed
@@ -73,11 +82,17 @@ public class WirelessNetworkManager {
     // ------------------------------------------------------------------------------------
 
     public static BigInteger getUserEU(UUID user_uuid) {
+        if (Gregtech.performance.wirelessEnergyLedger) return WirelessEnergyLedger.getEU(user_uuid);
         return GlobalEnergy.getOrDefault(SpaceProjectManager.getLeader(user_uuid), BigInteger.ZERO);
     }
 
     // This overwrites the EU in the network. Only use this if you are absolutely sure you know what you are doing.
     public static void setUserEU(UUID user_uuid, BigInteger EU) {
+        if (Gregtech.performance.wirelessEnergyLedger) {
+            WirelessEnergyLedger.setEU(user_uuid, EU);
+            return;
+        }
+
         // Mark the data as dirty and in need of saving.
         try {
             GlobalEnergyWorldSavedData.INSTANCE.markDirty();
@@ -92,6 +107,12 @@ public class WirelessNetworkManager {
     public static void clearGlobalEnergyInformationMaps() {
         // Do not use this unless you are 100% certain you know what you are doing.
         GlobalEnergy.clear();
+        WirelessEnergyLedger.clear();
+    }
+
+    // Adds the EU the wireless energy ledger collected during this tick to the global map, e.g. before saving it.
+    public static void flushPendingEU() {
+        WirelessEnergyLedger.flush();
     }
 
     public static UUID processInitialSettings(final IGregTechTileEntity machine) {
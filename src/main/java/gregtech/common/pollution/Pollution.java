@@ -7,9 +7,8 @@ import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
 import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
@@ -22,8 +21,8 @@ import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.init.Blocks;
 import net.minecraft.potion.Potion;
 import net.minecraft.potion.PotionEffect;
+import net.minecraft.server.management.PlayerManager;
 import net.minecraft.tileentity.TileEntity;
-import net.minecraft.util.AxisAlignedBB;
 import net.minecraft.world.ChunkCoordIntPair;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
@@ -44,8 +43,15 @@ import gregtech.api.interfaces.ICleanroom;
 import gregtech.api.interfaces.ICleanroomReceiver;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.net.GTPacketPollution;
+import gregtech.api.net.GTPacketPollutionBatch;
 import gregtech.api.util.GTChunkAssociatedData;
 import gregtech.api.util.GTUtility;
+import gregtech.common.config.Gregtech;
+import it.unimi.dsi.fastutil.longs.Long2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 
 public class Pollution {
 
@@ -69,17 +75,23 @@ public class Pollution {
      * Muffler Hatch Pollution reduction: ** inaccurate ** LV (0%), MV (30%), HV (52%), EV (66%), IV (76%), LuV (84%),
      * ZPM (89%), UV (92%), MAX (95%)
      */
-    private List<ChunkCoordIntPair> pollutionList = new ArrayList<>(); // chunks left to process in this cycle
-
-    private final Set<ChunkCoordIntPair> pollutedChunks = new HashSet<>(); // a global list of all chunks with positive
-                                                                           // pollution
+    // chunks left to process in this cycle, packed with ChunkCoordIntPair.chunkXZ2Int
+    private final LongArrayList pollutionList = new LongArrayList();
+
+    private final LongSet pollutedChunks = new LongOpenHashSet(); // a global list of all chunks with positive
+                                                                  // pollution
+    // chunks updated since the last batch packet, and their pollution
+    private final Long2IntLinkedOpenHashMap pendingUpdates = new Long2IntLinkedOpenHashMap();
+    private final List<EntityLivingBase> entities = new ArrayList<>();
     private int operationsPerTick = 0; // how much chunks should be processed in each cycle
     private static final short cycleLen = 1200;
+    private static final int[] NEIGHBOR_X = { 1, -1, 0, 0 }, NEIGHBOR_Z = { 0, 0, 1, -1 };
     private final World world;
     private boolean blank = true;
     public static int mPlayerPollution;
 
     private static final int POLLUTIONPACKET_MINVALUE = 1000;
+    private static final int POLLUTIONPACKET_INTERVAL = 20; // ticks between batch packets
 
     private static GT_PollutionEventHandler EVENT_HANDLER;
 
@@ -132,7 +144,8 @@ public class Pollution {
         // gen data set
         if (aTickID == 0 || blank) {
             // make a snapshot of what to work on
-            pollutionList = new ArrayList<>(pollutedChunks);
+            pollutionList.clear();
+            pollutionList.addAll(pollutedChunks);
             // set operations per tick
             if (!pollutionList.isEmpty()) operationsPerTick = Math.max(1, pollutionList.size() / cycleLen);
             else operationsPerTick = 0; // SANity
@@ -141,43 +154,33 @@ public class Pollution {
 
         for (int chunksProcessed = 0; chunksProcessed < operationsPerTick; chunksProcessed++) {
             if (pollutionList.isEmpty()) break; // no more stuff to do
-            ChunkCoordIntPair actualPos = pollutionList.remove(pollutionList.size() - 1); // faster
+            long actualPos = pollutionList.removeLong(pollutionList.size() - 1); // faster
+            int chunkX = (int) actualPos, chunkZ = (int) (actualPos >> 32);
             // get pollution
-            ChunkData currentData = STORAGE.get(world, actualPos);
+            ChunkData currentData = STORAGE.get(world, chunkX, chunkZ);
             int tPollution = currentData.getAmount();
             // remove some
             tPollution = (int) (0.9945f * tPollution);
 
             if (tPollution > 400000) { // Spread Pollution
 
-                ChunkCoordIntPair[] tNeighbors = new ChunkCoordIntPair[4]; // array is faster
-                tNeighbors[0] = (new ChunkCoordIntPair(actualPos.chunkXPos + 1, actualPos.chunkZPos));
-                tNeighbors[1] = (new ChunkCoordIntPair(actualPos.chunkXPos - 1, actualPos.chunkZPos));
-                tNeighbors[2] = (new ChunkCoordIntPair(actualPos.chunkXPos, actualPos.chunkZPos + 1));
-                tNeighbors[3] = (new ChunkCoordIntPair(actualPos.chunkXPos, actualPos.chunkZPos - 1));
-                for (ChunkCoordIntPair neighborPosition : tNeighbors) {
-                    ChunkData neighbor = STORAGE.get(world, neighborPosition);
+                for (int i = 0; i < 4; i++) {
+                    int neighborX = chunkX + NEIGHBOR_X[i], neighborZ = chunkZ + NEIGHBOR_Z[i];
+                    ChunkData neighbor = STORAGE.get(world, neighborX, neighborZ);
                     int neighborPollution = neighbor.getAmount();
                     if (neighborPollution * 6 < tPollution * 5) { // MATHEMATICS...
                         int tDiff = tPollution - neighborPollution;
                         tDiff = tDiff / 20;
                         neighborPollution = GTUtility.safeInt((long) neighborPollution + tDiff); // tNPol += tDiff;
                         tPollution -= tDiff;
-                        setChunkPollution(neighborPosition, neighborPollution);
+                        setChunkPollution(neighborX, neighborZ, neighborPollution);
                     }
                 }
 
                 // Create Pollution effects
                 // Smog filter TODO
                 if (tPollution > GTMod.gregtechproxy.mPollutionSmogLimit) {
-                    AxisAlignedBB chunk = AxisAlignedBB.getBoundingBox(
-                        actualPos.chunkXPos << 4,
-                        0,
-                        actualPos.chunkZPos << 4,
-                        (actualPos.chunkXPos << 4) + 16,
-                        256,
-                        (actualPos.chunkZPos << 4) + 16);
-                    List<EntityLivingBase> tEntitys = world.getEntitiesWithinAABB(EntityLivingBase.class, chunk);
+                    List<EntityLivingBase> tEntitys = getEntitiesInChunk(chunkX, chunkZ);
                     for (EntityLivingBase tEnt : tEntitys) {
                         if (tEnt instanceof EntityPlayerMP && ((EntityPlayerMP) tEnt).capabilities.isCreativeMode)
                             continue;
@@ -240,9 +243,9 @@ public class Pollution {
                         if (tPollution > GTMod.gregtechproxy.mPollutionVegetationLimit) {
                             int f = 20;
                             for (; f < (tPollution / 25000); f++) {
-                                int x = (actualPos.chunkXPos << 4) + XSTR_INSTANCE.nextInt(16);
+                                int x = (chunkX << 4) + XSTR_INSTANCE.nextInt(16);
                                 int y = 60 + (-f + XSTR_INSTANCE.nextInt(f * 2 + 1));
-                                int z = (actualPos.chunkZPos << 4) + XSTR_INSTANCE.nextInt(16);
+                                int z = (chunkZ << 4) + XSTR_INSTANCE.nextInt(16);
                                 damageBlock(world, x, y, z, tPollution > GTMod.gregtechproxy.mPollutionSourRainLimit);
                             }
                         }
@@ -250,23 +253,78 @@ public class Pollution {
                 }
             }
             // Write new pollution to Hashmap !!!
-            setChunkPollution(actualPos, tPollution);
+            setChunkPollution(chunkX, chunkZ, tPollution);
 
             // Send new value to players nearby
             if (tPollution > POLLUTIONPACKET_MINVALUE) {
-                NetworkRegistry.TargetPoint point = new NetworkRegistry.TargetPoint(
-                    world.provider.dimensionId,
-                    (actualPos.chunkXPos << 4),
-                    64,
-                    (actualPos.chunkZPos << 4),
-                    256);
-                GTValues.NW.sendToAllAround(new GTPacketPollution(actualPos, tPollution), point);
+                if (Gregtech.performance.batchedPollutionPackets) {
+                    pendingUpdates.put(actualPos, tPollution);
+                } else {
+                    NetworkRegistry.TargetPoint point = new NetworkRegistry.TargetPoint(
+                        world.provider.dimensionId,
+                        (chunkX << 4),
+                        64,
+                        (chunkZ << 4),
+                        256);
+                    GTValues.NW.sendToAllAround(
+                        new GTPacketPollution(new ChunkCoordIntPair(chunkX, chunkZ), tPollution),
+                        point);
+                }
+            }
+        }
+
+        if (aTickID % POLLUTIONPACKET_INTERVAL == 0 && !pendingUpdates.isEmpty()) sendPendingUpdates();
+    }
+
+    /**
+     * Sends every player one {@link GTPacketPollutionBatch} with the updated chunks they watch.
+     */
+    private void sendPendingUpdates() {
+        final int tSize = pendingUpdates.size();
+        final int[] tChunkX = new int[tSize], tChunkZ = new int[tSize], tPollution = new int[tSize];
+        for (Object tObject : world.playerEntities) {
+            if (!(tObject instanceof EntityPlayerMP tPlayer)) continue;
+            final PlayerManager tPlayerManager = tPlayer.getServerForPlayer()
+                .getPlayerManager();
+            int tCount = 0;
+            for (Long2IntMap.Entry tEntry : pendingUpdates.long2IntEntrySet()) {
+                final int x = (int) tEntry.getLongKey(), z = (int) (tEntry.getLongKey() >> 32);
+                if (!tPlayerManager.isPlayerWatchingChunk(tPlayer, x, z)) continue;
+                tChunkX[tCount] = x;
+                tChunkZ[tCount] = z;
+                tPollution[tCount++] = tEntry.getIntValue();
+            }
+            if (tCount == 0) continue;
+            // the packet may be encoded after the arrays were filled for the next player
+            GTValues.NW.sendToPlayer(
+                new GTPacketPollutionBatch(
+                    Arrays.copyOf(tChunkX, tCount),
+                    Arrays.copyOf(tChunkZ, tCount),
+                    Arrays.copyOf(tPollution, tCount),
+                    tCount),
+                tPlayer);
+        }
+        pendingUpdates.clear();
+    }
+
+    /**
+     * Reads the living entities straight from the chunk instead of querying the world with a bounding box, which
+     * would also look through the neighbouring chunks.
+     */
+    private List<EntityLivingBase> getEntitiesInChunk(int chunkX, int chunkZ) {
+        entities.clear();
+        if (!world.getChunkProvider()
+            .chunkExists(chunkX, chunkZ)) return entities;
+        for (List<?> tSection : world.getChunkFromChunkCoords(chunkX, chunkZ).entityLists) {
+            for (Object tEntity : tSection) {
+                if (tEntity instanceof EntityLivingBase tLiving) entities.add(tLiving);
             }
         }
+        return entities;
     }
 
-    private void setChunkPollution(ChunkCoordIntPair coord, int pollution) {
-        mutatePollution(world, coord.chunkXPos, coord.chunkZPos, c -> c.setAmount(pollution), pollutedChunks);
+    private void setChunkPollution(int chunkX, int chunkZ, int pollution) {
+        mutatePollution(world, chunkX, chunkZ, c -> c.setAmount(pollution), pollutedChunks);
     }
 
     private static void damageBlock(World world, int x, int y, int z, boolean sourRain) {
@@ -377,15 +435,15 @@ public class Pollution {
     }
 
     private static void mutatePollution(World world, int x, int z, Consumer<ChunkData> mutator,
-        @Nullable Set<ChunkCoordIntPair> chunks) {
+        @Nullable LongSet chunks) {
         ChunkData data = STORAGE.get(world, x, z);
         boolean hadPollution = data.getAmount() > 0;
         mutator.accept(data);
         boolean hasPollution = data.getAmount() > 0;
         if (hasPollution != hadPollution) {
             if (chunks == null) chunks = getPollutionManager(world).pollutedChunks;
-            if (hasPollution) chunks.add(new ChunkCoordIntPair(x, z));
-            else chunks.remove(new ChunkCoordIntPair(x, z));
+            if (hasPollution) chunks.add(ChunkCoordIntPair.chunkXZ2Int(x, z));
+            else chunks.remove(ChunkCoordIntPair.chunkXZ2Int(x, z));
         }
     }
 
@@ -470,7 +528,7 @@ public class Pollution {
             if (version != 0) throw new IOException("Region file corrupted");
             ChunkData data = new ChunkData(input.readInt());
             if (data.getAmount() > 0)
-                getPollutionManager(world).pollutedChunks.add(new ChunkCoordIntPair(chunkX, chunkZ));
+                getPollutionManager(world).pollutedChunks.add(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ));
             return data;
         }
 
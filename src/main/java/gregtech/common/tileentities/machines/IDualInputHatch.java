@@ -7,6 +7,8 @@ import java.util.Optional;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.FluidStack;
 
+import gregtech.api.logic.InputFingerprint;
+
 public interface IDualInputHatch {
 
     /**
@@ -33,6 +35,21 @@ public interface IDualInputHatch {
      */
     ItemStack[] getSharedItems();
 
+    /**
+     * @return Fingerprint of the shared items and the contents of every inventory, or
+     *         {@link InputFingerprint#UNKNOWN} if they can change without this hatch noticing.
+     */
+    default long getContentFingerprint() {
+        long fingerprint = InputFingerprint.mix(InputFingerprint.EMPTY, getSharedItems());
+        for (Iterator<? extends IDualInputInventory> it = inventories(); it.hasNext();) {
+            long inventoryFingerprint = it.next()
+                .getContentFingerprint();
+            if (inventoryFingerprint == InputFingerprint.UNKNOWN) return InputFingerprint.UNKNOWN;
+            fingerprint = InputFingerprint.mix(fingerprint, inventoryFingerprint);
+        }
+        return fingerprint;
+    }
+
     default ItemStack[] getAllItems() {
         ArrayList<ItemStack> rList = new ArrayList<>();
         for (ItemStack item : getSharedItems()) {
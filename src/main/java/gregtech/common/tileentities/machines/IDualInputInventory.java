@@ -3,6 +3,8 @@ package gregtech.common.tileentities.machines;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.FluidStack;
 
+import gregtech.api.logic.InputFingerprint;
+
 public interface IDualInputInventory {
 
     boolean isEmpty();
@@ -11,4 +13,12 @@ public interface IDualInputInventory {
 
     FluidStack[] getFluidInputs();
 
+    /**
+     * @return Fingerprint of the item and fluid inputs, or {@link InputFingerprint#UNKNOWN} if they can change without
+     *         this inventory noticing.
+     */
+    default long getContentFingerprint() {
+        return InputFingerprint.mix(InputFingerprint.mix(InputFingerprint.EMPTY, getItemInputs()), getFluidInputs());
+    }
+
 }
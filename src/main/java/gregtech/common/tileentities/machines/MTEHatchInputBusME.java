@@ -68,6 +68,7 @@ import gregtech.api.interfaces.ITexture;
 import gregtech.api.interfaces.modularui.IAddGregtechLogo;
 import gregtech.api.interfaces.modularui.IAddUIWidgets;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+import gregtech.api.logic.InputFingerprint;
 import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.metatileentity.implementations.MTEHatchInputBus;
 import gregtech.api.metatileentity.implementations.MTEMultiBlockBase;
@@ -534,6 +535,12 @@ public class MTEHatchInputBusME extends MTEHatchInputBus
         }
     }
 
+    @Override
+    public long getContentFingerprint() {
+        // Contents come from the ME network and can change without this hatch noticing
+        return InputFingerprint.UNKNOWN;
+    }
+
     @Override
     public void startRecipeProcessing() {
         processingRecipe = true;
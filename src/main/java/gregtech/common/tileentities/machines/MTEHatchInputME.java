@@ -72,6 +72,7 @@ import gregtech.api.interfaces.ITexture;
 import gregtech.api.interfaces.modularui.IAddGregtechLogo;
 import gregtech.api.interfaces.modularui.IAddUIWidgets;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+import gregtech.api.logic.InputFingerprint;
 import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.metatileentity.implementations.MTEHatchInput;
 import gregtech.api.metatileentity.implementations.MTEMultiBlockBase;
@@ -209,6 +210,12 @@ public class MTEHatchInputME extends MTEHatchInput implements IPowerChannelState
         savedStackSizes[i] = stack == null ? 0 : stack.amount;
     }
 
+    @Override
+    public long getContentFingerprint() {
+        // Contents come from the ME network and can change without this hatch noticing
+        return InputFingerprint.UNKNOWN;
+    }
+
     public FluidStack[] getStoredFluids() {
         if (!processingRecipe) {
             return EMPTY_FLUID_STACK;
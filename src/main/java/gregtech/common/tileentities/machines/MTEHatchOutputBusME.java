@@ -30,14 +30,16 @@ import com.gtnewhorizons.modularui.api.screen.ModularWindow;
 import com.gtnewhorizons.modularui.api.screen.UIBuildContext;
 
 import appeng.api.AEApi;
+import appeng.api.config.Actionable;
+import appeng.api.config.PowerMultiplier;
 import appeng.api.implementations.IPowerChannelState;
 import appeng.api.networking.GridFlags;
+import appeng.api.networking.energy.IEnergySource;
 import appeng.api.networking.security.BaseActionSource;
 import appeng.api.networking.security.IActionHost;
 import appeng.api.networking.security.MachineSource;
 import appeng.api.storage.IMEMonitor;
 import appeng.api.storage.data.IAEItemStack;
-import appeng.api.storage.data.IItemList;
 import appeng.api.util.AECableType;
 import appeng.items.contents.CellConfig;
 import appeng.items.storage.ItemBasicStorageCell;
@@ -58,6 +60,8 @@ import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.metatileentity.implementations.MTEHatchOutputBus;
 import gregtech.api.render.TextureFactory;
 import gregtech.api.util.GTUtility;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import mcp.mobius.waila.api.IWailaConfigHandler;
 import mcp.mobius.waila.api.IWailaDataAccessor;
 
@@ -68,9 +72,13 @@ public class MTEHatchOutputBusME extends MTEHatchOutputBus implements IPowerChan
 
     protected BaseActionSource requestSource = null;
     protected @Nullable AENetworkProxy gridProxy = null;
-    final IItemList<IAEItemStack> itemCache = AEApi.instance()
-        .storage()
-        .createItemList();
+    /**
+     * Cached stacks by item identity. AE stacks ignore the stack size in equals and hashCode, so every stack is its own
+     * key and stacking onto it doesn't need to look it up again.
+     */
+    final Object2ObjectLinkedOpenHashMap<IAEItemStack, IAEItemStack> itemCache = new Object2ObjectLinkedOpenHashMap<>();
+    /** Sum of the stack sizes in {@link #itemCache}, kept up to date instead of counted on every check */
+    long cachedAmount = 0;
     long lastOutputTick = 0;
     long lastInputTick = 0;
     long tickCounter = 0;
@@ -143,10 +151,11 @@ public class MTEHatchOutputBusME extends MTEHatchOutputBus implements IPowerChan
         // Always allow insertion on the same tick so we can output the entire recipe
         if (canAcceptItem() || (lastInputTick == tickCounter)) {
             if (!simulate) {
-                itemCache.add(
+                cacheStack(
                     AEApi.instance()
                         .storage()
                         .createItemStack(stack));
+                cachedAmount += stack.stackSize;
                 lastInputTick = tickCounter;
             }
             stack.stackSize = 0;
@@ -157,8 +166,22 @@ public class MTEHatchOutputBusME extends MTEHatchOutputBus implements IPowerChan
     }
 
     protected long getCachedAmount() {
+        return cachedAmount;
+    }
+
+    void cacheStack(@Nullable IAEItemStack stack) {
+        if (stack == null || stack.getStackSize() <= 0) return;
+        IAEItemStack cached = itemCache.get(stack);
+        if (cached == null) {
+            itemCache.put(stack, stack);
+        } else {
+            cached.incStackSize(stack.getStackSize());
+        }
+    }
+
+    long countCachedAmount() {
         long itemAmount = 0;
-        for (IAEItemStack item : itemCache) {
+        for (IAEItemStack item : itemCache.values()) {
             itemAmount += item.getStackSize();
         }
         return itemAmount;
@@ -264,15 +287,31 @@ public class MTEHatchOutputBusME extends MTEHatchOutputBus implements IPowerChan
         try {
             IMEMonitor<IAEItemStack> sg = proxy.getStorage()
                 .getItemInventory();
-            for (IAEItemStack s : itemCache) {
-                if (s.getStackSize() == 0) continue;
-                IAEItemStack rest = Platform.poweredInsert(proxy.getEnergy(), sg, s, getRequest());
-                if (rest != null && rest.getStackSize() > 0) {
-                    s.setStackSize(rest.getStackSize());
+            IEnergySource energy = proxy.getEnergy();
+            // With power for the whole cache, the power is taken once for everything the grid accepted instead of
+            // simulating every stack and taking its power on its own
+            boolean powered = energy.extractAEPower(cachedAmount, Actionable.SIMULATE, PowerMultiplier.CONFIG) + 0.9
+                >= cachedAmount;
+            BaseActionSource source = getRequest();
+            long stored = 0;
+            // AE storage only takes one stack per inject, the grid has no insert for a whole list
+            ObjectIterator<IAEItemStack> it = itemCache.values()
+                .iterator();
+            while (it.hasNext()) {
+                IAEItemStack s = it.next();
+                long size = s.getStackSize();
+                IAEItemStack rest = powered ? sg.injectItems(s, Actionable.MODULATE, source)
+                    : Platform.poweredInsert(energy, sg, s, source);
+                long left = rest == null ? 0 : rest.getStackSize();
+                stored += size - left;
+                if (left > 0) {
+                    s.setStackSize(left);
                     break;
                 }
-                s.setStackSize(0);
+                it.remove();
             }
+            if (powered && stored > 0) energy.extractAEPower(stored, Actionable.MODULATE, PowerMultiplier.CONFIG);
+            cachedAmount -= stored;
         } catch (final GridAccessException ignored) {}
         lastOutputTick = tickCounter;
     }
@@ -411,8 +450,7 @@ public class MTEHatchOutputBusME extends MTEHatchOutputBus implements IPowerChan
         aNBT.setTag("lockedItems", lockedItemsTag);
 
         NBTTagList items = new NBTTagList();
-        for (IAEItemStack s : itemCache) {
-            if (s.getStackSize() == 0) continue;
+        for (IAEItemStack s : itemCache.values()) {
             NBTTagCompound tag = new NBTTagCompound();
             tag.setTag("itemStack", GTUtility.saveItem(s.getItemStack()));
             tag.setLong("size", s.getStackSize());
@@ -439,7 +477,7 @@ public class MTEHatchOutputBusME extends MTEHatchOutputBus implements IPowerChan
         }
 
         NBTBase t = aNBT.getTag("cachedStack"); // legacy
-        if (t instanceof NBTTagCompound) itemCache.add(
+        if (t instanceof NBTTagCompound) cacheStack(
             AEApi.instance()
                 .storage()
                 .createItemStack(GTUtility.loadItem((NBTTagCompound) t)));
@@ -448,7 +486,7 @@ public class MTEHatchOutputBusME extends MTEHatchOutputBus implements IPowerChan
             for (int i = 0; i < l.tagCount(); ++i) {
                 NBTTagCompound tag = l.getCompoundTagAt(i);
                 if (!tag.hasKey("itemStack")) { // legacy #868
-                    itemCache.add(
+                    cacheStack(
                         AEApi.instance()
                             .storage()
                             .createItemStack(GTUtility.loadItem(l.getCompoundTagAt(i))));
@@ -460,7 +498,7 @@ public class MTEHatchOutputBusME extends MTEHatchOutputBus implements IPowerChan
                     .createItemStack(GTUtility.loadItem(tagItemStack));
                 if (s != null) {
                     s.setStackSize(tag.getLong("size"));
-                    itemCache.add(s);
+                    cacheStack(s);
                 } else {
                     GTMod.GT_FML_LOGGER.warn(
                         "An error occurred while loading contents of ME Output Bus. This item has been voided: "
@@ -468,6 +506,7 @@ public class MTEHatchOutputBusME extends MTEHatchOutputBus implements IPowerChan
                 }
             }
         }
+        cachedAmount = countCachedAmount();
         additionalConnection = aNBT.getBoolean("additionalConnection");
         baseCapacity = aNBT.getLong("baseCapacity");
         hadCell = aNBT.getBoolean("hadCell");
@@ -486,7 +525,8 @@ public class MTEHatchOutputBusME extends MTEHatchOutputBus implements IPowerChan
         tag.setLong("cacheCapacity", getCacheCapacity());
         tag.setInteger("stackCount", itemCache.size());
 
-        IAEItemStack[] stacks = itemCache.toArray(new IAEItemStack[0]);
+        IAEItemStack[] stacks = itemCache.values()
+            .toArray(new IAEItemStack[0]);
 
         Arrays.sort(
             stacks,
@@ -580,7 +620,7 @@ public class MTEHatchOutputBusME extends MTEHatchOutputBus implements IPowerChan
                 StatCollector
                     .translateToLocalFormatted("GT5U.infodata.hatch.output_bus_me.contains", itemCache.size()));
             int counter = 0;
-            for (IAEItemStack s : itemCache) {
+            for (IAEItemStack s : itemCache.values()) {
                 ss.add(
                     s.getItem()
                         .getItemStackDisplayName(s.getItemStack()) + ": "
@@ -49,7 +49,6 @@ import appeng.api.networking.security.PlayerSource;
 import appeng.api.storage.IMEInventory;
 import appeng.api.storage.IMEMonitor;
 import appeng.api.storage.data.IAEFluidStack;
-import appeng.api.storage.data.IItemList;
 import appeng.api.util.AECableType;
 import appeng.core.stats.Stats;
 import appeng.items.contents.CellConfig;
@@ -70,6 +69,8 @@ import gregtech.api.metatileentity.implementations.MTEHatchOutput;
 import gregtech.api.render.TextureFactory;
 import gregtech.api.util.GTUtility;
 import gregtech.common.items.ItemFluidDisplay;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import mcp.mobius.waila.api.IWailaConfigHandler;
 import mcp.mobius.waila.api.IWailaDataAccessor;
 
@@ -80,9 +81,14 @@ public class MTEHatchOutputME extends MTEHatchOutput implements IPowerChannelSta
 
     private BaseActionSource requestSource = null;
     private @Nullable AENetworkProxy gridProxy = null;
-    final IItemList<IAEFluidStack> fluidCache = AEApi.instance()
-        .storage()
-        .createFluidList();
+    /**
+     * Cached fluids by fluid identity. AE stacks ignore the amount in equals and hashCode, so every stack is its own
+     * key and filling onto it doesn't need to look it up again.
+     */
+    final Object2ObjectLinkedOpenHashMap<IAEFluidStack, IAEFluidStack> fluidCache =
+        new Object2ObjectLinkedOpenHashMap<>();
+    /** Sum of the amounts in {@link #fluidCache}, kept up to date instead of counted on every check */
+    long cachedAmount = 0;
     long lastOutputTick = 0;
     long lastInputTick = 0;
     long tickCounter = 0;
@@ -273,13 +279,27 @@ public class MTEHatchOutputME extends MTEHatchOutput implements IPowerChannelSta
     }
 
     private long getCachedAmount() {
+        return cachedAmount;
+    }
+
+    long countCachedAmount() {
         long fluidAmount = 0;
-        for (IAEFluidStack fluid : fluidCache) {
+        for (IAEFluidStack fluid : fluidCache.values()) {
             fluidAmount += fluid.getStackSize();
         }
         return fluidAmount;
     }
 
+    private void cacheFluid(@Nullable IAEFluidStack fluid) {
+        if (fluid == null || fluid.getStackSize() <= 0) return;
+        IAEFluidStack cached = fluidCache.get(fluid);
+        if (cached == null) {
+            fluidCache.put(fluid, fluid);
+        } else {
+            cached.incStackSize(fluid.getStackSize());
+        }
+    }
+
     private long getCacheCapacity() {
         ItemStack upgradeItemStack = mInventory[0];
         if (upgradeItemStack != null && upgradeItemStack.getItem() instanceof IStorageFluidCell) {
@@ -317,10 +337,11 @@ public class MTEHatchOutputME extends MTEHatchOutput implements IPowerChannelSta
         if (aFluid == null) return 0;
         // Always allow insertion on the same tick so we can output the entire recipe
         if (canAcceptFluid() || (lastInputTick == tickCounter)) {
-            fluidCache.add(
+            cacheFluid(
                 AEApi.instance()
                     .storage()
                     .createFluidStack(aFluid));
+            cachedAmount += aFluid.amount;
             lastInputTick = tickCounter;
             return aFluid.amount;
         }
@@ -422,15 +443,34 @@ public class MTEHatchOutputME extends MTEHatchOutput implements IPowerChannelSta
         try {
             IMEMonitor<IAEFluidStack> sg = proxy.getStorage()
                 .getFluidInventory();
-            for (IAEFluidStack s : fluidCache) {
-                if (s.getStackSize() == 0) continue;
-                IAEFluidStack rest = fluidAEInsert(proxy.getEnergy(), sg, s, getRequest());
-                if (rest != null && rest.getStackSize() > 0) {
-                    s.setStackSize(rest.getStackSize());
-                    continue;
+            IEnergySource energy = proxy.getEnergy();
+            // With power for the whole cache, the power is taken once for everything the grid accepted instead of
+            // simulating every stack and taking its power on its own
+            long power = 0;
+            for (IAEFluidStack s : fluidCache.values()) power += Math.max(1, s.getStackSize() / 1000);
+            boolean powered = energy.extractAEPower(power, Actionable.SIMULATE, PowerMultiplier.CONFIG) + 0.9 >= power;
+            BaseActionSource source = getRequest();
+            long stored = 0;
+            power = 0;
+            // AE storage only takes one stack per inject, the grid has no insert for a whole list
+            ObjectIterator<IAEFluidStack> it = fluidCache.values()
+                .iterator();
+            while (it.hasNext()) {
+                IAEFluidStack s = it.next();
+                long size = s.getStackSize();
+                IAEFluidStack rest = powered ? sg.injectItems(s, Actionable.MODULATE, source)
+                    : fluidAEInsert(energy, sg, s, source);
+                long left = rest == null ? 0 : rest.getStackSize();
+                stored += size - left;
+                if (size > left) power += Math.max(1, (size - left) / 1000);
+                if (left > 0) {
+                    s.setStackSize(left);
+                } else {
+                    it.remove();
                 }
-                s.setStackSize(0);
             }
+            if (powered && power > 0) energy.extractAEPower(power, Actionable.MODULATE, PowerMultiplier.CONFIG);
+            cachedAmount -= stored;
         } catch (final GridAccessException ignored) {}
         lastOutputTick = tickCounter;
     }
@@ -476,7 +516,8 @@ public class MTEHatchOutputME extends MTEHatchOutput implements IPowerChannelSta
         tag.setLong("cacheCapacity", getCacheCapacity());
         tag.setInteger("stackCount", fluidCache.size());
 
-        IAEFluidStack[] stacks = fluidCache.toArray(new IAEFluidStack[0]);
+        IAEFluidStack[] stacks = fluidCache.values()
+            .toArray(new IAEFluidStack[0]);
 
         Arrays.sort(
             stacks,
@@ -573,8 +614,7 @@ public class MTEHatchOutputME extends MTEHatchOutput implements IPowerChannelSta
         aNBT.setTag("lockedFluids", lockedFluidsTag);
 
         NBTTagList fluids = new NBTTagList();
-        for (IAEFluidStack s : fluidCache) {
-            if (s.getStackSize() == 0) continue;
+        for (IAEFluidStack s : fluidCache.values()) {
             NBTTagCompound tag = new NBTTagCompound();
             NBTTagCompound tagFluidStack = new NBTTagCompound();
             s.getFluidStack()
@@ -613,7 +653,7 @@ public class MTEHatchOutputME extends MTEHatchOutput implements IPowerChannelSta
                     .createFluidStack(GTUtility.loadFluid(tagFluidStack));
                 if (s != null) {
                     s.setStackSize(tag.getLong("size"));
-                    fluidCache.add(s);
+                    cacheFluid(s);
                 } else {
                     GTMod.GT_FML_LOGGER.warn(
                         "An error occurred while loading contents of ME Output Hatch. This fluid has been voided: "
@@ -621,6 +661,7 @@ public class MTEHatchOutputME extends MTEHatchOutput implements IPowerChannelSta
                 }
             }
         }
+        cachedAmount = countCachedAmount();
         additionalConnection = aNBT.getBoolean("additionalConnection");
         baseCapacity = aNBT.getLong("baseCapacity");
         hadCell = aNBT.getBoolean("hadCell");
@@ -653,7 +694,7 @@ public class MTEHatchOutputME extends MTEHatchOutput implements IPowerChannelSta
             ss.add(
                 StatCollector.translateToLocalFormatted("GT5U.infodata.hatch.output_me.contains", fluidCache.size()));
             int counter = 0;
-            for (IAEFluidStack s : fluidCache) {
+            for (IAEFluidStack s : fluidCache.values()) {
                 ss.add(
                     s.getFluidStack()
                         .getLocalizedName() + ": "
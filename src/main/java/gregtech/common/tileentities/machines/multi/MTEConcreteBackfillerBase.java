@@ -180,7 +180,7 @@ public abstract class MTEConcreteBackfillerBase extends MTEDrillerBase {
 
     private boolean isRefillableBlock(int aX, int aY, int aZ) {
         IGregTechTileEntity aBaseTile = getBaseMetaTileEntity();
-        Block aBlock = aBaseTile.getBlock(aX, aY, aZ);
+        Block aBlock = getSectionScanner().getBlock(aX, aY, aZ);
         if (!aBlock.isAir(aBaseTile.getWorld(), aX, aY, aZ)) {
             if (mLiquidEnabled) {
                 if (!isFluid(aBlock)) {
@@ -37,6 +37,7 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.StatCollector;
 import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
 import net.minecraftforge.common.util.FakePlayer;
 import net.minecraftforge.common.util.ForgeDirection;
 
@@ -81,6 +82,7 @@ import gregtech.api.render.TextureFactory;
 import gregtech.api.util.GTModHandler;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.IGTHatchAdder;
+import gregtech.api.util.SectionScanner;
 import gregtech.api.util.shutdown.ShutDownReasonRegistry;
 
 public abstract class MTEDrillerBase extends MTEEnhancedMultiBlockBase<MTEDrillerBase>
@@ -650,11 +652,18 @@ public abstract class MTEDrillerBase extends MTEEnhancedMultiBlockBase<MTEDrille
     }
 
     private boolean checkBlockAndMeta(int x, int y, int z, Block block, int meta) {
-        return (meta == WILDCARD || getBaseMetaTileEntity().getMetaID(x, y, z) == meta)
-            && getBaseMetaTileEntity().getBlock(x, y, z) == block;
+        final SectionScanner scanner = getSectionScanner();
+        return (meta == WILDCARD || scanner.getMeta(x, y, z) == meta) && scanner.getBlock(x, y, z) == block;
     }
 
     private FakePlayer mFakePlayer = null;
+    private SectionScanner mSectionScanner = null;
+
+    protected SectionScanner getSectionScanner() {
+        final World tWorld = getBaseMetaTileEntity().getWorld();
+        if (mSectionScanner == null || !mSectionScanner.isFor(tWorld)) mSectionScanner = new SectionScanner(tWorld);
+        return mSectionScanner;
+    }
 
     protected FakePlayer getFakePlayer(IGregTechTileEntity aBaseTile) {
         if (mFakePlayer == null) mFakePlayer = GTUtility.getFakePlayer(aBaseTile);
@@ -307,6 +307,11 @@ public class MTEElectricBlastFurnace extends MTEAbstractMultiFurnace<MTEElectric
         return true;
     }
 
+    @Override
+    protected boolean supportsIncrementalStructureCheck() {
+        return true;
+    }
+
     @Override
     public boolean supportsInputSeparation() {
         return true;
@@ -115,6 +115,11 @@ public class MTEImplosionCompressor extends MTECubicMultiBlockBase<MTEImplosionC
         return new ProcessingLogic();
     }
 
+    @Override
+    protected boolean supportsNoRecipeCache() {
+        return true;
+    }
+
     @Override
     protected int getTimeBetweenProcessSounds() {
         return 10;
@@ -167,6 +167,11 @@ public class MTELargeChemicalReactor extends MTEEnhancedMultiBlockBase<MTELargeC
         return new ProcessingLogic().enablePerfectOverclock();
     }
 
+    @Override
+    protected boolean supportsNoRecipeCache() {
+        return true;
+    }
+
     @Override
     public IStructureDefinition<MTELargeChemicalReactor> getStructureDefinition() {
         return STRUCTURE_DEFINITION;
@@ -204,6 +209,11 @@ public class MTELargeChemicalReactor extends MTEEnhancedMultiBlockBase<MTELargeC
         return true;
     }
 
+    @Override
+    protected boolean supportsIncrementalStructureCheck() {
+        return true;
+    }
+
     private enum CoilStructureElement implements IStructureElement<MTELargeChemicalReactor> {
 
         INSTANCE;
@@ -8,7 +8,6 @@ import static gregtech.api.enums.HatchElement.Maintenance;
 import static gregtech.api.enums.HatchElement.OutputBus;
 import static gregtech.api.metatileentity.BaseTileEntity.TOOLTIP_DELAY;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -22,13 +21,13 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumChatFormatting;
 import net.minecraft.util.StatCollector;
 import net.minecraft.world.ChunkCoordIntPair;
-import net.minecraft.world.ChunkPosition;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.FluidStack;
 
 import org.jetbrains.annotations.NotNull;
 
 import com.google.common.collect.ImmutableList;
+import com.gtnewhorizon.gtnhlib.util.CoordinatePacker;
 import com.gtnewhorizons.modularui.api.NumberFormatMUI;
 import com.gtnewhorizons.modularui.api.drawable.IDrawable;
 import com.gtnewhorizons.modularui.api.math.Alignment;
@@ -56,13 +55,15 @@ import gregtech.api.util.GTOreDictUnificator;
 import gregtech.api.util.GTRecipe;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.MultiblockTooltipBuilder;
+import gregtech.api.util.SectionScanner;
 import gregtech.common.blocks.BlockOresAbstract;
 import gregtech.common.blocks.TileEntityOres;
 import gregtech.crossmod.visualprospecting.VisualProspectingDatabase;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
 
 public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements IMetricsExporter {
 
-    private final List<ChunkPosition> oreBlockPositions = new ArrayList<>();
+    private final LongLinkedOpenHashSet oreBlockPositions = new LongLinkedOpenHashSet();
     protected int mTier = 1;
     private int chunkRadiusConfig = getRadiusInChunks();
     private boolean replaceWithCobblestone = true;
@@ -223,18 +224,19 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
     }
 
     private boolean processOreList(boolean simulate) {
-        ChunkPosition oreBlockPos = null;
-        List<ChunkPosition> oreBlockPositions = simulate ? copyOreBlockPositions(this.oreBlockPositions)
-            : this.oreBlockPositions;
+        boolean removedPos = false;
+        long oreBlockPos = 0;
+        LongLinkedOpenHashSet oreBlockPositions = simulate ? this.oreBlockPositions.clone() : this.oreBlockPositions;
         int x = 0, y = 0, z = 0;
         Block oreBlock = null;
         int oreBlockMetadata = 0;
 
         while ((oreBlock == null || !GTUtility.isOre(oreBlock, oreBlockMetadata)) && !oreBlockPositions.isEmpty()) {
-            oreBlockPos = oreBlockPositions.remove(0);
-            x = oreBlockPos.chunkPosX;
-            y = oreBlockPos.chunkPosY;
-            z = oreBlockPos.chunkPosZ;
+            oreBlockPos = oreBlockPositions.removeFirstLong();
+            removedPos = true;
+            x = CoordinatePacker.unpackX(oreBlockPos);
+            y = CoordinatePacker.unpackY(oreBlockPos);
+            z = CoordinatePacker.unpackZ(oreBlockPos);
             if (GTUtility.eraseBlockByFakePlayer(getFakePlayer(getBaseMetaTileEntity()), x, y, z, true))
                 oreBlock = getBaseMetaTileEntity().getBlock(x, y, z);
             oreBlockMetadata = getBaseMetaTileEntity().getWorld()
@@ -242,7 +244,7 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
         }
 
         if (!tryConsumeDrillingFluid(simulate)) {
-            oreBlockPositions.add(0, oreBlockPos);
+            if (removedPos) oreBlockPositions.addAndMoveToFirst(oreBlockPos);
             setRuntimeFailureReason(CheckRecipeResultRegistry.NO_DRILLING_FLUID);
             return false;
         }
@@ -261,7 +263,7 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
                         .setBlock(x, y, z, Block.getBlockFromItem(cobble.getItem()), cobble.getItemDamage(), 3);
                 } else {
                     getBaseMetaTileEntity().getWorld()
-                        .setBlockToAir(oreBlockPos.chunkPosX, oreBlockPos.chunkPosY, oreBlockPos.chunkPosZ);
+                        .setBlockToAir(x, y, z);
                 }
             }
             ItemStack[] toOutput = getOutputByDrops(oreBlockDrops);
@@ -274,14 +276,6 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
         return true;
     }
 
-    private static List<ChunkPosition> copyOreBlockPositions(List<ChunkPosition> oreBlockPositions) {
-        List<ChunkPosition> ret = new ArrayList<>();
-        for (ChunkPosition chunkPosition : oreBlockPositions) {
-            ret.add(new ChunkPosition(chunkPosition.chunkPosX, chunkPosition.chunkPosY, chunkPosition.chunkPosZ));
-        }
-        return ret;
-    }
-
     @Override
     protected boolean workingAtBottom(ItemStack aStack, int xDrill, int yDrill, int zDrill, int xPipe, int zPipe,
         int yHead, int oldYHead) {
@@ -569,38 +563,30 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
         final int maxX = minX + 16;
         final int minZ = mCurrentChunk.chunkZPos << 4;
         final int maxZ = minZ + 16;
-        for (int x = minX; x < maxX; ++x)
-            for (int z = minZ; z < maxZ; ++z) for (int y = yHead; y < yDrill; ++y) tryAddOreBlockToMineList(x, y, z);
+        getSectionScanner().scanOres(minX, maxX, yHead, yDrill, minZ, maxZ, oreBlockPositions);
     }
 
     private void fillMineListIfEmpty(int xDrill, int yDrill, int zDrill, int xPipe, int zPipe, int yHead) {
         if (!oreBlockPositions.isEmpty()) return;
 
-        tryAddOreBlockToMineList(xPipe, yHead - 1, zPipe);
+        final SectionScanner scanner = getSectionScanner();
+        scanner.scanOres(xPipe, xPipe + 1, yHead - 1, yHead, zPipe, zPipe + 1, oreBlockPositions);
         if (yHead == yDrill) return; // skip controller block layer
 
         if (mChunkLoadingEnabled) {
             int startX = (xDrill >> 4) << 4;
             int startZ = (zDrill >> 4) << 4;
-            for (int x = startX; x < (startX + 16); ++x)
-                for (int z = startZ; z < (startZ + 16); ++z) tryAddOreBlockToMineList(x, yHead, z);
+            scanner.scanOres(startX, startX + 16, yHead, yHead + 1, startZ, startZ + 16, oreBlockPositions);
         } else {
             int radius = chunkRadiusConfig << 4;
-            for (int xOff = -radius; xOff <= radius; xOff++) for (int zOff = -radius; zOff <= radius; zOff++)
-                tryAddOreBlockToMineList(xDrill + xOff, yHead, zDrill + zOff);
-        }
-    }
-
-    private void tryAddOreBlockToMineList(int x, int y, int z) {
-        Block block = getBaseMetaTileEntity().getBlock(x, y, z);
-        int blockMeta = getBaseMetaTileEntity().getMetaID(x, y, z);
-        ChunkPosition blockPos = new ChunkPosition(x, y, z);
-        if (!oreBlockPositions.contains(blockPos)) {
-            if (block instanceof BlockOresAbstract) {
-                TileEntity tTileEntity = getBaseMetaTileEntity().getTileEntity(x, y, z);
-                if (tTileEntity instanceof TileEntityOres && ((TileEntityOres) tTileEntity).mNatural)
-                    oreBlockPositions.add(blockPos);
-            } else if (GTUtility.isOre(block, blockMeta)) oreBlockPositions.add(blockPos);
+            scanner.scanOres(
+                xDrill - radius,
+                xDrill + radius + 1,
+                yHead,
+                yHead + 1,
+                zDrill - radius,
+                zDrill + radius + 1,
+                oreBlockPositions);
         }
     }
 
@@ -84,6 +84,7 @@ import gregtech.api.recipe.metadata.PCBFactoryTierKey;
 import gregtech.api.recipe.metadata.PCBFactoryUpgrade;
 import gregtech.api.recipe.metadata.PCBFactoryUpgradeKey;
 import gregtech.api.render.TextureFactory;
+import gregtech.api.structure.StructureFootprint;
 import gregtech.api.util.GTModHandler;
 import gregtech.api.util.GTRecipe;
 import gregtech.api.util.GTRecipeConstants;
@@ -485,7 +486,8 @@ public class MTEPCBFactory extends MTEExtendedPowerMultiBlockBase<MTEPCBFactory>
         if (mBioUpgrade) {
             if (mBioRotate) {
                 final IGregTechTileEntity tTile = getBaseMetaTileEntity();
-                if (!getStructureDefinition().check(
+                if (!StructureFootprint.check(
+                    getStructureDefinition(),
                     this,
                     bioUpgrade,
                     tTile.getWorld(),
@@ -110,6 +110,11 @@ public class MTEVacuumFreezer extends MTECubicMultiBlockBase<MTEVacuumFreezer> {
         return new ProcessingLogic();
     }
 
+    @Override
+    protected boolean supportsNoRecipeCache() {
+        return true;
+    }
+
     @Override
     protected IStructureElement<MTECubicMultiBlockBase<?>> getCasingElement() {
         return StructureUtility.ofBlock(GregTechAPI.sBlockCasings2, 1);
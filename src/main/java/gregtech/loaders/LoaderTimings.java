@@ -0,0 +1,88 @@
+package gregtech.loaders;
+
+import static gregtech.GTMod.GT_FML_LOGGER;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import gregtech.api.util.GTLog;
+
+/**
+ * Measures how long every loader takes at startup, so it can be seen where the loading time goes. Loaders still run
+ * one after another in the order they are given, since they share the OreDictionary, the unificator and the recipe
+ * lists.
+ */
+public final class LoaderTimings {
+
+    /** Time in nanoseconds and number of runs, by loader name, in the order the loaders first ran */
+    private static final Map<String, long[]> TIMES = new LinkedHashMap<>();
+
+    private LoaderTimings() {}
+
+    /**
+     * Runs a loader, named after its class.
+     */
+    public static void run(Runnable aLoader) {
+        run(
+            aLoader.getClass()
+                .getSimpleName(),
+            aLoader);
+    }
+
+    public static void run(String aName, Runnable aLoader) {
+        final long tStart = System.nanoTime();
+        try {
+            aLoader.run();
+        } finally {
+            final long[] tTime = TIMES.computeIfAbsent(aName, k -> new long[2]);
+            tTime[0] += System.nanoTime() - tStart;
+            tTime[1]++;
+        }
+    }
+
+    /**
+     * Runs the Runnables an addon registered for a loading phase, each counted for the class that registered it.
+     */
+    public static void runAll(String aPhase, List<Runnable> aRunnables) {
+        for (Runnable tRunnable : aRunnables) run(aPhase + ": " + getOwner(tRunnable), tRunnable);
+    }
+
+    private static String getOwner(Runnable aRunnable) {
+        final String tName = aRunnable.getClass()
+            .getName();
+        final int tLambda = tName.indexOf("$$Lambda");
+        return tLambda < 0 ? tName : tName.substring(0, tLambda);
+    }
+
+    /**
+     * Logs the loaders that ran since the last report, the slowest first, and forgets them.
+     */
+    public static void report(String aTitle) {
+        if (TIMES.isEmpty()) return;
+        final List<Map.Entry<String, long[]>> tEntries = new ArrayList<>(TIMES.entrySet());
+        tEntries.sort((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]));
+        long tTotal = 0;
+        for (Map.Entry<String, long[]> tEntry : tEntries) tTotal += tEntry.getValue()[0];
+        GTLog.out.printf("GTMod: %s took %d ms in %d loaders:%n", aTitle, tTotal / 1_000_000, tEntries.size());
+        for (Map.Entry<String, long[]> tEntry : tEntries) {
+            final long[] tTime = tEntry.getValue();
+            GTLog.out.printf(
+                "%8d ms %5.1f%% %s%s%n",
+                tTime[0] / 1_000_000,
+                tTotal == 0 ? 0 : 100D * tTime[0] / tTotal,
+                tEntry.getKey(),
+                tTime[1] > 1 ? " (" + tTime[1] + " runs)" : "");
+        }
+        GT_FML_LOGGER.info(
+            "{} took {} ms, slowest loader {} with {} ms, see GregTech.log for all loaders",
+            aTitle,
+            tTotal / 1_000_000,
+            tEntries.get(0)
+                .getKey(),
+            tEntries.get(0)
+                .getValue()[0] / 1_000_000);
+        TIMES.clear();
+    }
+}
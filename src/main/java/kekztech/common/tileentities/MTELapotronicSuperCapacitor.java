@@ -86,8 +86,8 @@ import gregtech.api.render.TextureFactory;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.IGTHatchAdder;
 import gregtech.api.util.LongData;
-import gregtech.api.util.LongRunningAverage;
 import gregtech.api.util.MultiblockTooltipBuilder;
+import gregtech.api.util.RollingStatistics;
 import gregtech.common.gui.modularui.widget.ShutDownReasonSyncer;
 import gregtech.common.misc.GTStructureChannels;
 import gregtech.common.misc.WirelessNetworkManager;
@@ -115,14 +115,17 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
     private boolean balanced = false;
     private boolean warningReceived = false;
 
-    private final LongRunningAverage energyInputValues1h = new LongRunningAverage(3600 * 20);
-    private final LongRunningAverage energyOutputValues1h = new LongRunningAverage(3600 * 20);
+    private final RollingStatistics energyInputStats = new RollingStatistics(DURATION_AVERAGE_TICKS, 5 * 60, 60);
+    private final RollingStatistics energyOutputStats = new RollingStatistics(DURATION_AVERAGE_TICKS, 5 * 60, 60);
 
-    private final LongData energyInputValues = energyInputValues1h.view(DURATION_AVERAGE_TICKS);
-    private final LongData energyOutputValues = energyOutputValues1h.view(DURATION_AVERAGE_TICKS);
+    private final LongData energyInputValues = energyInputStats.ticks();
+    private final LongData energyOutputValues = energyOutputStats.ticks();
 
-    private final LongData energyInputValues5m = energyInputValues1h.view(5 * 60 * 20);
-    private final LongData energyOutputValues5m = energyOutputValues1h.view(5 * 60 * 20);
+    private final LongData energyInputValues5m = energyInputStats.seconds();
+    private final LongData energyOutputValues5m = energyOutputStats.seconds();
+
+    private final LongData energyInputValues1h = energyInputStats.minutes();
+    private final LongData energyOutputValues1h = energyOutputStats.minutes();
 
     private final long max_passive_drain_eu_per_tick_per_uhv_cap = 1_000_000;
     private final long max_passive_drain_eu_per_tick_per_uev_cap = 100_000_000;
@@ -701,8 +704,8 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
         tBMTE.drainEnergyUnits(ForgeDirection.UNKNOWN, outputLastTick, 1L);
 
         // collect stats
-        energyInputValues1h.update(inputLastTick);
-        energyOutputValues1h.update(outputLastTick);
+        energyInputStats.update(inputLastTick);
+        energyOutputStats.update(outputLastTick);
         return true;
     }
 
@@ -1198,6 +1201,8 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
         nbt.setBoolean("wireless_mode", wireless_mode);
         nbt.setInteger("wireless_mode_cooldown", counter);
         nbt.setBoolean("warningReceived", warningReceived);
+        energyInputStats.saveNBTData(nbt, "energyInputStats");
+        energyOutputStats.saveNBTData(nbt, "energyOutputStats");
 
         super.saveNBTData(nbt);
     }
@@ -1211,6 +1216,8 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
         wireless_mode = nbt.getBoolean("wireless_mode");
         counter = nbt.getInteger("wireless_mode_cooldown");
         warningReceived = nbt.getBoolean("warningReceived");
+        energyInputStats.loadNBTData(nbt, "energyInputStats");
+        energyOutputStats.loadNBTData(nbt, "energyOutputStats");
 
         super.loadNBTData(nbt);
     }
@@ -0,0 +1,134 @@
+package tectech.mechanics.pipe;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import net.minecraftforge.common.util.ForgeDirection;
+
+import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
+import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+import gregtech.api.metatileentity.MetaPipeEntity;
+
+/**
+ * The hatch a data or laser source found at the end of its pipes, so the source doesn't walk its pipes every time it
+ * sends.
+ * <p>
+ * A link only depends on its own pipes: it is resolved again once one of them or one of the mirrors it bends around is
+ * removed, unloaded, painted or reconnected. Changes to other networks leave it alone. Only found hatches are kept, a
+ * source without a hatch keeps searching like before.
+ */
+public class CachedLink<T extends IMetaTileEntity> {
+
+    private static final IActivePipe[] NO_PIPES = new IActivePipe[0];
+    private static final int[] NO_STATES = new int[0];
+    private static final Set<CachedLink<?>> LINKS = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private static long sHits = 0;
+    private static long sMisses = 0;
+
+    private T target;
+    /** The pipes that are marked as used, followed by the mirrors that are only watched */
+    private IActivePipe[] pipes = NO_PIPES;
+    private int usedPipes;
+    private int[] states = NO_STATES;
+    private byte color;
+    private ForgeDirection sourceFacing;
+    private ForgeDirection targetFacing;
+
+    /**
+     * @return how many sources have a link, which is checked the next time they send
+     */
+    public static int getLinkCount() {
+        int tCount = 0;
+        for (CachedLink<?> tLink : LINKS) {
+            if (tLink.target != null) tCount++;
+        }
+        return tCount;
+    }
+
+    public static long getHits() {
+        return sHits;
+    }
+
+    public static long getMisses() {
+        return sMisses;
+    }
+
+    /**
+     * Marks the pipes of the link as used, like walking them would.
+     *
+     * @return the hatch at the end, or null if the link has to be resolved again
+     */
+    public T get(IGregTechTileEntity source) {
+        if (target != null && isValid(source)) {
+            for (int i = 0; i < usedPipes; i++) pipes[i].markUsed();
+            sHits++;
+            return target;
+        }
+        clear();
+        sMisses++;
+        return null;
+    }
+
+    /**
+     * Remembers the hatch the source just found and the pipes it passed on the way.
+     */
+    public void set(IGregTechTileEntity source, T target, List<? extends IActivePipe> pipes) {
+        set(source, target, pipes, Collections.emptyList());
+    }
+
+    /**
+     * Remembers the hatch the source just found, the pipes it passed on the way and the mirrors that bent it, which
+     * aren't marked as used.
+     */
+    public void set(IGregTechTileEntity source, T target, List<? extends IActivePipe> pipes,
+        List<? extends IActivePipe> mirrors) {
+        final List<IActivePipe> tWatched = new ArrayList<>(pipes.size() + mirrors.size());
+        tWatched.addAll(pipes);
+        tWatched.addAll(mirrors);
+        this.target = target;
+        this.pipes = tWatched.toArray(NO_PIPES);
+        usedPipes = pipes.size();
+        states = new int[this.pipes.length];
+        for (int i = 0; i < states.length; i++) states[i] = getState(this.pipes[i]);
+        color = source.getColorization();
+        sourceFacing = source.getFrontFacing();
+        targetFacing = target.getBaseMetaTileEntity()
+            .getFrontFacing();
+        LINKS.add(this);
+    }
+
+    public void clear() {
+        target = null;
+        pipes = NO_PIPES;
+        usedPipes = 0;
+        states = NO_STATES;
+    }
+
+    private boolean isValid(IGregTechTileEntity source) {
+        if (source.getColorization() != color || source.getFrontFacing() != sourceFacing) {
+            return false;
+        }
+        final IGregTechTileEntity tTarget = target.getBaseMetaTileEntity();
+        if (tTarget == null || tTarget.isDead()
+            || tTarget.getColorization() != color
+            || tTarget.getFrontFacing() != targetFacing) {
+            return false;
+        }
+        for (int i = 0; i < pipes.length; i++) {
+            final IGregTechTileEntity tBase = pipes[i].getBaseMetaTileEntity();
+            if (tBase == null || tBase.isDead() || getState(pipes[i]) != states[i]) return false;
+        }
+        return true;
+    }
+
+    // everything about a pipe the walk to the hatch looks at: its colour and the sides it connects to
+    private static int getState(IActivePipe aPipe) {
+        final int tConnections = aPipe instanceof MetaPipeEntity tPipe ? tPipe.mConnections & 0xFF : 0;
+        return aPipe.getBaseMetaTileEntity()
+            .getColorization() << 8 | tConnections;
+    }
+}
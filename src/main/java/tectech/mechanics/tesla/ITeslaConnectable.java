@@ -3,18 +3,16 @@ package tectech.mechanics.tesla;
 import static java.lang.Math.sqrt;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-
-import com.google.common.collect.Multimap;
 
 import tectech.mechanics.spark.ThaumSpark;
 
 public interface ITeslaConnectable extends ITeslaConnectableSimple {
 
-    // Map with all Teslas in the same dimension and the distance to them //TODO Range
-    Multimap<Integer, ITeslaConnectableSimple> getTeslaNodeMap();
+    // All Teslas in range in the same dimension, sorted by the distance to them
+    TeslaNodeList getTeslaNodeList();
 
     // ThaumCraft lighting coordinate pairs, so we can send them in bursts and save on lag
     HashSet<ThaumSpark> getSparkList();
@@ -43,20 +41,32 @@ public interface ITeslaConnectable extends ITeslaConnectableSimple {
 
         private static final HashSet<ITeslaConnectableSimple> teslaSimpleNodeSet = new HashSet<>(); // Targets for power
                                                                                                     // transmission
-        private static final HashSet<ITeslaConnectable> teslaNodeSet = new HashSet<>(); // Sources of power transmission
+        private static final TeslaTargetGrid teslaTargetGrid = new TeslaTargetGrid(); // The same targets by position
+        // Sources of power transmission by dimension
+        private static final HashMap<Integer, HashSet<ITeslaConnectable>> teslaNodeSets = new HashMap<>();
+        private static final HashMap<ITeslaConnectable, Integer> teslaNodeDimensions = new HashMap<>();
         private static final List<ITeslaConnectableSimple> scheduledRemove = new ArrayList<>();
 
         public static void teslaSimpleNodeSetAdd(ITeslaConnectableSimple target) {
             if (!teslaSimpleNodeSet.contains(target)) {
                 teslaSimpleNodeSet.add(target);
-                teslaNodeSet.forEach(origin -> addTargetToTeslaOrigin(target, origin));
+                teslaTargetGrid.update(target);
+                final HashSet<ITeslaConnectable> origins = teslaNodeSets.get(target.getTeslaDimension());
+                if (origins != null) origins.forEach(origin -> addTargetToTeslaOrigin(target, origin));
+            } else {
+                // Towers are added before their structure is checked and move to their real position afterwards
+                teslaTargetGrid.update(target);
             }
         }
 
         public static void teslaSimpleNodeSetRemove(ITeslaConnectableSimple target) {
             teslaSimpleNodeSet.remove(target);
-            if (target instanceof ITeslaConnectable) teslaNodeSet.remove(target);
-            teslaNodeSet.forEach(origin -> removeTargetFromTeslaOrigin(target, origin));
+            final Integer dimension = teslaTargetGrid.getDimension(target);
+            teslaTargetGrid.remove(target);
+            if (target instanceof ITeslaConnectable origin) removeTeslaOrigin(origin);
+            if (dimension == null) return;
+            final HashSet<ITeslaConnectable> origins = teslaNodeSets.get(dimension);
+            if (origins != null) origins.forEach(origin -> removeTargetFromTeslaOrigin(target, origin));
         }
 
         public static void teslaSimpleNodeSetRemoveScheduled(ITeslaConnectableSimple target) {
@@ -65,11 +75,20 @@ public interface ITeslaConnectable extends ITeslaConnectableSimple {
 
         public static void housekeep() {
             for (ITeslaConnectableSimple e : scheduledRemove) {
-                teslaSimpleNodeSet.remove(e);
+                // The grid knows the dimension of the target, so it can be taken out of the node maps as well
+                teslaSimpleNodeSetRemove(e);
             }
             scheduledRemove.clear();
         }
 
+        private static void removeTeslaOrigin(ITeslaConnectable origin) {
+            final Integer dimension = teslaNodeDimensions.remove(origin);
+            if (dimension == null) return;
+            final HashSet<ITeslaConnectable> origins = teslaNodeSets.get(dimension);
+            origins.remove(origin);
+            if (origins.isEmpty()) teslaNodeSets.remove(dimension);
+        }
+
         private static void addTargetToTeslaOrigin(ITeslaConnectableSimple target, ITeslaConnectable origin) {
             if (origin.equals(target) || !origin.getTeslaDimension()
                 .equals(target.getTeslaDimension())) {
@@ -89,8 +108,8 @@ public interface ITeslaConnectable extends ITeslaConnectableSimple {
                 // Skip if the range is too vast
                 return;
             }
-            origin.getTeslaNodeMap()
-                .put(distance, target);
+            origin.getTeslaNodeList()
+                .add(distance, target);
         }
 
         private static void removeTargetFromTeslaOrigin(ITeslaConnectableSimple target, ITeslaConnectable origin) {
@@ -98,23 +117,26 @@ public interface ITeslaConnectable extends ITeslaConnectableSimple {
             int distance = (int) sqrt(
                 origin.getTeslaPosition()
                     .distanceSq(target.getTeslaPosition()));
-            origin.getTeslaNodeMap()
+            origin.getTeslaNodeList()
                 .remove(distance, target);
         }
 
         public static void generateTeslaNodeMap(ITeslaConnectable origin) {
-            origin.getTeslaNodeMap()
+            origin.getTeslaNodeList()
                 .clear();
-            for (ITeslaConnectableSimple target : teslaSimpleNodeSet) {
-                // Sanity checks
-                if (target == null) {
-                    // The Tesla Covers do not remove themselves from the list and this is the code that does
-                    teslaSimpleNodeSet.remove(null);
-                    continue;
-                }
-                addTargetToTeslaOrigin(target, origin);
-            }
-            teslaNodeSet.add(origin);
+            final Integer dimension = origin.getTeslaDimension();
+            // Only the targets that can be in range, the range check itself still happens per target
+            final int range = (int) Math
+                .ceil(origin.getTeslaTransmissionRange() * teslaTargetGrid.getMaxReceptionCoefficient());
+            teslaTargetGrid.forEachInRange(
+                dimension,
+                origin.getTeslaPosition(),
+                range,
+                target -> addTargetToTeslaOrigin(target, origin));
+            removeTeslaOrigin(origin);
+            teslaNodeDimensions.put(origin, dimension);
+            teslaNodeSets.computeIfAbsent(dimension, d -> new HashSet<>())
+                .add(origin);
         }
 
         public static long powerTeslaNodeMap(ITeslaConnectable origin) {
@@ -122,16 +144,16 @@ public interface ITeslaConnectable extends ITeslaConnectableSimple {
             boolean canSendPower = !origin.isTeslaReadyToReceive() && remainingAmperes > 0;
 
             if (canSendPower) {
-                for (Map.Entry<Integer, ITeslaConnectableSimple> Rx : origin.getTeslaNodeMap()
-                    .entries()) {
+                final TeslaNodeList nodeList = origin.getTeslaNodeList();
+                for (int i = 0; i < nodeList.size(); i++) {
                     // Do we still have power left to send kind of check
                     if (origin.getTeslaStoredEnergy()
                         < (origin.isOverdriveEnabled() ? origin.getTeslaOutputVoltage() * 2
                             : origin.getTeslaOutputVoltage()))
                         break;
                     // Explicit words for the important fields
-                    ITeslaConnectableSimple target = Rx.getValue();
-                    int distance = Rx.getKey();
+                    ITeslaConnectableSimple target = nodeList.getTarget(i);
+                    int distance = nodeList.getDistance(i);
                     // Can our target receive energy?
                     if (!target.isTeslaReadyToReceive()) continue;
 
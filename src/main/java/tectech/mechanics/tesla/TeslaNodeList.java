@@ -0,0 +1,86 @@
+package tectech.mechanics.tesla;
+
+import java.util.Arrays;
+
+/**
+ * The targets in range of a Tesla, sorted by ascending distance. Targets at the same distance keep the order they were
+ * added in. Powering the targets walks the arrays directly instead of the entries of a map.
+ */
+public class TeslaNodeList {
+
+    private int[] distances = new int[16];
+    private ITeslaConnectableSimple[] targets = new ITeslaConnectableSimple[16];
+    private int size = 0;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getDistance(int index) {
+        return distances[index];
+    }
+
+    public ITeslaConnectableSimple getTarget(int index) {
+        return targets[index];
+    }
+
+    public void add(int distance, ITeslaConnectableSimple target) {
+        if (size == distances.length) {
+            distances = Arrays.copyOf(distances, size * 2);
+            targets = Arrays.copyOf(targets, size * 2);
+        }
+        final int index = upperBound(distance);
+        System.arraycopy(distances, index, distances, index + 1, size - index);
+        System.arraycopy(targets, index, targets, index + 1, size - index);
+        distances[index] = distance;
+        targets[index] = target;
+        size++;
+    }
+
+    /**
+     * Removes the first entry of the target at this distance.
+     *
+     * @return false if there was no such entry
+     */
+    public boolean remove(int distance, ITeslaConnectableSimple target) {
+        for (int i = lowerBound(distance); i < size && distances[i] == distance; i++) {
+            if (!targets[i].equals(target)) continue;
+            System.arraycopy(distances, i + 1, distances, i, size - i - 1);
+            System.arraycopy(targets, i + 1, targets, i, size - i - 1);
+            targets[--size] = null;
+            return true;
+        }
+        return false;
+    }
+
+    public void clear() {
+        Arrays.fill(targets, 0, size, null);
+        size = 0;
+    }
+
+    // the first index with a distance of at least the given one
+    private int lowerBound(int distance) {
+        int low = 0, high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (distances[middle] < distance) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+
+    // the first index with a distance greater than the given one
+    private int upperBound(int distance) {
+        int low = 0, high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (distances[middle] <= distance) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+}
@@ -0,0 +1,102 @@
+package tectech.mechanics.tesla;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.gtnewhorizon.structurelib.util.Vec3Impl;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+/**
+ * The targets of Tesla power transmission, sorted into cubic cells per dimension, so a Tesla only has to look at the
+ * cells within its range instead of at every target of every dimension.
+ */
+class TeslaTargetGrid {
+
+    // 32 block cells, most Teslas reach a few cells in every direction
+    private static final int CELL_SHIFT = 5;
+
+    private final Map<Integer, Long2ObjectOpenHashMap<List<ITeslaConnectableSimple>>> dimensions = new HashMap<>();
+    private final Map<ITeslaConnectableSimple, Cell> cells = new HashMap<>();
+    // only ever grows, ranges stay correct if a target with a large coefficient goes away
+    private float maxReceptionCoefficient = 0;
+
+    private record Cell(Integer dimension, long key) {}
+
+    /**
+     * Adds the target, or moves it to its current cell if it was added before.
+     */
+    void update(ITeslaConnectableSimple target) {
+        final Integer dimension = target.getTeslaDimension();
+        final long key = getKey(target.getTeslaPosition());
+        final Cell oldCell = cells.get(target);
+        if (oldCell != null) {
+            if (oldCell.key == key && oldCell.dimension.equals(dimension)) return;
+            remove(target);
+        }
+        cells.put(target, new Cell(dimension, key));
+        dimensions.computeIfAbsent(dimension, d -> new Long2ObjectOpenHashMap<>())
+            .computeIfAbsent(key, k -> new ArrayList<>())
+            .add(target);
+        maxReceptionCoefficient = Math.max(maxReceptionCoefficient, target.getTeslaReceptionCoefficient());
+    }
+
+    void remove(ITeslaConnectableSimple target) {
+        final Cell cell = cells.remove(target);
+        if (cell == null) return;
+        final Long2ObjectOpenHashMap<List<ITeslaConnectableSimple>> grid = dimensions.get(cell.dimension);
+        final List<ITeslaConnectableSimple> targets = grid.get(cell.key);
+        targets.remove(target);
+        if (targets.isEmpty()) grid.remove(cell.key);
+        if (grid.isEmpty()) dimensions.remove(cell.dimension);
+    }
+
+    /**
+     * @return the dimension the target was added in, or null if it wasn't added
+     */
+    Integer getDimension(ITeslaConnectableSimple target) {
+        final Cell cell = cells.get(target);
+        return cell == null ? null : cell.dimension;
+    }
+
+    float getMaxReceptionCoefficient() {
+        return maxReceptionCoefficient;
+    }
+
+    /**
+     * Passes every target in a cell that overlaps the cube around the position to the consumer. The consumer still
+     * has to check the exact distance.
+     */
+    void forEachInRange(Integer dimension, Vec3Impl position, int range, Consumer<ITeslaConnectableSimple> consumer) {
+        final Long2ObjectOpenHashMap<List<ITeslaConnectableSimple>> grid = dimensions.get(dimension);
+        if (grid == null || range < 0) return;
+        final int minX = (position.get0() - range) >> CELL_SHIFT, maxX = (position.get0() + range) >> CELL_SHIFT;
+        final int minY = (position.get1() - range) >> CELL_SHIFT, maxY = (position.get1() + range) >> CELL_SHIFT;
+        final int minZ = (position.get2() - range) >> CELL_SHIFT, maxZ = (position.get2() + range) >> CELL_SHIFT;
+        final long cellCount = (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+        if (cellCount > grid.size()) {
+            // a huge range over a few targets, looking at the targets is cheaper than looking at the empty cells
+            for (List<ITeslaConnectableSimple> targets : grid.values()) targets.forEach(consumer);
+            return;
+        }
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    final List<ITeslaConnectableSimple> targets = grid.get(getKey(x, y, z));
+                    if (targets != null) targets.forEach(consumer);
+                }
+            }
+        }
+    }
+
+    private static long getKey(Vec3Impl position) {
+        return getKey(position.get0() >> CELL_SHIFT, position.get1() >> CELL_SHIFT, position.get2() >> CELL_SHIFT);
+    }
+
+    private static long getKey(int cellX, int cellY, int cellZ) {
+        return ((long) cellX & 0x3FFFFFF) << 38 | ((long) cellZ & 0x3FFFFFF) << 12 | (cellY & 0xFFF);
+    }
+}
@@ -18,9 +18,11 @@ import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.util.GTRecipe.RecipeAssemblyLine;
+import gregtech.common.config.Gregtech;
 import mcp.mobius.waila.api.IWailaConfigHandler;
 import mcp.mobius.waila.api.IWailaDataAccessor;
 import tectech.mechanics.dataTransport.ALRecipeDataPacket;
+import tectech.mechanics.pipe.CachedLink;
 import tectech.mechanics.pipe.IConnectsToDataPipe;
 import tectech.thing.metaTileEntity.pipe.MTEPipeData;
 import tectech.util.CommonValues;
@@ -28,6 +30,7 @@ import tectech.util.CommonValues;
 public class MTEHatchDataItemsOutput extends MTEHatchDataConnector<ALRecipeDataPacket> {
 
     private ALRecipeDataPacket previousPacket;
+    private final CachedLink<MTEHatchDataItemsInput> link = new CachedLink<>();
 
     public MTEHatchDataItemsOutput(int aID, String aName, String aNameRegional, int aTier) {
         super(
@@ -98,15 +101,24 @@ public class MTEHatchDataItemsOutput extends MTEHatchDataConnector<ALRecipeDataP
 
     @Override
     public void moveAround(IGregTechTileEntity aBaseMetaTileEntity) {
-        IConnectsToDataPipe current = this, source = this, next;
-        int range = 0;
-        while ((next = current.getNext(source)) != null && range++ < 1000) {
-            if (next instanceof MTEHatchDataItemsInput) {
-                ((MTEHatchDataItemsInput) next).setContents(q);
-                break;
+        final MTEHatchDataItemsInput target = Gregtech.performance.cachedPipeLinks ? link.get(aBaseMetaTileEntity)
+            : null;
+        if (target != null) {
+            target.setContents(q);
+        } else {
+            final List<MTEPipeData> pipes = new ArrayList<>();
+            IConnectsToDataPipe current = this, source = this, next;
+            int range = 0;
+            while ((next = current.getNext(source)) != null && range++ < 1000) {
+                if (next instanceof MTEHatchDataItemsInput input) {
+                    input.setContents(q);
+                    if (Gregtech.performance.cachedPipeLinks) link.set(aBaseMetaTileEntity, input, pipes);
+                    break;
+                }
+                if (next instanceof MTEPipeData pipe) pipes.add(pipe);
+                source = current;
+                current = next;
             }
-            source = current;
-            current = next;
         }
         previousPacket = q;
         q = null;
@@ -2,6 +2,7 @@ package tectech.thing.metaTileEntity.hatch;
 
 import static net.minecraft.util.StatCollector.translateToLocal;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import net.minecraft.entity.player.EntityPlayer;
@@ -26,9 +27,11 @@ import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.util.GTUtility;
+import gregtech.common.config.Gregtech;
 import mcp.mobius.waila.api.IWailaConfigHandler;
 import mcp.mobius.waila.api.IWailaDataAccessor;
 import tectech.mechanics.dataTransport.QuantumDataPacket;
+import tectech.mechanics.pipe.CachedLink;
 import tectech.mechanics.pipe.IConnectsToDataPipe;
 import tectech.thing.metaTileEntity.pipe.MTEPipeData;
 import tectech.util.CommonValues;
@@ -39,6 +42,7 @@ import tectech.util.CommonValues;
 public class MTEHatchDataOutput extends MTEHatchDataConnector<QuantumDataPacket> {
 
     private long history;
+    private final CachedLink<MTEHatchDataInput> link = new CachedLink<>();
 
     public long requestedComputation;
     public boolean allowComputationConfiguring;
@@ -108,15 +112,23 @@ public class MTEHatchDataOutput extends MTEHatchDataConnector<QuantumDataPacket>
 
     @Override
     public void moveAround(IGregTechTileEntity aBaseMetaTileEntity) {
-        IConnectsToDataPipe current = this, source = this, next;
-        int range = 0;
-        while ((next = current.getNext(source)) != null && range++ < 1000) {
-            if (next instanceof MTEHatchDataInput) {
-                ((MTEHatchDataInput) next).setContents(q);
-                break;
+        final MTEHatchDataInput target = Gregtech.performance.cachedPipeLinks ? link.get(aBaseMetaTileEntity) : null;
+        if (target != null) {
+            target.setContents(q);
+        } else {
+            final List<MTEPipeData> pipes = new ArrayList<>();
+            IConnectsToDataPipe current = this, source = this, next;
+            int range = 0;
+            while ((next = current.getNext(source)) != null && range++ < 1000) {
+                if (next instanceof MTEHatchDataInput input) {
+                    input.setContents(q);
+                    if (Gregtech.performance.cachedPipeLinks) link.set(aBaseMetaTileEntity, input, pipes);
+                    break;
+                }
+                if (next instanceof MTEPipeData pipe) pipes.add(pipe);
+                source = current;
+                current = next;
             }
-            source = current;
-            current = next;
         }
 
         history = q == null ? 0 : q.getContent();
@@ -3,6 +3,9 @@ package tectech.thing.metaTileEntity.hatch;
 import static gregtech.api.enums.GTValues.V;
 import static net.minecraft.util.StatCollector.translateToLocal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
@@ -22,6 +25,8 @@ import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.util.GTUtility;
+import gregtech.common.config.Gregtech;
+import tectech.mechanics.pipe.CachedLink;
 import tectech.mechanics.pipe.IConnectsToEnergyTunnel;
 import tectech.thing.metaTileEntity.Textures;
 import tectech.thing.metaTileEntity.pipe.MTEPipeLaser;
@@ -33,6 +38,8 @@ import tectech.util.CommonValues;
  */
 public class MTEHatchDynamoTunnel extends MTEHatchDynamoMulti implements IConnectsToEnergyTunnel {
 
+    private final CachedLink<MTEHatchEnergyTunnel> link = new CachedLink<>();
+
     public MTEHatchDynamoTunnel(int ID, String unlocalisedName, String localisedName, int tier, int amps) {
         super(
             ID,
@@ -172,6 +179,39 @@ public class MTEHatchDynamoTunnel extends MTEHatchDynamoMulti implements IConnec
         if (color < 0) {
             return;
         }
+        MTEHatchEnergyTunnel target = Gregtech.performance.cachedPipeLinks ? link.get(aBaseMetaTileEntity) : null;
+        if (target == null) {
+            final List<MTEPipeLaser> pipes = new ArrayList<>();
+            final List<MTEPipeLaserMirror> mirrors = new ArrayList<>();
+            target = findTarget(aBaseMetaTileEntity, color, pipes, mirrors);
+            if (target == null) {
+                return;
+            }
+            if (Gregtech.performance.cachedPipeLinks) link.set(aBaseMetaTileEntity, target, pipes, mirrors);
+        }
+
+        if (maxEUOutput() > target.maxEUInput()) {
+            target.doExplosion(maxEUOutput());
+            setEUVar(aBaseMetaTileEntity.getStoredEU() - maxEUOutput());
+        } else if (maxEUOutput() == target.maxEUInput()) {
+            long diff = Math.min(
+                Amperes * 20L * maxEUOutput(),
+                Math.min(
+                    target.maxEUStore() - target.getBaseMetaTileEntity()
+                        .getStoredEU(),
+                    aBaseMetaTileEntity.getStoredEU()));
+
+            setEUVar(aBaseMetaTileEntity.getStoredEU() - diff);
+
+            target.setEUVar(
+                target.getBaseMetaTileEntity()
+                    .getStoredEU() + diff);
+        }
+    }
+
+    // follows the laser pipes and mirrors in front of the hatch, marking the pipes as used and adding both to the lists
+    private MTEHatchEnergyTunnel findTarget(IGregTechTileEntity aBaseMetaTileEntity, byte color,
+        List<MTEPipeLaser> pipes, List<MTEPipeLaserMirror> mirrors) {
         final ForgeDirection front = aBaseMetaTileEntity.getFrontFacing();
         ForgeDirection opposite = front.getOpposite();
         for (short dist = 1; dist < 1000; dist++) {
@@ -184,7 +224,7 @@ public class MTEHatchDynamoTunnel extends MTEHatchDynamoMulti implements IConnec
                     // If we hit a mirror, use the mirror's view instead
                     if (aMetaTileEntity instanceof MTEPipeLaserMirror tMirror) {
 
-                        tGTTileEntity = tMirror.bendAround(opposite);
+                        tGTTileEntity = tMirror.bendAround(opposite, pipes, mirrors);
                         if (tGTTileEntity == null) {
                             break;
                         } else {
@@ -194,42 +234,25 @@ public class MTEHatchDynamoTunnel extends MTEHatchDynamoMulti implements IConnec
                     }
 
                     if (aMetaTileEntity instanceof MTEHatchEnergyTunnel && opposite == tGTTileEntity.getFrontFacing()) {
-                        if (maxEUOutput() > ((MTEHatchEnergyTunnel) aMetaTileEntity).maxEUInput()) {
-                            aMetaTileEntity.doExplosion(maxEUOutput());
-                            setEUVar(aBaseMetaTileEntity.getStoredEU() - maxEUOutput());
-                            return;
-                        } else if (maxEUOutput() == ((MTEHatchEnergyTunnel) aMetaTileEntity).maxEUInput()) {
-                            long diff = Math.min(
-                                Amperes * 20L * maxEUOutput(),
-                                Math.min(
-                                    ((MTEHatchEnergyTunnel) aMetaTileEntity).maxEUStore()
-                                        - aMetaTileEntity.getBaseMetaTileEntity()
-                                            .getStoredEU(),
-                                    aBaseMetaTileEntity.getStoredEU()));
-
-                            setEUVar(aBaseMetaTileEntity.getStoredEU() - diff);
-
-                            ((MTEHatchEnergyTunnel) aMetaTileEntity).setEUVar(
-                                aMetaTileEntity.getBaseMetaTileEntity()
-                                    .getStoredEU() + diff);
-                        }
-                        return;
+                        return (MTEHatchEnergyTunnel) aMetaTileEntity;
                     } else if (aMetaTileEntity instanceof MTEPipeLaser) {
                         if (((MTEPipeLaser) aMetaTileEntity).connectionCount < 2) {
-                            return;
+                            return null;
                         } else {
                             ((MTEPipeLaser) aMetaTileEntity).markUsed();
+                            pipes.add((MTEPipeLaser) aMetaTileEntity);
                         }
                     } else {
-                        return;
+                        return null;
                     }
                 } else {
-                    return;
+                    return null;
                 }
             } else {
-                return;
+                return null;
             }
         }
+        return null;
     }
 
     @Override
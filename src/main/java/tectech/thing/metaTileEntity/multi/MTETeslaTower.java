@@ -35,8 +35,6 @@ import net.minecraftforge.fluids.FluidStack;
 import org.apache.commons.lang3.tuple.Pair;
 import org.jetbrains.annotations.NotNull;
 
-import com.google.common.collect.Multimap;
-import com.google.common.collect.MultimapBuilder;
 import com.gtnewhorizon.structurelib.alignment.constructable.ISurvivalConstructable;
 import com.gtnewhorizon.structurelib.structure.IItemSource;
 import com.gtnewhorizon.structurelib.structure.IStructureDefinition;
@@ -66,7 +64,7 @@ import tectech.loader.NetworkDispatcher;
 import tectech.mechanics.spark.RendererMessage;
 import tectech.mechanics.spark.ThaumSpark;
 import tectech.mechanics.tesla.ITeslaConnectable;
-import tectech.mechanics.tesla.ITeslaConnectableSimple;
+import tectech.mechanics.tesla.TeslaNodeList;
 import tectech.thing.casing.BlockGTCasingsTT;
 import tectech.thing.casing.TTCasingsContainer;
 import tectech.thing.metaTileEntity.hatch.MTEHatchCapacitor;
@@ -82,9 +80,7 @@ import tectech.thing.metaTileEntity.multi.base.render.TTRenderedExtendedFacingTe
 public class MTETeslaTower extends TTMultiblockBase implements ISurvivalConstructable, ITeslaConnectable {
 
     // Interface fields
-    private final Multimap<Integer, ITeslaConnectableSimple> teslaNodeMap = MultimapBuilder.treeKeys()
-        .linkedListValues()
-        .build();
+    private final TeslaNodeList teslaNodeList = new TeslaNodeList();
     private final HashSet<ThaumSpark> sparkList = new HashSet<>();
     private int sparkCount = 20;
 
@@ -847,8 +843,8 @@ public class MTETeslaTower extends TTMultiblockBase implements ISurvivalConstruc
     }
 
     @Override
-    public Multimap<Integer, ITeslaConnectableSimple> getTeslaNodeMap() {
-        return teslaNodeMap;
+    public TeslaNodeList getTeslaNodeList() {
+        return teslaNodeList;
     }
 
     @Override
@@ -3,6 +3,9 @@ package tectech.thing.metaTileEntity.pipe;
 import static gregtech.api.enums.Dyes.MACHINE_METAL;
 import static net.minecraft.util.StatCollector.translateToLocal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import net.minecraft.client.renderer.texture.IIconRegister;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumChatFormatting;
@@ -153,6 +156,16 @@ public class MTEPipeLaserMirror extends MTEPipeLaser {
     }
 
     public IGregTechTileEntity bendAround(ForgeDirection inputSide) {
+        return bendAround(inputSide, new ArrayList<>(), new ArrayList<>());
+    }
+
+    /**
+     * @param usedPipes the laser pipes behind the mirror that were marked as used are added to this list
+     * @param mirrors this mirror and the mirrors behind it are added to this list
+     */
+    public IGregTechTileEntity bendAround(ForgeDirection inputSide, List<MTEPipeLaser> usedPipes,
+        List<MTEPipeLaserMirror> mirrors) {
+        mirrors.add(this);
         byte color = getBaseMetaTileEntity().getColorization();
         if (color < 0) {
             return null;
@@ -171,7 +184,7 @@ public class MTEPipeLaserMirror extends MTEPipeLaser {
                     if (aMetaTileEntity != null) {
                         // If we hit a mirror, use the mirror's view instead
                         if (aMetaTileEntity instanceof MTEPipeLaserMirror tMirror) {
-                            tGTTileEntity = tMirror.bendAround(opposite);
+                            tGTTileEntity = tMirror.bendAround(opposite, usedPipes, mirrors);
                             if (tGTTileEntity == null) {
                                 break;
                             } else {
@@ -189,6 +202,7 @@ public class MTEPipeLaserMirror extends MTEPipeLaser {
                                 return null;
                             } else {
                                 ((MTEPipeLaser) aMetaTileEntity).markUsed();
+                                usedPipes.add((MTEPipeLaser) aMetaTileEntity);
                             }
                         } else {
                             return null;
@@ -16,8 +16,6 @@ import net.minecraftforge.common.util.ForgeDirection;
 
 import org.apache.commons.lang3.ArrayUtils;
 
-import com.google.common.collect.Multimap;
-import com.google.common.collect.MultimapBuilder;
 import com.gtnewhorizon.structurelib.util.Vec3Impl;
 
 import eu.usrv.yamcore.auxiliary.PlayerChatHelper;
@@ -31,16 +29,14 @@ import tectech.loader.NetworkDispatcher;
 import tectech.mechanics.spark.RendererMessage;
 import tectech.mechanics.spark.ThaumSpark;
 import tectech.mechanics.tesla.ITeslaConnectable;
-import tectech.mechanics.tesla.ITeslaConnectableSimple;
+import tectech.mechanics.tesla.TeslaNodeList;
 import tectech.thing.metaTileEntity.Textures;
 import tectech.util.CommonValues;
 
 public class MTETeslaCoil extends MTEBasicBatteryBuffer implements ITeslaConnectable {
 
     // Interface fields
-    private final Multimap<Integer, ITeslaConnectableSimple> teslaNodeMap = MultimapBuilder.treeKeys()
-        .linkedListValues()
-        .build();
+    private final TeslaNodeList teslaNodeList = new TeslaNodeList();
     private final HashSet<ThaumSpark> sparkList = new HashSet<>();
     private int sparkCount = 20;
 
@@ -299,8 +295,8 @@ public class MTETeslaCoil extends MTEBasicBatteryBuffer implements ITeslaConnect
     }
 
     @Override
-    public Multimap<Integer, ITeslaConnectableSimple> getTeslaNodeMap() {
-        return teslaNodeMap;
+    public TeslaNodeList getTeslaNodeList() {
+        return teslaNodeList;
     }
 
     @Override
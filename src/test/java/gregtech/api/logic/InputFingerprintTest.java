@@ -0,0 +1,118 @@
+package gregtech.api.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link InputFingerprint} and the NO_RECIPE cache of {@link ProcessingLogic} that is keyed by it.
+ */
+class InputFingerprintTest {
+
+    private static final long INPUTS = InputFingerprint.mix(InputFingerprint.EMPTY, 42L);
+
+    @Test
+    void mixIsDeterministicAndOrderSensitive() {
+        long ab = InputFingerprint.mix(InputFingerprint.mix(InputFingerprint.EMPTY, 1L), 2L);
+        long ba = InputFingerprint.mix(InputFingerprint.mix(InputFingerprint.EMPTY, 2L), 1L);
+        assertEquals(ab, InputFingerprint.mix(InputFingerprint.mix(InputFingerprint.EMPTY, 1L), 2L));
+        assertNotEquals(ab, ba);
+    }
+
+    @Test
+    void mixSpreadsSmallValues() {
+        Set<Long> fingerprints = new HashSet<>();
+        for (long value = 0; value < 100_000; value++) {
+            long fingerprint = InputFingerprint.mix(InputFingerprint.EMPTY, value);
+            assertNotEquals(InputFingerprint.UNKNOWN, fingerprint);
+            fingerprints.add(fingerprint);
+        }
+        assertEquals(100_000, fingerprints.size());
+    }
+
+    @Test
+    void emptyStacksMixLikeNothing() {
+        assertEquals(
+            InputFingerprint.mix(InputFingerprint.EMPTY, 0L),
+            InputFingerprint.mix(InputFingerprint.EMPTY, (ItemStack) null));
+        assertEquals(
+            InputFingerprint.mix(InputFingerprint.EMPTY, 0L),
+            InputFingerprint.mix(InputFingerprint.EMPTY, (FluidStack) null));
+        assertEquals(
+            InputFingerprint.mix(InputFingerprint.mix(InputFingerprint.mix(InputFingerprint.EMPTY, 2L), 0L), 0L),
+            InputFingerprint.mix(InputFingerprint.EMPTY, new ItemStack[2]));
+    }
+
+    @Test
+    void remembersNoRecipeForTheSameKey() {
+        ProcessingLogic logic = new ProcessingLogic().setAvailableVoltage(512)
+            .setAvailableAmperage(1);
+        assertFalse(logic.isNoRecipeCached(INPUTS));
+        logic.cacheNoRecipe(INPUTS);
+        // kept until something changes, not for a fixed number of checks
+        for (int i = 0; i < 1000; i++) assertTrue(logic.isNoRecipeCached(INPUTS));
+        logic.invalidateNoRecipeCache();
+        assertFalse(logic.isNoRecipeCached(INPUTS));
+    }
+
+    @Test
+    void otherInputsDropTheCache() {
+        ProcessingLogic logic = new ProcessingLogic();
+        logic.cacheNoRecipe(INPUTS);
+        assertFalse(logic.isNoRecipeCached(InputFingerprint.mix(INPUTS, 1L)));
+        assertFalse(logic.isNoRecipeCached(INPUTS));
+    }
+
+    @Test
+    void unknownInputsAreNeverCached() {
+        ProcessingLogic logic = new ProcessingLogic();
+        logic.cacheNoRecipe(InputFingerprint.UNKNOWN);
+        assertFalse(logic.isNoRecipeCached(InputFingerprint.UNKNOWN));
+        logic.cacheNoRecipe(INPUTS);
+        assertFalse(logic.isNoRecipeCached(InputFingerprint.UNKNOWN));
+    }
+
+    @Test
+    void settingsThatChangeTheSearchDropTheCache() {
+        assertSettingDropsCache(logic -> logic.setAvailableVoltage(2048));
+        assertSettingDropsCache(logic -> logic.setAvailableAmperage(4));
+        assertSettingDropsCache(logic -> logic.setMaxParallel(16));
+        assertSettingDropsCache(logic -> logic.setMaxParallelSupplier(() -> 16));
+        assertSettingDropsCache(logic -> logic.setBatchSize(128));
+        assertSettingDropsCache(logic -> logic.setVoidProtection(true, false));
+        assertSettingDropsCache(logic -> logic.setVoidProtection(false, true));
+        assertSettingDropsCache(logic -> logic.setAmperageOC(false));
+        assertSettingDropsCache(logic -> logic.setRecipeLocking(null, true));
+    }
+
+    @Test
+    void keyOnlyDependsOnTheSettings() {
+        ProcessingLogic first = new ProcessingLogic().setAvailableVoltage(512)
+            .setMaxParallel(4);
+        ProcessingLogic second = new ProcessingLogic().setMaxParallel(4)
+            .setAvailableVoltage(512);
+        assertEquals(first.getNoRecipeKey(INPUTS), second.getNoRecipeKey(INPUTS));
+        assertNotEquals(first.getNoRecipeKey(INPUTS), first.getNoRecipeKey(InputFingerprint.EMPTY));
+    }
+
+    private static void assertSettingDropsCache(Consumer<ProcessingLogic> setting) {
+        ProcessingLogic logic = new ProcessingLogic().setAvailableVoltage(512)
+            .setAvailableAmperage(1)
+            .setMaxParallel(1)
+            .setBatchSize(1);
+        logic.cacheNoRecipe(INPUTS);
+        assertTrue(logic.isNoRecipeCached(INPUTS));
+        setting.accept(logic);
+        assertFalse(logic.isNoRecipeCached(INPUTS));
+    }
+}
@@ -0,0 +1,85 @@
+package gregtech.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class BinomialSamplerTest {
+
+    private static final int SAMPLES = 200_000;
+
+    @Test
+    public void testEdgeCases() {
+        Random random = new Random(1);
+        assertEquals(0, BinomialSampler.sample(random, 0, 0.5));
+        assertEquals(0, BinomialSampler.sample(random, 100, 0));
+        assertEquals(100, BinomialSampler.sample(random, 100, 1));
+        for (int i = 0; i < 10_000; i++) {
+            long x = BinomialSampler.sample(random, 7, 0.9);
+            assertTrue(x >= 0 && x <= 7, String.valueOf(x));
+        }
+    }
+
+    // inversion for small means, BTPE for large ones, and both mirrored for chances above 1/2
+    @Test
+    public void testDistribution() {
+        assertDistribution(20, 0.3);
+        assertDistribution(1_000, 0.005);
+        assertDistribution(1_000, 0.7);
+        assertDistribution(200, 0.1);
+        assertDistribution(1_000_000, 0.0037);
+        assertDistribution(2_000_000, 0.2);
+    }
+
+    private static void assertDistribution(long n, double p) {
+        Random random = new Random(n ^ Double.doubleToLongBits(p));
+        long[] counts = new long[(int) Math.min(n, 20_000_000) + 1];
+        for (int i = 0; i < SAMPLES; i++) {
+            long x = BinomialSampler.sample(random, n, p);
+            assertTrue(x >= 0 && x <= n, String.valueOf(x));
+            counts[(int) x]++;
+        }
+
+        // chi-squared test against the exact distribution, joining every value expected less than 5 times
+        double chiSquared = 0;
+        int bins = 0;
+        double restExpected = 0;
+        long restObserved = 0;
+        for (int k = 0; k <= n; k++) {
+            double expected = SAMPLES * Math.exp(logPmf(n, p, k));
+            if (expected < 5) {
+                restExpected += expected;
+                restObserved += counts[k];
+            } else {
+                chiSquared += (counts[k] - expected) * (counts[k] - expected) / expected;
+                bins++;
+            }
+        }
+        if (restExpected >= 5) {
+            chiSquared += (restObserved - restExpected) * (restObserved - restExpected) / restExpected;
+            bins++;
+        }
+        // the chi-squared distribution with k degrees of freedom has the mean k and the variance 2k
+        double limit = bins + 6 * Math.sqrt(2.0 * bins);
+        assertTrue(chiSquared < limit, String.format("n=%d p=%f chi2=%f limit=%f", n, p, chiSquared, limit));
+    }
+
+    private static double logPmf(long n, double p, long k) {
+        return logFactorial(n) - logFactorial(k) - logFactorial(n - k) + k * Math.log(p) + (n - k) * Math.log1p(-p);
+    }
+
+    private static double logFactorial(long n) {
+        if (n < 2) return 0;
+        if (n < 256) {
+            double result = 0;
+            for (long i = 2; i <= n; i++) result += Math.log(i);
+            return result;
+        }
+        // Stirling's series, exact to double precision this far up
+        double x = n;
+        return x * Math.log(x) - x + 0.5 * Math.log(2 * Math.PI * x) + 1 / (12 * x) - 1 / (360 * x * x * x);
+    }
+}
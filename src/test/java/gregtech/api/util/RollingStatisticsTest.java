@@ -0,0 +1,101 @@
+package gregtech.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+
+import net.minecraft.nbt.NBTTagCompound;
+
+import org.junit.jupiter.api.Test;
+
+// every window is compared with the sum of the same number of values recorded last, using prefix sums as reference
+class RollingStatisticsTest {
+
+    private static final int TICKS = 100, SECONDS = 30, MINUTES = 3;
+    private static final long[] data;
+    private static final BigInteger[] prefix;
+
+    static {
+        data = new long[5000];
+        // some random number close to long max, with some zeroes in between
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i % 7 == 3 ? 0 : Long.MAX_VALUE / (long) Math.sqrt(i % 1000 + 1);
+        }
+        prefix = new BigInteger[data.length + 1];
+        prefix[0] = BigInteger.ZERO;
+        for (int i = 0; i < data.length; i++) {
+            prefix[i + 1] = prefix[i].add(BigInteger.valueOf(data[i]));
+        }
+    }
+
+    private static int expectedSize(int recorded, int slots, int unit) {
+        return Math.min(recorded, (slots - 1) * unit + (recorded - 1) % unit + 1);
+    }
+
+    private static void assertWindow(LongData window, int recorded, int slots, int unit) {
+        final int size = expectedSize(recorded, slots, unit);
+        assertEquals(size, window.size(), () -> "Size after " + recorded);
+        assertEquals(prefix[recorded].subtract(prefix[recorded - size]), window.sum(), () -> "Sum after " + recorded);
+    }
+
+    @Test
+    void windows() {
+        RollingStatistics stats = new RollingStatistics(TICKS, SECONDS, MINUTES);
+        for (int i = 0; i < data.length; i++) {
+            stats.update(data[i]);
+            assertWindow(stats.ticks(), i + 1, TICKS, 1);
+            assertWindow(stats.seconds(), i + 1, SECONDS, 20);
+            assertWindow(stats.minutes(), i + 1, MINUTES, 1200);
+            assertEquals(data[i], stats.getLast());
+        }
+    }
+
+    @Test
+    void skip() {
+        RollingStatistics skipped = new RollingStatistics(TICKS, SECONDS, MINUTES);
+        RollingStatistics updated = new RollingStatistics(TICKS, SECONDS, MINUTES);
+        for (int i = 0; i < data.length; i++) {
+            int zeroes = i % 97 == 0 ? i % 2000 : i % 5;
+            skipped.skip(zeroes);
+            for (int j = 0; j < zeroes; j++) updated.update(0);
+            skipped.update(data[i]);
+            updated.update(data[i]);
+            assertEquals(updated.ticks().sum(), skipped.ticks().sum());
+            assertEquals(updated.seconds().sum(), skipped.seconds().sum());
+            assertEquals(updated.minutes().sum(), skipped.minutes().sum());
+            assertEquals(updated.minutes().size(), skipped.minutes().size());
+        }
+    }
+
+    @Test
+    void add() {
+        RollingStatistics stats = new RollingStatistics(TICKS, SECONDS, 0);
+        for (int i = 0; i < data.length; i++) {
+            stats.update(data[i] / 2);
+            stats.add(data[i] - data[i] / 2);
+            assertWindow(stats.ticks(), i + 1, TICKS, 1);
+            assertWindow(stats.seconds(), i + 1, SECONDS, 20);
+        }
+        assertEquals(0, stats.minutes().size());
+    }
+
+    @Test
+    void nbt() {
+        RollingStatistics stats = new RollingStatistics(TICKS, SECONDS, MINUTES);
+        for (int i = 0; i < 3000; i++) stats.update(data[i]);
+        NBTTagCompound nbt = new NBTTagCompound();
+        stats.saveNBTData(nbt, "stats");
+        RollingStatistics loaded = new RollingStatistics(TICKS, SECONDS, MINUTES);
+        loaded.loadNBTData(nbt, "stats");
+        for (int i = 3000; i < data.length; i++) {
+            loaded.update(data[i]);
+            assertWindow(loaded.ticks(), i + 1, TICKS, 1);
+            assertWindow(loaded.seconds(), i + 1, SECONDS, 20);
+            assertWindow(loaded.minutes(), i + 1, MINUTES, 1200);
+        }
+        // other window lengths can't be restored
+        RollingStatistics other = new RollingStatistics(TICKS, SECONDS, MINUTES + 1);
+        other.loadNBTData(nbt, "stats");
+        assertEquals(0, other.ticks().size());
+    }
+}
@@ -0,0 +1,111 @@
+package gregtech.common.covers.redstone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.minecraft.util.ChunkCoordinates;
+
+import org.junit.jupiter.api.Test;
+
+import gregtech.common.covers.CoverPosition;
+import gregtech.common.covers.redstone.CoverAdvancedRedstoneReceiverBase.GateMode;
+
+class WirelessRedstoneChannelTest {
+
+    @Test
+    void emptyChannel() {
+        final WirelessRedstoneChannel channel = new WirelessRedstoneChannel();
+        assertEquals(15, channel.getSignal(GateMode.AND));
+        assertEquals(0, channel.getSignal(GateMode.NAND));
+        assertEquals(0, channel.getSignal(GateMode.OR));
+        assertEquals(15, channel.getSignal(GateMode.NOR));
+        assertEquals(0, channel.getSignal(GateMode.SINGLE_SOURCE));
+    }
+
+    @Test
+    void countsFollowPutAndRemove() {
+        final WirelessRedstoneChannel channel = new WirelessRedstoneChannel();
+        channel.put(position(0), (byte) 15);
+        channel.put(position(1), (byte) 0);
+        assertEquals(0, channel.getSignal(GateMode.AND));
+        assertEquals(15, channel.getSignal(GateMode.OR));
+
+        // changing a signal to the same state must not count it twice
+        channel.put(position(0), (byte) 7);
+        channel.put(position(1), (byte) 3);
+        assertEquals(15, channel.getSignal(GateMode.AND));
+
+        channel.remove(position(0));
+        channel.remove(position(0));
+        channel.put(position(1), (byte) 0);
+        assertEquals(0, channel.getSignal(GateMode.OR));
+        assertEquals(15, channel.getSignal(GateMode.NOR));
+
+        channel.put(position(2), (byte) 15);
+        channel.clear();
+        assertEquals(0, channel.getSignal(GateMode.OR));
+        assertEquals(15, channel.getSignal(GateMode.AND));
+    }
+
+    @Test
+    void singleSourceIsAnyTransmitter() {
+        final WirelessRedstoneChannel channel = new WirelessRedstoneChannel();
+        final Map<CoverPosition, Byte> signals = new ConcurrentHashMap<>();
+        for (int i = 0; i < 64; i++) {
+            final byte signal = (byte) (i % 16);
+            channel.put(position(i), signal);
+            signals.put(position(i), signal);
+        }
+        // changing another transmitter doesn't make it the single source
+        channel.put(position(40), (byte) 1);
+        signals.put(position(40), (byte) 1);
+        assertEquals(getSignalOfAll(signals, GateMode.SINGLE_SOURCE), channel.getSignal(GateMode.SINGLE_SOURCE));
+    }
+
+    @Test
+    void matchesEvaluatingEveryTransmitter() {
+        final WirelessRedstoneChannel channel = new WirelessRedstoneChannel();
+        final Map<CoverPosition, Byte> signals = new ConcurrentHashMap<>();
+        final Random random = new Random(42);
+        for (int step = 0; step < 10_000; step++) {
+            final CoverPosition position = position(random.nextInt(32));
+            if (random.nextInt(5) == 0) {
+                channel.remove(position);
+                signals.remove(position);
+            } else {
+                final byte signal = (byte) (random.nextBoolean() ? 0 : random.nextInt(16));
+                channel.put(position, signal);
+                signals.put(position, signal);
+            }
+            for (GateMode mode : GateMode.values()) {
+                assertEquals(getSignalOfAll(signals, mode), channel.getSignal(mode), mode + " at step " + step);
+            }
+        }
+    }
+
+    // how the receivers evaluated their gate before the channel counted its transmitters
+    private static byte getSignalOfAll(Map<CoverPosition, Byte> signals, GateMode mode) {
+        boolean all = true, any = false;
+        for (byte signal : signals.values()) {
+            all &= signal > 0;
+            any |= signal > 0;
+        }
+        return switch (mode) {
+            case AND -> (byte) (all ? 15 : 0);
+            case NAND -> (byte) (all ? 0 : 15);
+            case OR -> (byte) (any ? 15 : 0);
+            case NOR -> (byte) (any ? 0 : 15);
+            case SINGLE_SOURCE -> signals.isEmpty() ? 0
+                : signals.values()
+                    .iterator()
+                    .next();
+        };
+    }
+
+    private static CoverPosition position(int index) {
+        return new CoverPosition(new ChunkCoordinates(index, 64, index / 16), "Overworld", 0, index % 6);
+    }
+}
@@ -0,0 +1,168 @@
+package gregtech.globalenergymap;
+
+import static gregtech.common.misc.GlobalVariableStorage.GlobalEnergy;
+import static gregtech.common.misc.WirelessNetworkManager.addEUToGlobalEnergyMap;
+import static gregtech.common.misc.WirelessNetworkManager.clearGlobalEnergyInformationMaps;
+import static gregtech.common.misc.WirelessNetworkManager.flushPendingEU;
+import static gregtech.common.misc.WirelessNetworkManager.getUserEU;
+import static gregtech.common.misc.WirelessNetworkManager.setUserEU;
+import static gregtech.common.misc.WirelessNetworkManager.strongCheckOrAddUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import gregtech.common.config.Gregtech;
+import gregtech.common.misc.spaceprojects.SpaceProjectManager;
+
+class WirelessEnergyLedger_UnitTest {
+
+    static final String message = "Comparison failed";
+
+    private boolean wasEnabled;
+
+    @BeforeEach
+    void enableLedger() {
+        wasEnabled = Gregtech.performance.wirelessEnergyLedger;
+        Gregtech.performance.wirelessEnergyLedger = true;
+    }
+
+    @AfterEach
+    void restoreLedger() {
+        clearGlobalEnergyInformationMaps();
+        Gregtech.performance.wirelessEnergyLedger = wasEnabled;
+    }
+
+    @Test
+    void WirelessEnergyLedger_AddingEU() {
+
+        UUID user_uuid = UUID.randomUUID();
+        strongCheckOrAddUser(user_uuid);
+
+        assertTrue(addEUToGlobalEnergyMap(user_uuid, 1));
+        assertTrue(addEUToGlobalEnergyMap(user_uuid, 2L));
+        assertTrue(addEUToGlobalEnergyMap(user_uuid, new BigInteger("3")));
+        assertEquals(BigInteger.valueOf(6L), getUserEU(user_uuid), message);
+
+        assertTrue(addEUToGlobalEnergyMap(user_uuid, 4L));
+        flushPendingEU();
+        assertEquals(BigInteger.valueOf(10L), GlobalEnergy.get(user_uuid), message);
+
+        setUserEU(user_uuid, BigInteger.valueOf(5L));
+        assertEquals(BigInteger.valueOf(5L), getUserEU(user_uuid), message);
+    }
+
+    @Test
+    void WirelessEnergyLedger_NoNegativeEU() {
+
+        UUID user_uuid = UUID.randomUUID();
+        strongCheckOrAddUser(user_uuid);
+
+        assertFalse(addEUToGlobalEnergyMap(user_uuid, -1L));
+        assertTrue(addEUToGlobalEnergyMap(user_uuid, 1L));
+        assertFalse(addEUToGlobalEnergyMap(user_uuid, -2L));
+        assertTrue(addEUToGlobalEnergyMap(user_uuid, 1L));
+        assertTrue(addEUToGlobalEnergyMap(user_uuid, -2L));
+        assertFalse(addEUToGlobalEnergyMap(user_uuid, -1L));
+        assertEquals(BigInteger.ZERO, getUserEU(user_uuid), message);
+    }
+
+    @Test
+    void WirelessEnergyLedger_MoreThanLong() {
+
+        UUID user_uuid = UUID.randomUUID();
+        strongCheckOrAddUser(user_uuid);
+
+        BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+
+        assertTrue(addEUToGlobalEnergyMap(user_uuid, Long.MAX_VALUE));
+        assertTrue(addEUToGlobalEnergyMap(user_uuid, Long.MAX_VALUE));
+        assertTrue(addEUToGlobalEnergyMap(user_uuid, Long.MAX_VALUE));
+        assertEquals(max.multiply(BigInteger.valueOf(3L)), getUserEU(user_uuid), message);
+
+        assertTrue(addEUToGlobalEnergyMap(user_uuid, -Long.MAX_VALUE));
+        assertTrue(addEUToGlobalEnergyMap(user_uuid, -Long.MAX_VALUE));
+        assertTrue(addEUToGlobalEnergyMap(user_uuid, -Long.MAX_VALUE));
+        assertFalse(addEUToGlobalEnergyMap(user_uuid, -1L));
+        assertEquals(BigInteger.ZERO, getUserEU(user_uuid), message);
+    }
+
+    @Test
+    void WirelessEnergyLedger_KeepsDirectWrites() {
+
+        UUID user_uuid = UUID.randomUUID();
+        strongCheckOrAddUser(user_uuid);
+
+        assertTrue(addEUToGlobalEnergyMap(user_uuid, 5L));
+        assertEquals(BigInteger.valueOf(5L), getUserEU(user_uuid), message);
+
+        // a write that bypasses the ledger is picked up instead of being overwritten by the cached energy
+        GlobalEnergy.put(user_uuid, BigInteger.valueOf(100L));
+        assertEquals(BigInteger.valueOf(100L), getUserEU(user_uuid), message);
+        GlobalEnergy.put(user_uuid, BigInteger.valueOf(200L));
+        assertTrue(addEUToGlobalEnergyMap(user_uuid, 3L));
+        flushPendingEU();
+        assertEquals(BigInteger.valueOf(203L), GlobalEnergy.get(user_uuid), message);
+    }
+
+    @Test
+    void WirelessEnergyLedger_TeamMembersShareEU() {
+
+        UUID leader_uuid = UUID.randomUUID();
+        UUID member_uuid = UUID.randomUUID();
+        strongCheckOrAddUser(leader_uuid);
+        strongCheckOrAddUser(member_uuid);
+
+        assertTrue(addEUToGlobalEnergyMap(member_uuid, 5L));
+        assertEquals(BigInteger.valueOf(5L), getUserEU(member_uuid), message);
+        SpaceProjectManager.putInTeam(member_uuid, leader_uuid);
+        assertTrue(addEUToGlobalEnergyMap(member_uuid, 7L));
+
+        // the member uses the EU of the team it joined, not the EU it had before
+        assertEquals(BigInteger.valueOf(7L), getUserEU(leader_uuid), message);
+        assertEquals(BigInteger.valueOf(7L), getUserEU(member_uuid), message);
+    }
+
+    @Test
+    void WirelessEnergyLedger_Concurrent() throws InterruptedException {
+
+        UUID user_uuid = UUID.randomUUID();
+        strongCheckOrAddUser(user_uuid);
+
+        AtomicLong expected = new AtomicLong();
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final int seed = i;
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 20_000; j++) {
+                    long EU = (j + seed) % 3 == 0 ? 1_000L : -700L;
+                    if (addEUToGlobalEnergyMap(user_uuid, EU)) expected.addAndGet(EU);
+                }
+            }));
+        }
+        Thread flusher = new Thread(() -> {
+            while (running.get()) flushPendingEU();
+        });
+
+        flusher.start();
+        for (Thread thread : threads) thread.start();
+        for (Thread thread : threads) thread.join();
+        running.set(false);
+        flusher.join();
+
+        BigInteger EU = getUserEU(user_uuid);
+        assertTrue(EU.signum() >= 0, message);
+        assertEquals(BigInteger.valueOf(expected.get()), EU, message);
+    }
+}